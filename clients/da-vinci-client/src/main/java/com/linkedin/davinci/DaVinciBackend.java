@@ -295,7 +295,9 @@ public class DaVinciBackend implements Closeable {
             configLoader.getVeniceServerConfig().getDvcP2pBlobTransferClientPort(),
             configLoader.getVeniceServerConfig().getRocksDBPath(),
             clientConfig,
-            storageMetadataService);
+            storageMetadataService,
+            configLoader.getVeniceServerConfig().getBlobTransferClientMaxConcurrentPeers(),
+            configLoader.getVeniceServerConfig().getBlobTransferServiceMaxBytesPerSecond());
       } else {
         blobTransferManager = null;
       }
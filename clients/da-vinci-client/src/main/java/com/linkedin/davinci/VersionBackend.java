@@ -39,6 +39,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -247,6 +248,31 @@ public class VersionBackend {
         compressor.get());
   }
 
+  /**
+   * Streams the records of the partition whose serialized keys are in the given range, in the order of these keys.
+   */
+  public <V> void scan(
+      int userPartition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      BiConsumer<byte[], V> recordConsumer) {
+    chunkingAdaptor.getByKeyRange(
+        getStorageEngineOrThrow(),
+        userPartition,
+        startKeyBytes,
+        endKeyBytes,
+        binaryDecoder,
+        version.isChunkingEnabled(),
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get(),
+        recordConsumer);
+  }
+
   public GenericRecord compute(
       int userPartition,
       byte[] keyBytes,
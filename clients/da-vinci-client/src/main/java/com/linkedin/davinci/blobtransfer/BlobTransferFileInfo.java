@@ -0,0 +1,74 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+
+/**
+ * This class identifies a file of a partition snapshot in the blob transfer manifest. Since the SST files are
+ * immutable, a file with the same name, size and checksum does not need to be transferred again.
+ */
+public class BlobTransferFileInfo {
+  public String fileName;
+  public long fileSize;
+  public long checksum;
+
+  public BlobTransferFileInfo() {
+  }
+
+  public BlobTransferFileInfo(
+      @JsonProperty("fileName") String fileName,
+      @JsonProperty("fileSize") long fileSize,
+      @JsonProperty("checksum") long checksum) {
+    this.fileName = fileName;
+    this.fileSize = fileSize;
+    this.checksum = checksum;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public void setFileSize(long fileSize) {
+    this.fileSize = fileSize;
+  }
+
+  public long getChecksum() {
+    return checksum;
+  }
+
+  public void setChecksum(long checksum) {
+    this.checksum = checksum;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BlobTransferFileInfo that = (BlobTransferFileInfo) o;
+    return fileSize == that.fileSize && checksum == that.checksum && Objects.equals(fileName, that.fileName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fileName, fileSize, checksum);
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferFileInfo {" + " fileName='" + fileName + ", fileSize=" + fileSize + ", checksum=" + checksum
+        + " }";
+  }
+}
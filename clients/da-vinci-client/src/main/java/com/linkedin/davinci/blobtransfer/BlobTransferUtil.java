@@ -2,6 +2,7 @@ package com.linkedin.davinci.blobtransfer;
 
 import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 
+import com.linkedin.davinci.blobtransfer.client.BlobTransferDownloadScheduler;
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -47,13 +48,39 @@ public class BlobTransferUtil {
       String baseDir,
       ClientConfig clientConfig,
       StorageMetadataService storageMetadataService) {
+    return getP2PBlobTransferManagerForDVCAndStart(
+        p2pTransferServerPort,
+        p2pTransferClientPort,
+        baseDir,
+        clientConfig,
+        storageMetadataService,
+        1,
+        0);
+  }
+
+  /**
+   * Get a P2P blob transfer manager for DaVinci Client and start it.
+   * @param maxConcurrentPeers the max number of peers to fetch the files of a partition from concurrently
+   * @param maxBytesPerSecond the bandwidth budget of the transfers served by this host, or 0 for unlimited
+   */
+  public static BlobTransferManager<Void> getP2PBlobTransferManagerForDVCAndStart(
+      int p2pTransferServerPort,
+      int p2pTransferClientPort,
+      String baseDir,
+      ClientConfig clientConfig,
+      StorageMetadataService storageMetadataService,
+      int maxConcurrentPeers,
+      long maxBytesPerSecond) {
     try {
       AbstractAvroStoreClient storeClient =
           new AvroGenericStoreClientImpl<>(getTransportClient(clientConfig), false, clientConfig);
+      NettyFileTransferClient nettyClient =
+          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService);
       BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
-          new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
-          new DaVinciBlobFinder(storeClient));
+          new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService, maxBytesPerSecond),
+          nettyClient,
+          new DaVinciBlobFinder(storeClient),
+          getDownloadScheduler(nettyClient, baseDir, maxConcurrentPeers));
       manager.start();
       return manager;
     } catch (Exception e) {
@@ -77,11 +104,37 @@ public class BlobTransferUtil {
       String baseDir,
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewFuture,
       StorageMetadataService storageMetadataService) {
+    return getP2PBlobTransferManagerForServerAndStart(
+        p2pTransferServerPort,
+        p2pTransferClientPort,
+        baseDir,
+        customizedViewFuture,
+        storageMetadataService,
+        1,
+        0);
+  }
+
+  /**
+   * Get a P2P blob transfer manager for Server and start it.
+   * @param maxConcurrentPeers the max number of peers to fetch the files of a partition from concurrently
+   * @param maxBytesPerSecond the bandwidth budget of the transfers served by this host, or 0 for unlimited
+   */
+  public static BlobTransferManager<Void> getP2PBlobTransferManagerForServerAndStart(
+      int p2pTransferServerPort,
+      int p2pTransferClientPort,
+      String baseDir,
+      CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewFuture,
+      StorageMetadataService storageMetadataService,
+      int maxConcurrentPeers,
+      long maxBytesPerSecond) {
     try {
+      NettyFileTransferClient nettyClient =
+          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService);
       BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
-          new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
-          new ServerBlobFinder(customizedViewFuture));
+          new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService, maxBytesPerSecond),
+          nettyClient,
+          new ServerBlobFinder(customizedViewFuture),
+          getDownloadScheduler(nettyClient, baseDir, maxConcurrentPeers));
       manager.start();
       return manager;
     } catch (Exception e) {
@@ -90,4 +143,11 @@ public class BlobTransferUtil {
       return null;
     }
   }
+
+  private static BlobTransferDownloadScheduler getDownloadScheduler(
+      NettyFileTransferClient nettyClient,
+      String baseDir,
+      int maxConcurrentPeers) {
+    return maxConcurrentPeers > 1 ? new BlobTransferDownloadScheduler(nettyClient, baseDir, maxConcurrentPeers) : null;
+  }
 }
@@ -1,15 +1,38 @@
 package com.linkedin.davinci.blobtransfer;
 
 import io.netty.handler.codec.http.HttpResponse;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 
 public class BlobTransferUtils {
+  private static final Logger LOGGER = LogManager.getLogger(BlobTransferUtils.class);
+  private static final int CHECKSUM_BUFFER_SIZE = 1024 * 1024;
+
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
   public static final String BLOB_TRANSFER_TYPE = "X-Blob-Transfer-Type";
+  // The position in the file from which the content of a file response starts.
+  public static final String BLOB_TRANSFER_FILE_OFFSET = "X-Blob-Transfer-File-Offset";
+
+  // The request paths, after /<storeName>/<version>/<partition>, of the resumable transfer.
+  public static final String BLOB_TRANSFER_MANIFEST_PATH = "manifest";
+  public static final String BLOB_TRANSFER_FILE_PATH = "file";
+  public static final String BLOB_TRANSFER_METADATA_PATH = "metadata";
 
   public enum BlobTransferType {
-    FILE, METADATA
+    FILE, METADATA, MANIFEST
   }
 
   /**
@@ -24,4 +47,89 @@ public class BlobTransferUtils {
     }
     return metadataHeader.equals(BlobTransferUtils.BlobTransferType.METADATA.name());
   }
+
+  /**
+   * Compute the CRC32 checksum of the whole file.
+   */
+  public static long computeFileChecksum(Path file) throws IOException {
+    CRC32 checksum = new CRC32();
+    updateChecksum(checksum, file);
+    return checksum.getValue();
+  }
+
+  /**
+   * Update the checksum with the content of the file, so that the checksum of a partially transferred file can be
+   * completed with the rest of its content.
+   */
+  public static void updateChecksum(CRC32 checksum, Path file) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+    try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (fileChannel.read(buffer) != -1) {
+        buffer.flip();
+        checksum.update(buffer);
+        buffer.clear();
+      }
+    }
+  }
+
+  /**
+   * Compare the files of the manifest with the ones already in the partition directory, which were left by a previous
+   * transfer attempt, and decide where the transfer of each file should start:
+   * 1. A file with the same name, size and checksum is complete, and is skipped.
+   * 2. A file with the same name and a smaller size is the prefix of an interrupted transfer, and is resumed. Its
+   *    checksum is verified once the rest of it is received.
+   * 3. Any other file in the partition directory, which may come from the snapshot of another peer, is deleted.
+   *
+   * @return the offsets to start the transfer from, keyed by the names of the files to transfer, in the manifest order.
+   */
+  public static Map<String, Long> getFileOffsetsToTransfer(BlobTransferManifest manifest, Path partitionDir)
+      throws IOException {
+    Map<String, File> localFiles = new HashMap<>();
+    File[] files = partitionDir.toFile().listFiles();
+    if (files != null) {
+      for (File file: files) {
+        if (file.isFile()) {
+          localFiles.put(file.getName(), file);
+        }
+      }
+    }
+
+    Map<String, Long> fileOffsets = new LinkedHashMap<>();
+    for (BlobTransferFileInfo fileInfo: manifest.getFiles()) {
+      File localFile = localFiles.remove(fileInfo.getFileName());
+      long offset = localFile == null ? 0 : getFileOffsetToTransfer(fileInfo, localFile.toPath());
+      if (offset < 0) {
+        LOGGER.debug("File {} was already transferred to {}", fileInfo.getFileName(), partitionDir);
+        continue;
+      }
+      fileOffsets.put(fileInfo.getFileName(), offset);
+    }
+
+    for (File staleFile: localFiles.values()) {
+      LOGGER.info("Deleting file {} which is not in the snapshot to transfer to {}", staleFile.getName(), partitionDir);
+      Files.delete(staleFile.toPath());
+    }
+    return fileOffsets;
+  }
+
+  /**
+   * Decide where the transfer of a single file of the manifest should start, following the same rules as
+   * {@link #getFileOffsetsToTransfer(BlobTransferManifest, Path)}.
+   *
+   * @return the offset to start the transfer from, or -1 if the local file is already complete.
+   */
+  public static long getFileOffsetToTransfer(BlobTransferFileInfo fileInfo, Path localFile) throws IOException {
+    if (!Files.exists(localFile)) {
+      return 0;
+    }
+    long localFileSize = Files.size(localFile);
+    if (localFileSize == fileInfo.getFileSize() && computeFileChecksum(localFile) == fileInfo.getChecksum()) {
+      return -1;
+    }
+    if (localFileSize < fileInfo.getFileSize()) {
+      return localFileSize;
+    }
+    Files.delete(localFile);
+    return 0;
+  }
 }
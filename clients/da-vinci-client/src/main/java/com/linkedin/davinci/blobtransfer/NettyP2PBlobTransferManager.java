@@ -1,5 +1,6 @@
 package com.linkedin.davinci.blobtransfer;
 
+import com.linkedin.davinci.blobtransfer.client.BlobTransferDownloadScheduler;
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.venice.blobtransfer.BlobFinder;
@@ -11,6 +12,7 @@ import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -33,14 +35,25 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   protected final NettyFileTransferClient nettyClient;
   // peer finder is responsible to find the peers that have the requested blob
   protected final BlobFinder peerFinder;
+  // fetches the files of a partition from several peers concurrently, or null to fetch them from one peer at a time
+  protected final BlobTransferDownloadScheduler downloadScheduler;
 
   public NettyP2PBlobTransferManager(
       P2PBlobTransferService blobTransferService,
       NettyFileTransferClient nettyClient,
       BlobFinder peerFinder) {
+    this(blobTransferService, nettyClient, peerFinder, null);
+  }
+
+  public NettyP2PBlobTransferManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      BlobTransferDownloadScheduler downloadScheduler) {
     this.blobTransferService = blobTransferService;
     this.nettyClient = nettyClient;
     this.peerFinder = peerFinder;
+    this.downloadScheduler = downloadScheduler;
   }
 
   @Override
@@ -55,6 +68,8 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
    *    In this case, blob transfer is not used for bootstrapping at all.
    * 2. If one host connect error, it will throw VenicePeersCannotConnectException and retry connecting to the peer again
    *    After MAX_RETRIES_FOR_BLOB_TRANSFER_PER_HOST times, if still failed to connect, move to the next possible host.
+   *    The same applies when the connection is lost during the transfer. The files received so far are kept, so the
+   *    next attempt only transfers the files, or the remaining parts of the files, which are still missing.
    * 3. If the connected host does not have the requested file,
    *    a VeniceBlobTransferFileNotFoundException is thrown, and the process moves on to the next available host.
    * 4. [Fatal Case] If any unexpected exception occurs, such as InterruptedException, ExecutionException, or TimeoutException
@@ -65,6 +80,10 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
    *  success case:
    *  1. If the blob is successfully fetched from a peer, an InputStream of the blob is returned.
    *
+   * When the download scheduler is configured and several peers are found, the files of the blob are first fetched
+   * from several of them concurrently. If that fails, the peers are tried one at a time as described above, and only
+   * the files which are still missing are transferred.
+   *
    * @param storeName the name of the store
    * @param version the version of the store
    * @param partition the partition of the store
@@ -88,6 +107,33 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
         .info("Discovered peers {} for store {} version {} partition {}", discoverPeers, storeName, version, partition);
 
     Instant startTime = Instant.now();
+    if (downloadScheduler != null && discoverPeers.size() > 1) {
+      List<String> hosts = new ArrayList<>(discoverPeers.size());
+      for (String peer: discoverPeers) {
+        // instanceName comes as a format of <hostName>_<applicationPort>
+        hosts.add(peer.split("_")[0]);
+      }
+      try {
+        InputStream inputStream = downloadScheduler.get(hosts, storeName, version, partition);
+        LOGGER.info(
+            "Successfully fetched blob from peers {} for store {} partition {} version {} in {} seconds",
+            hosts,
+            storeName,
+            partition,
+            version,
+            Duration.between(startTime, Instant.now()).getSeconds());
+        return CompletableFuture.completedFuture(inputStream);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Failed to fetch blob from multiple peers for store {} version {} partition {}, "
+                + "fetching it from one peer at a time.",
+            storeName,
+            version,
+            partition,
+            e);
+      }
+    }
+
     for (String peer: discoverPeers) {
       String chosenHost = peer.split("_")[0];
       int retryCount = 0;
@@ -0,0 +1,254 @@
+package com.linkedin.davinci.blobtransfer.client;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Fetches the snapshot of a partition from several peers concurrently, instead of streaming all of it from one peer.
+ *
+ * The snapshots of different peers are built independently, so a file can only be fetched from a peer whose manifest
+ * has the same file, with the same size and checksum, as the manifest of the primary peer, i.e. the first peer which
+ * returns a manifest. The files to transfer are spread over these peers in proportion to the throughput measured for
+ * each of them by the previous transfers, so that they all finish at about the same time. Once all of them are done,
+ * the files which failed to transfer are resumed from the primary peer, followed by the metadata of its snapshot.
+ */
+public class BlobTransferDownloadScheduler {
+  private static final Logger LOGGER = LogManager.getLogger(BlobTransferDownloadScheduler.class);
+  private static final int MAX_TIMEOUT_FOR_MANIFEST_IN_MIN = 30;
+  private static final int MAX_TIMEOUT_FOR_FILES_IN_MIN = 60;
+  // the weight of the latest measurement in the throughput of a peer
+  private static final double THROUGHPUT_SMOOTHING_FACTOR = 0.5;
+  // the throughput assumed for all the peers before any of them is measured, in bytes per second
+  private static final double DEFAULT_THROUGHPUT = 1.0;
+
+  private final NettyFileTransferClient nettyClient;
+  private final String baseDir;
+  private final int maxConcurrentPeers;
+  // host -> the smoothed throughput of the transfers from the host, in bytes per second
+  private final Map<String, Double> peerThroughputs = new VeniceConcurrentHashMap<>();
+
+  public BlobTransferDownloadScheduler(NettyFileTransferClient nettyClient, String baseDir, int maxConcurrentPeers) {
+    this.nettyClient = nettyClient;
+    this.baseDir = baseDir;
+    this.maxConcurrentPeers = maxConcurrentPeers;
+  }
+
+  /**
+   * Fetches the snapshot of the partition from up to maxConcurrentPeers of the given hosts, in the given order of
+   * preference. It fails if fewer than two of them can serve the snapshot, in which case the caller is expected to
+   * fetch it from one peer at a time instead. The files received so far are kept when it fails, so that the next
+   * attempt only transfers the missing parts.
+   */
+  public InputStream get(List<String> hosts, String storeName, int version, int partition)
+      throws InterruptedException, ExecutionException, TimeoutException, IOException {
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    List<String> peers = hosts.subList(0, Math.min(hosts.size(), maxConcurrentPeers));
+
+    // Fetch the manifests of all the peers concurrently
+    Map<String, CompletableFuture<BlobTransferManifest>> manifestFutures = new LinkedHashMap<>();
+    for (String host: peers) {
+      manifestFutures.put(host, nettyClient.getManifest(host, storeName, version, partition));
+    }
+    long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(MAX_TIMEOUT_FOR_MANIFEST_IN_MIN);
+    Map<String, BlobTransferManifest> manifests = new LinkedHashMap<>();
+    for (Map.Entry<String, CompletableFuture<BlobTransferManifest>> entry: manifestFutures.entrySet()) {
+      try {
+        BlobTransferManifest manifest = entry.getValue().get(getRemainingTime(deadline), TimeUnit.MILLISECONDS);
+        if (manifest != null) {
+          manifests.put(entry.getKey(), manifest);
+        }
+      } catch (ExecutionException | TimeoutException e) {
+        entry.getValue().completeExceptionally(e);
+        LOGGER.warn("Failed to fetch manifest for {} from host: {}", payload.getFullResourceName(), entry.getKey(), e);
+      }
+    }
+    if (manifests.size() < 2) {
+      throw new VeniceException(
+          "Only " + manifests.size() + " of the peers " + peers + " can serve " + payload.getFullResourceName());
+    }
+
+    String primaryHost = manifests.keySet().iterator().next();
+    BlobTransferManifest manifest = manifests.get(primaryHost);
+    Path partitionDir = Paths.get(payload.getPartitionDir());
+    Map<String, Long> fileOffsets = BlobTransferUtils.getFileOffsetsToTransfer(manifest, partitionDir);
+    Map<String, Map<String, Long>> assignments =
+        assignFiles(manifest.getFiles(), fileOffsets, manifests, getThroughputs(manifests.keySet()));
+    LOGGER.info(
+        "Requesting {} of {} files for {} from hosts: {}",
+        fileOffsets.size(),
+        manifest.getFiles().size(),
+        partitionDir,
+        assignments.keySet());
+
+    // Fetch the files from all the peers concurrently
+    long startTime = System.nanoTime();
+    Map<String, CompletableFuture<InputStream>> fileFutures = new LinkedHashMap<>();
+    for (Map.Entry<String, Map<String, Long>> entry: assignments.entrySet()) {
+      String host = entry.getKey();
+      long bytesToTransfer = getBytesToTransfer(manifest.getFiles(), entry.getValue());
+      CompletableFuture<InputStream> future =
+          nettyClient.getFiles(host, storeName, version, partition, manifest, entry.getValue(), false)
+              .toCompletableFuture();
+      future.whenComplete((ignored, throwable) -> {
+        if (throwable == null) {
+          recordThroughput(host, bytesToTransfer, System.nanoTime() - startTime);
+        }
+      });
+      fileFutures.put(host, future);
+    }
+    deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(MAX_TIMEOUT_FOR_FILES_IN_MIN);
+    Set<String> failedFiles = new HashSet<>();
+    for (Map.Entry<String, CompletableFuture<InputStream>> entry: fileFutures.entrySet()) {
+      try {
+        entry.getValue().get(getRemainingTime(deadline), TimeUnit.MILLISECONDS);
+      } catch (ExecutionException | TimeoutException e) {
+        entry.getValue().completeExceptionally(e);
+        failedFiles.addAll(assignments.get(entry.getKey()).keySet());
+        LOGGER.warn(
+            "Failed to fetch files for {} from host: {}, resuming them from host: {}",
+            payload.getFullResourceName(),
+            entry.getKey(),
+            primaryHost,
+            e);
+      }
+    }
+
+    // Resume the files which failed to transfer from the primary peer, and end the transfer with its metadata
+    Map<String, Long> remainingFileOffsets = new LinkedHashMap<>();
+    for (BlobTransferFileInfo fileInfo: manifest.getFiles()) {
+      if (failedFiles.contains(fileInfo.getFileName())) {
+        long offset =
+            BlobTransferUtils.getFileOffsetToTransfer(fileInfo, partitionDir.resolve(fileInfo.getFileName()));
+        if (offset >= 0) {
+          remainingFileOffsets.put(fileInfo.getFileName(), offset);
+        }
+      }
+    }
+    return nettyClient.getFiles(primaryHost, storeName, version, partition, manifest, remainingFileOffsets, true)
+        .toCompletableFuture()
+        .get(MAX_TIMEOUT_FOR_FILES_IN_MIN, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Spreads the files over the peers which have them, so that all the peers finish at about the same time with their
+   * given throughputs. The largest files are assigned first, each to the peer which would finish it the earliest.
+   *
+   * @return the offsets of the files to transfer from each peer, keyed by the peers which have files to transfer.
+   */
+  public static Map<String, Map<String, Long>> assignFiles(
+      List<BlobTransferFileInfo> files,
+      Map<String, Long> fileOffsets,
+      Map<String, BlobTransferManifest> manifests,
+      Map<String, Double> throughputs) {
+    Map<String, Set<BlobTransferFileInfo>> peerFiles = new HashMap<>();
+    for (Map.Entry<String, BlobTransferManifest> entry: manifests.entrySet()) {
+      peerFiles.put(entry.getKey(), new HashSet<>(entry.getValue().getFiles()));
+    }
+
+    List<BlobTransferFileInfo> filesToTransfer = new ArrayList<>();
+    for (BlobTransferFileInfo fileInfo: files) {
+      if (fileOffsets.containsKey(fileInfo.getFileName())) {
+        filesToTransfer.add(fileInfo);
+      }
+    }
+    filesToTransfer.sort(
+        (a, b) -> Long.compare(
+            b.getFileSize() - fileOffsets.get(b.getFileName()),
+            a.getFileSize() - fileOffsets.get(a.getFileName())));
+
+    Map<String, Long> assignedBytes = new HashMap<>();
+    Map<String, Map<String, Long>> assignments = new LinkedHashMap<>();
+    for (BlobTransferFileInfo fileInfo: filesToTransfer) {
+      long bytesToTransfer = fileInfo.getFileSize() - fileOffsets.get(fileInfo.getFileName());
+      String chosenHost = null;
+      double earliestFinishTime = Double.MAX_VALUE;
+      for (String host: manifests.keySet()) {
+        if (!peerFiles.get(host).contains(fileInfo)) {
+          continue;
+        }
+        double finishTime = (assignedBytes.getOrDefault(host, 0L) + bytesToTransfer) / throughputs.get(host);
+        if (finishTime < earliestFinishTime) {
+          chosenHost = host;
+          earliestFinishTime = finishTime;
+        }
+      }
+      if (chosenHost == null) {
+        throw new VeniceException("No peer has file " + fileInfo.getFileName());
+      }
+      assignedBytes.merge(chosenHost, bytesToTransfer, Long::sum);
+      assignments.computeIfAbsent(chosenHost, k -> new LinkedHashMap<>())
+          .put(fileInfo.getFileName(), fileOffsets.get(fileInfo.getFileName()));
+    }
+    return assignments;
+  }
+
+  /**
+   * The peers which were not measured yet are assumed to be as fast as the average of the measured ones.
+   */
+  Map<String, Double> getThroughputs(Set<String> hosts) {
+    double measuredSum = 0;
+    int measuredCount = 0;
+    for (String host: hosts) {
+      Double throughput = peerThroughputs.get(host);
+      if (throughput != null) {
+        measuredSum += throughput;
+        measuredCount++;
+      }
+    }
+    double defaultThroughput = measuredCount == 0 ? DEFAULT_THROUGHPUT : measuredSum / measuredCount;
+    Map<String, Double> throughputs = new HashMap<>();
+    for (String host: hosts) {
+      throughputs.put(host, peerThroughputs.getOrDefault(host, defaultThroughput));
+    }
+    return throughputs;
+  }
+
+  void recordThroughput(String host, long bytes, long elapsedNanos) {
+    if (bytes == 0 || elapsedNanos <= 0) {
+      return;
+    }
+    double throughput = bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    peerThroughputs.merge(
+        host,
+        throughput,
+        (previous, latest) -> previous * (1 - THROUGHPUT_SMOOTHING_FACTOR) + latest * THROUGHPUT_SMOOTHING_FACTOR);
+    LOGGER.debug("Measured throughput of {} bytes/s from host: {}", (long) throughput, host);
+  }
+
+  private static long getBytesToTransfer(List<BlobTransferFileInfo> files, Map<String, Long> fileOffsets) {
+    long bytes = 0;
+    for (BlobTransferFileInfo fileInfo: files) {
+      Long offset = fileOffsets.get(fileInfo.getFileName());
+      if (offset != null) {
+        bytes += fileInfo.getFileSize() - offset;
+      }
+    }
+    return bytes;
+  }
+
+  private static long getRemainingTime(long deadline) {
+    return Math.max(0, deadline - System.currentTimeMillis());
+  }
+}
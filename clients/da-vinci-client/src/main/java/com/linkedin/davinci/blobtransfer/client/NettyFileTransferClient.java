@@ -1,6 +1,14 @@
 package com.linkedin.davinci.blobtransfer.client;
 
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_METADATA_PATH;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VenicePeersConnectionException;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -13,11 +21,23 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,6 +45,9 @@ import org.apache.logging.log4j.Logger;
 public class NettyFileTransferClient {
   private static final Logger LOGGER = LogManager.getLogger(NettyFileTransferClient.class);
   private static final int MAX_METADATA_CONTENT_LENGTH = 1024 * 1024 * 100;
+  private static final int MAX_TIMEOUT_FOR_MANIFEST_IN_MIN = 30;
+  private static final String MANIFEST_AGGREGATOR_NAME = "manifestAggregator";
+  private static final String MANIFEST_HANDLER_NAME = "manifestHandler";
   EventLoopGroup workerGroup;
   Bootstrap clientBootstrap;
   private final String baseDir;
@@ -51,25 +74,127 @@ public class NettyFileTransferClient {
     });
   }
 
+  /**
+   * Fetches the snapshot of the partition from the given host. The manifest of the snapshot is fetched first, so that
+   * the files which were completely transferred by a previous attempt are skipped, and the partially transferred ones
+   * are resumed from where they stopped. Peers which do not support the manifest yet transfer the whole partition.
+   */
   public CompletionStage<InputStream> get(String host, String storeName, int version, int partition) {
     CompletionStage<InputStream> inputStream = new CompletableFuture<>();
+    Channel ch = null;
     try {
       // Connects to the remote host
-      Channel ch = connectToHost(host, storeName, version, partition);
+      ch = connectToHost(host, storeName, version, partition);
+      BlobTransferManifest manifest = fetchManifest(ch, storeName, version, partition);
+      Path partitionDir = Paths.get(new BlobTransferPayload(baseDir, storeName, version, partition).getPartitionDir());
 
-      // Request to get the blob file and metadata
       // Attach the file handler to the pipeline
       // Attach the metadata handler to the pipeline
       ch.pipeline()
           .addLast(new MetadataAggregator(MAX_METADATA_CONTENT_LENGTH))
-          .addLast(new P2PFileTransferClientHandler(baseDir, inputStream, storeName, version, partition))
+          .addLast(
+              new P2PFileTransferClientHandler(
+                  baseDir,
+                  inputStream,
+                  storeName,
+                  version,
+                  partition,
+                  manifest == null ? Collections.emptyList() : manifest.getFiles()))
           .addLast(new P2PMetadataTransferHandler(storageMetadataService, baseDir, storeName, version, partition));
-      // Send a GET request
-      ch.writeAndFlush(prepareRequest(storeName, version, partition));
+      if (manifest == null) {
+        deleteFiles(partitionDir);
+        // Send a GET request for the blob files and metadata
+        ch.writeAndFlush(prepareRequest(storeName, version, partition));
+      } else {
+        Map<String, Long> fileOffsets = BlobTransferUtils.getFileOffsetsToTransfer(manifest, partitionDir);
+        LOGGER.info(
+            "Requesting {} of {} files for {} from host: {}",
+            fileOffsets.size(),
+            manifest.getFiles().size(),
+            partitionDir,
+            host);
+        requestFiles(ch, storeName, version, partition, fileOffsets, true);
+      }
     } catch (Exception e) {
       if (!inputStream.toCompletableFuture().isCompletedExceptionally()) {
         inputStream.toCompletableFuture().completeExceptionally(e);
       }
+      if (ch != null) {
+        ch.close();
+      }
+    }
+    return inputStream;
+  }
+
+  /**
+   * Fetches the manifest of the snapshot of the partition from the given host, and closes the connection afterwards.
+   * The future completes with null if the peer does not support the resumable transfer.
+   */
+  public CompletableFuture<BlobTransferManifest> getManifest(
+      String host,
+      String storeName,
+      int version,
+      int partition) {
+    Channel ch;
+    try {
+      ch = connectToHost(host, storeName, version, partition);
+    } catch (Exception e) {
+      CompletableFuture<BlobTransferManifest> failedFuture = new CompletableFuture<>();
+      failedFuture.completeExceptionally(e);
+      return failedFuture;
+    }
+    P2PManifestTransferHandler manifestHandler = new P2PManifestTransferHandler(baseDir, storeName, version, partition);
+    ch.pipeline().addLast(new HttpObjectAggregator(MAX_METADATA_CONTENT_LENGTH)).addLast(manifestHandler);
+    // The connection is also closed when the caller gives up waiting and completes the future.
+    manifestHandler.getManifestFuture().whenComplete((manifest, throwable) -> ch.close());
+    ch.writeAndFlush(prepareManifestRequest(storeName, version, partition));
+    return manifestHandler.getManifestFuture();
+  }
+
+  /**
+   * Fetches some files of the snapshot described by the manifest from the given host, which has the same files in its
+   * own snapshot. The files are written to the partition directory, and the future completes once all of them are
+   * received, or, when the metadata is requested as well, once the metadata is received after them.
+   *
+   * @param fileOffsets the offsets to start the transfer from, keyed by the names of the files to transfer.
+   */
+  public CompletionStage<InputStream> getFiles(
+      String host,
+      String storeName,
+      int version,
+      int partition,
+      BlobTransferManifest manifest,
+      Map<String, Long> fileOffsets,
+      boolean withMetadata) {
+    CompletableFuture<InputStream> inputStream = new CompletableFuture<>();
+    if (fileOffsets.isEmpty() && !withMetadata) {
+      inputStream.complete(null);
+      return inputStream;
+    }
+    Channel ch = null;
+    try {
+      ch = connectToHost(host, storeName, version, partition);
+      ch.pipeline()
+          .addLast(new MetadataAggregator(MAX_METADATA_CONTENT_LENGTH))
+          .addLast(
+              new P2PFileTransferClientHandler(
+                  baseDir,
+                  inputStream,
+                  storeName,
+                  version,
+                  partition,
+                  manifest.getFiles(),
+                  withMetadata ? -1 : fileOffsets.size()))
+          .addLast(new P2PMetadataTransferHandler(storageMetadataService, baseDir, storeName, version, partition));
+      Channel channel = ch;
+      // The connection is also closed when the caller gives up waiting and completes the future.
+      inputStream.whenComplete((ignored, throwable) -> channel.close());
+      requestFiles(ch, storeName, version, partition, fileOffsets, withMetadata);
+    } catch (Exception e) {
+      inputStream.completeExceptionally(e);
+      if (ch != null) {
+        ch.close();
+      }
     }
     return inputStream;
   }
@@ -78,6 +203,25 @@ public class NettyFileTransferClient {
     workerGroup.shutdownGracefully();
   }
 
+  /**
+   * Pipelines the requests of the given files, optionally followed by the one of the metadata, which ends the transfer.
+   */
+  private void requestFiles(
+      Channel ch,
+      String storeName,
+      int version,
+      int partition,
+      Map<String, Long> fileOffsets,
+      boolean withMetadata) {
+    for (Map.Entry<String, Long> entry: fileOffsets.entrySet()) {
+      ch.write(prepareFileRequest(storeName, version, partition, entry.getKey(), entry.getValue()));
+    }
+    if (withMetadata) {
+      ch.write(prepareMetadataRequest(storeName, version, partition));
+    }
+    ch.flush();
+  }
+
   private FullHttpRequest prepareRequest(String storeName, int version, int partition) {
     return new DefaultFullHttpRequest(
         HttpVersion.HTTP_1_1,
@@ -85,6 +229,76 @@ public class NettyFileTransferClient {
         String.format("/%s/%d/%d", storeName, version, partition));
   }
 
+  private FullHttpRequest prepareManifestRequest(String storeName, int version, int partition) {
+    return new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        String.format("/%s/%d/%d/%s", storeName, version, partition, BLOB_TRANSFER_MANIFEST_PATH));
+  }
+
+  private FullHttpRequest prepareFileRequest(
+      String storeName,
+      int version,
+      int partition,
+      String fileName,
+      long offset) {
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        String.format("/%s/%d/%d/%s/%s", storeName, version, partition, BLOB_TRANSFER_FILE_PATH, fileName));
+    if (offset > 0) {
+      request.headers().set(HttpHeaderNames.RANGE, "bytes=" + offset + "-");
+    }
+    return request;
+  }
+
+  private FullHttpRequest prepareMetadataRequest(String storeName, int version, int partition) {
+    return new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        String.format("/%s/%d/%d/%s", storeName, version, partition, BLOB_TRANSFER_METADATA_PATH));
+  }
+
+  /**
+   * Fetches the manifest of the snapshot of the partition.
+   * @return the manifest, or null if the peer does not support the resumable transfer.
+   */
+  private BlobTransferManifest fetchManifest(Channel ch, String storeName, int version, int partition)
+      throws InterruptedException, TimeoutException {
+    P2PManifestTransferHandler manifestHandler = new P2PManifestTransferHandler(baseDir, storeName, version, partition);
+    ch.pipeline()
+        .addLast(MANIFEST_AGGREGATOR_NAME, new HttpObjectAggregator(MAX_METADATA_CONTENT_LENGTH))
+        .addLast(MANIFEST_HANDLER_NAME, manifestHandler);
+    ch.writeAndFlush(prepareManifestRequest(storeName, version, partition));
+    BlobTransferManifest manifest;
+    try {
+      // The checksums of the snapshot are computed by the peer on the first request, which may take a while.
+      manifest = manifestHandler.getManifestFuture().get(MAX_TIMEOUT_FOR_MANIFEST_IN_MIN, TimeUnit.MINUTES);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException("Failed to fetch manifest for store: " + storeName, e.getCause());
+    }
+    ch.pipeline().remove(MANIFEST_HANDLER_NAME);
+    ch.pipeline().remove(MANIFEST_AGGREGATOR_NAME);
+    return manifest;
+  }
+
+  /**
+   * Without a manifest, all the files are transferred again, so the ones left by a previous attempt are deleted.
+   */
+  private void deleteFiles(Path partitionDir) throws IOException {
+    File[] files = partitionDir.toFile().listFiles();
+    if (files != null) {
+      for (File file: files) {
+        if (file.isFile()) {
+          Files.delete(file.toPath());
+        }
+      }
+    }
+  }
+
   /**
    * Connects to the host
    */
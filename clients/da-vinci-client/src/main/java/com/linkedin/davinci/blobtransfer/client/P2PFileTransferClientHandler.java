@@ -1,12 +1,15 @@
 package com.linkedin.davinci.blobtransfer.client;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_OFFSET;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersConnectionException;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
@@ -26,9 +29,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -43,11 +51,16 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
   private static final Pattern FILENAME_PATTERN = Pattern.compile("filename=\"(.+?)\"");
   private final CompletionStage<InputStream> inputStreamFuture;
   private final BlobTransferPayload payload;
+  // the files of the manifest, whose checksums are verified once they are received
+  private final Map<String, BlobTransferFileInfo> expectedFiles = new HashMap<>();
+  // the number of files to receive before completing the future, or -1 to wait for the end of the transfer
+  private int filesToReceive;
 
   // mutable states for a single file transfer. It will be updated for each file transfer.
   private FileChannel outputFileChannel;
   private String fileName;
   private long fileContentLength;
+  private CRC32 fileChecksum;
 
   public P2PFileTransferClientHandler(
       String baseDir,
@@ -55,8 +68,37 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       String storeName,
       int version,
       int partition) {
+    this(baseDir, inputStreamFuture, storeName, version, partition, Collections.emptyList());
+  }
+
+  public P2PFileTransferClientHandler(
+      String baseDir,
+      CompletionStage<InputStream> inputStreamFuture,
+      String storeName,
+      int version,
+      int partition,
+      List<BlobTransferFileInfo> expectedFiles) {
+    this(baseDir, inputStreamFuture, storeName, version, partition, expectedFiles, -1);
+  }
+
+  /**
+   * @param filesToReceive the number of requested files, when only some of the files of the partition are fetched from
+   *                       this peer, without the metadata. The future completes once all of them are received.
+   */
+  public P2PFileTransferClientHandler(
+      String baseDir,
+      CompletionStage<InputStream> inputStreamFuture,
+      String storeName,
+      int version,
+      int partition,
+      List<BlobTransferFileInfo> expectedFiles,
+      int filesToReceive) {
     this.inputStreamFuture = inputStreamFuture;
+    this.filesToReceive = filesToReceive;
     this.payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    for (BlobTransferFileInfo fileInfo: expectedFiles) {
+      this.expectedFiles.put(fileInfo.getFileName(), fileInfo);
+    }
   }
 
   @Override
@@ -64,7 +106,8 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     if (msg instanceof HttpResponse) {
       HttpResponse response = (HttpResponse) msg;
 
-      if (!response.status().equals(HttpResponseStatus.OK)) {
+      if (!response.status().equals(HttpResponseStatus.OK)
+          && !response.status().equals(HttpResponseStatus.PARTIAL_CONTENT)) {
         if (response.status().equals(HttpResponseStatus.NOT_FOUND)) {
           throw new VeniceBlobTransferFileNotFoundException(
               "Requested files from remote peer are not found. Response: " + response.status());
@@ -93,15 +136,32 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       if (this.fileName == null) {
         throw new VeniceException("No file name specified in the response for " + payload.getFullResourceName());
       }
-      LOGGER.debug("Starting blob transfer for file: {}", fileName);
-      this.fileContentLength = Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
+      // The content starts from this offset when resuming the transfer of a file
+      String fileOffsetHeader = response.headers().get(BLOB_TRANSFER_FILE_OFFSET);
+      long fileOffset = fileOffsetHeader == null ? 0 : Long.parseLong(fileOffsetHeader);
+      LOGGER.debug("Starting blob transfer for file: {} from offset: {}", fileName, fileOffset);
+      this.fileContentLength = fileOffset + Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
 
       // Create the directory
       Path partitionDir = Paths.get(payload.getPartitionDir());
       Files.createDirectories(partitionDir);
 
       // Prepare the file
-      Path file = Files.createFile(partitionDir.resolve(fileName));
+      Path file = partitionDir.resolve(fileName);
+      if (fileOffset == 0) {
+        Files.deleteIfExists(file);
+        Files.createFile(file);
+      } else if (!Files.exists(file) || Files.size(file) != fileOffset) {
+        throw new VeniceException(
+            "Cannot resume the transfer of " + fileName + " from offset " + fileOffset + " for "
+                + payload.getFullResourceName());
+      }
+      if (expectedFiles.containsKey(fileName)) {
+        fileChecksum = new CRC32();
+        if (fileOffset > 0) {
+          BlobTransferUtils.updateChecksum(fileChecksum, file);
+        }
+      }
       outputFileChannel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
 
     } else if (msg instanceof HttpContent) {
@@ -115,6 +175,10 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         throw new VeniceException("No file opened to write for " + payload.getFullResourceName());
       }
 
+      if (fileChecksum != null) {
+        fileChecksum.update(byteBuf.nioBuffer());
+      }
+
       // Append content to the given file
       // TODO: need to do perf test to see if this NIO implementation is really faster than regular I/O libs
       long count = 0L;
@@ -144,7 +208,19 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
               "File size mismatch for " + fileName + ". Expected: " + fileContentLength + ", Actual: "
                   + outputFileChannel.size());
         }
+        outputFileChannel.close();
+        // Checksum validation
+        if (fileChecksum != null && fileChecksum.getValue() != expectedFiles.get(fileName).getChecksum()) {
+          // The file can't be resumed, so it is transferred again by the next attempt.
+          Files.delete(Paths.get(payload.getPartitionDir()).resolve(fileName));
+          throw new VeniceException(
+              "Checksum mismatch for " + fileName + ". Expected: " + expectedFiles.get(fileName).getChecksum()
+                  + ", Actual: " + fileChecksum.getValue());
+        }
         resetState();
+        if (filesToReceive > 0 && --filesToReceive == 0) {
+          handleEndOfTransfer(ctx);
+        }
       }
     } else {
       throw new VeniceException("Unexpected message received: " + msg.getClass().getName());
@@ -154,11 +230,17 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
   @Override
   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
     super.channelInactive(ctx);
-    if (outputFileChannel != null) {
+    if (outputFileChannel != null && outputFileChannel.isOpen()) {
       outputFileChannel.force(true);
       outputFileChannel.close();
     }
     resetState();
+    // The files received so far are kept, so the transfer can be resumed by the next attempt
+    inputStreamFuture.toCompletableFuture()
+        .completeExceptionally(
+            new VenicePeersConnectionException(
+                "Connection to remote peer closed before the transfer completed for "
+                    + payload.getFullResourceName()));
   }
 
   @Override
@@ -194,5 +276,6 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     outputFileChannel = null;
     fileName = null;
     fileContentLength = 0;
+    fileChecksum = null;
   }
 }
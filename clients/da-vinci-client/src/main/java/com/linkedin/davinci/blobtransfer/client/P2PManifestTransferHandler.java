@@ -0,0 +1,78 @@
+package com.linkedin.davinci.blobtransfer.client;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersConnectionException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.concurrent.CompletableFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The client-side Netty handler to process the response of the manifest request, which starts the resumable transfer
+ * of a partition. The manifest future completes with null if the peer does not support the resumable transfer yet.
+ */
+public class P2PManifestTransferHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+  private static final Logger LOGGER = LogManager.getLogger(P2PManifestTransferHandler.class);
+  private final BlobTransferPayload payload;
+  private final CompletableFuture<BlobTransferManifest> manifestFuture = new CompletableFuture<>();
+
+  public P2PManifestTransferHandler(String baseDir, String storeName, int version, int partition) {
+    this.payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) throws Exception {
+    if (msg.status().equals(HttpResponseStatus.NOT_FOUND)) {
+      throw new VeniceBlobTransferFileNotFoundException(
+          "Requested files from remote peer are not found. Response: " + msg.status());
+    }
+    if (msg.status().equals(HttpResponseStatus.BAD_REQUEST)) {
+      // The peer only supports the transfer of the whole partition in a single request.
+      LOGGER.info("Remote peer does not support resumable transfer for {}", payload.getFullResourceName());
+      manifestFuture.complete(null);
+      return;
+    }
+    if (!msg.status().equals(HttpResponseStatus.OK)) {
+      throw new VeniceException("Failed to fetch manifest from remote peer. Response: " + msg.status());
+    }
+
+    ByteBuf content = msg.content();
+    byte[] manifestBytes = new byte[content.readableBytes()];
+    content.readBytes(manifestBytes);
+    BlobTransferManifest manifest =
+        ObjectMapperFactory.getInstance().readValue(manifestBytes, BlobTransferManifest.class);
+    if (manifest == null || manifest.getFiles() == null) {
+      throw new VeniceException("No manifest received for " + payload.getFullResourceName());
+    }
+    LOGGER.debug("Received manifest of {} files for {}", manifest.getFiles().size(), payload.getFullResourceName());
+    manifestFuture.complete(manifest);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    manifestFuture.completeExceptionally(
+        new VenicePeersConnectionException(
+            "Connection to remote peer closed before receiving manifest for " + payload.getFullResourceName()));
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Exception caught when fetching manifest for {}", payload.getFullResourceName(), cause);
+    manifestFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+
+  public CompletableFuture<BlobTransferManifest> getManifestFuture() {
+    return manifestFuture;
+  }
+}
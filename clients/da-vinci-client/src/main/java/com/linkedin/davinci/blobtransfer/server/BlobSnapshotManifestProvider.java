@@ -0,0 +1,95 @@
+package com.linkedin.davinci.blobtransfer.server;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Builds the {@link BlobTransferManifest} of the partition snapshots served by this host.
+ *
+ * Computing the checksums requires reading the whole snapshot, so it is done in the given executor rather than in the
+ * event loop, and the checksums are cached until the size or the modification time of the file changes. Since the
+ * snapshot files are immutable, the checksums of a snapshot are only computed once, no matter how many peers fetch it.
+ */
+public class BlobSnapshotManifestProvider {
+  private static final Logger LOGGER = LogManager.getLogger(BlobSnapshotManifestProvider.class);
+
+  private final Executor executor;
+  // snapshot directory -> file name -> checksum of the current files of the snapshot
+  private final Map<String, Map<String, CachedChecksum>> checksumCache = new VeniceConcurrentHashMap<>();
+
+  public BlobSnapshotManifestProvider(Executor executor) {
+    this.executor = executor;
+  }
+
+  public CompletableFuture<BlobTransferManifest> getManifest(BlobTransferPayload payload) {
+    return CompletableFuture.supplyAsync(() -> buildManifest(payload), executor);
+  }
+
+  private BlobTransferManifest buildManifest(BlobTransferPayload payload) {
+    File snapshotDir = new File(payload.getSnapshotDir());
+    File[] files = snapshotDir.listFiles();
+    if (files == null) {
+      throw new VeniceBlobTransferFileNotFoundException(
+          "Snapshot for " + payload.getFullResourceName() + " doesn't exist");
+    }
+    if (files.length == 0) {
+      throw new VeniceException("Failed to access files at " + snapshotDir);
+    }
+
+    Map<String, CachedChecksum> previousChecksums =
+        checksumCache.getOrDefault(snapshotDir.getPath(), new HashMap<>());
+    // Only keep the files of the current snapshot, so that the checksums of deleted files do not pile up.
+    Map<String, CachedChecksum> currentChecksums = new HashMap<>();
+    List<BlobTransferFileInfo> fileInfos = new ArrayList<>(files.length);
+    for (File file: files) {
+      if (!file.isFile()) {
+        continue;
+      }
+      long fileSize = file.length();
+      long lastModified = file.lastModified();
+      CachedChecksum cachedChecksum = previousChecksums.get(file.getName());
+      if (cachedChecksum == null || cachedChecksum.fileSize != fileSize
+          || cachedChecksum.lastModified != lastModified) {
+        try {
+          cachedChecksum =
+              new CachedChecksum(fileSize, lastModified, BlobTransferUtils.computeFileChecksum(file.toPath()));
+        } catch (IOException e) {
+          throw new VeniceException("Failed to compute the checksum of " + file, e);
+        }
+      }
+      currentChecksums.put(file.getName(), cachedChecksum);
+      fileInfos.add(new BlobTransferFileInfo(file.getName(), fileSize, cachedChecksum.checksum));
+    }
+    checksumCache.put(snapshotDir.getPath(), currentChecksums);
+    LOGGER.debug("Built the manifest of {} files for {}", fileInfos.size(), payload.getFullResourceName());
+    return new BlobTransferManifest(payload.getTopicName(), payload.getPartition(), fileInfos);
+  }
+
+  private static class CachedChecksum {
+    private final long fileSize;
+    private final long lastModified;
+    private final long checksum;
+
+    private CachedChecksum(long fileSize, long lastModified, long checksum) {
+      this.fileSize = fileSize;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+    }
+  }
+}
@@ -8,20 +8,40 @@ import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 
 
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final String baseDir;
   private StorageMetadataService storageMetadataService;
+  private final BlobSnapshotManifestProvider manifestProvider;
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
 
-  public BlobTransferNettyChannelInitializer(String baseDir, StorageMetadataService storageMetadataService) {
+  public BlobTransferNettyChannelInitializer(
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      BlobSnapshotManifestProvider manifestProvider) {
+    this(baseDir, storageMetadataService, manifestProvider, null);
+  }
+
+  public BlobTransferNettyChannelInitializer(
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      BlobSnapshotManifestProvider manifestProvider,
+      GlobalTrafficShapingHandler trafficShapingHandler) {
     this.baseDir = baseDir;
     this.storageMetadataService = storageMetadataService;
+    this.manifestProvider = manifestProvider;
+    this.trafficShapingHandler = trafficShapingHandler;
   }
 
   @Override
   protected void initChannel(SocketChannel ch) throws Exception {
     ChannelPipeline pipeline = ch.pipeline();
+    if (trafficShapingHandler != null) {
+      // for limiting the bandwidth shared by all the connections
+      pipeline.addLast("trafficShaper", trafficShapingHandler);
+    }
 
     pipeline
         // for http encoding/decoding.
@@ -32,6 +52,8 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
         // for safe writing of chunks for responses
         .addLast("chunker", new ChunkedWriteHandler())
         // for handling p2p file transfer
-        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir, storageMetadataService));
+        .addLast(
+            "p2pFileTransferHandler",
+            new P2PFileTransferServerHandler(baseDir, storageMetadataService, manifestProvider));
   }
 }
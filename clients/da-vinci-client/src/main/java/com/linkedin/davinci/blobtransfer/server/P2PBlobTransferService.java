@@ -2,6 +2,7 @@ package com.linkedin.davinci.blobtransfer.server;
 
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
@@ -12,18 +13,26 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 public class P2PBlobTransferService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(P2PBlobTransferService.class);
+  private static final int CHECKSUM_THREAD_COUNT = 2;
 
   private final ServerBootstrap serverBootstrap;
   private EventLoopGroup bossGroup;
   private EventLoopGroup workerGroup;
   private final int port;
   private ChannelFuture channelFuture;
+  // computes the checksums of the snapshot files, out of the event loop
+  private final ExecutorService checksumExecutor;
+  // limits the bandwidth used by all the transfers served by this host, or null if it is unlimited
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
   // TODO 1: move tunable configs to a config class
   // TODO 2: add SSL/auth/Quota support
   // TODO 3: consider adding support for HTTP2
@@ -32,8 +41,22 @@ public class P2PBlobTransferService extends AbstractVeniceService {
   // TODO 6: consider either increasing worker threads or have a dedicated thread pool to handle requests.
 
   public P2PBlobTransferService(int port, String baseDir, StorageMetadataService storageMetadataService) {
+    this(port, baseDir, storageMetadataService, 0);
+  }
+
+  /**
+   * @param maxBytesPerSecond the bandwidth budget shared by all the transfers served by this host, so that serving
+   *                          peers does not saturate its network. Zero or less means unlimited.
+   */
+  public P2PBlobTransferService(
+      int port,
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      long maxBytesPerSecond) {
     this.port = port;
     this.serverBootstrap = new ServerBootstrap();
+    this.checksumExecutor =
+        Executors.newFixedThreadPool(CHECKSUM_THREAD_COUNT, new DaemonThreadFactory("blob-transfer-checksum"));
 
     Class<? extends ServerChannel> socketChannelClass = NioServerSocketChannel.class;
 
@@ -45,10 +68,17 @@ public class P2PBlobTransferService extends AbstractVeniceService {
       bossGroup = new NioEventLoopGroup(1);
       workerGroup = new NioEventLoopGroup(6);
     }
+    trafficShapingHandler =
+        maxBytesPerSecond > 0 ? new GlobalTrafficShapingHandler(workerGroup, maxBytesPerSecond, 0) : null;
 
     serverBootstrap.group(bossGroup, workerGroup)
         .channel(socketChannelClass)
-        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, storageMetadataService))
+        .childHandler(
+            new BlobTransferNettyChannelInitializer(
+                baseDir,
+                storageMetadataService,
+                new BlobSnapshotManifestProvider(checksumExecutor),
+                trafficShapingHandler))
         .option(ChannelOption.SO_BACKLOG, 1000)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.SO_KEEPALIVE, true)
@@ -68,6 +98,10 @@ public class P2PBlobTransferService extends AbstractVeniceService {
     LOGGER.info("Shutting down NettyP2PBlobTransferManager");
     bossGroup.shutdownGracefully();
     workerGroup.shutdownGracefully();
+    checksumExecutor.shutdownNow();
+    if (trafficShapingHandler != null) {
+      trafficShapingHandler.release();
+    }
     channelFuture.channel().closeFuture().sync();
   }
 }
@@ -1,6 +1,10 @@
 package com.linkedin.davinci.blobtransfer.server;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_OFFSET;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_METADATA_PATH;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_TYPE;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
@@ -13,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.request.RequestHelper;
@@ -40,11 +45,15 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -58,21 +67,34 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
   private static final Logger LOGGER = LogManager.getLogger(P2PFileTransferServerHandler.class);
   private static final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer =
       AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-");
+  private static final int CHUNK_SIZE = 8192;
   private boolean useZeroCopy = false;
   private final String baseDir;
   private StorageMetadataService storageMetadataService;
+  private final BlobSnapshotManifestProvider manifestProvider;
 
   public P2PFileTransferServerHandler(String baseDir, StorageMetadataService storageMetadataService) {
+    // Without a dedicated executor, the manifests are built in the event loop.
+    this(baseDir, storageMetadataService, new BlobSnapshotManifestProvider(Runnable::run));
+  }
+
+  public P2PFileTransferServerHandler(
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      BlobSnapshotManifestProvider manifestProvider) {
     this.baseDir = baseDir;
     this.storageMetadataService = storageMetadataService;
+    this.manifestProvider = manifestProvider;
   }
 
   @Override
   public void channelActive(ChannelHandlerContext ctx) {
     LOGGER.trace("Channel {} active", ctx.channel());
-    if (ctx.pipeline().get(SslHandler.class) == null) {
+    // The traffic shaping handler can only pace the transfer of a file when it is written in chunks.
+    if (ctx.pipeline().get(SslHandler.class) == null && ctx.pipeline().get(GlobalTrafficShapingHandler.class) == null) {
       useZeroCopy = true;
-      LOGGER.debug("SSL not enabled. Use Zero-Copy for file transfer");
+      LOGGER.debug("SSL and traffic shaping not enabled. Use Zero-Copy for file transfer");
     }
   }
 
@@ -100,9 +122,12 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       return;
     }
     final BlobTransferPayload blobTransferRequest;
+    final String[] requestParts;
     final File snapshotDir;
     try {
-      blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()));
+      URI uri = URI.create(httpRequest.uri());
+      requestParts = RequestHelper.getRequestParts(uri);
+      blobTransferRequest = parseBlobTransferPayload(requestParts, uri);
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
       if (!snapshotDir.exists() || !snapshotDir.isDirectory()) {
         byte[] errBody = ("Snapshot for " + blobTransferRequest.getFullResourceName() + " doesn't exist").getBytes();
@@ -117,6 +142,30 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       return;
     }
 
+    // The resumable transfer: the client gets the manifest first, and then only requests the files it doesn't have,
+    // followed by the metadata.
+    if (requestParts.length == 5 && requestParts[4].equals(BLOB_TRANSFER_MANIFEST_PATH)) {
+      sendManifest(blobTransferRequest, ctx);
+      return;
+    }
+    if (requestParts.length == 6 && requestParts[4].equals(BLOB_TRANSFER_FILE_PATH)) {
+      sendRequestedFile(snapshotDir, requestParts[5], httpRequest, ctx);
+      return;
+    }
+    if (requestParts.length == 5 && requestParts[4].equals(BLOB_TRANSFER_METADATA_PATH)) {
+      sendMetadata(blobTransferRequest, ctx);
+      sendEndOfTransfer(blobTransferRequest, ctx);
+      return;
+    }
+    if (requestParts.length != 4) {
+      setupResponseAndFlush(
+          HttpResponseStatus.BAD_REQUEST,
+          ("Invalid request for fetching blob at " + httpRequest.uri()).getBytes(),
+          false,
+          ctx);
+      return;
+    }
+
     File[] files = snapshotDir.listFiles();
     if (files == null || files.length == 0) {
       setupResponseAndFlush(
@@ -129,22 +178,14 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
     // transfer files
     for (File file: files) {
-      sendFile(file, ctx);
+      sendFile(file, 0, ctx);
     }
 
     // transfer metadata
     sendMetadata(blobTransferRequest, ctx);
 
     // end of transfer
-    HttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
-    endOfTransfer.headers().set(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
-    ctx.writeAndFlush(endOfTransfer).addListener(future -> {
-      if (future.isSuccess()) {
-        LOGGER.debug("All files sent successfully for {}", blobTransferRequest.getFullResourceName());
-      } else {
-        LOGGER.error("Failed to send all files for {}", blobTransferRequest.getFullResourceName(), future.cause());
-      }
-    });
+    sendEndOfTransfer(blobTransferRequest, ctx);
   }
 
   /**
@@ -172,24 +213,112 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.close();
   }
 
-  private void sendFile(File file, ChannelHandlerContext ctx) throws IOException {
+  private void sendEndOfTransfer(BlobTransferPayload blobTransferRequest, ChannelHandlerContext ctx) {
+    HttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().set(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+    ctx.writeAndFlush(endOfTransfer).addListener(future -> {
+      if (future.isSuccess()) {
+        LOGGER.debug("All files sent successfully for {}", blobTransferRequest.getFullResourceName());
+      } else {
+        LOGGER.error("Failed to send all files for {}", blobTransferRequest.getFullResourceName(), future.cause());
+      }
+    });
+  }
+
+  private void sendManifest(BlobTransferPayload blobTransferRequest, ChannelHandlerContext ctx) {
+    manifestProvider.getManifest(blobTransferRequest).whenComplete((manifest, throwable) -> {
+      if (throwable != null) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        LOGGER.error("Failed to build the manifest for {}", blobTransferRequest.getFullResourceName(), cause);
+        HttpResponseStatus status = cause instanceof VeniceBlobTransferFileNotFoundException
+            ? HttpResponseStatus.NOT_FOUND
+            : HttpResponseStatus.INTERNAL_SERVER_ERROR;
+        setupResponseAndFlush(status, String.valueOf(cause.getMessage()).getBytes(), false, ctx);
+        return;
+      }
+      byte[] manifestBytes;
+      try {
+        manifestBytes = ObjectMapperFactory.getInstance().writeValueAsBytes(manifest);
+      } catch (JsonProcessingException e) {
+        setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, e.getMessage().getBytes(), false, ctx);
+        return;
+      }
+      FullHttpResponse manifestResponse = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1,
+          HttpResponseStatus.OK,
+          Unpooled.wrappedBuffer(manifestBytes));
+      manifestResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, manifestBytes.length);
+      manifestResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_JSON);
+      manifestResponse.headers().set(BLOB_TRANSFER_TYPE, BlobTransferType.MANIFEST);
+      ctx.writeAndFlush(manifestResponse);
+    });
+  }
+
+  /**
+   * Sends a single file of the snapshot, starting from the position given by the "Range: bytes=<offset>-" header if
+   * any, so that the client can resume the transfer of a file which was interrupted.
+   */
+  private void sendRequestedFile(
+      File snapshotDir,
+      String fileName,
+      FullHttpRequest httpRequest,
+      ChannelHandlerContext ctx) throws IOException {
+    File file = new File(snapshotDir, fileName);
+    // Only serve the files of the snapshot directory.
+    if (!file.isFile() || !file.getCanonicalFile().getParentFile().equals(snapshotDir.getCanonicalFile())) {
+      setupResponseAndFlush(
+          HttpResponseStatus.NOT_FOUND,
+          ("File " + fileName + " doesn't exist in " + snapshotDir).getBytes(),
+          false,
+          ctx);
+      return;
+    }
+    long offset = 0;
+    String range = httpRequest.headers().get(HttpHeaderNames.RANGE);
+    if (range != null) {
+      Matcher matcher = RANGE_PATTERN.matcher(range);
+      if (!matcher.matches()) {
+        setupResponseAndFlush(HttpResponseStatus.BAD_REQUEST, ("Unsupported range: " + range).getBytes(), false, ctx);
+        return;
+      }
+      offset = Long.parseLong(matcher.group(1));
+      if (offset > file.length()) {
+        setupResponseAndFlush(
+            HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE,
+            ("Range " + range + " is beyond the size of " + fileName).getBytes(),
+            false,
+            ctx);
+        return;
+      }
+    }
+    sendFile(file, offset, ctx);
+  }
+
+  private void sendFile(File file, long offset, ChannelHandlerContext ctx) throws IOException {
     RandomAccessFile raf = new RandomAccessFile(file, "r");
     ChannelFuture sendFileFuture;
     ChannelFuture lastContentFuture;
     long length = raf.length();
-    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
-    response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
+    HttpResponse response = new DefaultHttpResponse(
+        HttpVersion.HTTP_1_1,
+        offset == 0 ? HttpResponseStatus.OK : HttpResponseStatus.PARTIAL_CONTENT);
+    response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length - offset);
     response.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
     response.headers().set(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    response.headers().set(BLOB_TRANSFER_FILE_OFFSET, offset);
+    if (offset > 0) {
+      response.headers().set(HttpHeaderNames.CONTENT_RANGE, "bytes " + offset + "-" + (length - 1) + "/" + length);
+    }
 
     ctx.write(response);
 
     if (useZeroCopy) {
-      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), 0, length));
+      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), offset, length - offset));
       lastContentFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
     } else {
-      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf)));
+      sendFileFuture =
+          ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, offset, length - offset, CHUNK_SIZE)));
       lastContentFuture = sendFileFuture;
     }
 
@@ -259,11 +388,11 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
    * @param uri
    * @return
    */
-  private BlobTransferPayload parseBlobTransferPayload(URI uri) throws IllegalArgumentException {
+  private BlobTransferPayload parseBlobTransferPayload(String[] requestParts, URI uri)
+      throws IllegalArgumentException {
     // Parse the request uri to obtain the storeName and partition
-    String[] requestParts = RequestHelper.getRequestParts(uri);
-    if (requestParts.length == 4) {
-      // [0]""/[1]"store"/[2]"version"/[3]"partition"
+    if (requestParts.length >= 4 && requestParts.length <= 6) {
+      // [0]""/[1]"store"/[2]"version"/[3]"partition", optionally followed by the resource of the resumable transfer
       return new BlobTransferPayload(
           baseDir,
           requestParts[1],
@@ -45,11 +45,13 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.adapter.kafka.admin.ApacheKafkaAdminAdapter;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.SchemaRepoBackedSchemaReader;
+import com.linkedin.venice.serialization.AvroProjectionStoreDeserializerCache;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroSpecificStoreDeserializerCache;
@@ -66,19 +68,26 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -117,6 +126,15 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       new DaemonThreadFactory("DaVinci_Read_Chunk_Executor"));
   public static final int DEFAULT_CHUNK_SPLIT_THRESHOLD = 100;
 
+  /**
+   * The partitions scanned by {@link #scan} are processed by their own executor, since a scan can block its threads for
+   * as long as its callback applies backpressure, which must not delay the chunks of the batch-get requests.
+   */
+  public static final ExecutorService SCAN_EXECUTOR = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors(),
+      new DaemonThreadFactory("DaVinci_Scan_Executor"));
+  public static final int DEFAULT_SCAN_PARALLELISM = 4;
+
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
   private final VeniceProperties backendConfig;
@@ -134,6 +152,9 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private static ReferenceCounted<DaVinciBackend> daVinciBackend;
   private ObjectCacheBackend cacheBackend;
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
+  // reader schema id -> projected fields -> the deserializers of the projection
+  private final Map<Integer, Map<Set<String>, AvroProjectionStoreDeserializerCache>> projectionDeserializerCaches =
+      new VeniceConcurrentHashMap<>();
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
   private final Executor readChunkExecutorForLargeRequest;
@@ -354,9 +375,24 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return this.readChunkExecutorForLargeRequest;
   }
 
+  Executor getScanExecutor() {
+    return SCAN_EXECUTOR;
+  }
+
+  RecordDeserializer<K> getKeyDeserializer() {
+    return this.keyDeserializer;
+  }
+
   CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys) {
     // expose underlying getAll functionality.
-    Map<K, V> result = new VeniceConcurrentHashMap<>();
+    return batchGetFromLocalStorage(keys, getAvroChunkingAdapter(), readerSchemaId -> getStoreDeserializerCache());
+  }
+
+  private <T> CompletableFuture<Map<K, T>> batchGetFromLocalStorage(
+      Iterable<K> keys,
+      AbstractAvroChunkingAdapter<T> chunkingAdapter,
+      IntFunction<StoreDeserializerCache<T>> storeDeserializerCacheGetter) {
+    Map<K, T> result = new VeniceConcurrentHashMap<>();
     try (ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (versionBackend == null) {
@@ -364,6 +400,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
       }
       int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+      StoreDeserializerCache<T> storeDeserializerCache = storeDeserializerCacheGetter.apply(readerSchemaId);
 
       Consumer<Iterable<K>> keyArrayConsumer = keyList -> {
         ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
@@ -373,11 +410,11 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
           int partition = versionBackend.getPartition(keyBytes);
 
           if (isPartitionReadyToServe(versionBackend, partition)) {
-            V value = versionBackend.read(
+            T value = versionBackend.read(
                 partition,
                 keyBytes,
-                getAvroChunkingAdapter(),
-                getStoreDeserializerCache(),
+                chunkingAdapter,
+                storeDeserializerCache,
                 readerSchemaId,
                 reusableObjects.binaryDecoder,
                 reusableObjects.rawValue,
@@ -406,7 +443,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
           splitFutures[cur] = CompletableFuture
               .runAsync(() -> keyArrayConsumer.accept(currentSplit), getReadChunkExecutorForLargeRequest());
         }
-        CompletableFuture<Map<K, V>> resultFuture = new CompletableFuture<>();
+        CompletableFuture<Map<K, T>> resultFuture = new CompletableFuture<>();
         CompletableFuture.allOf(splitFutures).whenComplete((ignored, throwable) -> {
           if (throwable != null) {
             resultFuture.completeExceptionally(throwable);
@@ -448,6 +485,75 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public CompletableFuture<GenericRecord> getProjection(K key, Set<String> fieldNames) {
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        storeBackend.getStats().recordBadRequest();
+        throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
+      }
+      byte[] keyBytes = keySerializer.serialize(key);
+      int partition = versionBackend.getPartition(keyBytes);
+
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+        ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+        GenericRecord value = versionBackend.read(
+            partition,
+            keyBytes,
+            GenericRecordChunkingAdapter.INSTANCE,
+            getProjectionDeserializerCache(readerSchemaId, fieldNames),
+            readerSchemaId,
+            reusableObjects.binaryDecoder,
+            reusableObjects.rawValue,
+            null);
+        return CompletableFuture.completedFuture(value);
+      }
+
+      if (!isPartitionSubscribed(versionBackend, partition)) {
+        storeBackend.getStats().recordBadRequest();
+        throw new NonLocalAccessException(versionBackend.toString(), partition);
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Map<K, GenericRecord>> batchGetProjection(Set<K> keys, Set<String> fieldNames) {
+    throwIfNotReady();
+    return batchGetFromLocalStorage(
+        keys,
+        GenericRecordChunkingAdapter.INSTANCE,
+        readerSchemaId -> getProjectionDeserializerCache(readerSchemaId, fieldNames));
+  }
+
+  /**
+   * The deserializers are cached per projection, and the deserializer of each projection is generated once per writer
+   * schema, so only the first read of each writer schema pays for the code generation.
+   */
+  private StoreDeserializerCache<GenericRecord> getProjectionDeserializerCache(
+      int readerSchemaId,
+      Set<String> fieldNames) {
+    Map<Set<String>, AvroProjectionStoreDeserializerCache> caches =
+        projectionDeserializerCaches.computeIfAbsent(readerSchemaId, id -> new VeniceConcurrentHashMap<>());
+    AvroProjectionStoreDeserializerCache cache = caches.get(fieldNames);
+    if (cache != null) {
+      return cache;
+    }
+    ReadOnlySchemaRepository schemaRepository = getBackend().getSchemaRepository();
+    // Copy the fields, so that the key of the cache is not affected by later changes to the set of the caller.
+    return caches.computeIfAbsent(
+        new HashSet<>(fieldNames),
+        names -> new AvroProjectionStoreDeserializerCache(
+            schemaRepository,
+            getStoreName(),
+            AvroProjectionStoreDeserializerCache.createProjectionSchema(
+                schemaRepository.getValueSchema(getStoreName(), readerSchemaId).getSchema(),
+                names)));
+  }
+
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
     throw new VeniceUnsupportedOperationException("streamingBatchGet for DaVinci client");
@@ -604,6 +710,82 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public void scan(StreamingCallback<K, V> callback) {
+    scan(null, null, callback);
+  }
+
+  @Override
+  public void scan(K startKey, K endKey, StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion();
+    VersionBackend versionBackend = versionRef.get();
+    if (versionBackend == null) {
+      versionRef.release();
+      getStoreBackend().getStats().recordBadRequest();
+      callback.onCompletion(
+          Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+      return;
+    }
+
+    byte[] startKeyBytes = startKey == null ? null : getKeySerializer().serialize(startKey);
+    byte[] endKeyBytes = endKey == null ? null : getKeySerializer().serialize(endKey);
+    int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+    Queue<Integer> partitions = new ConcurrentLinkedQueue<>();
+    int partitionCount = versionBackend.getPartitionCount();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        partitions.add(partition);
+      }
+    }
+
+    /**
+     * Each worker scans one partition at a time, so that at most scanParallelism iterators are open at any time. Once a
+     * partition fails to be scanned, including when the callback throws to cancel the scan, the other workers stop at
+     * their next record, and the scan completes with the first failure.
+     */
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    BiConsumer<byte[], V> recordConsumer = (keyBytes, value) -> {
+      if (failure.get() != null) {
+        throw new VeniceClientException("Scan is aborted, storeName=" + getStoreName());
+      }
+      callback.onRecordReceived(getKeyDeserializer().deserialize(keyBytes), value);
+    };
+    Runnable worker = () -> {
+      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+      Integer partition;
+      while (failure.get() == null && (partition = partitions.poll()) != null) {
+        try {
+          versionBackend.scan(
+              partition,
+              startKeyBytes,
+              endKeyBytes,
+              getAvroChunkingAdapter(),
+              getStoreDeserializerCache(),
+              readerSchemaId,
+              reusableObjects.binaryDecoder,
+              recordConsumer);
+        } catch (Exception e) {
+          failure.compareAndSet(null, e);
+        }
+      }
+    };
+    int parallelism = Math.min(getDaVinciConfig().getScanParallelism(), partitions.size());
+    CompletableFuture[] workerFutures = new CompletableFuture[parallelism];
+    for (int i = 0; i < parallelism; i++) {
+      workerFutures[i] = CompletableFuture.runAsync(worker, getScanExecutor());
+    }
+    // The version is retained until the scan completes, so that it does not get dropped while being scanned.
+    CompletableFuture.allOf(workerFutures).whenComplete((ignored, throwable) -> {
+      versionRef.release();
+      if (throwable != null) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        failure.compareAndSet(null, new VeniceClientException("Failed to scan store: " + getStoreName(), cause));
+      }
+      callback.onCompletion(Optional.ofNullable(failure.get()));
+    });
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
@@ -1,8 +1,11 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import org.apache.avro.generic.GenericRecord;
 
 
 /**
@@ -49,6 +52,50 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    */
   void unsubscribe(Set<Integer> partitions);
 
+  /**
+   * Stream all the records of the locally subscribed partitions which are ready to serve.
+   *
+   * @see #scan(Object, Object, StreamingCallback)
+   */
+  void scan(StreamingCallback<K, V> callback);
+
+  /**
+   * Stream the records of the locally subscribed partitions which are ready to serve, and whose keys are in the given
+   * range. The range is defined by the order in which the keys are stored, i.e. the unsigned lexicographic order of
+   * their serialized bytes, which does not generally match the natural order of the keys. It is meant to split a
+   * scan into disjoint ranges, rather than to look up a range of logically adjacent keys.
+   *
+   * Several partitions are scanned concurrently, and the records of each partition are streamed in the order of their
+   * keys, so {@link StreamingCallback#onRecordReceived} can be invoked concurrently from different threads. The scan
+   * of a partition waits for the callback to return before moving on to the next record, so a slow callback slows
+   * down the scan, which only reads a bounded batch of records ahead of it. {@link StreamingCallback#onCompletion} is
+   * invoked once all the partitions are scanned, or once the scan fails. The scan can be cancelled by throwing from
+   * {@link StreamingCallback#onRecordReceived}, in which case it completes with the thrown exception.
+   *
+   * @param startKey the first key of the range, inclusive, or null to start from the first key
+   * @param endKey the end of the range, exclusive, or null to scan up to the last key
+   */
+  void scan(K startKey, K endKey, StreamingCallback<K, V> callback);
+
+  /**
+   * Get the given fields of the value of a key, without decoding its other fields. This is much cheaper than
+   * {@link #get(Object)} when only a few fields of a wide record are needed.
+   *
+   * The value object cache is bypassed, since it holds whole values.
+   *
+   * @param fieldNames the names of the fields of the superset or latest value schema to decode
+   * @return a future which completes with a record of the projected fields, or null if the key has no value
+   */
+  CompletableFuture<GenericRecord> getProjection(K key, Set<String> fieldNames);
+
+  /**
+   * Get the given fields of the values of several keys, without decoding their other fields.
+   *
+   * @see #getProjection(Object, Set)
+   * @return a future which completes with the records of the projected fields, only for the keys which have a value
+   */
+  CompletableFuture<Map<K, GenericRecord>> batchGetProjection(Set<K> keys, Set<String> fieldNames);
+
   /**
    * Get partition count of a store.
    *
@@ -52,6 +52,26 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.getPartitionCount();
   }
 
+  @Override
+  public void scan(StreamingCallback<K, V> callback) {
+    delegate.scan(callback);
+  }
+
+  @Override
+  public void scan(K startKey, K endKey, StreamingCallback<K, V> callback) {
+    delegate.scan(startKey, endKey, callback);
+  }
+
+  @Override
+  public CompletableFuture<GenericRecord> getProjection(K key, Set<String> fieldNames) {
+    return delegate.getProjection(key, fieldNames);
+  }
+
+  @Override
+  public CompletableFuture<Map<K, GenericRecord>> batchGetProjection(Set<K> keys, Set<String> fieldNames) {
+    return delegate.batchGetProjection(keys, fieldNames);
+  }
+
   @Override
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return delegate.get(key);
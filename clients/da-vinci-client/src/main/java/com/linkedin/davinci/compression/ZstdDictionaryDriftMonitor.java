@@ -0,0 +1,202 @@
+package com.linkedin.davinci.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Measures how much the dictionary of a hybrid version using
+ * {@link com.linkedin.venice.compression.CompressionStrategy#ZSTD_WITH_DICT}, built during the batch push, has drifted
+ * from the shape of the nearline data.
+ *
+ * The values which the leader compresses out of the real-time topic are sampled, and a dictionary is periodically
+ * trained out of these samples in the background. Each trained dictionary is compared with the dictionary of the
+ * version on a held-out part of the samples, and the latest one is kept as the candidate dictionary of the version,
+ * along with its compression ratio gain, which is reported per store-version. The candidate is never used to compress
+ * any value, since the readers resolve a single dictionary per version: the gain tells operators whether re-pushing the
+ * version with a fresh dictionary pays off.
+ *
+ * Training is done by a single shared background thread, so that it never competes with ingestion for more than one
+ * core, and the samples are bounded in bytes per version.
+ */
+public class ZstdDictionaryDriftMonitor {
+  private static final Logger LOGGER = LogManager.getLogger(ZstdDictionaryDriftMonitor.class);
+  private static final ExecutorService TRAINING_EXECUTOR =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("Zstd-dictionary-drift-monitor"));
+  /**
+   * Training a dictionary out of too few samples fails, or produces a useless dictionary.
+   */
+  static final int MIN_NUMBER_OF_SAMPLES = 100;
+  /**
+   * One sample out of this many is held out of the training, to evaluate the dictionaries.
+   */
+  private static final int HOLDOUT_INTERVAL = 10;
+
+  private final String versionTopic;
+  private final Supplier<VeniceCompressor> currentCompressorSupplier;
+  private final double samplingRate;
+  private final int maxSampleSizeInBytes;
+  private final int dictionarySizeInBytes;
+  private final long monitoringIntervalMs;
+  private final Executor executor;
+  private final Time time;
+
+  private List<byte[]> samples = new ArrayList<>();
+  private int sampledBytes = 0;
+  private boolean trainingInProgress = false;
+  private long lastTrainingTimeMs;
+  private volatile double latestCompressionRatioGain = Double.NaN;
+  private volatile byte[] candidateDictionary = null;
+
+  public ZstdDictionaryDriftMonitor(
+      String versionTopic,
+      Supplier<VeniceCompressor> currentCompressorSupplier,
+      double samplingRate,
+      int maxSampleSizeInBytes,
+      int dictionarySizeInBytes,
+      long monitoringIntervalMs,
+      Time time) {
+    this(
+        versionTopic,
+        currentCompressorSupplier,
+        samplingRate,
+        maxSampleSizeInBytes,
+        dictionarySizeInBytes,
+        monitoringIntervalMs,
+        TRAINING_EXECUTOR,
+        time);
+  }
+
+  ZstdDictionaryDriftMonitor(
+      String versionTopic,
+      Supplier<VeniceCompressor> currentCompressorSupplier,
+      double samplingRate,
+      int maxSampleSizeInBytes,
+      int dictionarySizeInBytes,
+      long monitoringIntervalMs,
+      Executor executor,
+      Time time) {
+    this.versionTopic = versionTopic;
+    this.currentCompressorSupplier = currentCompressorSupplier;
+    this.samplingRate = samplingRate;
+    this.maxSampleSizeInBytes = maxSampleSizeInBytes;
+    this.dictionarySizeInBytes = dictionarySizeInBytes;
+    this.monitoringIntervalMs = monitoringIntervalMs;
+    this.executor = executor;
+    this.time = time;
+    // The first dictionary is only trained after a full interval, since the one of the version is fresh at that point
+    this.lastTrainingTimeMs = time.getMilliseconds();
+  }
+
+  /**
+   * Samples the given uncompressed value with the configured probability, without changing its position. Once enough
+   * samples are collected, and the monitoring interval has elapsed, a new dictionary gets trained in the background.
+   */
+  public void maybeSample(ByteBuffer value) {
+    if (value == null || !value.hasRemaining() || ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+      return;
+    }
+    List<byte[]> samplesToTrainOn;
+    synchronized (this) {
+      if (trainingInProgress || sampledBytes + value.remaining() > maxSampleSizeInBytes) {
+        return;
+      }
+      byte[] sample = new byte[value.remaining()];
+      value.duplicate().get(sample);
+      samples.add(sample);
+      sampledBytes += sample.length;
+      if (samples.size() < MIN_NUMBER_OF_SAMPLES
+          || time.getMilliseconds() - lastTrainingTimeMs < monitoringIntervalMs) {
+        return;
+      }
+      trainingInProgress = true;
+      samplesToTrainOn = samples;
+      samples = new ArrayList<>();
+      sampledBytes = 0;
+    }
+    executor.execute(() -> train(samplesToTrainOn));
+  }
+
+  private void train(List<byte[]> samplesToTrainOn) {
+    try {
+      List<byte[]> holdout = new ArrayList<>(samplesToTrainOn.size() / HOLDOUT_INTERVAL + 1);
+      int trainingSize = 0;
+      for (int i = 0; i < samplesToTrainOn.size(); i++) {
+        if (i % HOLDOUT_INTERVAL != 0) {
+          trainingSize += samplesToTrainOn.get(i).length;
+        }
+      }
+      ZstdDictTrainer trainer = new ZstdDictTrainer(trainingSize, dictionarySizeInBytes);
+      for (int i = 0; i < samplesToTrainOn.size(); i++) {
+        if (i % HOLDOUT_INTERVAL == 0) {
+          holdout.add(samplesToTrainOn.get(i));
+        } else {
+          trainer.addSample(samplesToTrainOn.get(i));
+        }
+      }
+      byte[] dictionary = trainer.trainSamples();
+      double currentCompressionRatio = getCompressionRatio(currentCompressorSupplier.get(), holdout);
+      double trainedCompressionRatio;
+      try (ZstdWithDictCompressor trainedCompressor =
+          new ZstdWithDictCompressor(dictionary, Zstd.maxCompressionLevel())) {
+        trainedCompressionRatio = getCompressionRatio(trainedCompressor, holdout);
+      }
+      candidateDictionary = dictionary;
+      latestCompressionRatioGain = trainedCompressionRatio / currentCompressionRatio;
+      LOGGER.info(
+          "Trained a dictionary out of {} samples for: {}, compression ratio of the version dictionary: {},"
+              + " compression ratio of the trained dictionary: {}",
+          samplesToTrainOn.size(),
+          versionTopic,
+          currentCompressionRatio,
+          trainedCompressionRatio);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to train a dictionary for: {}", versionTopic, e);
+    } finally {
+      synchronized (this) {
+        trainingInProgress = false;
+        lastTrainingTimeMs = time.getMilliseconds();
+      }
+    }
+  }
+
+  private static double getCompressionRatio(VeniceCompressor compressor, List<byte[]> values) throws IOException {
+    long uncompressedSize = 0;
+    long compressedSize = 0;
+    for (byte[] value: values) {
+      uncompressedSize += value.length;
+      compressedSize += compressor.compress(value).length;
+    }
+    return (double) uncompressedSize / compressedSize;
+  }
+
+  /**
+   * @return the compression ratio of the latest trained dictionary, divided by the one of the version dictionary, on
+   *         the same held-out samples, or NaN if none has been trained yet.
+   */
+  public double getLatestCompressionRatioGain() {
+    return latestCompressionRatioGain;
+  }
+
+  /**
+   * @return the latest trained dictionary, or null if none has been trained yet.
+   */
+  public byte[] getCandidateDictionary() {
+    return candidateDictionary;
+  }
+}
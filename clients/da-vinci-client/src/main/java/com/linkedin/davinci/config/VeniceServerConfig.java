@@ -4,7 +4,9 @@ import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.INGEST
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigConstants.DEFAULT_MAX_RECORD_SIZE_BYTES_BACKFILL;
 import static com.linkedin.venice.ConfigKeys.AUTOCREATE_DATA_PATH;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_MAX_CONCURRENT_PEERS;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_SERVICE_MAX_BYTES_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT;
@@ -12,6 +14,8 @@ import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_CHECK_INTERVAL_
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_BYTES_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_SPEEDUP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.DA_VINCI_RECORD_TRANSFORMER_MAX_PENDING_RECORDS_PER_PARTITION;
+import static com.linkedin.venice.ConfigKeys.DA_VINCI_RECORD_TRANSFORMER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.DEFAULT_MAX_RECORD_SIZE_BYTES;
 import static com.linkedin.venice.ConfigKeys.DIV_PRODUCER_STATE_MAX_AGE_MS;
 import static com.linkedin.venice.ConfigKeys.ENABLE_GRPC_READ_SERVER;
@@ -52,6 +56,9 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_LEADER_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_DRAINER_REASSIGNMENT_MEMORY_USAGE_RATIO;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_CHANNEL_OPTION_WRITE_BUFFER_WATERMARK_HIGH_BYTES;
@@ -93,8 +100,11 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_FRAME_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INCREMENTAL_PUSH_STATUS_WRITE_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ENVELOPE_POOL_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_HEARTBEAT_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_DIRECTORY;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
@@ -107,6 +117,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INT
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_REQUEST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_WAIT_FOR_VERSION_INFO_MS_CONFIG;
+import static com.linkedin.venice.ConfigKeys.SERVER_MEMORY_MAPPED_BATCH_ONLY_VERSIONS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
@@ -132,6 +143,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFI
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
+import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_TRANSPORT_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_TRIGGERED_BY_VERSION_INGESTION_CONTEXT_CHANGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
@@ -150,6 +162,11 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERV
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZERO_COPY_SINGLE_GET_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_DRIFT_MONITORING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_DRIFT_MONITORING_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLE_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLING_RATE;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
@@ -165,6 +182,7 @@ import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_TOPIC_MANAGER_ME
 import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 import static com.linkedin.venice.utils.ByteUtils.generateHumanReadableByteCountString;
 
+import com.linkedin.alpini.netty4.misc.NettyUtils;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModelFactory;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerService;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerServiceDelegator;
@@ -405,6 +423,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchGetMultiGetLookupEnabled;
+
+  private final boolean zeroCopySingleGetEnabled;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -414,7 +436,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
   private final BlockingQueueType blockingQueueType;
-  private final boolean restServiceEpollEnabled;
+  private final NettyUtils.Mode restServiceTransportMode;
   private final String kafkaAdminClass;
   private final String kafkaWriteOnlyClass;
   private final String kafkaReadOnlyClass;
@@ -428,6 +450,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final IngestionMode ingestionMode;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
+  private final boolean ingestionIsolationDomainSocketEnabled;
+  private final String ingestionIsolationDomainSocketDirectory;
   private final boolean databaseChecksumVerificationEnabled;
   private final boolean rocksDbStorageEngineConfigCheckEnabled;
 
@@ -458,6 +482,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean enableKafkaConsumerOffsetCollection;
   private final boolean dedicatedDrainerQueueEnabled;
+  private final boolean adaptiveDrainerAssignmentEnabled;
+  private final double adaptiveDrainerReassignmentMemoryUsageRatio;
+  private final int ingestionEnvelopePoolCapacity;
+  private final boolean memoryMappedBatchOnlyVersionsEnabled;
+  private final boolean zstdDictDriftMonitoringEnabled;
+  private final double zstdDictDriftMonitoringSamplingRate;
+  private final int zstdDictDriftMonitoringSampleSizeInBytes;
+  private final long zstdDictDriftMonitoringIntervalMs;
 
   private final boolean debugLoggingEnabled;
 
@@ -534,7 +566,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean blobTransferManagerEnabled;
   private final int dvcP2pBlobTransferServerPort;
   private final int dvcP2pBlobTransferClientPort;
+  private final int blobTransferClientMaxConcurrentPeers;
+  private final long blobTransferServiceMaxBytesPerSecond;
   private final boolean daVinciCurrentVersionBootstrappingSpeedupEnabled;
+  private final int daVinciRecordTransformerThreadPoolSize;
+  private final int daVinciRecordTransformerMaxPendingRecordsPerPartition;
   private final long daVinciCurrentVersionBootstrappingQuotaRecordsPerSecond;
   private final long daVinciCurrentVersionBootstrappingQuotaBytesPerSecond;
   private final boolean resubscriptionTriggeredByVersionIngestionContextChangeEnabled;
@@ -574,6 +610,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
         serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT, dvcP2pBlobTransferServerPort);
+    blobTransferClientMaxConcurrentPeers = serverProperties.getInt(BLOB_TRANSFER_CLIENT_MAX_CONCURRENT_PEERS, 1);
+    blobTransferServiceMaxBytesPerSecond = serverProperties.getLong(BLOB_TRANSFER_SERVICE_MAX_BYTES_PER_SECOND, 0);
 
     String lfThreadPoolStrategyStr = serverProperties.getString(
         LEADER_FOLLOWER_STATE_TRANSITION_THREAD_POOL_STRATEGY,
@@ -664,6 +702,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchGetMultiGetLookupEnabled = serverProperties.getBoolean(SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED, false);
+    zeroCopySingleGetEnabled = serverProperties.getBoolean(SERVER_ZERO_COPY_SINGLE_GET_ENABLED, false);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -695,7 +735,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
 
-    restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
+    NettyUtils.Mode defaultTransportMode = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false)
+        ? NettyUtils.Mode.EPOLL
+        : NettyUtils.Mode.NIO;
+    String restServiceTransportModeStr =
+        serverProperties.getString(SERVER_REST_SERVICE_TRANSPORT_MODE, defaultTransportMode.name());
+    try {
+      restServiceTransportMode = NettyUtils.Mode.valueOf(restServiceTransportModeStr);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException("Valid rest service transport modes: " + Arrays.toString(NettyUtils.Mode.values()));
+    }
     kafkaAdminClass = serverProperties.getString(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName());
     kafkaWriteOnlyClass = serverProperties.getString(KAFKA_WRITE_ONLY_ADMIN_CLASS, kafkaAdminClass);
     kafkaReadOnlyClass = serverProperties.getString(KAFKA_READ_ONLY_ADMIN_CLASS, kafkaAdminClass);
@@ -729,6 +778,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
+    ingestionIsolationDomainSocketEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED, false);
+    ingestionIsolationDomainSocketDirectory =
+        serverProperties.getString(SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_DIRECTORY, dataBasePath);
     databaseChecksumVerificationEnabled =
         serverProperties.getBoolean(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false);
 
@@ -774,6 +827,24 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED, true);
     dedicatedDrainerQueueEnabled =
         serverProperties.getBoolean(SERVER_DEDICATED_DRAINER_FOR_SORTED_INPUT_ENABLED, false);
+    adaptiveDrainerAssignmentEnabled = serverProperties.getBoolean(SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED, false);
+    adaptiveDrainerReassignmentMemoryUsageRatio =
+        serverProperties.getDouble(SERVER_ADAPTIVE_DRAINER_REASSIGNMENT_MEMORY_USAGE_RATIO, 0.5);
+    if (adaptiveDrainerReassignmentMemoryUsageRatio <= 0 || adaptiveDrainerReassignmentMemoryUsageRatio > 1) {
+      throw new VeniceException(
+          SERVER_ADAPTIVE_DRAINER_REASSIGNMENT_MEMORY_USAGE_RATIO + " should be in (0, 1], but got: "
+              + adaptiveDrainerReassignmentMemoryUsageRatio);
+    }
+    ingestionEnvelopePoolCapacity = serverProperties.getInt(SERVER_INGESTION_ENVELOPE_POOL_CAPACITY, 0);
+    memoryMappedBatchOnlyVersionsEnabled =
+        serverProperties.getBoolean(SERVER_MEMORY_MAPPED_BATCH_ONLY_VERSIONS_ENABLED, false);
+    zstdDictDriftMonitoringEnabled = serverProperties.getBoolean(SERVER_ZSTD_DICT_DRIFT_MONITORING_ENABLED, false);
+    zstdDictDriftMonitoringSamplingRate =
+        serverProperties.getDouble(SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLING_RATE, 0.01);
+    zstdDictDriftMonitoringSampleSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLE_SIZE, 4 * 1024 * 1024);
+    zstdDictDriftMonitoringIntervalMs =
+        serverProperties.getLong(SERVER_ZSTD_DICT_DRIFT_MONITORING_INTERVAL_MS, TimeUnit.HOURS.toMillis(1));
     debugLoggingEnabled = serverProperties.getBoolean(SERVER_DEBUG_LOGGING_ENABLED, false);
     numSchemaFastClassWarmup = serverProperties.getInt(SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP, 10);
     fastClassSchemaWarmupTimeout =
@@ -883,6 +954,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     identityParserClassName = serverProperties.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
     daVinciCurrentVersionBootstrappingSpeedupEnabled =
         serverProperties.getBoolean(DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_SPEEDUP_ENABLED, false);
+    daVinciRecordTransformerThreadPoolSize = serverProperties.getInt(DA_VINCI_RECORD_TRANSFORMER_THREAD_POOL_SIZE, 0);
+    daVinciRecordTransformerMaxPendingRecordsPerPartition =
+        serverProperties.getInt(DA_VINCI_RECORD_TRANSFORMER_MAX_PENDING_RECORDS_PER_PARTITION, 1000);
     daVinciCurrentVersionBootstrappingQuotaRecordsPerSecond =
         serverProperties.getLong(DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_RECORDS_PER_SECOND, -1);
     daVinciCurrentVersionBootstrappingQuotaBytesPerSecond =
@@ -1027,6 +1101,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blobTransferManagerEnabled;
   }
 
+  public int getBlobTransferClientMaxConcurrentPeers() {
+    return blobTransferClientMaxConcurrentPeers;
+  }
+
+  public long getBlobTransferServiceMaxBytesPerSecond() {
+    return blobTransferServiceMaxBytesPerSecond;
+  }
+
   /**
    * Get base path of Venice storage data.
    *
@@ -1208,6 +1290,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchGetMultiGetLookupEnabled() {
+    return batchGetMultiGetLookupEnabled;
+  }
+
+  public boolean isZeroCopySingleGetEnabled() {
+    return zeroCopySingleGetEnabled;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1228,8 +1318,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return computeQueueCapacity;
   }
 
-  public boolean isRestServiceEpollEnabled() {
-    return restServiceEpollEnabled;
+  public NettyUtils.Mode getRestServiceTransportMode() {
+    return restServiceTransportMode;
   }
 
   public String getKafkaAdminClass() {
@@ -1280,6 +1370,21 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionApplicationPort;
   }
 
+  public boolean isIngestionIsolationDomainSocketEnabled() {
+    return ingestionIsolationDomainSocketEnabled;
+  }
+
+  /**
+   * The socket files are named after the ports, so that they are told apart the same way as the HTTP listeners.
+   */
+  public String getIngestionServiceDomainSocketPath() {
+    return ingestionIsolationDomainSocketDirectory + File.separator + "ingestion_" + ingestionServicePort + ".sock";
+  }
+
+  public String getIngestionApplicationDomainSocketPath() {
+    return ingestionIsolationDomainSocketDirectory + File.separator + "ingestion_" + ingestionApplicationPort + ".sock";
+  }
+
   public boolean isDatabaseChecksumVerificationEnabled() {
     return databaseChecksumVerificationEnabled;
   }
@@ -1352,6 +1457,38 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return dedicatedDrainerQueueEnabled;
   }
 
+  public boolean isAdaptiveDrainerAssignmentEnabled() {
+    return adaptiveDrainerAssignmentEnabled;
+  }
+
+  public double getAdaptiveDrainerReassignmentMemoryUsageRatio() {
+    return adaptiveDrainerReassignmentMemoryUsageRatio;
+  }
+
+  public int getIngestionEnvelopePoolCapacity() {
+    return ingestionEnvelopePoolCapacity;
+  }
+
+  public boolean isMemoryMappedBatchOnlyVersionsEnabled() {
+    return memoryMappedBatchOnlyVersionsEnabled;
+  }
+
+  public boolean isZstdDictDriftMonitoringEnabled() {
+    return zstdDictDriftMonitoringEnabled;
+  }
+
+  public double getZstdDictDriftMonitoringSamplingRate() {
+    return zstdDictDriftMonitoringSamplingRate;
+  }
+
+  public int getZstdDictDriftMonitoringSampleSizeInBytes() {
+    return zstdDictDriftMonitoringSampleSizeInBytes;
+  }
+
+  public long getZstdDictDriftMonitoringIntervalMs() {
+    return zstdDictDriftMonitoringIntervalMs;
+  }
+
   public int getDrainerPoolSizeSortedInput() {
     return drainerPoolSizeSortedInput;
   }
@@ -1600,10 +1737,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return getDataBasePath() + File.separator + "rocksdb";
   }
 
+  public String getMemoryMappedPath() {
+    return getDataBasePath() + File.separator + "mmap";
+  }
+
   public boolean isDaVinciCurrentVersionBootstrappingSpeedupEnabled() {
     return daVinciCurrentVersionBootstrappingSpeedupEnabled;
   }
 
+  public int getDaVinciRecordTransformerThreadPoolSize() {
+    return daVinciRecordTransformerThreadPoolSize;
+  }
+
+  public int getDaVinciRecordTransformerMaxPendingRecordsPerPartition() {
+    return daVinciRecordTransformerMaxPendingRecordsPerPartition;
+  }
+
   public long getDaVinciCurrentVersionBootstrappingQuotaRecordsPerSecond() {
     return daVinciCurrentVersionBootstrappingQuotaRecordsPerSecond;
   }
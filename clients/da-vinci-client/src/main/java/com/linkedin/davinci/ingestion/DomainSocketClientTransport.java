@@ -0,0 +1,261 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionRequest;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceTimeoutException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Sends the requests as {@link IngestionFrame}s over a single, persistent Unix domain socket connection to
+ * {@link DomainSocketServer}, which is re-established on the next request whenever it gets lost.
+ *
+ * Requests do not wait for the previous responses to be sent, so many of them can be in flight at once, and the
+ * flushes of requests sent close together are coalesced into fewer writes to the socket.
+ */
+public class DomainSocketClientTransport extends IngestionRequestTransport {
+  private static final Logger LOGGER = LogManager.getLogger(DomainSocketClientTransport.class);
+  private static final int DEFAULT_CONNECTION_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
+
+  private final DomainSocketAddress socketAddress;
+  private final EventLoopGroup eventLoopGroup;
+  private final Bootstrap bootstrap;
+  private final AtomicLong requestIdGenerator = new AtomicLong();
+  private volatile Channel channel;
+
+  public DomainSocketClientTransport(String socketPath, int requestTimeoutInSeconds) {
+    super(requestTimeoutInSeconds);
+    this.socketAddress = new DomainSocketAddress(socketPath);
+    this.eventLoopGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("ingestion-domain-socket-client"));
+    this.bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(EpollDomainSocketChannel.class)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, DEFAULT_CONNECTION_TIMEOUT_MS)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            IngestionFrame.initPipeline(ch.pipeline());
+            ch.pipeline().addLast(new ResponseHandler());
+          }
+        });
+  }
+
+  @Override
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds) {
+    CompletableFuture<T> future = sendRequestAsync(action, param, requestTimeoutInSeconds);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      // Keep the interruption flag.
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException("Encounter exception when submitting isolated ingestion request", e.getCause());
+    }
+  }
+
+  @Override
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> List<CompletableFuture<T>> sendRequestsAsync(
+      IngestionAction action,
+      List<S> params) {
+    List<CompletableFuture<T>> futures = new ArrayList<>(params.size());
+    for (S param: params) {
+      futures.add(sendRequestAsync(action, param, requestTimeoutInSeconds));
+    }
+    return futures;
+  }
+
+  private <T extends SpecificRecordBase, S extends SpecificRecordBase> CompletableFuture<T> sendRequestAsync(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds) {
+    CompletableFuture<byte[]> responseFuture = new CompletableFuture<>();
+    try {
+      byte[] requestPayload = serializeIngestionActionRequest(action, param);
+      long requestId = requestIdGenerator.incrementAndGet();
+      Channel currentChannel = getOrCreateChannel();
+      ResponseHandler responseHandler = currentChannel.pipeline().get(ResponseHandler.class);
+      if (responseHandler == null) {
+        throw new VeniceException("Connection to domain socket: " + socketAddress.path() + " is already closed");
+      }
+      PendingRequest pendingRequest = new PendingRequest(responseFuture);
+      responseHandler.addPendingRequest(requestId, pendingRequest);
+      currentChannel.writeAndFlush(new IngestionFrame(requestId, action, IngestionFrame.STATUS_OK, requestPayload))
+          .addListener(writeFuture -> {
+            if (!writeFuture.isSuccess()) {
+              responseHandler.failPendingRequest(
+                  requestId,
+                  new VeniceException("Unable to send isolated ingestion request", writeFuture.cause()));
+            }
+          });
+      pendingRequest.setTimeoutFuture(
+          currentChannel.eventLoop()
+              .schedule(
+                  () -> responseHandler.failPendingRequest(
+                      requestId,
+                      new VeniceTimeoutException(
+                          "Unable to finish isolated ingestion request in given " + requestTimeoutInSeconds + " s.",
+                          new TimeoutException())),
+                  requestTimeoutInSeconds,
+                  TimeUnit.SECONDS));
+    } catch (Exception e) {
+      responseFuture.completeExceptionally(
+          e instanceof VeniceException ? e : new VeniceException("Unable to send isolated ingestion request", e));
+    }
+    return responseFuture.thenApply(content -> deserializeIngestionActionResponse(action, content));
+  }
+
+  private Channel getOrCreateChannel() {
+    Channel currentChannel = channel;
+    if (currentChannel != null && currentChannel.isActive()) {
+      return currentChannel;
+    }
+    synchronized (this) {
+      if (channel != null && channel.isActive()) {
+        return channel;
+      }
+      ChannelFuture connectFuture = bootstrap.connect(socketAddress).awaitUninterruptibly();
+      if (!connectFuture.isSuccess()) {
+        throw new VeniceException(
+            "Unable to connect to domain socket: " + socketAddress.path(),
+            connectFuture.cause());
+      }
+      channel = connectFuture.channel();
+      LOGGER.info("Connected to domain socket: {}", socketAddress.path());
+      return channel;
+    }
+  }
+
+  @Override
+  public void close() {
+    Channel currentChannel = channel;
+    if (currentChannel != null) {
+      currentChannel.close().syncUninterruptibly();
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  /**
+   * A request waiting for its response, along with its timeout task, which is cancelled once the request completes so
+   * that the event loop doesn't keep a task per request until the timeout expires.
+   */
+  private static class PendingRequest {
+    private final CompletableFuture<byte[]> responseFuture;
+    private volatile ScheduledFuture<?> timeoutFuture;
+
+    PendingRequest(CompletableFuture<byte[]> responseFuture) {
+      this.responseFuture = responseFuture;
+    }
+
+    void setTimeoutFuture(ScheduledFuture<?> timeoutFuture) {
+      this.timeoutFuture = timeoutFuture;
+      // The response may have come in before the timeout was scheduled.
+      if (responseFuture.isDone()) {
+        timeoutFuture.cancel(false);
+      }
+    }
+
+    void complete(byte[] response) {
+      responseFuture.complete(response);
+      cancelTimeout();
+    }
+
+    void completeExceptionally(Exception e) {
+      responseFuture.completeExceptionally(e);
+      cancelTimeout();
+    }
+
+    private void cancelTimeout() {
+      ScheduledFuture<?> currentTimeoutFuture = timeoutFuture;
+      if (currentTimeoutFuture != null) {
+        currentTimeoutFuture.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Completes the pending requests of a connection as their responses come in, and fails all of them once the
+   * connection is lost.
+   */
+  private class ResponseHandler extends SimpleChannelInboundHandler<IngestionFrame> {
+    private final Map<Long, PendingRequest> pendingRequests = new VeniceConcurrentHashMap<>();
+
+    void addPendingRequest(long requestId, PendingRequest pendingRequest) {
+      pendingRequests.put(requestId, pendingRequest);
+    }
+
+    void failPendingRequest(long requestId, Exception e) {
+      PendingRequest pendingRequest = pendingRequests.remove(requestId);
+      if (pendingRequest != null) {
+        pendingRequest.completeExceptionally(e);
+      }
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame response) {
+      PendingRequest pendingRequest = pendingRequests.remove(response.getRequestId());
+      if (pendingRequest == null) {
+        // The request already timed out.
+        return;
+      }
+      if (response.getStatus() == IngestionFrame.STATUS_OK) {
+        pendingRequest.complete(response.getPayload());
+      } else {
+        pendingRequest.completeExceptionally(
+            new VeniceException(
+                "Isolated ingestion server returned unexpected status: " + response.getStatus() + ", message: "
+                    + new String(response.getPayload(), StandardCharsets.UTF_8)));
+      }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      for (Long requestId: pendingRequests.keySet()) {
+        failPendingRequest(
+            requestId,
+            new VeniceException("Connection to domain socket: " + socketAddress.path() + " was closed"));
+      }
+      super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.error("Encounter exception on domain socket: {}, will close the connection.", socketAddress.path(), cause);
+      ctx.close();
+    }
+  }
+}
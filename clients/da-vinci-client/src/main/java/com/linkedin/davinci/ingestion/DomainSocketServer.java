@@ -0,0 +1,96 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.io.Closeable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Listens on a Unix domain socket for the {@link IngestionFrame} requests sent by {@link DomainSocketClientTransport}.
+ *
+ * There is no SSL on this listener, since it cannot be reached from outside the host, and the socket file is only
+ * accessible by the user running the server.
+ */
+public class DomainSocketServer implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(DomainSocketServer.class);
+
+  private final Path socketPath;
+  private final Supplier<ChannelHandler> requestHandlerSupplier;
+  private EventLoopGroup bossGroup;
+  private EventLoopGroup workerGroup;
+  private Channel serverChannel;
+
+  /**
+   * @param requestHandlerSupplier provides the handler of the requests for each new connection.
+   */
+  public DomainSocketServer(String socketPath, Supplier<ChannelHandler> requestHandlerSupplier) {
+    this.socketPath = Paths.get(socketPath);
+    this.requestHandlerSupplier = requestHandlerSupplier;
+  }
+
+  public void start() {
+    try {
+      // A socket file left by a previous process which was not shut down gracefully would fail the bind.
+      Files.deleteIfExists(socketPath);
+      bossGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("ingestion-domain-socket-boss"));
+      workerGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("ingestion-domain-socket-worker"));
+      serverChannel = new ServerBootstrap().group(bossGroup, workerGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+              IngestionFrame.initPipeline(ch.pipeline());
+              ch.pipeline().addLast(requestHandlerSupplier.get());
+            }
+          })
+          .bind(new DomainSocketAddress(socketPath.toFile()))
+          .sync()
+          .channel();
+      Files.setPosixFilePermissions(
+          socketPath,
+          EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new VeniceException("Interrupted while binding domain socket: " + socketPath, e);
+    } catch (Exception e) {
+      close();
+      throw new VeniceException("Unable to bind domain socket: " + socketPath, e);
+    }
+    LOGGER.info("Listener service started on domain socket: {}", socketPath);
+  }
+
+  @Override
+  public void close() {
+    if (serverChannel != null) {
+      serverChannel.close().syncUninterruptibly();
+    }
+    if (workerGroup != null) {
+      workerGroup.shutdownGracefully();
+    }
+    if (bossGroup != null) {
+      bossGroup.shutdownGracefully();
+    }
+    try {
+      Files.deleteIfExists(socketPath);
+    } catch (Exception e) {
+      LOGGER.warn("Unable to delete domain socket file: {}", socketPath, e);
+    }
+  }
+}
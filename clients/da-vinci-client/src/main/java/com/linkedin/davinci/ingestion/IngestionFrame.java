@@ -0,0 +1,100 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.util.List;
+
+
+/**
+ * A request or a response exchanged between the main process and the forked ingestion process over a Unix domain
+ * socket. Each frame is laid out as: frame length (int), request id (long), {@link IngestionAction#getValue()} (byte),
+ * status (byte), and the same serialized payload as the body of the HTTP requests and responses.
+ *
+ * Since responses carry the id of their request, many requests can be in flight on a single connection.
+ */
+public class IngestionFrame {
+  public static final byte STATUS_OK = 0;
+  public static final byte STATUS_BAD_REQUEST = 1;
+  public static final byte STATUS_INTERNAL_ERROR = 2;
+
+  // Same limit as the HTTP aggregator, since the initial metric report is fairly large.
+  private static final int MAX_FRAME_SIZE = 1024 * 1024 * 100;
+  private static final int LENGTH_FIELD_SIZE = Integer.BYTES;
+  private static final int HEADER_SIZE = Long.BYTES + 2 * Byte.BYTES;
+  // Flushes are coalesced up to this many writes, so that a burst of small requests goes out in a few syscalls.
+  private static final int MAX_CONSOLIDATED_FLUSHES = 256;
+
+  private static final Codec CODEC = new Codec();
+
+  private final long requestId;
+  private final IngestionAction action;
+  private final byte status;
+  private final byte[] payload;
+
+  public IngestionFrame(long requestId, IngestionAction action, byte status, byte[] payload) {
+    this.requestId = requestId;
+    this.action = action;
+    this.status = status;
+    this.payload = payload;
+  }
+
+  public long getRequestId() {
+    return requestId;
+  }
+
+  public IngestionAction getAction() {
+    return action;
+  }
+
+  public byte getStatus() {
+    return status;
+  }
+
+  public byte[] getPayload() {
+    return payload;
+  }
+
+  /**
+   * Sets up the framing of both the client and the server side of a connection.
+   */
+  public static void initPipeline(ChannelPipeline pipeline) {
+    pipeline.addLast(new FlushConsolidationHandler(MAX_CONSOLIDATED_FLUSHES, true));
+    pipeline.addLast(new LengthFieldBasedFrameDecoder(MAX_FRAME_SIZE, 0, LENGTH_FIELD_SIZE, 0, LENGTH_FIELD_SIZE));
+    pipeline.addLast(new LengthFieldPrepender(LENGTH_FIELD_SIZE));
+    pipeline.addLast(CODEC);
+  }
+
+  @ChannelHandler.Sharable
+  static class Codec extends MessageToMessageCodec<ByteBuf, IngestionFrame> {
+    @Override
+    protected void encode(ChannelHandlerContext ctx, IngestionFrame frame, List<Object> out) {
+      ByteBuf buf = ctx.alloc().buffer(HEADER_SIZE + frame.payload.length);
+      buf.writeLong(frame.requestId);
+      buf.writeByte(frame.action.getValue());
+      buf.writeByte(frame.status);
+      buf.writeBytes(frame.payload);
+      out.add(buf);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) {
+      if (buf.readableBytes() < HEADER_SIZE) {
+        throw new VeniceException("Ingestion frame is too short: " + buf.readableBytes() + " bytes");
+      }
+      long requestId = buf.readLong();
+      IngestionAction action = IngestionAction.valueOf(buf.readUnsignedByte());
+      byte status = buf.readByte();
+      byte[] payload = new byte[buf.readableBytes()];
+      buf.readBytes(payload);
+      out.add(new IngestionFrame(requestId, action, status, payload));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.ExceptionUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Serves the {@link IngestionFrame} requests received over a Unix domain socket, with the same request processing as
+ * the HTTP handlers.
+ *
+ * Requests are processed on the event loop, in the order they were received, so that a client sending many status
+ * reports or metadata updates in a row gets them applied in order. Actions which may block for a long time, like the
+ * ingestion commands, are processed on a separate executor instead, so that they do not hold up the other requests of
+ * the connection, like the heartbeats.
+ */
+public class IngestionFrameRequestHandler extends SimpleChannelInboundHandler<IngestionFrame> {
+  private static final Logger LOGGER = LogManager.getLogger(IngestionFrameRequestHandler.class);
+
+  @FunctionalInterface
+  public interface RequestProcessor {
+    /**
+     * @return the serialized response of the request, or throws {@link UnsupportedOperationException} if the action
+     *         is not supported.
+     */
+    byte[] process(IngestionAction action, byte[] content) throws Exception;
+  }
+
+  private final RequestProcessor requestProcessor;
+  private final Set<IngestionAction> blockingActions;
+  private final Executor blockingRequestExecutor;
+
+  public IngestionFrameRequestHandler(
+      RequestProcessor requestProcessor,
+      Set<IngestionAction> blockingActions,
+      Executor blockingRequestExecutor) {
+    this.requestProcessor = requestProcessor;
+    this.blockingActions = blockingActions;
+    this.blockingRequestExecutor = blockingRequestExecutor;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame request) {
+    if (blockingActions.contains(request.getAction())) {
+      blockingRequestExecutor.execute(() -> processRequest(ctx, request));
+    } else {
+      processRequest(ctx, request);
+    }
+  }
+
+  private void processRequest(ChannelHandlerContext ctx, IngestionFrame request) {
+    byte status = IngestionFrame.STATUS_OK;
+    byte[] response;
+    try {
+      response = requestProcessor.process(request.getAction(), request.getPayload());
+    } catch (UnsupportedOperationException e) {
+      LOGGER.error("Caught unrecognized request action:", e);
+      status = IngestionFrame.STATUS_BAD_REQUEST;
+      response = toErrorPayload(ExceptionUtils.compactExceptionDescription(e, "processRequest"));
+    } catch (Exception e) {
+      LOGGER.error("Encounter exception when processing {} request", request.getAction(), e);
+      status = IngestionFrame.STATUS_INTERNAL_ERROR;
+      response = toErrorPayload(
+          e.getClass().getSimpleName() + "_" + ExceptionUtils.compactExceptionDescription(e, "processRequest"));
+    }
+    ctx.writeAndFlush(new IngestionFrame(request.getRequestId(), request.getAction(), status, response));
+  }
+
+  private static byte[] toErrorPayload(String message) {
+    return message.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Only a malformed frame gets here, after which the connection cannot be trusted anymore.
+   */
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Encounter exception on ingestion domain socket connection, will close it.", cause);
+    ctx.close();
+  }
+}
@@ -0,0 +1,111 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.Time;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The transport of the requests between the main process and the forked ingestion process. Implementations only need
+ * to send a single request, and the retry logic is shared.
+ */
+public abstract class IngestionRequestTransport implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(IngestionRequestTransport.class);
+  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
+
+  protected final int requestTimeoutInSeconds;
+
+  protected IngestionRequestTransport(int requestTimeoutInSeconds) {
+    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+  }
+
+  /**
+   * Sends a single request, without any retry, and waits for its response.
+   */
+  public abstract <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds);
+
+  /**
+   * Sends a batch of requests of the same action, without any retry, and returns the futures of their responses, in
+   * the same order. Transports which support it send all the requests right away, without waiting for the previous
+   * responses. Otherwise, the requests are sent one by one, and the requests after a failed one are not sent at all,
+   * so that the caller can retry all the failed requests, in order.
+   */
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> List<CompletableFuture<T>> sendRequestsAsync(
+      IngestionAction action,
+      List<S> params) {
+    List<CompletableFuture<T>> futures = new ArrayList<>(params.size());
+    Exception failure = null;
+    for (S param: params) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      if (failure != null) {
+        future.completeExceptionally(new VeniceException("Request was not sent since a previous one failed", failure));
+      } else {
+        try {
+          future.complete(sendRequest(action, param, requestTimeoutInSeconds));
+        } catch (Exception e) {
+          failure = e;
+          future.completeExceptionally(e);
+        }
+      }
+      futures.add(future);
+    }
+    return futures;
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(IngestionAction action, S param) {
+    return sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequestWithRetry(
+      IngestionAction action,
+      S param,
+      int maxAttempt) {
+    // Sanity check for maxAttempt argument.
+    if (maxAttempt <= 0) {
+      throw new IllegalArgumentException("maxAttempt must be a positive integer");
+    }
+    T result;
+    int retryCount = 0;
+    final long startTimeIsMs = System.currentTimeMillis();
+    while (true) {
+      try {
+        result = sendRequest(action, param, requestTimeoutInSeconds);
+        break;
+      } catch (VeniceException e) {
+        retryCount++;
+        if (retryCount != maxAttempt) {
+          LOGGER.warn(
+              "Encounter exception when sending request, will retry for {} / {} time.",
+              retryCount,
+              maxAttempt,
+              e);
+        } else {
+          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
+          throw new VeniceException(
+              "Failed to send request to remote forked process after " + maxAttempt
+                  + " attempts, total time spent in millis: " + totalTimeInMs,
+              e);
+        }
+      }
+      try {
+        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public abstract void close();
+}
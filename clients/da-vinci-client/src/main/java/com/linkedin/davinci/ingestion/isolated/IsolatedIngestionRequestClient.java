@@ -3,15 +3,16 @@ package com.linkedin.davinci.ingestion.isolated;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
-import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
-import com.linkedin.venice.security.SSLFactory;
 import java.io.Closeable;
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,52 +23,82 @@ import org.apache.logging.log4j.Logger;
 public class IsolatedIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionRequestClient.class);
 
-  private HttpClientTransport httpClientTransport;
+  private IngestionRequestTransport requestTransport;
 
   public IsolatedIngestionRequestClient(VeniceConfigLoader configLoader) {
-    Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
-    int port = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
+    VeniceServerConfig serverConfig = configLoader.getVeniceServerConfig();
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    requestTransport = IsolatedIngestionUtils.createRequestTransport(
+        configLoader,
+        serverConfig.getIngestionApplicationPort(),
+        serverConfig.getIngestionApplicationDomainSocketPath(),
+        requestTimeoutInSeconds);
   }
 
   public boolean reportIngestionStatus(IngestionTaskReport report) {
     String topicName = report.topicName.toString();
     int partitionId = report.partitionId;
+    logIngestionReport(report);
+    try {
+      requestTransport.sendRequest(IngestionAction.REPORT, report);
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to send report with exception for topic: {}, partition: {}", topicName, partitionId, e);
+      return false;
+    }
+  }
+
+  /**
+   * Sends the reports in order, without waiting for the response of each report before sending the next one when the
+   * transport supports it. The reports which fail are sent again one by one, with retries.
+   */
+  public void reportIngestionStatus(List<IngestionTaskReport> reports) {
+    reports.forEach(this::logIngestionReport);
+    List<CompletableFuture<IngestionTaskReport>> futures =
+        requestTransport.sendRequestsAsync(IngestionAction.REPORT, reports);
+    for (int i = 0; i < reports.size(); i++) {
+      try {
+        futures.get(i).join();
+      } catch (Exception e) {
+        IngestionTaskReport report = reports.get(i);
+        LOGGER.warn(
+            "Failed to send report for topic: {}, partition: {} along with other reports, will retry it alone",
+            report.topicName,
+            report.partitionId,
+            e);
+        reportIngestionStatus(report);
+      }
+    }
+  }
+
+  private void logIngestionReport(IngestionTaskReport report) {
     // Avoid sending binary data in OffsetRecord and pollute logs.
     LOGGER.info(
         "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
         IngestionReportType.valueOf(report.reportType),
         report.isPositive,
         report.message,
-        partitionId,
-        topicName,
+        report.partitionId,
+        report.topicName,
         report.offset);
-    try {
-      httpClientTransport.sendRequest(IngestionAction.REPORT, report);
-      return true;
-    } catch (Exception e) {
-      LOGGER.warn("Failed to send report with exception for topic: {}, partition: {}", topicName, partitionId, e);
-      return false;
-    }
   }
 
   public void reportMetricUpdate(IngestionMetricsReport report) {
     try {
-      httpClientTransport.sendRequest(IngestionAction.METRIC, report);
+      requestTransport.sendRequest(IngestionAction.METRIC, report);
     } catch (Exception e) {
       LOGGER.warn("Failed to send metrics update with exception", e);
     }
   }
 
   // Visible for testing
-  protected void setHttpClientTransport(HttpClientTransport clientTransport) {
-    this.httpClientTransport = clientTransport;
+  protected void setRequestTransport(IngestionRequestTransport requestTransport) {
+    this.requestTransport = requestTransport;
   }
 
   @Override
   public void close() {
-    httpClientTransport.close();
+    requestTransport.close();
   }
 }
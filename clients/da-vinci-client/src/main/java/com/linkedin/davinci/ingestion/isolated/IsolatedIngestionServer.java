@@ -14,6 +14,8 @@ import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.ingestion.DefaultIngestionBackend;
+import com.linkedin.davinci.ingestion.DomainSocketServer;
+import com.linkedin.davinci.ingestion.IngestionFrameRequestHandler;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
 import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
@@ -34,6 +36,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlyZKSharedSchemaRepository;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
@@ -48,6 +51,7 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.ReflectUtils;
@@ -66,11 +70,17 @@ import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.FileNotFoundException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -113,6 +123,21 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   private final int servicePort;
   private final ExecutorService longRunningTaskExecutor = Executors.newFixedThreadPool(10);
   private final ExecutorService statusReportingExecutor = Executors.newSingleThreadExecutor();
+  /**
+   * The reports waiting to be sent by {@link #statusReportingExecutor}, which sends all the reports queued up so far in
+   * one batch, so that they do not each wait for the response of the previous one.
+   */
+  private final Queue<IngestionTaskReport> pendingStatusReports = new ConcurrentLinkedQueue<>();
+  private long enqueuedStatusReportCount = 0;
+  // Only accessed by the status reporting executor.
+  private long sentStatusReportCount = 0;
+  /**
+   * Ingestion commands may block for a long time, so the ones received over the domain socket are handled here, in
+   * order not to hold up the other requests sharing the same connection.
+   */
+  private final ExecutorService domainSocketRequestExecutor =
+      Executors.newCachedThreadPool(new DaemonThreadFactory("isolated-ingestion-domain-socket-request"));
+  private final DomainSocketServer domainSocketServer;
   /**
    * This map data structure keeps track of a specific topic-partition (resource) is being ingested in the isolated process.
    * (1) If the topic partition value does not exist, this means this resource is not being maintained in the host.
@@ -184,10 +209,25 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
         .childOption(ChannelOption.SO_KEEPALIVE, true)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.TCP_NODELAY, true);
+    if (IsolatedIngestionUtils.isolatedIngestionDomainSocketEnabled(configLoader)) {
+      Set<IngestionAction> blockingActions = EnumSet.of(IngestionAction.COMMAND, IngestionAction.SHUTDOWN_COMPONENT);
+      domainSocketServer = new DomainSocketServer(
+          serverConfig.getIngestionServiceDomainSocketPath(),
+          () -> new IngestionFrameRequestHandler(
+              new IsolatedIngestionServerHandler(this)::handleRequest,
+              blockingActions,
+              domainSocketRequestExecutor));
+    } else {
+      domainSocketServer = null;
+    }
   }
 
   @Override
   public boolean startInner() {
+    // The domain socket is bound first, since the main process waits for the port to be bound before sending requests.
+    if (domainSocketServer != null) {
+      domainSocketServer.start();
+    }
     int maxAttempt = 100;
     long waitTime = 500;
     int retryCount = 0;
@@ -223,6 +263,10 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+    if (domainSocketServer != null) {
+      domainSocketServer.close();
+    }
+    domainSocketRequestExecutor.shutdownNow();
 
     // Shutdown the internal clean up executor of redundant exception filter.
     redundantExceptionFilter.shutdown();
@@ -377,7 +421,28 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
       stopConsumptionAndReport(report);
     } else {
-      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
+      enqueueStatusReport(report);
+    }
+  }
+
+  private synchronized void enqueueStatusReport(IngestionTaskReport report) {
+    pendingStatusReports.add(report);
+    long statusReportCount = ++enqueuedStatusReportCount;
+    statusReportingExecutor.execute(() -> sendPendingStatusReports(statusReportCount));
+  }
+
+  /**
+   * Sends the pending reports, up to the given one, so that the reports queued after a COMPLETED or ERROR report are
+   * still sent after it.
+   */
+  private void sendPendingStatusReports(long untilStatusReportCount) {
+    List<IngestionTaskReport> reports = new ArrayList<>();
+    while (sentStatusReportCount < untilStatusReportCount) {
+      reports.add(pendingStatusReports.poll());
+      sentStatusReportCount++;
+    }
+    if (!reports.isEmpty()) {
+      reportClient.reportIngestionStatus(reports);
     }
   }
 
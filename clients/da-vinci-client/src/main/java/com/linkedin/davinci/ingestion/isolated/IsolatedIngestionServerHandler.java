@@ -76,46 +76,10 @@ public class IsolatedIngestionServerHandler extends SimpleChannelInboundHandler<
   protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) throws Exception {
     try {
       IngestionAction action = IsolatedIngestionUtils.getIngestionActionFromRequest(msg);
-      byte[] result = getDummyContent();
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Received {} message: {}", action.name(), msg);
       }
-      if (!isolatedIngestionServer.isInitiated()) {
-        throw new VeniceException("Isolated ingestion server is not initialized yet!");
-      }
-      switch (action) {
-        case COMMAND:
-          IngestionTaskCommand ingestionTaskCommand =
-              deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
-          IngestionTaskReport report = handleIngestionTaskCommand(ingestionTaskCommand);
-          result = serializeIngestionActionResponse(action, report);
-          break;
-        case METRIC:
-          IngestionMetricsReport metricsReport = handleMetricsRequest();
-          result = serializeIngestionActionResponse(action, metricsReport);
-          break;
-        case HEARTBEAT:
-          isolatedIngestionServer.updateHeartbeatTime();
-          break;
-        case UPDATE_METADATA:
-          IngestionStorageMetadata ingestionStorageMetadata =
-              deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
-          IngestionTaskReport metadataUpdateReport = handleIngestionStorageMetadataUpdate(ingestionStorageMetadata);
-          result = serializeIngestionActionResponse(action, metadataUpdateReport);
-          break;
-        case SHUTDOWN_COMPONENT:
-          ProcessShutdownCommand processShutdownCommand =
-              deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
-          IngestionTaskReport shutdownTaskReport = handleProcessShutdownCommand(processShutdownCommand);
-          result = serializeIngestionActionResponse(action, shutdownTaskReport);
-          break;
-        case GET_LOADED_STORE_USER_PARTITION_MAPPING:
-          LoadedStoreUserPartitionMapping mapping = handleGetLoadedStoreUserPartitionMappingRequest();
-          result = serializeIngestionActionResponse(action, mapping);
-          break;
-        default:
-          throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
-      }
+      byte[] result = handleRequest(action, readHttpRequestContent(msg));
       ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, result));
     } catch (UnsupportedOperationException e) {
       // Here we only handles the bad requests exception. Other errors are handled in exceptionCaught() method.
@@ -127,6 +91,48 @@ public class IsolatedIngestionServerHandler extends SimpleChannelInboundHandler<
     }
   }
 
+  /**
+   * Handles a request independently of the transport it was received from.
+   * @return the serialized response of the request.
+   */
+  byte[] handleRequest(IngestionAction action, byte[] content) {
+    byte[] result = getDummyContent();
+    if (!isolatedIngestionServer.isInitiated()) {
+      throw new VeniceException("Isolated ingestion server is not initialized yet!");
+    }
+    switch (action) {
+      case COMMAND:
+        IngestionTaskCommand ingestionTaskCommand = deserializeIngestionActionRequest(action, content);
+        IngestionTaskReport report = handleIngestionTaskCommand(ingestionTaskCommand);
+        result = serializeIngestionActionResponse(action, report);
+        break;
+      case METRIC:
+        IngestionMetricsReport metricsReport = handleMetricsRequest();
+        result = serializeIngestionActionResponse(action, metricsReport);
+        break;
+      case HEARTBEAT:
+        isolatedIngestionServer.updateHeartbeatTime();
+        break;
+      case UPDATE_METADATA:
+        IngestionStorageMetadata ingestionStorageMetadata = deserializeIngestionActionRequest(action, content);
+        IngestionTaskReport metadataUpdateReport = handleIngestionStorageMetadataUpdate(ingestionStorageMetadata);
+        result = serializeIngestionActionResponse(action, metadataUpdateReport);
+        break;
+      case SHUTDOWN_COMPONENT:
+        ProcessShutdownCommand processShutdownCommand = deserializeIngestionActionRequest(action, content);
+        IngestionTaskReport shutdownTaskReport = handleProcessShutdownCommand(processShutdownCommand);
+        result = serializeIngestionActionResponse(action, shutdownTaskReport);
+        break;
+      case GET_LOADED_STORE_USER_PARTITION_MAPPING:
+        LoadedStoreUserPartitionMapping mapping = handleGetLoadedStoreUserPartitionMappingRequest();
+        result = serializeIngestionActionResponse(action, mapping);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
+    }
+    return result;
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
     LOGGER.error("Encounter exception -  message: {}, cause: {}", cause.getMessage(), cause);
@@ -4,6 +4,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_CONNECTI
 import static java.lang.Thread.currentThread;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.DomainSocketServer;
+import com.linkedin.davinci.ingestion.IngestionFrameRequestHandler;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
@@ -22,6 +24,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -51,6 +54,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
   private final ScheduledExecutorService heartbeatCheckScheduler = Executors.newScheduledThreadPool(1);
   private final ExecutorService longRunningTaskExecutor = Executors.newSingleThreadExecutor();
   private final MainIngestionRequestClient heartbeatClient;
+  private final DomainSocketServer domainSocketServer;
   private final Map<String, MainTopicIngestionStatus> topicIngestionStatusMap = new VeniceConcurrentHashMap<>();
   private final List<VeniceNotifier> ingestionNotifierList = new ArrayList<>();
   private final List<VeniceNotifier> pushStatusNotifierList = new ArrayList<>();
@@ -88,6 +92,18 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.TCP_NODELAY, true);
 
+    if (IsolatedIngestionUtils.isolatedIngestionDomainSocketEnabled(configLoader)) {
+      // Reports are handled in order, on the event loop, just like the ones received over HTTP.
+      domainSocketServer = new DomainSocketServer(
+          configLoader.getVeniceServerConfig().getIngestionApplicationDomainSocketPath(),
+          () -> new IngestionFrameRequestHandler(
+              new MainIngestionReportHandler(this)::handleRequest,
+              Collections.emptySet(),
+              Runnable::run));
+    } else {
+      domainSocketServer = null;
+    }
+
     heartbeatClient = new MainIngestionRequestClient(configLoader);
   }
 
@@ -96,6 +112,9 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     int applicationPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     serverFuture = bootstrap.bind(applicationPort).sync();
     LOGGER.info("Report listener service started on port: {}", applicationPort);
+    if (domainSocketServer != null) {
+      domainSocketServer.start();
+    }
     connectionTimeoutMs =
         configLoader.getCombinedProperties().getLong(SERVER_INGESTION_ISOLATION_CONNECTION_TIMEOUT_SECONDS, 180)
             * Time.MS_PER_SECOND;
@@ -115,6 +134,9 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+    if (domainSocketServer != null) {
+      domainSocketServer.close();
+    }
   }
 
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
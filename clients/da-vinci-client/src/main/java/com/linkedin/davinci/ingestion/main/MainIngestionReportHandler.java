@@ -47,21 +47,7 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
   public void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
     IngestionAction action = IsolatedIngestionUtils.getIngestionActionFromRequest(msg);
     try {
-      switch (action) {
-        case METRIC:
-          IngestionMetricsReport metricsReport =
-              deserializeIngestionActionRequest(IngestionAction.METRIC, readHttpRequestContent(msg));
-          handleMetricsReport(metricsReport);
-          break;
-        case REPORT:
-          IngestionTaskReport ingestionReport =
-              deserializeIngestionActionRequest(IngestionAction.REPORT, readHttpRequestContent(msg));
-          handleIngestionReport(ingestionReport);
-          break;
-        default:
-          throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
-      }
-      ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
+      ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, handleRequest(action, readHttpRequestContent(msg))));
     } catch (UnsupportedOperationException e) {
       // Here we only handles the bad requests exception. Other errors are handled in exceptionCaught() method.
       LOGGER.error("Caught unrecognized request action:", e);
@@ -72,6 +58,26 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
     }
   }
 
+  /**
+   * Handles a request independently of the transport it was received from.
+   * @return the serialized response of the request.
+   */
+  byte[] handleRequest(IngestionAction action, byte[] content) {
+    switch (action) {
+      case METRIC:
+        IngestionMetricsReport metricsReport = deserializeIngestionActionRequest(IngestionAction.METRIC, content);
+        handleMetricsReport(metricsReport);
+        break;
+      case REPORT:
+        IngestionTaskReport ingestionReport = deserializeIngestionActionRequest(IngestionAction.REPORT, content);
+        handleIngestionReport(ingestionReport);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
+    }
+    return getDummyContent();
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
     LOGGER.error("Encounter exception during ingestion task report handling.", cause);
@@ -8,7 +8,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.START_CONSUMPTION;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
-import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -21,13 +22,13 @@ import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionComponentType;
 import com.linkedin.venice.meta.IngestionMetadataUpdateType;
-import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.ForkedJavaProcess;
 import com.linkedin.venice.utils.Utils;
 import java.io.Closeable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,17 +40,20 @@ public class MainIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionRequestClient.class);
 
   private static final int REQUEST_MAX_ATTEMPT = 10;
-  private HttpClientTransport httpClientTransport;
+  private IngestionRequestTransport requestTransport;
   private final int heartbeatRequestTimeoutSeconds;
 
   public MainIngestionRequestClient(VeniceConfigLoader configLoader) {
     heartbeatRequestTimeoutSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_HEARTBEAT_REQUEST_TIMEOUT_SECONDS, 5);
-    Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
-    int port = configLoader.getVeniceServerConfig().getIngestionServicePort();
+    VeniceServerConfig serverConfig = configLoader.getVeniceServerConfig();
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    requestTransport = IsolatedIngestionUtils.createRequestTransport(
+        configLoader,
+        serverConfig.getIngestionServicePort(),
+        serverConfig.getIngestionServiceDomainSocketPath(),
+        requestTimeoutInSeconds);
   }
 
   public synchronized Process startForkedIngestionProcess(VeniceConfigLoader configLoader) {
@@ -179,7 +183,7 @@ public class MainIngestionRequestClient implements Closeable {
               + IngestionMetadataUpdateType.valueOf(ingestionStorageMetadata.metadataUpdateType) + " for topic: "
               + ingestionStorageMetadata.topicName + " partition: " + ingestionStorageMetadata.partitionId);
       IngestionTaskReport report =
-          httpClientTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
+          requestTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
       return report.isPositive;
     } catch (Exception e) {
       /**
@@ -193,13 +197,39 @@ public class MainIngestionRequestClient implements Closeable {
     }
   }
 
+  /**
+   * Sends the metadata updates in order, without waiting for the response of each update before sending the next one
+   * when the transport supports it, and without any retry.
+   * @return the number of leading updates which were applied, up to the first one which failed.
+   */
+  public int updateMetadata(List<IngestionStorageMetadata> ingestionStorageMetadataList) {
+    List<CompletableFuture<IngestionTaskReport>> futures =
+        requestTransport.sendRequestsAsync(IngestionAction.UPDATE_METADATA, ingestionStorageMetadataList);
+    int appliedCount = 0;
+    for (CompletableFuture<IngestionTaskReport> future: futures) {
+      try {
+        if (!future.join().isPositive) {
+          break;
+        }
+      } catch (Exception e) {
+        IngestionStorageMetadata ingestionStorageMetadata = ingestionStorageMetadataList.get(appliedCount);
+        LOGGER.warn(
+            "Encounter exception when sending batched metadata updates to child process for topic: "
+                + ingestionStorageMetadata.topicName + ", partition: " + ingestionStorageMetadata.partitionId);
+        break;
+      }
+      appliedCount++;
+    }
+    return appliedCount;
+  }
+
   public void shutdownForkedProcessComponent(IngestionComponentType ingestionComponentType) {
     // Send ingestion request to ingestion service.
     ProcessShutdownCommand processShutdownCommand = new ProcessShutdownCommand();
     processShutdownCommand.componentType = ingestionComponentType.getValue();
     LOGGER.info("Sending shutdown component request to forked process for component: " + ingestionComponentType.name());
     try {
-      httpClientTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
+      requestTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
     } catch (Exception e) {
       LOGGER.warn("Encounter exception when shutting down component: " + ingestionComponentType.name());
     }
@@ -207,7 +237,7 @@ public class MainIngestionRequestClient implements Closeable {
 
   public boolean sendHeartbeatRequest() {
     try {
-      httpClientTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), heartbeatRequestTimeoutSeconds);
+      requestTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), heartbeatRequestTimeoutSeconds);
       return true;
     } catch (Exception e) {
       // Don't spam the server logging.
@@ -217,17 +247,17 @@ public class MainIngestionRequestClient implements Closeable {
   }
 
   public LoadedStoreUserPartitionMapping getLoadedStoreUserPartitionMapping() {
-    return httpClientTransport.sendRequest(IngestionAction.GET_LOADED_STORE_USER_PARTITION_MAPPING, getDummyCommand());
+    return requestTransport.sendRequest(IngestionAction.GET_LOADED_STORE_USER_PARTITION_MAPPING, getDummyCommand());
   }
 
   @Override
   public void close() {
-    httpClientTransport.close();
+    requestTransport.close();
   }
 
   // Visible for testing
-  protected void setHttpClientTransport(HttpClientTransport clientTransport) {
-    this.httpClientTransport = clientTransport;
+  protected void setRequestTransport(IngestionRequestTransport requestTransport) {
+    this.requestTransport = requestTransport;
   }
 
   private boolean sendIngestionCommandWithRetry(
@@ -241,7 +271,7 @@ public class MainIngestionRequestClient implements Closeable {
     LOGGER.info("Sending request: " + commandType + " to forked process" + commandInfo);
     IngestionTaskReport report;
     try {
-      report = httpClientTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
+      report = requestTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
     } catch (Exception e) {
       throw new VeniceException("Caught exception when sending command: " + commandType + commandInfo, e);
     }
@@ -18,6 +18,9 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -38,6 +41,7 @@ import org.apache.logging.log4j.Logger;
  */
 public class MainIngestionStorageMetadataService extends AbstractVeniceService implements StorageMetadataService {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionStorageMetadataService.class);
+  private static final int MAX_METADATA_UPDATE_BATCH_SIZE = 1000;
 
   private final MainIngestionRequestClient client;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
@@ -194,10 +198,24 @@ public class MainIngestionStorageMetadataService extends AbstractVeniceService i
       while (isRunning.get()) {
         try {
           /**
-           * Here it leaves room for future optimization: if the metadata update volumes is large in classical Venice
-           * and this sequential update approach is lagging, we can transform it into batch update.
+           * The queued updates are sent in batches, which the transport may send without waiting for each response.
+           * Only the updates which were applied get removed from the queue, and the first one which was not applied is
+           * then retried on its own, as the child process might just be restarting.
            */
           while (!metadataUpdateQueue.isEmpty()) {
+            List<IngestionStorageMetadata> batch = new ArrayList<>(MAX_METADATA_UPDATE_BATCH_SIZE);
+            Iterator<IngestionStorageMetadata> iterator = metadataUpdateQueue.iterator();
+            while (iterator.hasNext() && batch.size() < MAX_METADATA_UPDATE_BATCH_SIZE) {
+              batch.add(iterator.next());
+            }
+            int appliedCount = client.updateMetadata(batch);
+            for (int i = 0; i < appliedCount; i++) {
+              metadataUpdateQueue.remove();
+            }
+            metadataUpdateStats.recordMetadataUpdateQueueLength(metadataUpdateQueue.size());
+            if (appliedCount == batch.size()) {
+              continue;
+            }
             boolean isSuccess = client.updateMetadata(metadataUpdateQueue.peek());
             if (isSuccess) {
               metadataUpdateQueue.remove();
@@ -18,6 +18,9 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.SHUTD
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.UPDATE_METADATA;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
+import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServerAclHandler;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
@@ -51,6 +54,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -581,6 +585,34 @@ public class IsolatedIngestionUtils {
     return configLoader.getCombinedProperties().getBoolean(SSL_ENABLED, false);
   }
 
+  /**
+   * The domain socket transport is only used when it is enabled, and the Netty epoll transport is available on the
+   * host. Otherwise, both processes keep talking over HTTP.
+   */
+  public static boolean isolatedIngestionDomainSocketEnabled(VeniceConfigLoader configLoader) {
+    if (!configLoader.getVeniceServerConfig().isIngestionIsolationDomainSocketEnabled()) {
+      return false;
+    }
+    if (!Epoll.isAvailable()) {
+      LOGGER.warn(
+          "Ingestion isolation domain socket is enabled, but epoll is not available, will use HTTP instead.",
+          Epoll.unavailabilityCause());
+      return false;
+    }
+    return true;
+  }
+
+  public static IngestionRequestTransport createRequestTransport(
+      VeniceConfigLoader configLoader,
+      int port,
+      String domainSocketPath,
+      int requestTimeoutInSeconds) {
+    if (isolatedIngestionDomainSocketEnabled(configLoader)) {
+      return new DomainSocketClientTransport(domainSocketPath, requestTimeoutInSeconds);
+    }
+    return new HttpClientTransport(getSSLFactory(configLoader), port, requestTimeoutInSeconds);
+  }
+
   private static void maybePopulateServerIngestionPrincipal(
       PropertyBuilder propertyBuilder,
       VeniceConfigLoader configLoader,
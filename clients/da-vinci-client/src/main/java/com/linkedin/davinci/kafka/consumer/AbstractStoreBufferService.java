@@ -6,6 +6,7 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.service.AbstractVeniceService;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 
 /**
@@ -38,4 +39,12 @@ public abstract class AbstractStoreBufferService extends AbstractVeniceService {
   public abstract CompletableFuture<Void> execSyncOffsetCommandAsync(
       PubSubTopicPartition topicPartition,
       StoreIngestionTask ingestionTask) throws InterruptedException;
+
+  /**
+   * Sets the callback which the drainers hand each record queued without a {@link LeaderProducedRecordContext} to,
+   * once it has been successfully processed, at which point nothing references it anymore. This should be called
+   * before the service is started.
+   */
+  public abstract void setProcessedRecordRecycler(
+      Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler);
 }
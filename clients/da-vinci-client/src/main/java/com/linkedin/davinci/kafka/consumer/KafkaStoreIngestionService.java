@@ -86,6 +86,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
@@ -328,7 +329,9 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterBufferNotifyDelta(),
           serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
           metricsRepository,
-          true);
+          true,
+          serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+          serverConfig.getAdaptiveDrainerReassignmentMemoryUsageRatio());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
 
@@ -382,10 +385,20 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         : new OptimizedKafkaValueSerializer();
 
     kafkaMessageEnvelopeSchemaReader.ifPresent(kafkaValueSerializer::setSchemaReader);
-    PubSubMessageDeserializer pubSubDeserializer = new PubSubMessageDeserializer(
-        kafkaValueSerializer,
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    int envelopePoolCapacity = serverConfig.getIngestionEnvelopePoolCapacity();
+    PubSubMessageDeserializer pubSubDeserializer;
+    if (envelopePoolCapacity > 0) {
+      pubSubDeserializer = new PubSubMessageDeserializer(
+          kafkaValueSerializer,
+          new RecyclingObjectPool<>(KafkaMessageEnvelope::new, envelopePoolCapacity),
+          new RecyclingObjectPool<>(KafkaMessageEnvelope::new, envelopePoolCapacity));
+      storeBufferService.setProcessedRecordRecycler(pubSubDeserializer::recycle);
+    } else {
+      pubSubDeserializer = new PubSubMessageDeserializer(
+          kafkaValueSerializer,
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    }
 
     aggKafkaConsumerService = new AggKafkaConsumerService(
         pubSubClientsFactory.getConsumerAdapterFactory(),
@@ -16,6 +16,7 @@ import static java.lang.Long.max;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.linkedin.davinci.client.DaVinciRecordTransformer;
+import com.linkedin.davinci.compression.ZstdDictionaryDriftMonitor;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.ingestion.LagType;
@@ -70,6 +71,7 @@ import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -194,6 +196,12 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
 
   private final Lazy<IngestionBatchProcessor> ingestionBatchProcessingLazy;
 
+  /**
+   * Samples the real-time values compressed by the leader to measure the drift of the version dictionary, only set up
+   * for hybrid versions using {@link CompressionStrategy#ZSTD_WITH_DICT} when the drift monitoring is enabled.
+   */
+  private final ZstdDictionaryDriftMonitor zstdDictionaryDriftMonitor;
+
   public LeaderFollowerStoreIngestionTask(
       StoreIngestionTaskFactory.Builder builder,
       Store store,
@@ -330,6 +338,28 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
           builder.getVersionedStorageIngestionStats(),
           getHostLevelIngestionStats());
     });
+    if (serverConfig.isZstdDictDriftMonitoringEnabled() && compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT
+        && hybridStoreConfig.isPresent()) {
+      this.zstdDictionaryDriftMonitor = new ZstdDictionaryDriftMonitor(
+          kafkaVersionTopic,
+          compressor::get,
+          serverConfig.getZstdDictDriftMonitoringSamplingRate(),
+          serverConfig.getZstdDictDriftMonitoringSampleSizeInBytes(),
+          VeniceWriter.DEFAULT_MAX_SIZE_FOR_USER_PAYLOAD_PER_MESSAGE_IN_BYTES,
+          serverConfig.getZstdDictDriftMonitoringIntervalMs(),
+          new SystemTime());
+    } else {
+      this.zstdDictionaryDriftMonitor = null;
+    }
+  }
+
+  @Override
+  public double getZstdDictDriftCompressionRatioGain() {
+    if (zstdDictionaryDriftMonitor == null) {
+      return 0;
+    }
+    double compressionRatioGain = zstdDictionaryDriftMonitor.getLatestCompressionRatioGain();
+    return Double.isNaN(compressionRatioGain) ? 0 : compressionRatioGain;
   }
 
   @Override
@@ -2976,6 +3006,9 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       return null;
     }
     if (shouldCompressData(partitionConsumptionState)) {
+      if (zstdDictionaryDriftMonitor != null) {
+        zstdDictionaryDriftMonitor.maybeSample(data);
+      }
       try {
         // We need to expand the front of the returned bytebuffer to make room for schema header insertion
         return compressor.get().compress(data, ByteUtils.SIZE_OF_INT);
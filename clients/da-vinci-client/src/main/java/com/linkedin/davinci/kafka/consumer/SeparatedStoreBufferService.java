@@ -7,6 +7,7 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -34,14 +35,18 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             metricsRepository,
-            true),
+            true,
+            serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+            serverConfig.getAdaptiveDrainerReassignmentMemoryUsageRatio()),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             metricsRepository,
-            false));
+            false,
+            serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+            serverConfig.getAdaptiveDrainerReassignmentMemoryUsageRatio()));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
@@ -95,6 +100,13 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
     return chosenSBS.execSyncOffsetCommandAsync(topicPartition, ingestionTask);
   }
 
+  @Override
+  public void setProcessedRecordRecycler(
+      Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler) {
+    sortedStoreBufferServiceDelegate.setProcessedRecordRecycler(processedRecordRecycler);
+    unsortedStoreBufferServiceDelegate.setProcessedRecordRecycler(processedRecordRecycler);
+  }
+
   @Override
   public boolean startInner() throws Exception {
     sortedStoreBufferServiceDelegate.startInner();
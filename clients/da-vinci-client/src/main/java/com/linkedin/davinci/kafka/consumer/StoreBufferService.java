@@ -14,9 +14,11 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.Update;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +32,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,7 +46,9 @@ import org.apache.logging.log4j.Logger;
  * 1. {@link StoreBufferService} will be maintaining a fixed number (configurable) of {@link StoreBufferDrainer} pool;
  * 2. For each {@link StoreBufferDrainer}, there is a corresponding {@link BlockingQueue}, which will buffer {@link QueueNode};
  * 3. All the records belonging to the same topic+partition will be allocated to the same drainer thread, otherwise DIV will fail;
- * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)};
+ * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)},
+ * and when adaptive drainer assignment is enabled, topic+partitions could be moved afterward, please check
+ * {@link #acquireDrainerAssignment(PubSubMessage, int)};
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
@@ -65,6 +70,15 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
   private final boolean isSorted;
 
+  private final boolean adaptiveDrainerAssignmentEnabled;
+  /**
+   * The memory usage of a drainer queue above which its idle topic+partitions get moved to a less loaded drainer.
+   */
+  private final long reassignmentMemoryUsageThreshold;
+  private final ConcurrentMap<PubSubTopicPartition, DrainerAssignment> drainerAssignments =
+      new VeniceConcurrentHashMap<>();
+  private Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler = record -> {};
+
   public StoreBufferService(
       int drainerNum,
       long bufferCapacityPerDrainer,
@@ -72,6 +86,26 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       MetricsRepository metricsRepository,
       boolean sorted) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        metricsRepository,
+        sorted,
+        false,
+        1);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      MetricsRepository metricsRepository,
+      boolean sorted,
+      boolean adaptiveDrainerAssignmentEnabled,
+      double reassignmentMemoryUsageRatio) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
@@ -79,6 +113,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
       this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
     }
     this.isSorted = sorted;
+    this.adaptiveDrainerAssignmentEnabled = adaptiveDrainerAssignmentEnabled;
+    this.reassignmentMemoryUsageThreshold = (long) (bufferCapacityPerDrainer * reassignmentMemoryUsageRatio);
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
     String metricNamePrefix = sorted ? "StoreBufferServiceSorted" : "StoreBufferServiceUnsorted";
     this.storeBufferServiceStats = new StoreBufferServiceStats(
@@ -87,7 +123,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
         this::getTotalMemoryUsage,
         this::getTotalRemainingMemory,
         this::getMaxMemoryUsagePerDrainer,
-        this::getMinMemoryUsagePerDrainer);
+        this::getMinMemoryUsagePerDrainer,
+        this::getMemoryUsageSkewAcrossDrainers);
   }
 
   /**
@@ -99,6 +136,20 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferNotifyDelta,
       boolean queueLeaderWrites,
       StoreBufferServiceStats stats) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, stats, false, 1);
+  }
+
+  /**
+   * Constructor for testing
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      StoreBufferServiceStats stats,
+      boolean adaptiveDrainerAssignmentEnabled,
+      double reassignmentMemoryUsageRatio) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
@@ -108,13 +159,26 @@ public class StoreBufferService extends AbstractStoreBufferService {
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
     this.storeBufferServiceStats = stats;
     this.isSorted = true;
+    this.adaptiveDrainerAssignmentEnabled = adaptiveDrainerAssignmentEnabled;
+    this.reassignmentMemoryUsageThreshold = (long) (bufferCapacityPerDrainer * reassignmentMemoryUsageRatio);
   }
 
-  protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
-      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
-      int partition) {
-    int drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, partition);
-    return blockingQueueArr.get(drainerIndex);
+  /**
+   * Queues the given node into the drainer of its topic+partition.
+   */
+  private void putNode(QueueNode node, int partition) throws InterruptedException {
+    if (!adaptiveDrainerAssignmentEnabled) {
+      blockingQueueArr.get(getDrainerIndexForConsumerRecord(node.getConsumerRecord(), partition)).put(node);
+      return;
+    }
+    DrainerAssignment assignment = acquireDrainerAssignment(node.getConsumerRecord(), partition);
+    node.setDrainerAssignment(assignment);
+    try {
+      blockingQueueArr.get(assignment.getDrainerIndex()).put(node);
+    } catch (InterruptedException e) {
+      assignment.release();
+      throw e;
+    }
   }
 
   protected int getDrainerIndexForConsumerRecord(
@@ -129,6 +193,94 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + partition) % this.drainerNum);
   }
 
+  /**
+   * Returns the current drainer assignment of the topic+partition of the given record, after registering one more
+   * pending node for it, which must be released once processed.
+   *
+   * A topic+partition is only moved to another drainer when it doesn't have any pending node, so that its records are
+   * still processed in order. Busy topic+partitions thus tend to stay where they are, while the other topic+partitions
+   * of an overloaded drainer get moved away, which keeps them from being blocked behind the busy ones.
+   */
+  DrainerAssignment acquireDrainerAssignment(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int partition) {
+    PubSubTopicPartition topicPartition = consumerRecord.getTopicPartition();
+    if (topicPartition.getPartitionNumber() != partition) {
+      topicPartition = new PubSubTopicPartitionImpl(topicPartition.getPubSubTopic(), partition);
+    }
+    while (true) {
+      DrainerAssignment assignment = drainerAssignments.computeIfAbsent(
+          topicPartition,
+          ignored -> new DrainerAssignment(getDrainerIndexForConsumerRecord(consumerRecord, partition)));
+      synchronized (assignment) {
+        if (assignment.removed) {
+          // Lost the race with the removal of the assignment, so retry with a fresh one
+          continue;
+        }
+        if (assignment.pendingNodeCount == 0) {
+          maybeReassign(topicPartition, assignment);
+        }
+        assignment.pendingNodeCount++;
+        return assignment;
+      }
+    }
+  }
+
+  private void maybeReassign(PubSubTopicPartition topicPartition, DrainerAssignment assignment) {
+    if (blockingQueueArr.get(assignment.drainerIndex).getMemoryUsage() < reassignmentMemoryUsageThreshold) {
+      return;
+    }
+    int targetDrainerIndex = getLeastLoadedDrainerIndex();
+    if (targetDrainerIndex == assignment.drainerIndex
+        || blockingQueueArr.get(targetDrainerIndex).getMemoryUsage() >= reassignmentMemoryUsageThreshold) {
+      return;
+    }
+    LOGGER.debug(
+        "Moving {} from drainer {} to drainer {}",
+        topicPartition,
+        assignment.drainerIndex,
+        targetDrainerIndex);
+    assignment.drainerIndex = targetDrainerIndex;
+    storeBufferServiceStats.recordWriterReassignment();
+  }
+
+  /**
+   * @return the index of the drainer with the lowest estimated time to drain its queue, which is the number of queued
+   *         nodes multiplied by the recent processing latency of the drainer, and the memory usage breaks the ties.
+   */
+  private int getLeastLoadedDrainerIndex() {
+    boolean started = drainerList.size() == drainerNum;
+    int leastLoadedIndex = 0;
+    long leastEstimatedDrainTime = Long.MAX_VALUE;
+    long leastMemoryUsage = Long.MAX_VALUE;
+    for (int index = 0; index < drainerNum; index++) {
+      MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
+      long latency = started ? Math.max(drainerList.get(index).avgProcessingLatencyInNS, 1) : 1;
+      long estimatedDrainTime = queue.size() * latency;
+      long memoryUsage = queue.getMemoryUsage();
+      if (estimatedDrainTime < leastEstimatedDrainTime
+          || (estimatedDrainTime == leastEstimatedDrainTime && memoryUsage < leastMemoryUsage)) {
+        leastLoadedIndex = index;
+        leastEstimatedDrainTime = estimatedDrainTime;
+        leastMemoryUsage = memoryUsage;
+      }
+    }
+    return leastLoadedIndex;
+  }
+
+  /**
+   * @return the index of the drainer which the given topic+partition is currently assigned to.
+   */
+  protected int getCurrentDrainerIndex(PubSubTopicPartition topicPartition) {
+    if (adaptiveDrainerAssignmentEnabled) {
+      DrainerAssignment assignment = drainerAssignments.get(topicPartition);
+      if (assignment != null) {
+        return assignment.getDrainerIndex();
+      }
+    }
+    return getDrainerIndexForConsumerRecord(new FakePubSubMessage(topicPartition), topicPartition.getPartitionNumber());
+  }
+
   @Override
   public void putConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -144,13 +296,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putNode(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          partition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -186,13 +339,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putNode(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        partition);
   }
 
   private static void processRecord(
@@ -245,7 +399,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int retryNum,
       int sleepIntervalInMS) throws InterruptedException {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
-    int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
+    int workerIndex = getCurrentDrainerIndex(topicPartition);
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
     if (!drainerList.get(workerIndex).isRunning.get()) {
       throw new VeniceException(
@@ -262,6 +416,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
             "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
             workerIndex,
             topicPartition);
+        removeDrainerAssignmentIfIdle(topicPartition);
         return;
       }
       Thread.sleep(sleepIntervalInMS);
@@ -273,6 +428,23 @@ public class StoreBufferService extends AbstractStoreBufferService {
     throw new VeniceException(errorMessage);
   }
 
+  /**
+   * Forgets the drainer assignment of a topic+partition which has been fully drained, so that the assignments of the
+   * unsubscribed topic+partitions don't pile up.
+   */
+  private void removeDrainerAssignmentIfIdle(PubSubTopicPartition topicPartition) {
+    DrainerAssignment assignment = drainerAssignments.get(topicPartition);
+    if (assignment == null) {
+      return;
+    }
+    synchronized (assignment) {
+      if (assignment.pendingNodeCount == 0) {
+        assignment.removed = true;
+        drainerAssignments.remove(topicPartition, assignment);
+      }
+    }
+  }
+
   @Override
   public CompletableFuture<Void> execSyncOffsetCommandAsync(
       PubSubTopicPartition topicPartition,
@@ -280,10 +452,16 @@ public class StoreBufferService extends AbstractStoreBufferService {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
     CommandQueueNode syncOffsetCmd =
         new CommandQueueNode(CommandQueueNode.CommandType.SYNC_OFFSET, fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncOffsetCmd);
+    putNode(syncOffsetCmd, topicPartition.getPartitionNumber());
     return syncOffsetCmd.getCmdExecutedFuture();
   }
 
+  @Override
+  public void setProcessedRecordRecycler(
+      Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler) {
+    this.processedRecordRecycler = Objects.requireNonNull(processedRecordRecycler);
+  }
+
   @Override
   public boolean startInner() {
     this.executorService = Executors.newFixedThreadPool(
@@ -292,7 +470,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, storeBufferServiceStats);
+      StoreBufferDrainer drainer = new StoreBufferDrainer(
+          this.blockingQueueArr.get(cur),
+          cur,
+          storeBufferServiceStats,
+          processedRecordRecycler);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -362,6 +544,20 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return maxUsage;
   }
 
+  /**
+   * @return the difference of memory usage between the most and the least loaded drainers.
+   */
+  public long getMemoryUsageSkewAcrossDrainers() {
+    long maxUsage = 0;
+    long minUsage = Long.MAX_VALUE;
+    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+      long usage = queue.getMemoryUsage();
+      maxUsage = Math.max(maxUsage, usage);
+      minUsage = Math.min(minUsage, usage);
+    }
+    return maxUsage - minUsage;
+  }
+
   /** Used for testing */
   Map<PubSubTopicPartition, Long> getTopicToTimeSpentMap(int i) {
     return drainerList.get(i).topicToTimeSpent;
@@ -376,6 +572,28 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return minUsage;
   }
 
+  /**
+   * The drainer which a topic+partition is assigned to, along with the number of its nodes which are either queued or
+   * being processed. All the fields are guarded by the instance lock.
+   */
+  static class DrainerAssignment {
+    private int drainerIndex;
+    private int pendingNodeCount = 0;
+    private boolean removed = false;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+    }
+
+    synchronized int getDrainerIndex() {
+      return drainerIndex;
+    }
+
+    synchronized void release() {
+      pendingNodeCount--;
+    }
+  }
+
   /**
    * Queue node type in {@link BlockingQueue} of each drainer thread.
    */
@@ -388,6 +606,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /**
+     * Only set when adaptive drainer assignment is enabled.
+     */
+    private DrainerAssignment drainerAssignment;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -424,6 +646,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    public void setDrainerAssignment(DrainerAssignment drainerAssignment) {
+      this.drainerAssignment = drainerAssignment;
+    }
+
+    /**
+     * Signals that this node has been processed, so that its topic+partition could be moved to another drainer.
+     */
+    public void release() {
+      if (drainerAssignment != null) {
+        drainerAssignment.release();
+      }
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -628,11 +863,21 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final int drainerIndex;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
     private final StoreBufferServiceStats stats;
+    private final Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler;
+    /**
+     * Moving average of the processing latency, which is only updated by the drainer thread.
+     */
+    private volatile long avgProcessingLatencyInNS = 0;
 
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, StoreBufferServiceStats stats) {
+    public StoreBufferDrainer(
+        BlockingQueue<QueueNode> blockingQueue,
+        int drainerIndex,
+        StoreBufferServiceStats stats,
+        Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> processedRecordRecycler) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
       this.stats = stats;
+      this.processedRecordRecycler = processedRecordRecycler;
     }
 
     public void stop() {
@@ -648,6 +893,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask = null;
       CompletableFuture<Void> recordPersistedFuture = null;
       while (isRunning.get()) {
+        node = null;
         try {
           node = blockingQueue.take();
 
@@ -657,7 +903,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
           ingestionTask = node.getIngestionTask();
           recordPersistedFuture = node.getQueuedRecordPersistedFuture();
 
-          long startTime = System.currentTimeMillis();
+          long startTimeInNS = System.nanoTime();
 
           if (node instanceof CommandQueueNode) {
             processCommand(
@@ -681,9 +927,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
           if (recordPersistedFuture != null) {
             recordPersistedFuture.complete(null);
           }
-          long latencyInMS = System.currentTimeMillis() - startTime;
+          long latencyInNS = System.nanoTime() - startTimeInNS;
+          long previousAvgLatencyInNS = avgProcessingLatencyInNS;
+          avgProcessingLatencyInNS = previousAvgLatencyInNS + ((latencyInNS - previousAvgLatencyInNS) >> 3);
+          long latencyInMS = TimeUnit.NANOSECONDS.toMillis(latencyInNS);
           this.stats.recordInternalProcessingLatency(latencyInMS);
           topicToTimeSpent.compute(consumerRecord.getTopicPartition(), (K, V) -> (V == null ? 0 : V) + latencyInMS);
+          /**
+           * Records produced by the leader might still be referenced by the pending produce callbacks, e.g. for the
+           * other chunks of the same value, so only the records queued straight from the consumer get recycled.
+           */
+          if (leaderProducedRecordContext == null) {
+            processedRecordRecycler.accept(consumerRecord);
+          }
         } catch (Throwable e) {
           if (e instanceof InterruptedException) {
             LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
@@ -733,6 +989,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null) {
+            node.release();
+          }
         }
       }
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
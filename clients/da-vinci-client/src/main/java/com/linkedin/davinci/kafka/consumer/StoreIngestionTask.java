@@ -312,6 +312,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final ChunkAssembler chunkAssembler;
   private final Optional<ObjectCacheBackend> cacheBackend;
   private final DaVinciRecordTransformer recordTransformer;
+  // Only set when the records are transformed on a separate pool rather than on the drainer thread
+  private final TransformedRecordSequencer transformedRecordSequencer;
 
   protected final String localKafkaServer;
   protected final int localKafkaClusterId;
@@ -466,6 +468,13 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       versionedIngestionStats.registerTransformerLifecycleEndLatency(storeName, versionNumber);
       versionedIngestionStats.registerTransformerErrorSensor(storeName, versionNumber);
     }
+    this.transformedRecordSequencer =
+        this.recordTransformer != null && serverConfig.getDaVinciRecordTransformerThreadPoolSize() > 0
+            ? new TransformedRecordSequencer(
+                ingestionTaskName,
+                serverConfig.getDaVinciRecordTransformerThreadPoolSize(),
+                serverConfig.getDaVinciRecordTransformerMaxPendingRecordsPerPartition())
+            : null;
 
     this.localKafkaServer = this.kafkaProps.getProperty(KAFKA_BOOTSTRAP_SERVERS);
     this.localKafkaServerSingletonSet = Collections.singleton(localKafkaServer);
@@ -1779,6 +1788,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       topicManagerRepository.invalidateTopicManagerCaches(versionTopic);
     }
 
+    if (transformedRecordSequencer != null) {
+      transformedRecordSequencer.close();
+    }
+
     close();
 
     synchronized (this) {
@@ -2108,6 +2121,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
          * two variables to avoid the race condition.
          */
         partitionConsumptionStateMap.remove(partition);
+        if (transformedRecordSequencer != null) {
+          transformedRecordSequencer.clear(partition);
+        }
         storageUtilizationManager.removePartition(partition);
         kafkaDataIntegrityValidator.clearPartition(partition);
         // Reset the error partition tracking
@@ -2558,6 +2574,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    */
   private void syncOffset(String topic, PartitionConsumptionState pcs) {
     int partition = pcs.getPartition();
+    // The offset must not be checkpointed ahead of the records which are still being transformed.
+    flushTransformedRecords(partition);
     AbstractStorageEngine storageEngineReloadedFromRepo = storageEngineRepository.getLocalStorageEngine(topic);
     if (storageEngineReloadedFromRepo == null) {
       LOGGER.warn("Storage engine has been removed. Could not execute sync offset for replica: {}", pcs.getReplicaId());
@@ -3111,6 +3129,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         ControlMessage controlMessage = (leaderProducedRecordContext == null
             ? (ControlMessage) kafkaValue.payloadUnion
             : (ControlMessage) leaderProducedRecordContext.getValueUnion());
+        // Control messages may change how the storage engine is written, e.g. at the end of push.
+        flushTransformedRecords(partitionConsumptionState.getPartition());
         checkReadyToServeAfterProcess = processControlMessage(
             kafkaValue,
             controlMessage,
@@ -3500,7 +3520,6 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
         // Do transformation recompute key, value and partition
         if (recordTransformer != null) {
-          long recordTransformStartTime = System.currentTimeMillis();
           ByteBuffer valueBytes = put.getPutValue();
           Schema valueSchema = schemaRepository.getValueSchema(storeName, putSchemaId).getSchema();
 
@@ -3524,25 +3543,26 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           Lazy<Object> lazyKey = Lazy.of(() -> deserializeAvroObjectAndReturn(ByteBuffer.wrap(keyBytes), keySchema));
           Lazy<Object> lazyValue = Lazy.of(() -> assembledObject);
 
-          Object transformedRecord = null;
-          try {
-            transformedRecord = recordTransformer.put(lazyKey, lazyValue);
-          } catch (Exception e) {
-            versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, currentTimeMs);
-            String errorMessage = "Record transformer experienced an error when transforming value=" + assembledObject;
-
-            throw new VeniceMessageException(errorMessage, e);
+          if (transformedRecordSequencer == null) {
+            put.putValue = transformRecord(lazyKey, lazyValue, assembledObject);
+            writeToStorageEngine(producedPartition, keyBytes, put);
+          } else {
+            // The Put of the record is not handed over to the pool, since it may be reused once this record is drained.
+            int transformedSchemaId = put.schemaId;
+            int replicationMetadataVersionId = put.replicationMetadataVersionId;
+            ByteBuffer replicationMetadataPayload = put.replicationMetadataPayload;
+            transformedRecordSequencer.submit(producedPartition, keyBytes, () -> {
+              ByteBuffer transformedBytes = transformRecord(lazyKey, lazyValue, assembledObject);
+              return () -> {
+                Put transformedPut = new Put();
+                transformedPut.putValue = transformedBytes;
+                transformedPut.schemaId = transformedSchemaId;
+                transformedPut.replicationMetadataVersionId = replicationMetadataVersionId;
+                transformedPut.replicationMetadataPayload = replicationMetadataPayload;
+                writeToStorageEngine(producedPartition, keyBytes, transformedPut);
+              };
+            });
           }
-          ByteBuffer transformedBytes =
-              recordTransformer.getValueBytes(recordTransformer.getValueOutputSchema(), transformedRecord);
-
-          put.putValue = transformedBytes;
-          versionedIngestionStats.recordTransformerLatency(
-              storeName,
-              versionNumber,
-              LatencyUtils.getElapsedTimeFromMsToMs(recordTransformStartTime),
-              currentTimeMs);
-          writeToStorageEngine(producedPartition, keyBytes, put);
         } else {
           prependHeaderAndWriteToStorageEngine(
               // Leaders might consume from a RT topic and immediately write into StorageEngine,
@@ -3573,6 +3593,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           delete = ((Delete) leaderProducedRecordContext.getValueUnion());
         }
         keyLen = keyBytes.length;
+        flushTransformedRecords(producedPartition);
         deleteFromStorageEngine(producedPartition, keyBytes, delete);
         if (metricsEnabled && recordLevelMetricEnabled.get()) {
           hostLevelIngestionStats
@@ -3786,6 +3807,56 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Runs the record transformer on a put, either on the drainer thread or on the pool of
+   * {@link #transformedRecordSequencer}.
+   *
+   * @return the transformed value to write, prefixed with its schema id
+   */
+  private ByteBuffer transformRecord(Lazy<Object> lazyKey, Lazy<Object> lazyValue, Object assembledObject) {
+    long recordTransformStartTime = System.currentTimeMillis();
+    Object transformedRecord = null;
+    try {
+      transformedRecord = recordTransformer.put(lazyKey, lazyValue);
+    } catch (Exception e) {
+      versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, System.currentTimeMillis());
+      String errorMessage = "Record transformer experienced an error when transforming value=" + assembledObject;
+
+      throw new VeniceMessageException(errorMessage, e);
+    }
+    ByteBuffer transformedBytes =
+        recordTransformer.getValueBytes(recordTransformer.getValueOutputSchema(), transformedRecord);
+    long currentTimeMs = System.currentTimeMillis();
+    versionedIngestionStats.recordTransformerLatency(
+        storeName,
+        versionNumber,
+        LatencyUtils.getElapsedTimeFromMsToMs(recordTransformStartTime),
+        currentTimeMs);
+    return transformedBytes;
+  }
+
+  /**
+   * Writes the records of the partition which are still being transformed, if any, so that the storage engine reflects
+   * all the records processed so far.
+   */
+  private void flushTransformedRecords(int partition) {
+    if (transformedRecordSequencer != null) {
+      transformedRecordSequencer.flush(partition);
+    }
+  }
+
+  public int getTransformerQueueDepth() {
+    return transformedRecordSequencer == null ? 0 : transformedRecordSequencer.getPendingRecordCount();
+  }
+
+  /**
+   * @return the compression ratio gain of the latest dictionary trained out of the real-time values of this version,
+   *         over the dictionary of the version, or 0 if the drift of the dictionary is not monitored.
+   */
+  public double getZstdDictDriftCompressionRatioGain() {
+    return 0;
+  }
+
   private Object deserializeAvroObjectAndReturn(ByteBuffer input, SchemaEntry schemaEntry) {
     return new AvroGenericDeserializer<>(schemaEntry.getSchema(), schemaEntry.getSchema()).deserialize(input);
   }
@@ -0,0 +1,245 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+
+/**
+ * Runs the record transformations of an ingestion task on a separate pool, and writes the transformed records in the
+ * order in which they were consumed.
+ *
+ * Only the records of different keys are transformed concurrently: the transformation of a record waits for the one of
+ * the previous pending record of the same key, so that the transformer sees the records of each key one at a time, and
+ * in order.
+ *
+ * The records of each partition wait in a FIFO queue, and are written once all the records before them are written,
+ * either by the drainer thread of the partition when it submits or flushes records, or by the pool thread which
+ * finishes the transformation at the head of the queue, so that the last records of a burst do not wait for the next
+ * record of the partition to be written. The writes of a partition are serialized by its lock, and happen in the order
+ * of the offsets, no matter which transformation finishes first.
+ *
+ * The callers must {@link #flush(int)} a partition before anything which must observe all the records consumed so far,
+ * such as writing a record which is not transformed, or checkpointing the offset of the partition. Once a
+ * transformation or a write fails, the records after it are dropped, and every later call for the partition fails
+ * until it is {@link #clear(int)}ed, so that no offset past the failed record can be checkpointed.
+ */
+class TransformedRecordSequencer implements Closeable {
+  private static class PendingRecord {
+    final ByteBuffer key;
+    final CompletableFuture<Runnable> write;
+
+    PendingRecord(ByteBuffer key, CompletableFuture<Runnable> write) {
+      this.key = key;
+      this.write = write;
+    }
+  }
+
+  private static class PartitionQueue {
+    /**
+     * The drainer thread blocks on this lock, while the pool threads only try to acquire it, so that they never wait
+     * for the drainer thread, which may itself be waiting for a transformation.
+     */
+    final ReentrantLock lock = new ReentrantLock();
+    // The records submitted and not written yet, in the order of their offsets
+    final Deque<PendingRecord> records = new ArrayDeque<>();
+    // key -> the transformation of the latest pending record of the key
+    final Map<ByteBuffer, CompletableFuture<Runnable>> latestTransformations = new HashMap<>();
+    // Set when a transformation finishes while the lock is held by another thread
+    final AtomicBoolean writeRequested = new AtomicBoolean(false);
+  }
+
+  private final ExecutorService executor;
+  private final int maxPendingRecordsPerPartition;
+  private final Map<Integer, PartitionQueue> partitionQueues = new VeniceConcurrentHashMap<>();
+  // partition -> the failure of a transformation, which prevents any later record of the partition from being written
+  private final Map<Integer, VeniceException> failures = new VeniceConcurrentHashMap<>();
+  private final AtomicInteger pendingRecordCount = new AtomicInteger();
+
+  TransformedRecordSequencer(String ingestionTaskName, int threadPoolSize, int maxPendingRecordsPerPartition) {
+    this.executor = Executors
+        .newFixedThreadPool(threadPoolSize, new DaemonThreadFactory(ingestionTaskName + "-record-transformer"));
+    this.maxPendingRecordsPerPartition = Math.max(1, maxPendingRecordsPerPartition);
+  }
+
+  /**
+   * Runs the transformation of a record on the pool, once the transformation of the previous pending record of the same
+   * key, if any, is done. The transformation returns the write of the transformed record, which is run once all the
+   * previous records of the partition are written. When the partition has too many pending records, it blocks until
+   * the oldest ones are written.
+   */
+  void submit(int partition, byte[] key, Supplier<Runnable> transformation) {
+    PartitionQueue queue = partitionQueues.computeIfAbsent(partition, p -> new PartitionQueue());
+    CompletableFuture<Runnable> write;
+    queue.lock.lock();
+    try {
+      throwIfFailed(partition);
+      ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+      CompletableFuture<Runnable> previousTransformation = queue.latestTransformations.get(keyBuffer);
+      write = previousTransformation == null
+          ? CompletableFuture.supplyAsync(transformation, executor)
+          : previousTransformation.thenApplyAsync(previousWrite -> transformation.get(), executor);
+      queue.latestTransformations.put(keyBuffer, write);
+      queue.records.addLast(new PendingRecord(keyBuffer, write));
+      pendingRecordCount.incrementAndGet();
+      writeTransformedRecords(partition, queue, queue.records.size() - maxPendingRecordsPerPartition);
+    } finally {
+      queue.lock.unlock();
+    }
+    write.whenComplete((ignored, throwable) -> requestWrite(partition, queue));
+    writeRequestedRecords(partition, queue);
+  }
+
+  /**
+   * Waits for all the records of the partition submitted so far to be transformed, and writes them.
+   */
+  void flush(int partition) {
+    PartitionQueue queue = partitionQueues.get(partition);
+    if (queue == null) {
+      throwIfFailed(partition);
+      return;
+    }
+    queue.lock.lock();
+    try {
+      throwIfFailed(partition);
+      writeTransformedRecords(partition, queue, queue.records.size());
+    } finally {
+      queue.lock.unlock();
+    }
+    writeRequestedRecords(partition, queue);
+  }
+
+  /**
+   * Drops the pending records of the partition, along with its failure, e.g. when the partition is unsubscribed.
+   */
+  void clear(int partition) {
+    PartitionQueue queue = partitionQueues.remove(partition);
+    if (queue != null) {
+      queue.lock.lock();
+      try {
+        dropPendingRecords(queue);
+      } finally {
+        queue.lock.unlock();
+      }
+    }
+    failures.remove(partition);
+  }
+
+  int getPendingRecordCount() {
+    return pendingRecordCount.get();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    for (PartitionQueue queue: partitionQueues.values()) {
+      queue.lock.lock();
+      try {
+        dropPendingRecords(queue);
+      } finally {
+        queue.lock.unlock();
+      }
+    }
+    partitionQueues.clear();
+  }
+
+  /**
+   * Called by the pool thread which finishes a transformation, to write the records at the head of the queue which are
+   * transformed already. If another thread holds the lock of the partition, that thread writes them before giving up
+   * the lock for good.
+   */
+  private void requestWrite(int partition, PartitionQueue queue) {
+    queue.writeRequested.set(true);
+    writeRequestedRecords(partition, queue);
+  }
+
+  private void writeRequestedRecords(int partition, PartitionQueue queue) {
+    /**
+     * Cancelling the pending records completes their transformations inline, while the lock is held. The thread holding
+     * the lock writes the requested records once it gives the lock up, rather than recursively.
+     */
+    while (queue.writeRequested.get() && !queue.lock.isHeldByCurrentThread() && queue.lock.tryLock()) {
+      try {
+        queue.writeRequested.set(false);
+        writeTransformedRecords(partition, queue, 0);
+      } catch (VeniceException e) {
+        // The failure is kept for the partition, and thrown by the next call of the drainer thread for it
+      } finally {
+        queue.lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Writes the records at the head of the queue which are already transformed, after waiting for the transformation
+   * of the first minRecordsToWrite of them. Must be called with the lock of the partition held.
+   */
+  private void writeTransformedRecords(int partition, PartitionQueue queue, int minRecordsToWrite) {
+    int writtenRecords = 0;
+    while (!queue.records.isEmpty()
+        && (writtenRecords < minRecordsToWrite || queue.records.peekFirst().write.isDone())) {
+      PendingRecord record = queue.records.peekFirst();
+      Runnable write;
+      try {
+        write = record.write.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while waiting for the transformed records of partition: " + partition);
+      } catch (ExecutionException e) {
+        throw fail(
+            partition,
+            queue,
+            e.getCause() instanceof VeniceException
+                ? (VeniceException) e.getCause()
+                : new VeniceException("Failed to transform a record of partition: " + partition, e.getCause()));
+      }
+      queue.records.pollFirst();
+      queue.latestTransformations.remove(record.key, record.write);
+      pendingRecordCount.decrementAndGet();
+      try {
+        write.run();
+      } catch (VeniceException e) {
+        throw fail(partition, queue, e);
+      } catch (RuntimeException e) {
+        throw fail(partition, queue, new VeniceException("Failed to write a record of partition: " + partition, e));
+      }
+      writtenRecords++;
+    }
+  }
+
+  private VeniceException fail(int partition, PartitionQueue queue, VeniceException failure) {
+    failures.put(partition, failure);
+    dropPendingRecords(queue);
+    return failure;
+  }
+
+  private void dropPendingRecords(PartitionQueue queue) {
+    PendingRecord record;
+    while ((record = queue.records.pollFirst()) != null) {
+      record.write.cancel(false);
+      pendingRecordCount.decrementAndGet();
+    }
+    queue.latestTransformations.clear();
+  }
+
+  private void throwIfFailed(int partition) {
+    VeniceException failure = failures.get(partition);
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
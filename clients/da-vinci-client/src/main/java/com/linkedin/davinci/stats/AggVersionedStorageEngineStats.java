@@ -77,6 +77,20 @@ public class AggVersionedStorageEngineStats extends
       return 0;
     }
 
+    public long getKeyFilterMemoryUsageInBytes() {
+      if (storageEngine != null) {
+        return storageEngine.getKeyFilterMemoryUsageInBytes();
+      }
+      return 0;
+    }
+
+    public double getKeyFilterFalsePositiveRate() {
+      if (storageEngine != null) {
+        return storageEngine.getKeyFilterFalsePositiveRate();
+      }
+      return 0;
+    }
+
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
@@ -105,6 +119,22 @@ public class AggVersionedStorageEngineStats extends
           return stats.getRMDDiskUsageInBytes();
         }
       }, "rmd_disk_usage_in_bytes"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getKeyFilterMemoryUsageInBytes();
+        }
+      }, "key_filter_memory_usage_in_bytes"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getKeyFilterFalsePositiveRate();
+        }
+      }, "key_filter_false_positive_rate"));
       registerSensor(new AsyncGauge((ignored, ignored2) -> {
         StorageEngineStats stats = getStats();
         if (stats == null) {
@@ -60,7 +60,9 @@ public class IngestionStats {
   public static final String TRANSFORMER_LATENCY = "transformer_latency";
   public static final String TRANSFORMER_LIFECYCLE_START_LATENCY = "transformer_lifecycle_start_latency";
   public static final String TRANSFORMER_LIFECYCLE_END_LATENCY = "transformer_lifecycle_end_latency";
+  public static final String TRANSFORMER_QUEUE_DEPTH = "transformer_queue_depth";
   public static final String IDLE_TIME = "idle_time";
+  public static final String ZSTD_DICT_DRIFT_COMPRESSION_RATIO_GAIN = "zstd_dict_drift_compression_ratio_gain";
   public static final String PRODUCER_CALLBACK_LATENCY = "producer_callback_latency";
   public static final String LEADER_PREPROCESSING_LATENCY = "leader_preprocessing_latency";
   public static final String INTERNAL_PREPROCESSING_LATENCY = "internal_preprocessing_latency";
@@ -262,6 +264,20 @@ public class IngestionStats {
     return ingestionTask.getBatchReplicationLag();
   }
 
+  public int getTransformerQueueDepth() {
+    if (!hasActiveIngestionTask()) {
+      return 0;
+    }
+    return ingestionTask.getTransformerQueueDepth();
+  }
+
+  public double getZstdDictDriftCompressionRatioGain() {
+    if (!hasActiveIngestionTask()) {
+      return 0;
+    }
+    return ingestionTask.getZstdDictDriftCompressionRatioGain();
+  }
+
   public long getLeaderOffsetLag() {
     if (!hasActiveIngestionTask()) {
       return 0;
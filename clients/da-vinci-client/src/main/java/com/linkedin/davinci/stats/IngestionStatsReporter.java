@@ -36,9 +36,11 @@ import static com.linkedin.davinci.stats.IngestionStats.SUBSCRIBE_ACTION_PREP_LA
 import static com.linkedin.davinci.stats.IngestionStats.TIMESTAMP_REGRESSION_DCR_ERROR;
 import static com.linkedin.davinci.stats.IngestionStats.TOMBSTONE_CREATION_DCR;
 import static com.linkedin.davinci.stats.IngestionStats.TOTAL_DCR;
+import static com.linkedin.davinci.stats.IngestionStats.TRANSFORMER_QUEUE_DEPTH;
 import static com.linkedin.davinci.stats.IngestionStats.UPDATE_IGNORED_DCR;
 import static com.linkedin.davinci.stats.IngestionStats.VERSION_TOPIC_END_OFFSET_REWIND_COUNT;
 import static com.linkedin.davinci.stats.IngestionStats.WRITE_COMPUTE_OPERATION_FAILURE;
+import static com.linkedin.davinci.stats.IngestionStats.ZSTD_DICT_DRIFT_COMPRESSION_RATIO_GAIN;
 import static com.linkedin.venice.stats.StatsErrorCode.NULL_INGESTION_STATS;
 
 import com.linkedin.venice.common.VeniceSystemStoreUtils;
@@ -269,6 +271,12 @@ public class IngestionStatsReporter extends AbstractVeniceStatsReporter<Ingestio
               () -> getStats().getBatchProcessingRequestLatencySensor().getMax(),
               0,
               BATCH_PROCESSING_REQUEST_LATENCY + "_max"));
+      registerSensor(
+          new IngestionStatsGauge(
+              this,
+              () -> (double) getStats().getTransformerQueueDepth(),
+              0,
+              TRANSFORMER_QUEUE_DEPTH));
     }
   }
 
@@ -287,6 +295,12 @@ public class IngestionStatsReporter extends AbstractVeniceStatsReporter<Ingestio
             () -> getStats().getReadyToServeWithRTLag(),
             0,
             READY_TO_SERVE_WITH_RT_LAG_METRIC_NAME));
+    registerSensor(
+        new IngestionStatsGauge(
+            this,
+            () -> getStats().getZstdDictDriftCompressionRatioGain(),
+            0,
+            ZSTD_DICT_DRIFT_COMPRESSION_RATIO_GAIN));
 
     if (!VeniceSystemStoreUtils.isSystemStore(storeName)) {
       registerSensor(
@@ -17,6 +17,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   private final Sensor minMemoryUsagePerWriterSensor;
   private final Sensor internalProcessingLatencySensor;
   private final Sensor internalProcessingErrorSensor;
+  private final Sensor memoryUsageSkewAcrossWritersSensor;
+  private final Sensor writerReassignmentSensor;
 
   public StoreBufferServiceStats(
       MetricsRepository metricsRepository,
@@ -24,7 +26,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
       LongSupplier totalMemoryUsageSupplier,
       LongSupplier totalRemainingMemorySupplier,
       LongSupplier maxMemoryUsagePerDrainerSupplier,
-      LongSupplier minMemoryUsagePerDrainerSupplier) {
+      LongSupplier minMemoryUsagePerDrainerSupplier,
+      LongSupplier memoryUsageSkewAcrossDrainersSupplier) {
     super(metricsRepository, metricNamePrefix);
     totalMemoryUsageSensor = registerSensor(
         new AsyncGauge((ignored, ignored2) -> totalMemoryUsageSupplier.getAsLong(), "total_memory_usage"));
@@ -38,9 +41,14 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
         new AsyncGauge(
             (ignored, ignored2) -> minMemoryUsagePerDrainerSupplier.getAsLong(),
             "min_memory_usage_per_writer"));
+    memoryUsageSkewAcrossWritersSensor = registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> memoryUsageSkewAcrossDrainersSupplier.getAsLong(),
+            "memory_usage_skew_across_writers"));
 
     internalProcessingLatencySensor = registerSensor("internal_processing_latency", new Avg(), new Max());
     internalProcessingErrorSensor = registerSensor("internal_processing_error", new OccurrenceRate());
+    writerReassignmentSensor = registerSensor("writer_reassignment", new OccurrenceRate());
   }
 
   public void recordInternalProcessingError() {
@@ -50,4 +58,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   public void recordInternalProcessingLatency(long latency) {
     internalProcessingLatencySensor.record(latency);
   }
+
+  public void recordWriterReassignment() {
+    writerReassignmentSensor.record();
+  }
 }
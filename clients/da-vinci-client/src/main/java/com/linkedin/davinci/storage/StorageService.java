@@ -2,6 +2,7 @@ package com.linkedin.davinci.storage;
 
 import static com.linkedin.venice.meta.PersistenceType.BLACK_HOLE;
 import static com.linkedin.venice.meta.PersistenceType.IN_MEMORY;
+import static com.linkedin.venice.meta.PersistenceType.MEMORY_MAPPED;
 import static com.linkedin.venice.meta.PersistenceType.ROCKS_DB;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
@@ -13,6 +14,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
+import com.linkedin.davinci.store.mmap.MemoryMappedStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -205,6 +207,9 @@ public class StorageService extends AbstractVeniceService {
             storeVersionStateSerializer,
             partitionStateSerializer));
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
+    persistenceTypeToStorageEngineFactoryMap.put(
+        MEMORY_MAPPED,
+        new MemoryMappedStorageEngineFactory(serverConfig, storeVersionStateSerializer, partitionStateSerializer));
   }
 
   static void deleteStorageEngineOnRocksDBError(
@@ -352,7 +357,8 @@ public class StorageService extends AbstractVeniceService {
      * For new store, it will use the storage engine configured in host level if it is not known.
      */
     if (!storeConfig.isStorePersistenceTypeKnown()) {
-      storeConfig.setStorePersistenceType(storeConfig.getPersistenceType());
+      storeConfig.setStorePersistenceType(
+          isMemoryMappedStorageEngineApplicable(topicName) ? MEMORY_MAPPED : storeConfig.getPersistenceType());
     }
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
@@ -565,6 +571,23 @@ public class StorageService extends AbstractVeniceService {
     }
   }
 
+  /**
+   * The memory-mapped storage engine is read-only once the push is over, so it only applies to batch-only versions,
+   * which never get written to after the end of push, and which do not need snapshots for blob transfer.
+   */
+  private boolean isMemoryMappedStorageEngineApplicable(String topicName) {
+    if (serverConfig.isDaVinciClient() || !serverConfig.isMemoryMappedBatchOnlyVersionsEnabled()) {
+      return false;
+    }
+    try {
+      Version version = storeRepository.getStoreOrThrow(Version.parseStoreFromVersionTopic(topicName))
+          .getVersion(Version.parseVersionFromKafkaTopicName(topicName));
+      return version != null && version.getHybridStoreConfig() == null && !version.isBlobTransferEnabled();
+    } catch (IllegalArgumentException | VeniceNoStoreException e) {
+      return false;
+    }
+  }
+
   private boolean isReplicationMetadataEnabled(String topicName, PersistenceType persistenceType) {
     // Replication metadata will only be used in Server as Da Vinci will never become LEADER.
     if (serverConfig.isDaVinciClient() || !Objects.equals(persistenceType, ROCKS_DB)) {
@@ -16,6 +16,7 @@ import com.linkedin.venice.utils.ByteUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -186,6 +187,35 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Decodes, and potentially re-assembles, a value fetched via
+   * {@link ChunkingUtils#multiGetFromStorage(AbstractStorageEngine, int, java.util.List, boolean, ReadResponseStats)}.
+   *
+   * @return null if the value is null, i.e. if the key does not exist.
+   */
+  public T getFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponseStats responseStats,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    return ChunkingUtils.getFromPrefetchedValue(
+        this,
+        store,
+        partition,
+        value,
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
   public void getByPartialKey(
       AbstractStorageEngine store,
       int userPartition,
@@ -217,6 +247,37 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         computingCallback);
   }
 
+  /**
+   * Streams the records whose keys are in the given range, with the chunked values re-assembled.
+   *
+   * @param startKey the first serialized key of the range, inclusive, or null to start from the first key
+   * @param endKey the end of the range of serialized keys, exclusive, or null to end with the last key
+   */
+  public void getByKeyRange(
+      AbstractStorageEngine store,
+      int userPartition,
+      byte[] startKey,
+      byte[] endKey,
+      BinaryDecoder reusedDecoder,
+      boolean isChunked,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], T> recordConsumer) {
+    ChunkingUtils.getFromStorageByKeyRange(
+        this,
+        store,
+        userPartition,
+        startKey,
+        endKey,
+        isChunked,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordConsumer);
+  }
+
   private final DecompressingDecoderWrapperValueOnly<byte[], T> byteArrayDecompressingDecoderValueOnly = (
       reusedDecoder,
       bytes,
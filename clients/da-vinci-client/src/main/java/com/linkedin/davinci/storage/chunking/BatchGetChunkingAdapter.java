@@ -68,4 +68,28 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Decodes, and potentially re-assembles, a value fetched via
+   * {@link ChunkingUtils#multiGetFromStorage(AbstractStorageEngine, int, java.util.List, boolean, ReadResponseStats)}.
+   *
+   * @return null if the value is null, i.e. if the key does not exist.
+   */
+  public static MultiGetResponseRecordV1 getFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      ReadResponseStats response) {
+    return ChunkingUtils.getFromPrefetchedValue(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        value,
+        response,
+        null,
+        null,
+        -1,
+        null,
+        null);
+  }
 }
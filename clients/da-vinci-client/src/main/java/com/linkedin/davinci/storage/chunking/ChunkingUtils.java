@@ -17,9 +17,14 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -66,6 +71,13 @@ public class ChunkingUtils {
   public static final KeyWithChunkingSuffixSerializer KEY_WITH_CHUNKING_SUFFIX_SERIALIZER =
       new KeyWithChunkingSuffixSerializer();
 
+  // The length of the suffix appended to the top-level keys when chunking is enabled
+  private static final int NON_CHUNK_KEY_SUFFIX_LENGTH =
+      KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(new byte[0]).length;
+
+  // Passed as the lookup start time of the values fetched by a batched lookup, whose latency is already recorded
+  private static final long PREFETCHED_VALUE_LOOKUP_START_TIME = Long.MIN_VALUE;
+
   interface StorageGetFunction {
     byte[] apply(int partition, ByteBuffer key);
   }
@@ -149,6 +161,67 @@ public class ChunkingUtils {
         null);
   }
 
+  /**
+   * Looks up the top-level values of the given keys with a single batched call to the storage engine, which amortizes
+   * the per-lookup overhead (JNI crossing, lock acquisition, memtable/block cache probing) across the whole batch.
+   *
+   * The returned values are raw, i.e. they may be full values or {@link ChunkedValueManifest}s, and should be passed to
+   * one of the adapters' functions taking a prefetched value in order to be decoded and potentially re-assembled.
+   *
+   * @return a list of the same size as the keys, with null for each key which does not exist.
+   */
+  public static List<byte[]> multiGetFromStorage(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponseStats responseStats) {
+    List<byte[]> keysWithSuffix = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      if (isChunked) {
+        key = KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key);
+      }
+      keysWithSuffix.add(ByteUtils.extractByteArray(key));
+    }
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    List<byte[]> values = store.multiGet(partition, keysWithSuffix);
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+    return values;
+  }
+
+  /**
+   * Decodes, and potentially re-assembles, a value previously fetched by
+   * {@link #multiGetFromStorage(AbstractStorageEngine, int, List, boolean, ReadResponseStats)}. The lookup latency of
+   * the top-level value has already been recorded, so only the chunk lookups (if any) are accounted for here.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromPrefetchedValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      ReadResponseStats responseStats,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    return getFromStorage(
+        value,
+        (value == null ? 0 : value.length),
+        PREFETCHED_VALUE_LOOKUP_START_TIME,
+        adapter,
+        store::get,
+        store.getStoreVersionName(),
+        partition,
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        null);
+  }
+
   static <CHUNKS_CONTAINER, VALUE> void getFromStorageByPartialKey(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -206,6 +279,58 @@ public class ChunkingUtils {
     store.getByKeyPrefix(partition, keyPrefixBytes, callback);
   }
 
+  /**
+   * Streams the records whose keys are in the given range, in the order of their keys, and re-assembles the chunked
+   * values. The chunks themselves are skipped, since they are fetched along with the manifest of their value, and the
+   * chunking suffix is removed from the keys, so that they can be deserialized as is.
+   */
+  static <CHUNKS_CONTAINER, VALUE> void getFromStorageByKeyRange(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] startKey,
+      byte[] endKey,
+      boolean isChunked,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], VALUE> recordConsumer) {
+
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if (key == null || value == null) {
+          return;
+        }
+        if (ValueRecord.parseSchemaId(value) == AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+          return;
+        }
+
+        VALUE deserializedValue = getFromPrefetchedValue(
+            adapter,
+            store,
+            partition,
+            value,
+            NoOpReadResponseStats.SINGLETON,
+            null,
+            reusedDecoder,
+            readerSchemaId,
+            storeDeserializerCache,
+            compressor);
+        recordConsumer
+            .accept(isChunked ? Arrays.copyOf(key, key.length - NON_CHUNK_KEY_SUFFIX_LENGTH) : key, deserializedValue);
+      }
+
+      @Override
+      public void onCompletion() {
+        /* Nothing to do here. */
+      }
+    };
+
+    store.getByKeyRange(partition, startKey, endKey, callback);
+  }
+
   /**
    * Fetches the value associated with the given key, and potentially re-assembles it, if it is
    * a chunked value.
@@ -322,7 +447,9 @@ public class ChunkingUtils {
     if (writerSchemaId > 0) {
       // User-defined schema, thus not a chunked value. Early termination.
 
-      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      if (databaseLookupStartTimeInNS != PREFETCHED_VALUE_LOOKUP_START_TIME) {
+        responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      }
       responseStats.addValueSize(valueLength);
       return adapter.constructValue(
           value,
@@ -346,6 +473,10 @@ public class ChunkingUtils {
     }
     CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
     int actualSize = 0;
+    if (databaseLookupStartTimeInNS == PREFETCHED_VALUE_LOOKUP_START_TIME) {
+      // Only the chunk lookups are accounted for, since the manifest lookup has been recorded by the batched lookup
+      databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    }
 
     byte[] valueChunk;
     for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
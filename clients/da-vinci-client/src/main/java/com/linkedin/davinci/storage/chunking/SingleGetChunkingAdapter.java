@@ -3,7 +3,12 @@ package com.linkedin.davinci.storage.chunking;
 import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
@@ -51,6 +56,85 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Same as {@link #get(AbstractStorageEngine, int, byte[], boolean, ReadResponseStats)}, except that the value, or
+   * each of its chunks, is read into a buffer of the given allocator, which saves the intermediate heap copies when the
+   * storage engine can read into direct memory.
+   *
+   * @return null if the key does not exist, otherwise a {@link ValueRecord} whose data should be released by the
+   *         caller, e.g. by writing it to a channel.
+   */
+  public static ValueRecord getIntoByteBuf(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ReadResponseStats responseStats,
+      ByteBufAllocator allocator) {
+    ByteBuffer keyBuffer = isChunked
+        ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKeyAsByteBuffer(key)
+        : ByteBuffer.wrap(key);
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    ByteBuf value = store.get(partition, keyBuffer, allocator);
+    if (value == null) {
+      return null;
+    }
+    int writerSchemaId = value.readInt();
+    if (writerSchemaId > 0) {
+      // User-defined schema, thus not a chunked value.
+      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      responseStats.addValueSize(value.readableBytes());
+      return ValueRecord.create(writerSchemaId, value);
+    }
+
+    ChunkedValueManifest chunkedValueManifest;
+    try {
+      if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      }
+      chunkedValueManifest = ChunkingUtils.CHUNKED_VALUE_MANIFEST_SERIALIZER
+          .deserialize(ByteBufUtil.getBytes(value, 0, value.writerIndex()), writerSchemaId);
+    } finally {
+      value.release();
+    }
+
+    int chunkCount = chunkedValueManifest.keysWithChunkIdSuffix.size();
+    CompositeByteBuf assembledValue = allocator.compositeDirectBuffer(chunkCount);
+    try {
+      for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+        ByteBuf chunk = store.get(partition, chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex), allocator);
+        if (chunk == null) {
+          throw new VeniceException(
+              "Chunk not found in store-version: " + store.getStoreVersionName() + ", partition: " + partition
+                  + ", chunk index: " + chunkIndex + ".");
+        }
+        int chunkSchemaId = chunk.readInt();
+        if (chunkSchemaId != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+          chunk.release();
+          throw new VeniceException(
+              "Did not get the chunk schema ID while attempting to retrieve a chunk! Instead, got schema ID: "
+                  + chunkSchemaId + " from store-version: " + store.getStoreVersionName() + ", partition: "
+                  + partition + ", chunk index: " + chunkIndex + ".");
+        }
+        // The composite buffer takes ownership of the chunk, past its schema header, and releases it along with itself
+        assembledValue.addComponent(true, chunkIndex, chunk);
+      }
+      if (assembledValue.readableBytes() != chunkedValueManifest.size) {
+        throw new VeniceException(
+            "The fully assembled large value does not have the expected size! actualSize: "
+                + assembledValue.readableBytes() + ", chunkedValueManifest.size: " + chunkedValueManifest.size
+                + ", store-version: " + store.getStoreVersionName() + ", partition: " + partition + ".");
+      }
+    } catch (RuntimeException e) {
+      assembledValue.release();
+      throw e;
+    }
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+    responseStats.addValueSize(chunkedValueManifest.size);
+    responseStats.incrementMultiChunkLargeValueCount();
+    return ValueRecord.create(chunkedValueManifest.schemaId, assembledValue);
+  }
+
   public static ValueRecord getReplicationMetadata(
       AbstractStorageEngine store,
       int partition,
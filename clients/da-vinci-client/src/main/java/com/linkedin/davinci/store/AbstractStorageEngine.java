@@ -16,6 +16,8 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -133,6 +135,28 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return 0;
   }
 
+  /**
+   * @return the memory used by the in-memory key filters of all the partitions.
+   */
+  public long getKeyFilterMemoryUsageInBytes() {
+    long memoryUsage = 0;
+    for (Partition partition: partitionList.values()) {
+      memoryUsage += partition.getKeyFilterMemoryUsageInBytes();
+    }
+    return memoryUsage;
+  }
+
+  /**
+   * @return the highest estimated false positive rate among the key filters of all the partitions.
+   */
+  public double getKeyFilterFalsePositiveRate() {
+    double falsePositiveRate = 0;
+    for (Partition partition: partitionList.values()) {
+      falsePositiveRate = Math.max(falsePositiveRate, partition.getKeyFilterFalsePositiveRate());
+    }
+    return falsePositiveRate;
+  }
+
   public abstract Set<Integer> getPersistedPartitionIds();
 
   public abstract Partition createStoragePartition(StoragePartitionConfig partitionConfig);
@@ -525,6 +549,24 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * @return null if the key does not exist, otherwise a buffer which the caller is responsible for releasing.
+   * @see AbstractStoragePartition#get(ByteBuffer, ByteBufAllocator)
+   */
+  public ByteBuf get(int partitionId, ByteBuffer keyBuffer, ByteBufAllocator allocator) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.get(keyBuffer, allocator);
+    });
+  }
+
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -532,6 +574,19 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void getByKeyRange(
+      int partitionId,
+      byte[] startKey,
+      byte[] endKey,
+      BytesStreamingCallback bytesStreamingCallback) {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    /**
+     * The scan may last as long as the callback wants, so it is not guarded by the partition lock, which would hold off
+     * the adjustment and the removal of the partition. The partition guards its own scans against being closed.
+     */
+    partition.getByKeyRange(startKey, endKey, bytesStreamingCallback);
+  }
+
   public void delete(int partitionId, byte[] key) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -3,10 +3,16 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.apache.avro.io.BinaryData;
 
 
 /**
@@ -49,6 +55,20 @@ public abstract class AbstractStoragePartition {
     return ByteBuffer.wrap(get(key));
   }
 
+  /**
+   * Get the values of several keys from the partition database.
+   * @param keys keys to be retrieved
+   * @return a list of the same size as the keys, with null for each key which does not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support batched lookups implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Get a Value from the partition database
    * @param <K> the type for Key
@@ -60,6 +80,18 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get a value from the partition database into a {@link ByteBuf}, which can be written to a channel as is.
+   * @param key key to be retrieved
+   * @param allocator used to allocate the returned buffer, if the implementation supports reading into it directly.
+   * @return null if the key does not exist, otherwise a buffer which the caller is responsible for releasing.
+   */
+  public ByteBuf get(ByteBuffer key, ByteBufAllocator allocator) {
+    // Naive default impl is not optimized... only storage engines that support reading into direct memory implement it.
+    byte[] value = get(key);
+    return value == null ? null : Unpooled.wrappedBuffer(value);
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -68,6 +100,32 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback);
 
+  /**
+   * Populate provided callback with key-value pairs from the partition database where the keys are in the given range,
+   * according to the unsigned lexicographic order of the key bytes.
+   * The scan is not guarded by the storage engine, so it must fail cleanly if the partition is closed in the meantime.
+   * @param startKey the first key of the range, inclusive, or null to start from the first key of the partition
+   * @param endKey the end of the range, exclusive, or null to end with the last key of the partition
+   * @param callback
+   */
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    // Naive default impl is not optimized... only storage engines that support seeking to a key implement it.
+    getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if ((startKey == null || BinaryData.compareBytes(key, 0, key.length, startKey, 0, startKey.length) >= 0)
+            && (endKey == null || BinaryData.compareBytes(key, 0, key.length, endKey, 0, endKey.length) < 0)) {
+          callback.onRecordReceived(key, value);
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+        callback.onCompletion();
+      }
+    });
+  }
+
   /**
    * Delete a key from the partition database
    */
@@ -175,4 +233,19 @@ public abstract class AbstractStoragePartition {
   public long getRmdByteUsage() {
     throw new VeniceUnsupportedOperationException("getRmdByteUsage");
   }
+
+  /**
+   * @return the memory used by the in-memory filter of the keys of this partition, or 0 if it has none.
+   */
+  public long getKeyFilterMemoryUsageInBytes() {
+    return 0;
+  }
+
+  /**
+   * @return the estimated false positive rate of the in-memory filter of the keys of this partition, or 0 if it has
+   *         none.
+   */
+  public double getKeyFilterFalsePositiveRate() {
+    return 0;
+  }
 }
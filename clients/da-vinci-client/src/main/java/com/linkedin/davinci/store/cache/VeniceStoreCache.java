@@ -120,4 +120,10 @@ public interface VeniceStoreCache {
    * @return the miss count
    */
   long missCount();
+
+  /**
+   * Returns the approximate number of entries which were evicted to make room for the new entries
+   * @return the eviction count
+   */
+  long evictionCount();
 }
@@ -27,12 +27,21 @@ public class VeniceStoreCacheStorageEngine extends AbstractStorageEngine<VeniceS
       ObjectCacheConfig config,
       Schema keySchema,
       AsyncCacheLoader asyncCacheLoader) {
+    this(storeVersionName, config, keySchema, null, asyncCacheLoader);
+  }
+
+  public VeniceStoreCacheStorageEngine(
+      String storeVersionName,
+      ObjectCacheConfig config,
+      Schema keySchema,
+      Schema valueSchema,
+      AsyncCacheLoader asyncCacheLoader) {
     super(
         storeVersionName,
         AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
         AvroProtocolDefinition.PARTITION_STATE.getSerializer());
     cacheConfig = config;
-    omniPartition = new VeniceStoreCacheStoragePartition(0, cacheConfig, keySchema, asyncCacheLoader);
+    omniPartition = new VeniceStoreCacheStoragePartition(0, cacheConfig, keySchema, valueSchema, asyncCacheLoader);
     // Add the 0 partitionId automatically in order to satisfy the supers metadata (and we automatically created the
     // omniPartition for this engine)
     this.addStoragePartition(0);
@@ -6,6 +6,7 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
 import com.linkedin.davinci.store.cache.caffeine.CaffeineVeniceStoreCache;
+import com.linkedin.davinci.store.cache.offheap.OffHeapVeniceStoreCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import java.nio.ByteBuffer;
@@ -31,6 +32,24 @@ public class VeniceStoreCacheStoragePartition extends AbstractStoragePartition {
         cacheLoader);
   }
 
+  /**
+   * The value schema is only required by the off-heap cache, which stores the serialized values.
+   */
+  public VeniceStoreCacheStoragePartition(
+      Integer partitionId,
+      ObjectCacheConfig cacheConfig,
+      Schema keySchema,
+      Schema valueSchema,
+      AsyncCacheLoader cacheLoader) {
+    super(partitionId);
+    if (cacheConfig.isOffHeapCacheEnabled()) {
+      veniceCache = new OffHeapVeniceStoreCache(cacheConfig, cacheLoader, keySchema, valueSchema);
+    } else {
+      veniceCache = new CaffeineVeniceStoreCache(cacheConfig, cacheLoader);
+    }
+    keyDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
+  }
+
   // To be used if a specific deserializer should be passed. The deserializer of the keys should match up in order to
   // invalidate records.
   // most cases used the generic deserializer for key deserialization.
@@ -122,9 +141,16 @@ public class VeniceStoreCacheStoragePartition extends AbstractStoragePartition {
     return true;
   }
 
+  /**
+   * The off-heap cache reports the memory allocated for its slabs. The Caffeine cache keeps the deserialized values on
+   * the Java heap, whose size is not tracked, so it reports 0 bytes rather than its entry count.
+   */
   @Override
   public long getPartitionSizeInBytes() {
-    return veniceCache.size();
+    if (veniceCache instanceof OffHeapVeniceStoreCache) {
+      return ((OffHeapVeniceStoreCache) veniceCache).getAllocatedOffHeapMemoryInBytes();
+    }
+    return 0;
   }
 
   public VeniceStoreCache getVeniceCache() {
@@ -108,6 +108,7 @@ public class ObjectCacheBackend {
         version.kafkaTopicName(),
         storeCacheConfig,
         schemaRepository.getKeySchema(version.getStoreName()).getSchema(),
+        schemaRepository.getSupersetOrLatestValueSchema(version.getStoreName()).getSchema(),
         cacheLoader);
     // register the stats for this engine as it's now serving traffic
     storeCacheStats.registerServingCache(cacheStorageEngine.getCache());
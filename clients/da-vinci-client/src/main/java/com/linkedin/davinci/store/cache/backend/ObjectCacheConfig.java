@@ -1,11 +1,14 @@
 package com.linkedin.davinci.store.cache.backend;
 
+import com.linkedin.davinci.store.cache.offheap.OffHeapVeniceStoreCache;
 import java.util.Optional;
 
 
 public class ObjectCacheConfig {
   private Optional<Long> maxCacheSize = Optional.empty();
   private Optional<Long> ttlInMilliseconds = Optional.empty();
+  private Optional<Long> maxOffHeapCacheSizeInBytes = Optional.empty();
+  private int offHeapSlabSizeInBytes = OffHeapVeniceStoreCache.DEFAULT_SLAB_SIZE_IN_BYTES;
 
   public ObjectCacheConfig setMaxPerPartitionCacheSize(Long maxPerPartitionCacheSize) {
     this.maxCacheSize = Optional.of(maxPerPartitionCacheSize);
@@ -17,6 +20,21 @@ public class ObjectCacheConfig {
     return this;
   }
 
+  /**
+   * When specified, the serialized values will be cached off-heap by {@link OffHeapVeniceStoreCache} instead of being
+   * cached as deserialized objects on the Java heap, and the specified size will be the memory budget of each store
+   * version.
+   */
+  public ObjectCacheConfig setMaxPerVersionOffHeapCacheSizeInBytes(Long maxOffHeapCacheSizeInBytes) {
+    this.maxOffHeapCacheSizeInBytes = Optional.of(maxOffHeapCacheSizeInBytes);
+    return this;
+  }
+
+  public ObjectCacheConfig setOffHeapSlabSizeInBytes(int offHeapSlabSizeInBytes) {
+    this.offHeapSlabSizeInBytes = offHeapSlabSizeInBytes;
+    return this;
+  }
+
   public Optional<Long> getMaxCacheSize() {
     return maxCacheSize;
   }
@@ -25,6 +43,18 @@ public class ObjectCacheConfig {
     return ttlInMilliseconds;
   }
 
+  public Optional<Long> getMaxOffHeapCacheSizeInBytes() {
+    return maxOffHeapCacheSizeInBytes;
+  }
+
+  public int getOffHeapSlabSizeInBytes() {
+    return offHeapSlabSizeInBytes;
+  }
+
+  public boolean isOffHeapCacheEnabled() {
+    return maxOffHeapCacheSizeInBytes.isPresent();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null) {
@@ -44,6 +74,12 @@ public class ObjectCacheConfig {
     if (!this.getMaxCacheSize().orElse(-1L).equals(c.getMaxCacheSize().orElse(-1L))) {
       return false;
     }
+    if (!this.getMaxOffHeapCacheSizeInBytes().orElse(-1L).equals(c.getMaxOffHeapCacheSizeInBytes().orElse(-1L))) {
+      return false;
+    }
+    if (this.getOffHeapSlabSizeInBytes() != c.getOffHeapSlabSizeInBytes()) {
+      return false;
+    }
     return true;
   }
 
@@ -52,11 +88,15 @@ public class ObjectCacheConfig {
     int result = 1;
     result = result * 31 + maxCacheSize.hashCode();
     result = result * 31 + ttlInMilliseconds.hashCode();
+    result = result * 31 + maxOffHeapCacheSizeInBytes.hashCode();
+    result = result * 31 + offHeapSlabSizeInBytes;
     return result;
   }
 
   @Override
   public String toString() {
-    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds + "}";
+    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds
+        + ", maxOffHeapCacheSizeInBytes=" + maxOffHeapCacheSizeInBytes + ", offHeapSlabSizeInBytes="
+        + offHeapSlabSizeInBytes + "}";
   }
 }
@@ -11,6 +11,7 @@ public class StoreCacheStats extends AbstractVeniceStats {
   private final Sensor cacheHitRate;
   private final Sensor cacheMissCount;
   private final Sensor cacheHitCount;
+  private final Sensor cacheEvictionCount;
   private VeniceStoreCache servingCache;
 
   public StoreCacheStats(MetricsRepository metricsRepository, String name) {
@@ -18,6 +19,8 @@ public class StoreCacheStats extends AbstractVeniceStats {
     cacheHitCount = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getHitCount(), "cache_hit"));
     cacheMissCount = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getMissCount(), "cache_miss"));
     cacheHitRate = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getHitRate(), "cache_hit_rate"));
+    cacheEvictionCount =
+        registerSensor(new AsyncGauge((ignored, ignored2) -> this.getEvictionCount(), "cache_eviction"));
   }
 
   public synchronized void registerServingCache(VeniceStoreCache cache) {
@@ -32,6 +35,10 @@ public class StoreCacheStats extends AbstractVeniceStats {
     return servingCache == null ? 0 : servingCache.missCount();
   }
 
+  public final synchronized long getEvictionCount() {
+    return servingCache == null ? 0 : servingCache.evictionCount();
+  }
+
   public final synchronized double getHitRate() {
     return servingCache == null ? 0 : servingCache.hitRate();
   }
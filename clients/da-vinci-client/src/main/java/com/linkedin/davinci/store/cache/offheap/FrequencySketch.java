@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.linkedin.davinci.store.cache.offheap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Adapted from com.github.benmanes.caffeine.cache.FrequencySketch of Caffeine 2.8.5, which is package-private there:
+ * https://github.com/ben-manes/caffeine/tree/v2.8.5
+ * The element is replaced by its hash, and the table is an {@link AtomicLongArray}, so that the sketch can be used
+ * without the eviction lock of Caffeine.
+ *
+ * A probabilistic multiset for estimating the popularity of an element within a time window, which is used as the
+ * admission filter of {@link OffHeapVeniceStoreCache} (TinyLFU).
+ *
+ * This is a 4-bit Count-Min sketch with 4 hash functions, and the counters are packed 16 per long. When the number of
+ * recorded accesses reaches the sample size, all the counters are halved, so that the popularity of the elements
+ * decays over time.
+ *
+ * Each long of counters is updated with a compare-and-set, so that concurrent increments are neither lost nor carried
+ * from a saturated counter into its neighbour, and an increment concurrent with the halving either happens before or
+ * after the halving of its long. A single thread halves the counters once the number of recorded accesses reaches the
+ * sample size, while the others keep going, so that the halving can neither be skipped nor repeated.
+ */
+public class FrequencySketch {
+  private static final long[] SEEDS =
+      { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private final AtomicLongArray table;
+  private final int tableMask;
+  private final int sampleSize;
+  private final int randomSeed;
+  private final AtomicInteger size = new AtomicInteger();
+  private final ReentrantLock resetLock = new ReentrantLock();
+
+  /**
+   * @param expectedEntryCount the expected number of entries in the cache, which determines the width of the sketch.
+   */
+  public FrequencySketch(long expectedEntryCount) {
+    int maximum = (int) Math.min(Math.max(expectedEntryCount, 16), 1 << 26);
+    this.table = new AtomicLongArray(ceilingPowerOfTwo(maximum));
+    this.tableMask = table.length() - 1;
+    this.sampleSize = 10 * maximum;
+    this.randomSeed = ThreadLocalRandom.current().nextInt() | 1;
+  }
+
+  /**
+   * @return the estimated number of occurrences of the element with the given hash, up to 15.
+   */
+  public int frequency(int hashCode) {
+    int hash = spread(hashCode);
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table.get(index) >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increments the popularity of the element with the given hash if it doesn't exceed the maximum (15).
+   */
+  public void increment(int hashCode) {
+    int hash = spread(hashCode);
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      added |= incrementAt(index, start + i);
+    }
+    if (added) {
+      size.incrementAndGet();
+    }
+    // Checked even when nothing was added: the accesses recorded while another thread was halving may leave the size
+    // above the sample size, and a saturated sketch would otherwise never be halved again
+    if (size.get() >= sampleSize && resetLock.tryLock()) {
+      try {
+        // Another thread may have halved the counters between the increment and the lock
+        if (size.get() >= sampleSize) {
+          reset();
+        }
+      } finally {
+        resetLock.unlock();
+      }
+    }
+  }
+
+  private boolean incrementAt(int i, int j) {
+    int offset = j << 2;
+    long mask = (0xfL << offset);
+    while (true) {
+      long counters = table.get(i);
+      if ((counters & mask) == mask) {
+        return false;
+      }
+      if (table.compareAndSet(i, counters, counters + (1L << offset))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Reduces every counter by half of its original value. Must be called with {@link #resetLock} held.
+   */
+  private void reset() {
+    int count = 0;
+    for (int i = 0; i < table.length(); i++) {
+      long counters;
+      do {
+        counters = table.get(i);
+      } while (!table.compareAndSet(i, counters, (counters >>> 1) & RESET_MASK));
+      count += Long.bitCount(counters & ONE_MASK);
+    }
+    // The accesses recorded by the other threads in the meantime are kept
+    int truncatedCount = count >>> 2;
+    size.updateAndGet(currentSize -> Math.max(0, (currentSize >>> 1) - truncatedCount));
+  }
+
+  private int indexOf(int item, int i) {
+    long hash = (item + SEEDS[i]) * SEEDS[i];
+    hash += (hash >>> 32);
+    return ((int) hash) & tableMask;
+  }
+
+  private int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * randomSeed;
+    return (x >>> 16) ^ x;
+  }
+
+  private static int ceilingPowerOfTwo(int x) {
+    return 1 << -Integer.numberOfLeadingZeros(x - 1);
+  }
+}
@@ -0,0 +1,547 @@
+package com.linkedin.davinci.store.cache.offheap;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.linkedin.davinci.store.cache.VeniceStoreCache;
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link VeniceStoreCache} implementation, which keeps the serialized values in off-heap slabs, so that the cache
+ * size is not bounded by the GC overhead of the Java heap.
+ *
+ * The memory budget is split into fixed-size slabs (direct {@link ByteBuffer}), which are allocated lazily and used
+ * as a ring: entries are appended to the current slab, and when the ring is full, the oldest slab will be recycled and
+ * all the entries in it will be evicted. Each entry has the following layout:
+ * [key length (int)][value length (int)][write timestamp (long)][key bytes][value bytes]
+ *
+ * Only the serialized keys and the slab addresses are kept in the on-heap index.
+ *
+ * Before recycling a slab to make room for a new entry, the new entry needs to pass the admission filter (TinyLFU):
+ * it will only be admitted if its estimated access frequency is higher than the victim slab's, so that a scan of cold
+ * keys won't flush the hot ones out of the cache.
+ *
+ * Readers don't take any lock in the common path. A recycled slab is detected by a per-slab epoch encoded into the
+ * entry address, and a read which overlaps with a slab recycling is retried under the read lock of
+ * {@link #recycleLock}.
+ *
+ * A value loaded on a miss is only inserted if the key hasn't been invalidated since the load started, which is
+ * tracked by a generation per stripe of keys, so that a stale value can't be cached after the write that invalidated
+ * it.
+ *
+ * One instance of this class is built per store version, so that {@link #close()} is enough to drop the cache of
+ * an old version once the version is swapped.
+ */
+public class OffHeapVeniceStoreCache implements VeniceStoreCache {
+  private static final Logger LOGGER = LogManager.getLogger(OffHeapVeniceStoreCache.class);
+  public static final int DEFAULT_SLAB_SIZE_IN_BYTES = 4 * 1024 * 1024;
+  static final int ENTRY_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+  /**
+   * Used to size the admission filter when the max entry count is not specified.
+   */
+  private static final int ESTIMATED_ENTRY_SIZE_IN_BYTES = 256;
+  /**
+   * The number of entries at the head of the victim slab to estimate the access frequency of the victim slab.
+   */
+  private static final int VICTIM_SAMPLE_SIZE = 8;
+  /**
+   * The number of stripes of keys sharing an invalidation generation, which must be a power of 2.
+   */
+  private static final int GENERATION_STRIPE_COUNT = 1024;
+
+  private final int slabSizeInBytes;
+  private final long ttlInMs;
+  private final ByteBuffer[] slabs;
+  private final int[] slabWritePositions;
+  private final AtomicIntegerArray slabEpochs;
+  private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPE_COUNT);
+  private final StampedLock recycleLock = new StampedLock();
+  private final Object allocationLock = new Object();
+  private final FrequencySketch frequencySketch;
+  private final AsyncCacheLoader cacheLoader;
+  private final RecordSerializer<Object> keySerializer;
+  private final RecordSerializer<Object> valueSerializer;
+  private final Schema valueSchema;
+  private volatile RecordDeserializer<Object> valueDeserializer;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder rejectionCount = new LongAdder();
+
+  private volatile Map<ByteBuffer, Long> index = new VeniceConcurrentHashMap<>();
+  // Guarded by allocationLock
+  private int currentSlab = 0;
+  private volatile boolean closed = false;
+
+  public OffHeapVeniceStoreCache(
+      ObjectCacheConfig cacheConfig,
+      AsyncCacheLoader cacheLoader,
+      Schema keySchema,
+      Schema valueSchema) {
+    if (valueSchema == null) {
+      throw new VeniceException("Value schema is required by the off-heap cache");
+    }
+    long maxSizeInBytes = cacheConfig.getMaxOffHeapCacheSizeInBytes()
+        .orElseThrow(() -> new VeniceException("Off-heap cache size is not specified in " + cacheConfig));
+    this.slabSizeInBytes = cacheConfig.getOffHeapSlabSizeInBytes();
+    if (slabSizeInBytes <= ENTRY_HEADER_SIZE) {
+      throw new VeniceException("Off-heap cache slab size: " + slabSizeInBytes + " is too small");
+    }
+    int slabCount = (int) Math.max(2, Math.min(maxSizeInBytes / slabSizeInBytes, 0xFFFF));
+    this.slabs = new ByteBuffer[slabCount];
+    this.slabWritePositions = new int[slabCount];
+    this.slabEpochs = new AtomicIntegerArray(slabCount);
+    this.ttlInMs = cacheConfig.getTtlInMilliseconds().orElse(-1L);
+    this.frequencySketch = new FrequencySketch(
+        cacheConfig.getMaxCacheSize().orElse((long) slabCount * slabSizeInBytes / ESTIMATED_ENTRY_SIZE_IN_BYTES));
+    this.cacheLoader = cacheLoader;
+    this.keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema);
+    this.valueSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema);
+    this.valueSchema = valueSchema;
+    LOGGER.info(
+        "Built off-heap cache with {} slabs of {} bytes, TTL: {} ms",
+        slabCount,
+        slabSizeInBytes,
+        ttlInMs);
+  }
+
+  @Override
+  public <K, V> V getIfPresent(K key) {
+    ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+    return lookup(serializedKey);
+  }
+
+  @Override
+  public <K, V> Map<K, V> getAllPresent(Iterable<K> keys) {
+    Map<K, V> result = new HashMap<>();
+    for (K key: keys) {
+      V value = getIfPresent(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key, Function<K, V> mappingFunction) {
+    ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+    long generation = getGeneration(serializedKey);
+    V value = lookup(serializedKey);
+    if (value != null) {
+      return CompletableFuture.completedFuture(value);
+    }
+    try {
+      value = mappingFunction.apply(key);
+    } catch (Exception e) {
+      CompletableFuture<V> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+    insertSerialized(serializedKey, value, generation);
+    return CompletableFuture.completedFuture(value);
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key) {
+    ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+    long generation = getGeneration(serializedKey);
+    V value = lookup(serializedKey);
+    if (value != null || cacheLoader == null) {
+      return CompletableFuture.completedFuture(value);
+    }
+    CompletableFuture<V> loadingFuture;
+    try {
+      loadingFuture = cacheLoader.asyncLoad(key, ForkJoinPool.commonPool());
+    } catch (Exception e) {
+      loadingFuture = new CompletableFuture<>();
+      loadingFuture.completeExceptionally(e);
+      return loadingFuture;
+    }
+    return loadingFuture.thenApply(loadedValue -> {
+      insertSerialized(serializedKey, loadedValue, generation);
+      return loadedValue;
+    });
+  }
+
+  @Override
+  public <K, V> CompletableFuture<Map<K, V>> getAll(
+      Iterable<K> keys,
+      Function<Iterable<K>, Map<K, V>> mappingFunction) {
+    Map<K, V> result = new HashMap<>();
+    List<K> missingKeys = new ArrayList<>();
+    Map<K, ByteBuffer> serializedMissingKeys = new HashMap<>();
+    Map<K, Long> generations = new HashMap<>();
+    for (K key: keys) {
+      ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+      long generation = getGeneration(serializedKey);
+      V value = lookup(serializedKey);
+      if (value != null) {
+        result.put(key, value);
+      } else {
+        missingKeys.add(key);
+        serializedMissingKeys.put(key, serializedKey);
+        generations.put(key, generation);
+      }
+    }
+    if (!missingKeys.isEmpty()) {
+      Map<K, V> loadedValues;
+      try {
+        loadedValues = mappingFunction.apply(missingKeys);
+      } catch (Exception e) {
+        CompletableFuture<Map<K, V>> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+      }
+      for (Map.Entry<K, V> entry: loadedValues.entrySet()) {
+        if (entry.getKey() != null && entry.getValue() != null) {
+          ByteBuffer serializedKey = serializedMissingKeys.get(entry.getKey());
+          if (serializedKey != null) {
+            insertSerialized(serializedKey, entry.getValue(), generations.get(entry.getKey()));
+          } else {
+            insert(entry.getKey(), entry.getValue());
+          }
+          result.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    return CompletableFuture.completedFuture(Collections.unmodifiableMap(result));
+  }
+
+  @Override
+  public <K, V> void insert(K key, V value) {
+    ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+    insertSerialized(serializedKey, value, getGeneration(serializedKey));
+  }
+
+  /**
+   * The generation is bumped before the entry is removed, so that a concurrent insertion either sees the new
+   * generation, or has already put the entry, which is then removed here.
+   */
+  @Override
+  public <K> void invalidate(K key) {
+    ByteBuffer serializedKey = ByteBuffer.wrap(keySerializer.serialize(key));
+    keyGenerations.incrementAndGet(getGenerationStripe(serializedKey));
+    index.remove(serializedKey);
+  }
+
+  /**
+   * Drops all the entries in O(1) by swapping the index, and the slabs will be reused from the beginning.
+   */
+  @Override
+  public void clear() {
+    synchronized (allocationLock) {
+      for (int i = 0; i < GENERATION_STRIPE_COUNT; i++) {
+        keyGenerations.incrementAndGet(i);
+      }
+      index = new VeniceConcurrentHashMap<>();
+      long stamp = recycleLock.writeLock();
+      try {
+        for (int i = 0; i < slabs.length; i++) {
+          slabEpochs.incrementAndGet(i);
+          slabWritePositions[i] = 0;
+        }
+      } finally {
+        recycleLock.unlockWrite(stamp);
+      }
+      currentSlab = 0;
+    }
+  }
+
+  /**
+   * Releases all the slabs, and the cache will be a no-op afterward.
+   */
+  @Override
+  public void close() {
+    synchronized (allocationLock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      clear();
+      long stamp = recycleLock.writeLock();
+      try {
+        // The direct memory will be released once the slabs are garbage collected.
+        for (int i = 0; i < slabs.length; i++) {
+          slabs[i] = null;
+        }
+      } finally {
+        recycleLock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  @Override
+  public long size() {
+    return index.size();
+  }
+
+  @Override
+  public double hitRate() {
+    long hits = hitCount.sum();
+    long requests = hits + missCount.sum();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * @return the number of entries, which were not admitted by the admission filter.
+   */
+  public long rejectionCount() {
+    return rejectionCount.sum();
+  }
+
+  /**
+   * @return the off-heap memory allocated by this cache.
+   */
+  public long getAllocatedOffHeapMemoryInBytes() {
+    synchronized (allocationLock) {
+      long allocated = 0;
+      for (ByteBuffer slab: slabs) {
+        if (slab != null) {
+          allocated += slab.capacity();
+        }
+      }
+      return allocated;
+    }
+  }
+
+  private <V> V lookup(ByteBuffer serializedKey) {
+    frequencySketch.increment(serializedKey.hashCode());
+    byte[] valueBytes = null;
+    Long address = closed ? null : index.get(serializedKey);
+    if (address != null) {
+      long stamp = recycleLock.tryOptimisticRead();
+      valueBytes = readValue(serializedKey, address);
+      if (!recycleLock.validate(stamp)) {
+        stamp = recycleLock.readLock();
+        try {
+          valueBytes = readValue(serializedKey, address);
+        } finally {
+          recycleLock.unlockRead(stamp);
+        }
+      }
+    }
+    if (valueBytes == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    return (V) valueDeserializer.deserialize(valueBytes);
+  }
+
+  /**
+   * @return the value bytes, or null if the entry has been recycled or expired.
+   */
+  private byte[] readValue(ByteBuffer serializedKey, long address) {
+    int slabIndex = getSlabIndex(address);
+    ByteBuffer slab = slabs[slabIndex];
+    if (slab == null || (slabEpochs.get(slabIndex) & 0xFFFF) != getEpoch(address)) {
+      return null;
+    }
+    try {
+      ByteBuffer entry = slab.duplicate();
+      entry.position(getOffset(address));
+      int keyLength = entry.getInt();
+      int valueLength = entry.getInt();
+      long writeTimestamp = entry.getLong();
+      if (keyLength != serializedKey.remaining() || valueLength < 0
+          || keyLength + valueLength > entry.remaining()) {
+        return null;
+      }
+      if (ttlInMs > 0 && System.currentTimeMillis() - writeTimestamp > ttlInMs) {
+        return null;
+      }
+      int keyStart = entry.position();
+      entry.limit(keyStart + keyLength);
+      if (!entry.equals(serializedKey)) {
+        return null;
+      }
+      entry.limit(entry.capacity());
+      entry.position(keyStart + keyLength);
+      byte[] valueBytes = new byte[valueLength];
+      entry.get(valueBytes);
+      return valueBytes;
+    } catch (RuntimeException e) {
+      // The slab could be recycled in the middle of the read, and the caller will validate it.
+      return null;
+    }
+  }
+
+  /**
+   * Inserts the value unless the key has been invalidated since the given generation was read, i.e. since the value
+   * started loading.
+   */
+  private <V> void insertSerialized(ByteBuffer serializedKey, V value, long generation) {
+    if (closed || value == null) {
+      return;
+    }
+    initValueDeserializer(value);
+    byte[] valueBytes = valueSerializer.serialize(value);
+    int entrySize = ENTRY_HEADER_SIZE + serializedKey.remaining() + valueBytes.length;
+    if (entrySize > slabSizeInBytes) {
+      index.remove(serializedKey);
+      rejectionCount.increment();
+      return;
+    }
+    synchronized (allocationLock) {
+      if (closed || getGeneration(serializedKey) != generation) {
+        return;
+      }
+      if (slabWritePositions[currentSlab] + entrySize > slabSizeInBytes || slabs[currentSlab] == null) {
+        int nextSlab = slabs[currentSlab] == null ? currentSlab : (currentSlab + 1) % slabs.length;
+        if (slabs[nextSlab] == null) {
+          slabs[nextSlab] = ByteBuffer.allocateDirect(slabSizeInBytes);
+        } else if (slabWritePositions[nextSlab] > 0) {
+          // The cache is full, so the oldest slab needs to be recycled if the new entry is admitted.
+          if (frequencySketch.frequency(serializedKey.hashCode()) <= estimateSlabFrequency(nextSlab)) {
+            index.remove(serializedKey);
+            rejectionCount.increment();
+            return;
+          }
+          recycleSlab(nextSlab);
+        }
+        currentSlab = nextSlab;
+      }
+      int offset = slabWritePositions[currentSlab];
+      ByteBuffer slab = slabs[currentSlab];
+      slab.position(offset);
+      slab.putInt(serializedKey.remaining());
+      slab.putInt(valueBytes.length);
+      slab.putLong(System.currentTimeMillis());
+      slab.put(serializedKey.duplicate());
+      slab.put(valueBytes);
+      slabWritePositions[currentSlab] = offset + entrySize;
+      long address = getAddress(currentSlab, slabEpochs.get(currentSlab), offset);
+      index.put(serializedKey, address);
+      // An invalidation may have happened after the check above but before its removal could see the new entry
+      if (getGeneration(serializedKey) != generation) {
+        index.remove(serializedKey, address);
+      }
+    }
+  }
+
+  private long getGeneration(ByteBuffer serializedKey) {
+    return keyGenerations.get(getGenerationStripe(serializedKey));
+  }
+
+  private static int getGenerationStripe(ByteBuffer serializedKey) {
+    return serializedKey.hashCode() & (GENERATION_STRIPE_COUNT - 1);
+  }
+
+  /**
+   * Evicts all the entries in the slab from the index, and then bumps the epoch of the slab, so that any concurrent
+   * reader holding a stale address will miss.
+   */
+  private void recycleSlab(int slabIndex) {
+    ByteBuffer slab = slabs[slabIndex].duplicate();
+    int epoch = slabEpochs.get(slabIndex);
+    Map<ByteBuffer, Long> currentIndex = index;
+    int position = 0;
+    while (position < slabWritePositions[slabIndex]) {
+      slab.limit(slab.capacity());
+      slab.position(position);
+      int keyLength = slab.getInt();
+      int valueLength = slab.getInt();
+      slab.position(position + ENTRY_HEADER_SIZE);
+      slab.limit(position + ENTRY_HEADER_SIZE + keyLength);
+      ByteBuffer key = slab.slice();
+      if (currentIndex.remove(key, getAddress(slabIndex, epoch, position))) {
+        evictionCount.increment();
+      }
+      position += ENTRY_HEADER_SIZE + keyLength + valueLength;
+    }
+    long stamp = recycleLock.writeLock();
+    try {
+      slabEpochs.incrementAndGet(slabIndex);
+      slabWritePositions[slabIndex] = 0;
+    } finally {
+      recycleLock.unlockWrite(stamp);
+    }
+  }
+
+  private int estimateSlabFrequency(int slabIndex) {
+    ByteBuffer slab = slabs[slabIndex].duplicate();
+    int maxFrequency = 0;
+    int position = 0;
+    for (int i = 0; i < VICTIM_SAMPLE_SIZE && position < slabWritePositions[slabIndex]; i++) {
+      slab.limit(slab.capacity());
+      slab.position(position);
+      int keyLength = slab.getInt();
+      int valueLength = slab.getInt();
+      slab.position(position + ENTRY_HEADER_SIZE);
+      slab.limit(position + ENTRY_HEADER_SIZE + keyLength);
+      maxFrequency = Math.max(maxFrequency, frequencySketch.frequency(slab.hashCode()));
+      position += ENTRY_HEADER_SIZE + keyLength + valueLength;
+    }
+    return maxFrequency;
+  }
+
+  /**
+   * The values are deserialized into the same type as the inserted ones, which is either a specific record or
+   * a generic object.
+   */
+  private void initValueDeserializer(Object value) {
+    if (valueDeserializer != null) {
+      return;
+    }
+    if (value instanceof SpecificRecord) {
+      valueDeserializer = (RecordDeserializer<Object>) (RecordDeserializer) FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(valueSchema, ((SpecificRecord) value).getClass());
+    } else {
+      valueDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
+    }
+  }
+
+  private static long getAddress(int slabIndex, int epoch, int offset) {
+    return ((long) slabIndex << 48) | ((long) (epoch & 0xFFFF) << 32) | (offset & 0xFFFFFFFFL);
+  }
+
+  private static int getSlabIndex(long address) {
+    return (int) (address >>> 48);
+  }
+
+  private static int getEpoch(long address) {
+    return (int) ((address >>> 32) & 0xFFFF);
+  }
+
+  private static int getOffset(long address) {
+    return (int) address;
+  }
+}
@@ -0,0 +1,188 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteArray;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The metadata partition of {@link MemoryMappedStorageEngine}, which holds the offset records and the store version
+ * state. Since these are small and frequently updated, they are kept in a hash map, and every update is appended to a
+ * {@link RecordLog} and made durable right away. The log is replayed when the partition is opened, and compacted once
+ * it is mostly made of overwritten records.
+ */
+public class MemoryMappedMetadataPartition extends AbstractStoragePartition {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryMappedMetadataPartition.class);
+
+  private static final long MIN_COMPACTION_LOG_SIZE = ByteUtils.BYTES_PER_MB;
+  private static final int COMPACTION_RATIO = 4;
+
+  private final Map<ByteArray, byte[]> records = new ConcurrentHashMap<>();
+  private final File logFile;
+  private RecordLog log;
+  private long liveSize = 0;
+
+  public MemoryMappedMetadataPartition(StoragePartitionConfig storagePartitionConfig, File storeDir) {
+    super(storagePartitionConfig.getPartitionId());
+    this.logFile = new File(storeDir, partitionId + MemoryMappedStoragePartition.LOG_FILE_SUFFIX);
+    this.log = new RecordLog(logFile);
+    try (RecordLog.Reader reader = log.newReader()) {
+      while (reader.next()) {
+        byte[] key = Arrays.copyOf(reader.getBuffer(), reader.getKeyLength());
+        if (reader.isTombstone()) {
+          remove(key);
+        } else {
+          byte[] value = Arrays.copyOfRange(
+              reader.getBuffer(),
+              reader.getKeyLength(),
+              reader.getKeyLength() + reader.getValueLength());
+          add(key, value);
+        }
+      }
+      if (reader.getValidSize() < log.size()) {
+        LOGGER.warn("Dropping the partial record at the end of metadata log: {}", logFile);
+        log.truncate(reader.getValidSize());
+      }
+    }
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    put(key, ByteBuffer.wrap(value));
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer value) {
+    log.append(key, value);
+    log.force();
+    add(key, ByteUtils.copyByteArray(value));
+    compactIfNeeded();
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    log.append(key, null);
+    log.force();
+    remove(key);
+    compactIfNeeded();
+  }
+
+  private void add(byte[] key, byte[] value) {
+    remove(key);
+    records.put(new ByteArray(key), value);
+    liveSize += RecordLog.RECORD_HEADER_SIZE + key.length + value.length;
+  }
+
+  private void remove(byte[] key) {
+    byte[] previousValue = records.remove(new ByteArray(key));
+    if (previousValue != null) {
+      liveSize -= RecordLog.RECORD_HEADER_SIZE + key.length + previousValue.length;
+    }
+  }
+
+  /**
+   * Rewrites the live records into a new log, which atomically replaces the current one.
+   */
+  private void compactIfNeeded() {
+    if (log.size() < MIN_COMPACTION_LOG_SIZE || log.size() < COMPACTION_RATIO * liveSize) {
+      return;
+    }
+    File compactedLogFile = new File(logFile.getPath() + ".tmp");
+    try {
+      Files.deleteIfExists(compactedLogFile.toPath());
+      try (RecordLog compactedLog = new RecordLog(compactedLogFile)) {
+        for (Map.Entry<ByteArray, byte[]> entry: records.entrySet()) {
+          compactedLog.append(entry.getKey().get(), ByteBuffer.wrap(entry.getValue()));
+        }
+        compactedLog.force();
+      }
+      log.close();
+      Files.move(compactedLogFile.toPath(), logFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (Exception e) {
+      throw new VeniceException("Failed to compact metadata log: " + logFile, e);
+    } finally {
+      log = new RecordLog(logFile);
+    }
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    return records.get(new ByteArray(key));
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    return get(ByteUtils.copyByteArray(key));
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    for (Map.Entry<ByteArray, byte[]> entry: records.entrySet()) {
+      if (keyPrefix == null || entry.getKey().startsWith(keyPrefix)) {
+        callback.onRecordReceived(entry.getKey().get(), entry.getValue());
+      }
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // Every update is already durable
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public synchronized void drop() {
+    close();
+    try {
+      Files.deleteIfExists(logFile.toPath());
+    } catch (Exception e) {
+      throw new VeniceException("Failed to delete metadata log: " + logFile, e);
+    }
+    records.clear();
+  }
+
+  @Override
+  public synchronized void close() {
+    log.close();
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  @Override
+  public void createSnapshot() {
+    throw new UnsupportedOperationException("Method not implemented!");
+  }
+
+  @Override
+  public long getPartitionSizeInBytes() {
+    return liveSize;
+  }
+}
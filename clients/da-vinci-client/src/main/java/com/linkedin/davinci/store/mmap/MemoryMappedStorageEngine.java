@@ -0,0 +1,88 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A read-only storage engine for batch-only versions, which writes each partition into a staging log during the batch
+ * push, and seals it into an immutable, memory-mapped file with a perfect hash index at the end of the push. Lookups
+ * then take a single probe into the mapped file, and values are served without being copied on the heap.
+ *
+ * Each partition is stored as files named after its id, in a directory per store version.
+ */
+public class MemoryMappedStorageEngine extends AbstractStorageEngine<AbstractStoragePartition> {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryMappedStorageEngine.class);
+
+  private final File storeDir;
+
+  public MemoryMappedStorageEngine(
+      VeniceStoreVersionConfig storeConfig,
+      String basePath,
+      InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
+      InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer) {
+    super(storeConfig.getStoreVersionName(), storeVersionStateSerializer, partitionStateSerializer);
+    this.storeDir = new File(basePath, getStoreVersionName());
+    if (!storeDir.exists()) {
+      storeDir.mkdirs();
+      LOGGER.info("Created memory-mapped store dir for store: {}", getStoreVersionName());
+    }
+    restoreStoragePartitions(storeConfig.isRestoreMetadataPartition(), storeConfig.isRestoreDataPartitions());
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.MEMORY_MAPPED;
+  }
+
+  @Override
+  public Set<Integer> getPersistedPartitionIds() {
+    Set<Integer> partitionIds = new HashSet<>();
+    String[] fileNames = storeDir.list();
+    if (fileNames != null) {
+      for (String fileName: fileNames) {
+        if (fileName.endsWith(MemoryMappedStoragePartition.LOG_FILE_SUFFIX)
+            || fileName.endsWith(MemoryMappedStoragePartition.SEALED_FILE_SUFFIX)) {
+          partitionIds.add(Integer.parseInt(fileName.substring(0, fileName.indexOf('.'))));
+        }
+      }
+    }
+    return partitionIds;
+  }
+
+  @Override
+  public AbstractStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    if (storagePartitionConfig.getPartitionId() == METADATA_PARTITION_ID) {
+      return new MemoryMappedMetadataPartition(storagePartitionConfig, storeDir);
+    }
+    return new MemoryMappedStoragePartition(storagePartitionConfig, storeDir);
+  }
+
+  @Override
+  public synchronized void drop() {
+    super.drop();
+    try {
+      FileUtils.deleteDirectory(storeDir);
+    } catch (Exception e) {
+      throw new VeniceException("Failed to remove memory-mapped store dir: " + storeDir, e);
+    }
+  }
+
+  @Override
+  public long getStoreSizeInBytes() {
+    return storeDir.exists() ? FileUtils.sizeOf(storeDir) : 0;
+  }
+}
@@ -0,0 +1,131 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+public class MemoryMappedStorageEngineFactory extends StorageEngineFactory {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryMappedStorageEngineFactory.class);
+
+  private final String basePath;
+  private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
+  private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
+  private final Map<String, MemoryMappedStorageEngine> storageEngineMap = new HashMap<>();
+
+  public MemoryMappedStorageEngineFactory(VeniceServerConfig serverConfig) {
+    this(
+        serverConfig,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+  }
+
+  public MemoryMappedStorageEngineFactory(
+      VeniceServerConfig serverConfig,
+      InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
+      InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer) {
+    this.basePath = serverConfig.getMemoryMappedPath();
+    this.storeVersionStateSerializer = storeVersionStateSerializer;
+    this.partitionStateSerializer = partitionStateSerializer;
+  }
+
+  @Override
+  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+      throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return storageEngineMap.computeIfAbsent(
+          storeConfig.getStoreVersionName(),
+          ignored -> new MemoryMappedStorageEngine(
+              storeConfig,
+              basePath,
+              storeVersionStateSerializer,
+              partitionStateSerializer));
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  @Override
+  public synchronized Set<String> getPersistedStoreNames() {
+    String[] storeDirs = new File(basePath).list();
+    if (storeDirs == null) {
+      LOGGER.info("Memory-mapped dir: {} doesn't exist, so nothing to restore", basePath);
+      return new HashSet<>();
+    }
+    return new HashSet<>(Arrays.asList(storeDirs));
+  }
+
+  @Override
+  public synchronized void close() {
+    storageEngineMap.values().forEach(MemoryMappedStorageEngine::close);
+    storageEngineMap.clear();
+  }
+
+  @Override
+  public synchronized void removeStorageEngine(AbstractStorageEngine engine) {
+    verifyPersistenceType(engine);
+    MemoryMappedStorageEngine storageEngine = storageEngineMap.remove(engine.getStoreVersionName());
+    if (storageEngine != null) {
+      LOGGER.info("Removing memory-mapped storage engine for store: {}", engine.getStoreVersionName());
+      storageEngine.drop();
+    }
+  }
+
+  @Override
+  public synchronized void removeStorageEngine(String storeName) {
+    removeStorageEnginePartition(storeName, -1);
+  }
+
+  @Override
+  public synchronized void removeStorageEnginePartition(String storeName, int partitionId) {
+    if (storageEngineMap.containsKey(storeName)) {
+      throw new VeniceException(
+          "Storage engine: " + storeName
+              + " has already been opened, and please use #removeStorageEngine(AbstractStorageEngine) for deletion");
+    }
+    File storeDir = new File(basePath, storeName);
+    try {
+      if (partitionId == -1) {
+        FileUtils.deleteDirectory(storeDir);
+      } else {
+        FileUtils.deleteQuietly(new File(storeDir, partitionId + MemoryMappedStoragePartition.LOG_FILE_SUFFIX));
+        FileUtils.deleteQuietly(new File(storeDir, partitionId + MemoryMappedStoragePartition.SEALED_FILE_SUFFIX));
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to delete memory-mapped files of store: " + storeName, e);
+    }
+  }
+
+  @Override
+  public synchronized void closeStorageEngine(AbstractStorageEngine engine) {
+    verifyPersistenceType(engine);
+    MemoryMappedStorageEngine storageEngine = storageEngineMap.remove(engine.getStoreVersionName());
+    if (storageEngine != null) {
+      storageEngine.close();
+    }
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.MEMORY_MAPPED;
+  }
+}
@@ -0,0 +1,279 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteArray;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A data partition of {@link MemoryMappedStorageEngine}, which goes through two states:
+ * 1. Staging: during the batch push, all the puts and deletes are appended to a {@link RecordLog}, whose size gets
+ *    checkpointed by {@link #sync()}, so that the push can resume from the last checkpoint after a restart.
+ * 2. Sealed: at the end of the batch push, the log gets turned into a {@link SealedPartitionFile}, which serves all
+ *    the lookups from then on, and cannot be written to anymore.
+ *
+ * Similar to RocksDB in deferred-write mode, the records written during the batch push are not readable until the end
+ * of the push, which is fine since the version does not serve any traffic before that.
+ */
+public class MemoryMappedStoragePartition extends AbstractStoragePartition {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryMappedStoragePartition.class);
+
+  static final String LOG_FILE_SUFFIX = ".log";
+  static final String SEALED_FILE_SUFFIX = ".mmap";
+  /**
+   * The key of the size of the staging log in the checkpointed database info.
+   */
+  static final String STAGING_LOG_SIZE = "mmap_staging_log_size";
+
+  private final String storeVersionName;
+  private final File logFile;
+  private final File sealedFile;
+  private final int segmentSize;
+
+  private volatile RecordLog log;
+  private volatile SealedPartitionFile sealedPartitionFile;
+
+  public MemoryMappedStoragePartition(StoragePartitionConfig storagePartitionConfig, File storeDir) {
+    this(storagePartitionConfig, storeDir, SealedPartitionFile.DEFAULT_SEGMENT_SIZE);
+  }
+
+  // package-private for testing purposes
+  MemoryMappedStoragePartition(StoragePartitionConfig storagePartitionConfig, File storeDir, int segmentSize) {
+    super(storagePartitionConfig.getPartitionId());
+    this.storeVersionName = storagePartitionConfig.getStoreName();
+    this.logFile = new File(storeDir, partitionId + LOG_FILE_SUFFIX);
+    this.sealedFile = new File(storeDir, partitionId + SEALED_FILE_SUFFIX);
+    this.segmentSize = segmentSize;
+    if (sealedFile.exists()) {
+      this.sealedPartitionFile = SealedPartitionFile.open(sealedFile);
+    } else {
+      this.log = new RecordLog(logFile);
+    }
+  }
+
+  private String getReplicaId() {
+    return storeVersionName + "-" + partitionId;
+  }
+
+  public boolean isSealed() {
+    return sealedPartitionFile != null;
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    put(key, ByteBuffer.wrap(value));
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer value) {
+    getLogOrThrow().append(key, value);
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    getLogOrThrow().append(key, null);
+  }
+
+  private RecordLog getLogOrThrow() {
+    if (log == null) {
+      throw new VeniceException("Partition: " + getReplicaId() + " is sealed, and cannot be written to anymore");
+    }
+    return log;
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    return get(ByteBuffer.wrap(key));
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    ByteBuffer value = getValue(key);
+    return value == null ? null : ByteUtils.copyByteArray(value);
+  }
+
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    byte[] value = get(key);
+    return value == null ? null : ByteBuffer.wrap(value);
+  }
+
+  /**
+   * The value is handed out without any copy, as a view of the mapped file.
+   */
+  @Override
+  public ByteBuf get(ByteBuffer key, ByteBufAllocator allocator) {
+    ByteBuffer value = getValue(key);
+    return value == null ? null : Unpooled.wrappedBuffer(value);
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  private ByteBuffer getValue(ByteBuffer key) {
+    SealedPartitionFile file = sealedPartitionFile;
+    return file == null ? null : file.get(key);
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    SealedPartitionFile file = sealedPartitionFile;
+    if (file != null) {
+      file.forEach((key, value) -> {
+        if (keyPrefix == null || new ByteArray(key).startsWith(keyPrefix)) {
+          callback.onRecordReceived(key, value);
+        }
+      });
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public synchronized Map<String, String> sync() {
+    if (log == null) {
+      return Collections.emptyMap();
+    }
+    log.force();
+    return Collections.singletonMap(STAGING_LOG_SIZE, Long.toString(log.size()));
+  }
+
+  /**
+   * Resuming a push is only possible when the staging log is still there, and contains at least what was
+   * checkpointed, otherwise the partition is reset, and the push has to start over.
+   */
+  @Override
+  public synchronized boolean checkDatabaseIntegrity(Map<String, String> checkpointedInfo) {
+    String checkpointedLogSize = checkpointedInfo.get(STAGING_LOG_SIZE);
+    if (checkpointedLogSize == null) {
+      return true;
+    }
+    if (log != null && log.size() >= Long.parseLong(checkpointedLogSize)) {
+      return true;
+    }
+    LOGGER.warn(
+        "Staging log of partition: {} is missing or shorter than the checkpointed size: {}, will reset the partition",
+        getReplicaId(),
+        checkpointedLogSize);
+    reset();
+    return false;
+  }
+
+  @Override
+  public synchronized void beginBatchWrite(
+      Map<String, String> checkpointedInfo,
+      Optional<Supplier<byte[]>> checksumSupplier) {
+    if (log == null) {
+      LOGGER.warn("Partition: {} is already sealed, will reset it to restart the batch push", getReplicaId());
+      reset();
+    }
+    String checkpointedLogSize = checkpointedInfo.get(STAGING_LOG_SIZE);
+    long logSize = checkpointedLogSize == null ? 0 : Long.parseLong(checkpointedLogSize);
+    LOGGER.info("Resuming the staging log of partition: {} from size: {}", getReplicaId(), logSize);
+    log.truncate(logSize);
+  }
+
+  @Override
+  public synchronized void endBatchWrite() {
+    if (log == null) {
+      LOGGER.info("Partition: {} is already sealed", getReplicaId());
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    log.force();
+    long keyCount = SealedPartitionFile.build(log, sealedFile, segmentSize);
+    sealedPartitionFile = SealedPartitionFile.open(sealedFile);
+    log.close();
+    deleteFile(logFile);
+    log = null;
+    LOGGER.info(
+        "Sealed partition: {} with {} keys into {} bytes in {} ms",
+        getReplicaId(),
+        keyCount,
+        sealedPartitionFile.getSizeInBytes(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Drops everything which was written, and goes back to an empty staging log.
+   */
+  private void reset() {
+    if (log != null) {
+      log.close();
+    }
+    sealedPartitionFile = null;
+    deleteFile(sealedFile);
+    deleteFile(logFile);
+    log = new RecordLog(logFile);
+  }
+
+  @Override
+  public synchronized void drop() {
+    close();
+    deleteFile(sealedFile);
+    deleteFile(logFile);
+  }
+
+  /**
+   * The mapped file is left to the garbage collector to unmap, since values may still be referenced by responses
+   * which are being written.
+   */
+  @Override
+  public synchronized void close() {
+    if (log != null) {
+      log.close();
+      log = null;
+    }
+    sealedPartitionFile = null;
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // The same files serve all the modes
+    return true;
+  }
+
+  @Override
+  public void createSnapshot() {
+    throw new UnsupportedOperationException("Method not implemented!");
+  }
+
+  @Override
+  public long getPartitionSizeInBytes() {
+    SealedPartitionFile file = sealedPartitionFile;
+    if (file != null) {
+      return file.getSizeInBytes();
+    }
+    RecordLog currentLog = log;
+    return currentLog == null ? 0 : currentLog.size();
+  }
+
+  private static void deleteFile(File file) {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (Exception e) {
+      throw new VeniceException("Failed to delete file: " + file, e);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+
+/**
+ * An append-only log of puts and deletes, which is used by the partitions of {@link MemoryMappedStorageEngine} until
+ * they get sealed, and by its metadata partition.
+ *
+ * Each record is laid out as: key length (int), value length (int, or {@link #TOMBSTONE} for a delete), key, value.
+ * Appends are buffered, and only become durable after {@link #force()}. The size returned by {@link #size()} at that
+ * point can be checkpointed, and passed to {@link #truncate(long)} after a restart, to drop whatever was appended
+ * after the checkpoint.
+ *
+ * This class is not thread-safe.
+ */
+class RecordLog implements Closeable {
+  static final int TOMBSTONE = -1;
+  static final int RECORD_HEADER_SIZE = 2 * ByteUtils.SIZE_OF_INT;
+  private static final int READ_BUFFER_SIZE = 1024 * 1024;
+  private static final int KEY_READ_SIZE = 256;
+
+  private final File file;
+  private final RandomAccessFile randomAccessFile;
+  private final FileChannel channel;
+  private final OutputStream outputStream;
+  private long size;
+
+  RecordLog(File file) {
+    this.file = file;
+    try {
+      this.randomAccessFile = new RandomAccessFile(file, "rw");
+      this.channel = randomAccessFile.getChannel();
+      this.size = channel.size();
+      channel.position(size);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to open record log: " + file, e);
+    }
+    this.outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  long size() {
+    return size;
+  }
+
+  /**
+   * @param value the value to put, or null to delete the key.
+   */
+  void append(byte[] key, ByteBuffer value) {
+    try {
+      writeInt(key.length);
+      writeInt(value == null ? TOMBSTONE : value.remaining());
+      outputStream.write(key);
+      if (value != null) {
+        if (value.hasArray()) {
+          outputStream.write(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        } else {
+          outputStream.write(ByteUtils.copyByteArray(value));
+        }
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to append to record log: " + file, e);
+    }
+    size += RECORD_HEADER_SIZE + key.length + (value == null ? 0 : value.remaining());
+  }
+
+  private void writeInt(int value) throws IOException {
+    outputStream.write(value >>> 24);
+    outputStream.write(value >>> 16);
+    outputStream.write(value >>> 8);
+    outputStream.write(value);
+  }
+
+  /**
+   * Makes all the appended records durable.
+   */
+  void force() {
+    try {
+      outputStream.flush();
+      channel.force(false);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to sync record log: " + file, e);
+    }
+  }
+
+  /**
+   * Drops all the records appended after the given size.
+   */
+  void truncate(long newSize) {
+    if (newSize > size) {
+      throw new VeniceException(
+          "Cannot truncate record log: " + file + " to size: " + newSize + " since its size is only: " + size);
+    }
+    try {
+      outputStream.flush();
+      channel.truncate(newSize);
+      channel.position(newSize);
+      channel.force(false);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to truncate record log: " + file, e);
+    }
+    size = newSize;
+  }
+
+  /**
+   * Reads the key of the record at the given position, which is used to tell apart keys with the same hash.
+   */
+  byte[] readKey(long recordPosition) {
+    try {
+      outputStream.flush();
+      // Most keys are small enough to be read along with the header in a single read
+      ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(KEY_READ_SIZE, size - recordPosition));
+      readFully(buffer, recordPosition);
+      int keyLength = buffer.getInt(0);
+      if (RECORD_HEADER_SIZE + keyLength <= buffer.capacity()) {
+        return Arrays.copyOfRange(buffer.array(), RECORD_HEADER_SIZE, RECORD_HEADER_SIZE + keyLength);
+      }
+      ByteBuffer key = ByteBuffer.allocate(keyLength);
+      readFully(key, recordPosition + RECORD_HEADER_SIZE);
+      return key.array();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read record log: " + file, e);
+    }
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of record log: " + file);
+      }
+    }
+  }
+
+  /**
+   * @return a reader going through all the records, in the order they were appended.
+   */
+  Reader newReader() {
+    try {
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to flush record log: " + file, e);
+    }
+    return new Reader();
+  }
+
+  @Override
+  public void close() {
+    try {
+      outputStream.flush();
+      randomAccessFile.close();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to close record log: " + file, e);
+    }
+  }
+
+  /**
+   * Sequential reader of the records, which reuses the same buffer for all the records, so the content of a record is
+   * only valid until {@link #next()} gets invoked again.
+   *
+   * A partial record at the end of the log, left by a crash in the middle of an append, is ignored.
+   */
+  class Reader implements Closeable {
+    private final DataInputStream inputStream;
+    private final long end = size;
+    private long nextRecordPosition = 0;
+    private long recordPosition;
+    private int keyLength;
+    private int valueLength;
+    private byte[] buffer = new byte[1024];
+
+    private Reader() {
+      try {
+        this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), READ_BUFFER_SIZE));
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read record log: " + file, e);
+      }
+    }
+
+    /**
+     * @return false when all the complete records have been read.
+     */
+    boolean next() {
+      if (nextRecordPosition >= end) {
+        return false;
+      }
+      try {
+        recordPosition = nextRecordPosition;
+        keyLength = inputStream.readInt();
+        valueLength = inputStream.readInt();
+        int recordLength = keyLength + Math.max(valueLength, 0);
+        if (keyLength < 0 || valueLength < TOMBSTONE || recordPosition + RECORD_HEADER_SIZE + recordLength > end) {
+          return false;
+        }
+        if (buffer.length < recordLength) {
+          buffer = new byte[Math.max(recordLength, 2 * buffer.length)];
+        }
+        inputStream.readFully(buffer, 0, recordLength);
+        nextRecordPosition += RECORD_HEADER_SIZE + recordLength;
+        return true;
+      } catch (EOFException e) {
+        return false;
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read record log: " + file + " at position: " + recordPosition, e);
+      }
+    }
+
+    long getRecordPosition() {
+      return recordPosition;
+    }
+
+    /**
+     * @return the size of the log, up to the end of the last complete record which was read.
+     */
+    long getValidSize() {
+      return nextRecordPosition;
+    }
+
+    boolean isTombstone() {
+      return valueLength == TOMBSTONE;
+    }
+
+    int getKeyLength() {
+      return keyLength;
+    }
+
+    int getValueLength() {
+      return Math.max(valueLength, 0);
+    }
+
+    /**
+     * @return the buffer holding the key, followed by the value, of the current record.
+     */
+    byte[] getBuffer() {
+      return buffer;
+    }
+
+    @Override
+    public void close() {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        throw new VeniceException("Failed to close record log reader: " + file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,469 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.BiConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An immutable, memory-mapped file holding the records of a sealed partition, indexed by a perfect hash function built
+ * with the "hash, displace and compress" (CHD) algorithm: the keys are hashed into small buckets, and each bucket gets
+ * a displacement which sends all its keys to distinct slots. A lookup therefore probes exactly one slot, and reads
+ * exactly one record to confirm that the key matches.
+ *
+ * Layout of the file:
+ * 1. Header: magic, format version, segment size, seed, key count, bucket count, slot count.
+ * 2. Displacements: one int per bucket, padded to a multiple of 8 bytes.
+ * 3. Slots: one long per slot, holding the position of the record in the file, or {@link #EMPTY_SLOT}.
+ * 4. Records: key length (int), value length (int), key, value.
+ *
+ * The file is mapped in segments of a fixed size, and neither index entries nor records cross segment boundaries, so
+ * that each read is served by a single {@link MappedByteBuffer}. The mappings are never unmapped explicitly, so that
+ * the values handed out without any copy stay valid for as long as they are referenced.
+ */
+class SealedPartitionFile {
+  private static final Logger LOGGER = LogManager.getLogger(SealedPartitionFile.class);
+
+  static final int MAGIC = 0x56454e4d;
+  static final int FORMAT_VERSION = 1;
+  static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+  static final long EMPTY_SLOT = -1;
+  private static final int HEADER_SIZE = 48;
+  private static final int RECORD_HEADER_SIZE = 2 * ByteUtils.SIZE_OF_INT;
+  private static final int PADDING = -1;
+  private static final int AVERAGE_BUCKET_SIZE = 4;
+  private static final double LOAD_FACTOR = 0.95;
+  private static final int MAX_DISPLACEMENT = 1 << 20;
+  private static final int MAX_SEEDS = 8;
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+  private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+  private final File file;
+  private final MappedByteBuffer[] segments;
+  private final int segmentSize;
+  private final long seed;
+  private final long keyCount;
+  private final long bucketCount;
+  private final long slotCount;
+  private final long displacementsPosition;
+  private final long slotsPosition;
+  private final long recordsPosition;
+  private final long fileSize;
+
+  private SealedPartitionFile(File file) {
+    this.file = file;
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      FileChannel channel = randomAccessFile.getChannel();
+      this.fileSize = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        // Keep reading until the header is complete
+      }
+      if (fileSize < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+        throw new VeniceException("Invalid sealed partition file: " + file);
+      }
+      this.segmentSize = header.getInt(8);
+      this.seed = header.getLong(16);
+      this.keyCount = header.getLong(24);
+      this.bucketCount = header.getLong(32);
+      this.slotCount = header.getLong(40);
+      this.displacementsPosition = HEADER_SIZE;
+      this.slotsPosition = getSlotsPosition(bucketCount);
+      this.recordsPosition = slotsPosition + slotCount * ByteUtils.SIZE_OF_LONG;
+
+      int segmentNum = (int) ((fileSize + segmentSize - 1) / segmentSize);
+      this.segments = new MappedByteBuffer[segmentNum];
+      for (int i = 0; i < segmentNum; i++) {
+        long segmentPosition = (long) i * segmentSize;
+        long mappedSize = Math.min(segmentSize, fileSize - segmentPosition);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition, mappedSize);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to open sealed partition file: " + file, e);
+    }
+  }
+
+  static SealedPartitionFile open(File file) {
+    return new SealedPartitionFile(file);
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  long getKeyCount() {
+    return keyCount;
+  }
+
+  long getSizeInBytes() {
+    return fileSize;
+  }
+
+  /**
+   * @return a read-only view of the value in the mapped file, without any copy, or null if the key does not exist.
+   */
+  ByteBuffer get(ByteBuffer key) {
+    if (keyCount == 0) {
+      return null;
+    }
+    long hash = hash(key, seed);
+    int displacement = getInt(displacementsPosition + bucketOf(hash, bucketCount) * ByteUtils.SIZE_OF_INT);
+    long recordPosition = getLong(slotsPosition + slotOf(hash, displacement, slotCount) * ByteUtils.SIZE_OF_LONG);
+    if (recordPosition == EMPTY_SLOT) {
+      return null;
+    }
+    MappedByteBuffer segment = segments[(int) (recordPosition / segmentSize)];
+    int offset = (int) (recordPosition % segmentSize);
+    int keyLength = segment.getInt(offset);
+    int valueLength = segment.getInt(offset + ByteUtils.SIZE_OF_INT);
+    if (keyLength != key.remaining()) {
+      return null;
+    }
+    ByteBuffer record = segment.duplicate();
+    record.limit(offset + RECORD_HEADER_SIZE + keyLength).position(offset + RECORD_HEADER_SIZE);
+    if (!record.equals(key)) {
+      return null;
+    }
+    record.limit(record.limit() + valueLength).position(offset + RECORD_HEADER_SIZE + keyLength);
+    return record.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Goes through all the records, in the order they were written.
+   */
+  void forEach(BiConsumer<byte[], byte[]> consumer) {
+    long position = recordsPosition;
+    while (position < fileSize) {
+      MappedByteBuffer segment = segments[(int) (position / segmentSize)];
+      int offset = (int) (position % segmentSize);
+      int remainingInSegment = segmentSize - offset;
+      if (remainingInSegment < RECORD_HEADER_SIZE || segment.getInt(offset) == PADDING) {
+        position += remainingInSegment;
+        continue;
+      }
+      int keyLength = segment.getInt(offset);
+      int valueLength = segment.getInt(offset + ByteUtils.SIZE_OF_INT);
+      byte[] key = new byte[keyLength];
+      byte[] value = new byte[valueLength];
+      ByteBuffer record = segment.duplicate();
+      record.position(offset + RECORD_HEADER_SIZE);
+      record.get(key);
+      record.get(value);
+      consumer.accept(key, value);
+      position += RECORD_HEADER_SIZE + keyLength + valueLength;
+    }
+  }
+
+  private int getInt(long position) {
+    return segments[(int) (position / segmentSize)].getInt((int) (position % segmentSize));
+  }
+
+  private long getLong(long position) {
+    return segments[(int) (position / segmentSize)].getLong((int) (position % segmentSize));
+  }
+
+  private static long getSlotsPosition(long bucketCount) {
+    long displacementsSize = bucketCount * ByteUtils.SIZE_OF_INT;
+    // Slots are aligned on 8 bytes, so that they never cross a segment boundary
+    return HEADER_SIZE + (displacementsSize + ByteUtils.SIZE_OF_LONG - 1) / ByteUtils.SIZE_OF_LONG
+        * ByteUtils.SIZE_OF_LONG;
+  }
+
+  static long hash(ByteBuffer key, long seed) {
+    long hash = seed ^ (key.remaining() * GOLDEN_RATIO);
+    for (int i = key.position(); i < key.limit(); i++) {
+      hash = (hash ^ (key.get(i) & 0xff)) * 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long bucketOf(long hash, long bucketCount) {
+    return Long.remainderUnsigned(hash, bucketCount);
+  }
+
+  private static long slotOf(long hash, int displacement, long slotCount) {
+    return Long.remainderUnsigned(mix(hash + (displacement + 1L) * GOLDEN_RATIO), slotCount);
+  }
+
+  /**
+   * The finalizer of MurmurHash3, which spreads every input bit over the whole output.
+   */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * Builds a sealed partition file out of all the records in the log. When a key was written several times, only the
+   * last write is kept, and keys whose last write is a delete are dropped.
+   *
+   * The build keeps about 30 bytes per record of the log on the heap.
+   *
+   * @return the number of keys in the file.
+   */
+  static long build(RecordLog log, File file, int segmentSize) {
+    if (segmentSize % ByteUtils.SIZE_OF_LONG != 0) {
+      throw new IllegalArgumentException("The segment size should be a multiple of 8, but got: " + segmentSize);
+    }
+    long seed = 0;
+    for (int attempt = 0; attempt < MAX_SEEDS; attempt++) {
+      Long keyCount = tryBuild(log, file, segmentSize, seed);
+      if (keyCount != null) {
+        return keyCount;
+      }
+      LOGGER.warn("Failed to build a perfect hash function for: {} with seed: {}, will retry", file, seed);
+      seed = mix(seed + GOLDEN_RATIO);
+    }
+    throw new VeniceException("Failed to build a perfect hash function for: " + file + " with " + MAX_SEEDS + " seeds");
+  }
+
+  /**
+   * @return the number of keys in the file, or null if the perfect hash function could not be built with this seed.
+   */
+  private static Long tryBuild(RecordLog log, File file, int segmentSize, long seed) {
+    // 1. Hash all the keys of the log
+    int recordCount = 0;
+    long[] hashes = new long[1024];
+    long[] logPositions = new long[1024];
+    BitSet live = new BitSet();
+    try (RecordLog.Reader reader = log.newReader()) {
+      while (reader.next()) {
+        if (recordCount == hashes.length) {
+          if (recordCount > Integer.MAX_VALUE / 2) {
+            throw new VeniceException("Too many records to seal into: " + file);
+          }
+          hashes = Arrays.copyOf(hashes, 2 * recordCount);
+          logPositions = Arrays.copyOf(logPositions, 2 * recordCount);
+        }
+        hashes[recordCount] = hash(ByteBuffer.wrap(reader.getBuffer(), 0, reader.getKeyLength()), seed);
+        logPositions[recordCount] = reader.getRecordPosition();
+        live.set(recordCount, !reader.isTombstone());
+        recordCount++;
+      }
+    }
+
+    // 2. Group the records by bucket, in log order within each bucket
+    int bucketCount = Math.max(1, (recordCount + AVERAGE_BUCKET_SIZE - 1) / AVERAGE_BUCKET_SIZE);
+    int[] bucketStarts = new int[bucketCount + 1];
+    for (int i = 0; i < recordCount; i++) {
+      bucketStarts[(int) bucketOf(hashes[i], bucketCount) + 1]++;
+    }
+    for (int b = 0; b < bucketCount; b++) {
+      bucketStarts[b + 1] += bucketStarts[b];
+    }
+    int[] recordsByBucket = new int[recordCount];
+    int[] bucketFills = Arrays.copyOf(bucketStarts, bucketCount);
+    for (int i = 0; i < recordCount; i++) {
+      recordsByBucket[bucketFills[(int) bucketOf(hashes[i], bucketCount)]++] = i;
+    }
+    bucketFills = null;
+
+    // 3. Only keep the last write of each key, which necessarily lands in the same bucket as the previous ones. Each
+    // write only needs to be compared with the next write of the same hash, which supersedes it.
+    for (int b = 0; b < bucketCount; b++) {
+      for (int j = bucketStarts[b]; j < bucketStarts[b + 1]; j++) {
+        int earlier = recordsByBucket[j];
+        for (int k = j + 1; k < bucketStarts[b + 1]; k++) {
+          int later = recordsByBucket[k];
+          if (hashes[earlier] == hashes[later]) {
+            if (!Arrays.equals(log.readKey(logPositions[earlier]), log.readKey(logPositions[later]))) {
+              // Different keys with the same hash cannot be told apart by any displacement
+              return null;
+            }
+            live.clear(earlier);
+            break;
+          }
+        }
+      }
+    }
+    int keyCount = live.cardinality();
+
+    // 4. Place the buckets, from the largest to the smallest, into free slots
+    int slotCount = Math.max(1, (int) Math.ceil(keyCount / LOAD_FACTOR));
+    int[] slotOfRecord = new int[recordCount];
+    BitSet usedSlots = new BitSet(slotCount);
+    int[] displacements = new int[bucketCount];
+    int[] liveInBucket = new int[bucketCount];
+    int maxBucketSize = 0;
+    for (int b = 0; b < bucketCount; b++) {
+      for (int j = bucketStarts[b]; j < bucketStarts[b + 1]; j++) {
+        if (live.get(recordsByBucket[j])) {
+          liveInBucket[b]++;
+        }
+      }
+      maxBucketSize = Math.max(maxBucketSize, liveInBucket[b]);
+    }
+    int[] bucketsBySize = sortBucketsBySizeDescending(liveInBucket, maxBucketSize);
+    int[] bucketSlots = new int[maxBucketSize];
+    for (int b: bucketsBySize) {
+      if (liveInBucket[b] == 0) {
+        break;
+      }
+      boolean placed = false;
+      for (int displacement = 0; displacement < MAX_DISPLACEMENT && !placed; displacement++) {
+        placed = true;
+        int placedCount = 0;
+        for (int j = bucketStarts[b]; j < bucketStarts[b + 1] && placed; j++) {
+          int record = recordsByBucket[j];
+          if (!live.get(record)) {
+            continue;
+          }
+          int slot = (int) slotOf(hashes[record], displacement, slotCount);
+          if (usedSlots.get(slot)) {
+            placed = false;
+          } else {
+            for (int p = 0; p < placedCount; p++) {
+              if (bucketSlots[p] == slot) {
+                placed = false;
+                break;
+              }
+            }
+            bucketSlots[placedCount++] = slot;
+          }
+        }
+        if (placed) {
+          displacements[b] = displacement;
+          int p = 0;
+          for (int j = bucketStarts[b]; j < bucketStarts[b + 1]; j++) {
+            int record = recordsByBucket[j];
+            if (live.get(record)) {
+              slotOfRecord[record] = bucketSlots[p++];
+              usedSlots.set(slotOfRecord[record]);
+            }
+          }
+        }
+      }
+      if (!placed) {
+        return null;
+      }
+    }
+    recordsByBucket = null;
+    hashes = null;
+
+    // 5. Write the file, with the records in log order
+    File tempFile = new File(file.getPath() + ".tmp");
+    long slotsPosition = getSlotsPosition(bucketCount);
+    long recordsPosition = slotsPosition + (long) slotCount * ByteUtils.SIZE_OF_LONG;
+    long[] slots = new long[slotCount];
+    Arrays.fill(slots, EMPTY_SLOT);
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(tempFile, "rw")) {
+      randomAccessFile.setLength(0);
+      FileChannel channel = randomAccessFile.getChannel();
+      channel.position(recordsPosition);
+      OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+      long position = recordsPosition;
+      byte[] recordHeader = new byte[RECORD_HEADER_SIZE];
+      try (RecordLog.Reader reader = log.newReader()) {
+        for (int i = 0; reader.next(); i++) {
+          if (!live.get(i)) {
+            continue;
+          }
+          int recordSize = RECORD_HEADER_SIZE + reader.getKeyLength() + reader.getValueLength();
+          if (recordSize > segmentSize) {
+            throw new VeniceException("Record of size: " + recordSize + " does not fit into a segment of: " + file);
+          }
+          int remainingInSegment = (int) (segmentSize - position % segmentSize);
+          if (recordSize > remainingInSegment) {
+            if (remainingInSegment >= RECORD_HEADER_SIZE) {
+              ByteUtils.writeInt(recordHeader, PADDING, 0);
+              outputStream.write(recordHeader, 0, ByteUtils.SIZE_OF_INT);
+              remainingInSegment -= ByteUtils.SIZE_OF_INT;
+            }
+            outputStream.write(new byte[remainingInSegment]);
+            position += (segmentSize - position % segmentSize);
+          }
+          slots[slotOfRecord[i]] = position;
+          ByteUtils.writeInt(recordHeader, reader.getKeyLength(), 0);
+          ByteUtils.writeInt(recordHeader, reader.getValueLength(), ByteUtils.SIZE_OF_INT);
+          outputStream.write(recordHeader);
+          outputStream.write(reader.getBuffer(), 0, reader.getKeyLength() + reader.getValueLength());
+          position += recordSize;
+        }
+      }
+      outputStream.flush();
+
+      ByteBuffer index = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+      long indexPosition = HEADER_SIZE;
+      for (int displacement: displacements) {
+        index.putInt(displacement);
+        if (!index.hasRemaining()) {
+          indexPosition += writeFully(channel, index, indexPosition);
+        }
+      }
+      indexPosition += writeFully(channel, index, indexPosition);
+      indexPosition = slotsPosition;
+      for (long slot: slots) {
+        index.putLong(slot);
+        if (!index.hasRemaining()) {
+          indexPosition += writeFully(channel, index, indexPosition);
+        }
+      }
+      writeFully(channel, index, indexPosition);
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(segmentSize).putInt(0);
+      header.putLong(seed).putLong(keyCount).putLong(bucketCount).putLong(slotCount);
+      writeFully(channel, header, 0);
+      channel.force(true);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to write sealed partition file: " + tempFile, e);
+    }
+    try {
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to rename: " + tempFile + " to: " + file, e);
+    }
+    return (long) keyCount;
+  }
+
+  /**
+   * Counting sort, since the buckets are small.
+   */
+  private static int[] sortBucketsBySizeDescending(int[] bucketSizes, int maxBucketSize) {
+    int[] starts = new int[maxBucketSize + 2];
+    for (int size: bucketSizes) {
+      starts[maxBucketSize - size + 1]++;
+    }
+    for (int i = 0; i <= maxBucketSize; i++) {
+      starts[i + 1] += starts[i];
+    }
+    int[] sorted = new int[bucketSizes.length];
+    for (int b = 0; b < bucketSizes.length; b++) {
+      sorted[starts[maxBucketSize - bucketSizes[b]]++] = b;
+    }
+    return sorted;
+  }
+
+  /**
+   * Writes the content of the buffer at the given position, and clears the buffer.
+   * @return the number of bytes written.
+   */
+  private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    buffer.flip();
+    int size = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+    buffer.clear();
+    return size;
+  }
+}
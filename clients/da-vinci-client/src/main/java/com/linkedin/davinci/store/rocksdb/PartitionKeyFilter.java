@@ -0,0 +1,413 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * An in-memory Bloom filter of the keys of a partition, which lets the lookups of missing keys return without going
+ * through the block cache, the index and the RocksDB filter blocks of every level.
+ *
+ * Since the number of keys of a partition is not known when its ingestion starts, the filter is made of stages: once
+ * the current stage holds as many keys as it was sized for, a new stage twice as large is added, with one more bit per
+ * key than the previous one, so that the false positive rate stays bounded no matter how many stages are added. A key
+ * might be in the partition if any stage contains it. Keys are never removed, so a deleted key is only a false
+ * positive.
+ *
+ * The filter is persisted as a snapshot of all the stages, followed by a journal of the hashes of the keys added since
+ * the snapshot, so that persisting the filter often only costs a few bytes per new key. The snapshot is rewritten once
+ * the journal grows larger than it.
+ *
+ * All the operations are thread-safe. The keys must be added before they are written to the partition, so that a
+ * reader which finds a key in the database always finds it in the filter too.
+ */
+public class PartitionKeyFilter {
+  static final String FILE_NAME = "venice_key_filter";
+  static final String JOURNAL_FILE_NAME = FILE_NAME + ".journal";
+  private static final String TEMP_FILE_NAME = FILE_NAME + ".tmp";
+  private static final int MAGIC = 0x564b4654;
+  private static final int FORMAT_VERSION = 1;
+  private static final int INITIAL_PENDING_HASHES_SIZE = 1024;
+  private static final long SEED = 0x9e3779b97f4a7c15L;
+  private static final long MULTIPLIER = 0xc6a4a7935bd1e995L;
+
+  private final int bitsPerKey;
+  private final List<Stage> stages;
+  private volatile Stage currentStage;
+
+  private final Object pendingHashesLock = new Object();
+  // The hashes of the keys added since the filter was last persisted, unless a snapshot is required anyway
+  private long[] pendingHashes = new long[INITIAL_PENDING_HASHES_SIZE];
+  private int pendingHashCount = 0;
+  private boolean snapshotRequired;
+  // Guarded by this, i.e. by persistTo
+  private long snapshotSizeInBytes = 0;
+  private long journalSizeInBytes = 0;
+
+  public PartitionKeyFilter(int bitsPerKey, long initialCapacity) {
+    this.bitsPerKey = Math.max(1, bitsPerKey);
+    this.stages = new CopyOnWriteArrayList<>();
+    this.snapshotRequired = true;
+    addStage(new Stage(Math.max(1, initialCapacity), this.bitsPerKey));
+  }
+
+  private PartitionKeyFilter(int bitsPerKey, List<Stage> stages) {
+    this.bitsPerKey = bitsPerKey;
+    this.stages = new CopyOnWriteArrayList<>(stages);
+    this.snapshotRequired = false;
+    this.currentStage = stages.get(stages.size() - 1);
+  }
+
+  public void add(byte[] key) {
+    add(ByteBuffer.wrap(key));
+  }
+
+  public void add(ByteBuffer key) {
+    long hash = hash(key);
+    if (mightContain(hash)) {
+      // Only record the keys which are new, so that updating the same keys neither grows nor persists the filter
+      return;
+    }
+    addHash(hash);
+    // Only once the bits are set, so that the bits of all the pending hashes are in any snapshot taken after them
+    recordPendingHash(hash);
+  }
+
+  public boolean mightContain(byte[] key) {
+    return mightContain(ByteBuffer.wrap(key));
+  }
+
+  /**
+   * Reads the key between the position and the limit of the buffer, without changing them.
+   */
+  public boolean mightContain(ByteBuffer key) {
+    return mightContain(hash(key));
+  }
+
+  private boolean mightContain(long hash) {
+    for (Stage stage: stages) {
+      if (stage.mightContain(hash)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void addHash(long hash) {
+    Stage stage = currentStage;
+    stage.add(hash);
+    if (stage.keyCount.incrementAndGet() >= stage.capacity) {
+      synchronized (this.stages) {
+        if (currentStage == stage) {
+          addStage(new Stage(stage.capacity * 2, stage.bitsPerKey + 1));
+        }
+      }
+    }
+  }
+
+  private void recordPendingHash(long hash) {
+    synchronized (pendingHashesLock) {
+      if (snapshotRequired) {
+        return;
+      }
+      if (pendingHashCount == pendingHashes.length) {
+        if ((long) pendingHashCount * Long.BYTES > getMemoryUsageInBytes()) {
+          // The filter is not persisted often enough for the journal to be worth it
+          requireSnapshot();
+          return;
+        }
+        pendingHashes = Arrays.copyOf(pendingHashes, pendingHashCount * 2);
+      }
+      pendingHashes[pendingHashCount++] = hash;
+    }
+  }
+
+  private void requireSnapshot() {
+    synchronized (pendingHashesLock) {
+      snapshotRequired = true;
+      pendingHashes = new long[INITIAL_PENDING_HASHES_SIZE];
+      pendingHashCount = 0;
+    }
+  }
+
+  public long getMemoryUsageInBytes() {
+    long bytes = 0;
+    for (Stage stage: stages) {
+      bytes += (long) stage.words.length() * Long.BYTES;
+    }
+    return bytes;
+  }
+
+  /**
+   * The probability that a key which was never added is reported as present, estimated from the number of keys and
+   * the size of each stage.
+   */
+  public double getFalsePositiveRate() {
+    double trueNegativeRate = 1;
+    for (Stage stage: stages) {
+      trueNegativeRate *= 1 - stage.getFalsePositiveRate();
+    }
+    return 1 - trueNegativeRate;
+  }
+
+  public int getStageCount() {
+    return stages.size();
+  }
+
+  /**
+   * Persists the keys added since the last call into the given directory, either by appending their hashes to the
+   * journal, or by replacing the snapshot. The snapshot is written to a temporary file first, which then replaces the
+   * previous one, so that a crash never leaves a partially written snapshot behind.
+   */
+  public synchronized void persistTo(File dir) throws IOException {
+    long[] hashes;
+    int hashCount;
+    boolean writeSnapshot;
+    synchronized (pendingHashesLock) {
+      hashes = pendingHashes;
+      hashCount = pendingHashCount;
+      writeSnapshot = snapshotRequired || journalSizeInBytes + (long) hashCount * Long.BYTES > snapshotSizeInBytes;
+      if (!writeSnapshot && hashCount == 0) {
+        return;
+      }
+      pendingHashes = new long[INITIAL_PENDING_HASHES_SIZE];
+      pendingHashCount = 0;
+      snapshotRequired = false;
+    }
+    try {
+      if (writeSnapshot) {
+        snapshotSizeInBytes = writeSnapshot(dir);
+        // A journal left behind by a crash at this point only holds keys which are already in the snapshot
+        Files.deleteIfExists(new File(dir, JOURNAL_FILE_NAME).toPath());
+        journalSizeInBytes = 0;
+      } else if (hashCount > 0) {
+        try (FileOutputStream fileOut = new FileOutputStream(new File(dir, JOURNAL_FILE_NAME), true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 64 * 1024))) {
+          for (int i = 0; i < hashCount; i++) {
+            out.writeLong(hashes[i]);
+          }
+          out.flush();
+          fileOut.getFD().sync();
+        }
+        journalSizeInBytes += (long) hashCount * Long.BYTES;
+      }
+    } catch (IOException e) {
+      // The hashes taken above are lost, so the next call has to write the whole filter
+      requireSnapshot();
+      throw e;
+    }
+  }
+
+  private long writeSnapshot(File dir) throws IOException {
+    File tempFile = new File(dir, TEMP_FILE_NAME);
+    try (FileOutputStream fileOut = new FileOutputStream(tempFile);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 64 * 1024))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(bitsPerKey);
+      List<Stage> stagesToWrite = new ArrayList<>(stages);
+      out.writeInt(stagesToWrite.size());
+      for (Stage stage: stagesToWrite) {
+        out.writeLong(stage.capacity);
+        out.writeInt(stage.bitsPerKey);
+        out.writeInt(stage.numHashFunctions);
+        out.writeLong(stage.keyCount.get());
+        out.writeInt(stage.words.length());
+        for (int i = 0; i < stage.words.length(); i++) {
+          out.writeLong(stage.words.get(i));
+        }
+      }
+      out.flush();
+      fileOut.getFD().sync();
+    }
+    File file = new File(dir, FILE_NAME);
+    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return file.length();
+  }
+
+  /**
+   * @return the filter persisted in the given directory, or null if there is none.
+   * @throws IOException if the filter can not be read, or was written in an unknown format.
+   */
+  public static PartitionKeyFilter readFrom(File dir) throws IOException {
+    File file = new File(dir, FILE_NAME);
+    File journalFile = new File(dir, JOURNAL_FILE_NAME);
+    if (!file.exists()) {
+      if (journalFile.exists()) {
+        throw new IOException("Found key filter journal without snapshot in dir: " + dir);
+      }
+      return null;
+    }
+    PartitionKeyFilter filter;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+      int magic = in.readInt();
+      int formatVersion = in.readInt();
+      if (magic != MAGIC || formatVersion != FORMAT_VERSION) {
+        throw new IOException("Unknown key filter format: " + formatVersion + " in file: " + file);
+      }
+      int bitsPerKey = in.readInt();
+      int stageCount = in.readInt();
+      if (stageCount <= 0) {
+        throw new IOException("Invalid stage count: " + stageCount + " in file: " + file);
+      }
+      List<Stage> stages = new ArrayList<>(stageCount);
+      for (int i = 0; i < stageCount; i++) {
+        long capacity = in.readLong();
+        int stageBitsPerKey = in.readInt();
+        int numHashFunctions = in.readInt();
+        long keyCount = in.readLong();
+        long[] words = new long[in.readInt()];
+        for (int j = 0; j < words.length; j++) {
+          words[j] = in.readLong();
+        }
+        stages.add(new Stage(capacity, stageBitsPerKey, numHashFunctions, keyCount, words));
+      }
+      filter = new PartitionKeyFilter(bitsPerKey, stages);
+    }
+    filter.snapshotSizeInBytes = file.length();
+
+    if (journalFile.exists()) {
+      long hashCount = journalFile.length() / Long.BYTES;
+      try (DataInputStream in =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile), 64 * 1024))) {
+        for (long i = 0; i < hashCount; i++) {
+          long hash = in.readLong();
+          if (!filter.mightContain(hash)) {
+            filter.addHash(hash);
+          }
+        }
+      }
+      filter.journalSizeInBytes = journalFile.length();
+      if (journalFile.length() % Long.BYTES != 0) {
+        // The last append was cut short, so it has to be replaced by a snapshot before anything else is appended
+        filter.requireSnapshot();
+      }
+    }
+    return filter;
+  }
+
+  public static void deleteFrom(File dir) {
+    new File(dir, TEMP_FILE_NAME).delete();
+    new File(dir, JOURNAL_FILE_NAME).delete();
+    new File(dir, FILE_NAME).delete();
+  }
+
+  private void addStage(Stage stage) {
+    stages.add(stage);
+    currentStage = stage;
+  }
+
+  /**
+   * A 64-bit hash of the bytes between the position and the limit of the buffer, built from the finalizer of
+   * MurmurHash3, which works the same way for heap and direct buffers.
+   */
+  static long hash(ByteBuffer key) {
+    int position = key.position();
+    int limit = key.limit();
+    long hash = SEED ^ ((limit - position) * MULTIPLIER);
+    int i = position;
+    for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+      long word = 0;
+      for (int j = 0; j < Long.BYTES; j++) {
+        word = (word << 8) | (key.get(i + j) & 0xFF);
+      }
+      hash = Long.rotateLeft(hash ^ mix(word), 27) * MULTIPLIER;
+    }
+    long tail = 0;
+    for (; i < limit; i++) {
+      tail = (tail << 8) | (key.get(i) & 0xFF);
+    }
+    return mix(hash ^ mix(tail));
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private static final class Stage {
+    private final long capacity;
+    private final int bitsPerKey;
+    private final int numHashFunctions;
+    private final long numBits;
+    private final AtomicLongArray words;
+    private final AtomicLong keyCount;
+
+    Stage(long capacity, int bitsPerKey) {
+      this.capacity = capacity;
+      this.bitsPerKey = bitsPerKey;
+      this.numHashFunctions = Math.max(1, (int) Math.round(bitsPerKey * Math.log(2)));
+      // Capped so that the number of words fits in an int
+      this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, (capacity * bitsPerKey + 63) / 64));
+      this.numBits = (long) words.length() * Long.SIZE;
+      this.keyCount = new AtomicLong();
+    }
+
+    Stage(long capacity, int bitsPerKey, int numHashFunctions, long keyCount, long[] words) {
+      this.capacity = capacity;
+      this.bitsPerKey = bitsPerKey;
+      this.numHashFunctions = numHashFunctions;
+      this.words = new AtomicLongArray(words);
+      this.numBits = (long) words.length * Long.SIZE;
+      this.keyCount = new AtomicLong(keyCount);
+    }
+
+    /**
+     * The bits of the key are derived from two halves of its hash, as in "Less Hashing, Same Performance: Building a
+     * Better Bloom Filter" by Kirsch and Mitzenmacher.
+     */
+    void add(long hash) {
+      long combinedHash = hash;
+      long increment = (hash >>> 32) | 1;
+      for (int i = 0; i < numHashFunctions; i++) {
+        long bit = (combinedHash & Long.MAX_VALUE) % numBits;
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        while (((word = words.get(wordIndex)) & mask) == 0) {
+          if (words.compareAndSet(wordIndex, word, word | mask)) {
+            break;
+          }
+        }
+        combinedHash += increment;
+      }
+    }
+
+    boolean mightContain(long hash) {
+      long combinedHash = hash;
+      long increment = (hash >>> 32) | 1;
+      for (int i = 0; i < numHashFunctions; i++) {
+        long bit = (combinedHash & Long.MAX_VALUE) % numBits;
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+        combinedHash += increment;
+      }
+      return true;
+    }
+
+    double getFalsePositiveRate() {
+      double bitSetRate = 1 - Math.exp(-(double) numHashFunctions * keyCount.get() / numBits);
+      return Math.pow(bitSetRate, numHashFunctions);
+    }
+  }
+}
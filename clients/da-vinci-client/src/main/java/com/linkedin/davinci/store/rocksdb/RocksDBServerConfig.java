@@ -212,9 +212,57 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_WRITE_QUOTA_BYTES_PER_SECOND = "rocksdb.write.quota.bytes.per.second";
   public static final String ROCKSDB_AUTO_TUNED_RATE_LIMITER_ENABLED = "rocksdb.auto.tuned.rate.limited.enabled";
   public static final String ROCKSDB_ATOMIC_FLUSH_ENABLED = "rocksdb.atomic.flush.enabled";
+
+  /**
+   * When enabled, non-deferred writes (put/delete/RMD updates) to the same partition are no longer serialized by the
+   * partition monitor, and multiple drainer threads can write into the same RocksDB database concurrently. RocksDB
+   * groups concurrent writers into a single write group (group commit) internally.
+   * Lifecycle operations, such as close, reopen and drop, are still exclusive.
+   */
+  public static final String ROCKSDB_CONCURRENT_WRITE_ENABLED = "rocksdb.concurrent.write.enabled";
+
+  /**
+   * Check the following link for more details:
+   * https://github.com/facebook/rocksdb/wiki/Pipelined-Write
+   * This is mostly useful together with {@link #ROCKSDB_CONCURRENT_WRITE_ENABLED}.
+   */
+  public static final String ROCKSDB_PIPELINED_WRITE_ENABLED = "rocksdb.pipelined.write.enabled";
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
+  /**
+   * Number of SST files which a partition can write in parallel during a sorted batch push. Since the input is sorted,
+   * the key stream gets split into consecutive key ranges (shards), and each of them is written into its own SST file
+   * by {@link #ROCKSDB_SST_FILE_WRITER_THREAD_POOL_SIZE} threads shared by all the partitions.
+   * The default of 1 writes the SST files serially, on the drainer thread.
+   */
+  public static final String ROCKSDB_SST_FILE_WRITER_PARALLELISM = "rocksdb.sst.file.writer.parallelism";
+  /**
+   * Amount of key/value bytes buffered into each shard before it is handed over to a writer thread. Each partition
+   * buffers up to {@link #ROCKSDB_SST_FILE_WRITER_PARALLELISM} + 1 shards in memory.
+   */
+  public static final String ROCKSDB_SST_FILE_WRITER_SHARD_SIZE_IN_BYTES =
+      "rocksdb.sst.file.writer.shard.size.in.bytes";
+  public static final String ROCKSDB_SST_FILE_WRITER_THREAD_POOL_SIZE = "rocksdb.sst.file.writer.thread.pool.size";
+
+  /**
+   * Amount of data read ahead by the iterators which scan a whole partition or a key range of it, so that the scan
+   * issues large sequential reads instead of one read per block.
+   */
+  public static final String ROCKSDB_ITERATION_READAHEAD_SIZE_IN_BYTES = "rocksdb.iteration.readahead.size.in.bytes";
+
+  /**
+   * Whether to keep an in-memory Bloom filter of the keys of each partition, so that the lookups of missing keys
+   * return without reading RocksDB. The filter is persisted along with the partition.
+   */
+  public static final String ROCKSDB_KEY_FILTER_ENABLED = "rocksdb.key.filter.enabled";
+  public static final String ROCKSDB_KEY_FILTER_BITS_PER_KEY = "rocksdb.key.filter.bits.per.key";
+
+  /**
+   * Number of keys the key filter of a partition is sized for at first. The filter grows as more keys are written.
+   */
+  public static final String ROCKSDB_KEY_FILTER_INITIAL_CAPACITY = "rocksdb.key.filter.initial.capacity";
+
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
   public static final String RECORD_TRANSFORMER_VALUE_SCHEMA = "record.transformer.value.schema";
@@ -280,7 +328,16 @@ public class RocksDBServerConfig {
 
   private final boolean putReuseByteBufferEnabled;
   private final boolean atomicFlushEnabled;
+  private final boolean concurrentWriteEnabled;
+  private final boolean pipelinedWriteEnabled;
   private final boolean separateRMDCacheEnabled;
+  private final int sstFileWriterParallelism;
+  private final long sstFileWriterShardSizeInBytes;
+  private final int sstFileWriterThreadPoolSize;
+  private final long iterationReadaheadSizeInBytes;
+  private final boolean keyFilterEnabled;
+  private final int keyFilterBitsPerKey;
+  private final long keyFilterInitialCapacity;
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
@@ -397,10 +454,31 @@ public class RocksDBServerConfig {
 
     this.putReuseByteBufferEnabled = props.getBoolean(ROCKSDB_PUT_REUSE_BYTE_BUFFER, false);
     this.atomicFlushEnabled = props.getBoolean(ROCKSDB_ATOMIC_FLUSH_ENABLED, true);
+    this.concurrentWriteEnabled = props.getBoolean(ROCKSDB_CONCURRENT_WRITE_ENABLED, false);
+    this.pipelinedWriteEnabled = props.getBoolean(ROCKSDB_PIPELINED_WRITE_ENABLED, false);
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
 
+    this.sstFileWriterParallelism = props.getInt(ROCKSDB_SST_FILE_WRITER_PARALLELISM, 1);
+    if (sstFileWriterParallelism < 1) {
+      throw new VeniceException(
+          ROCKSDB_SST_FILE_WRITER_PARALLELISM + " should be positive, but got: " + sstFileWriterParallelism);
+    }
+    this.sstFileWriterShardSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_SST_FILE_WRITER_SHARD_SIZE_IN_BYTES, 64 * 1024 * 1024); // 64MB
+    this.sstFileWriterThreadPoolSize =
+        props.getInt(ROCKSDB_SST_FILE_WRITER_THREAD_POOL_SIZE, Runtime.getRuntime().availableProcessors());
+    this.iterationReadaheadSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_ITERATION_READAHEAD_SIZE_IN_BYTES, 2 * 1024 * 1024); // 2MB
+    this.keyFilterEnabled = props.getBoolean(ROCKSDB_KEY_FILTER_ENABLED, false);
+    this.keyFilterBitsPerKey = props.getInt(ROCKSDB_KEY_FILTER_BITS_PER_KEY, 10);
+    if (keyFilterBitsPerKey <= 0) {
+      throw new VeniceException(
+          ROCKSDB_KEY_FILTER_BITS_PER_KEY + " should be positive, but got: " + keyFilterBitsPerKey);
+    }
+    this.keyFilterInitialCapacity = props.getLong(ROCKSDB_KEY_FILTER_INITIAL_CAPACITY, 64 * 1024);
+
     /**
      * The following configs are per store partition.
      */
@@ -588,6 +666,14 @@ public class RocksDBServerConfig {
     return atomicFlushEnabled;
   }
 
+  public boolean isConcurrentWriteEnabled() {
+    return concurrentWriteEnabled;
+  }
+
+  public boolean isPipelinedWriteEnabled() {
+    return pipelinedWriteEnabled;
+  }
+
   public boolean isUseSeparateRMDCacheEnabled() {
     return separateRMDCacheEnabled;
   }
@@ -596,6 +682,34 @@ public class RocksDBServerConfig {
     return blockBaseFormatVersion;
   }
 
+  public int getSstFileWriterParallelism() {
+    return sstFileWriterParallelism;
+  }
+
+  public long getSstFileWriterShardSizeInBytes() {
+    return sstFileWriterShardSizeInBytes;
+  }
+
+  public int getSstFileWriterThreadPoolSize() {
+    return sstFileWriterThreadPoolSize;
+  }
+
+  public long getIterationReadaheadSizeInBytes() {
+    return iterationReadaheadSizeInBytes;
+  }
+
+  public boolean isKeyFilterEnabled() {
+    return keyFilterEnabled;
+  }
+
+  public int getKeyFilterBitsPerKey() {
+    return keyFilterBitsPerKey;
+  }
+
+  public long getKeyFilterInitialCapacity() {
+    return keyFilterInitialCapacity;
+  }
+
   // For test only
   public void setBlockBaseFormatVersion(int version) {
     this.blockBaseFormatVersion = version;
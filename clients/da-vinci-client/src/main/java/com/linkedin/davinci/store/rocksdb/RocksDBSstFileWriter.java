@@ -13,12 +13,18 @@ import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,8 +47,8 @@ public class RocksDBSstFileWriter {
 
   /**
    * This class will be used in {@link #put(byte[], ByteBuffer)} to improve GC.
-   * Since the only update is from {@literal com.linkedin.venice.kafka.consumer.StoreBufferService.StoreBufferDrainer}, the
-   * total amount of memory pre-allocated is limited.
+   * Since the only update is from {@literal com.linkedin.venice.kafka.consumer.StoreBufferService.StoreBufferDrainer},
+   * or from the shard writer threads, the total amount of memory pre-allocated is limited.
    */
   private static class ReusableObjects {
     public ByteBuffer directKeyBuffer;
@@ -87,6 +93,19 @@ public class RocksDBSstFileWriter {
   private final boolean isRMD;
   private final RocksDBServerConfig rocksDBServerConfig;
 
+  /**
+   * When not null, the sorted input is split into consecutive key ranges (shards) of about
+   * {@link RocksDBServerConfig#getSstFileWriterShardSizeInBytes()} bytes, and each shard is written into its own SST
+   * file by this executor, with up to {@link RocksDBServerConfig#getSstFileWriterParallelism()} shards in flight.
+   * The SST files are numbered in key order, and {@link #sync()} waits for all the shards in flight before
+   * checkpointing the last one, so that the recovery logic stays the same as in the serial mode.
+   */
+  private final ExecutorService shardWriterExecutor;
+  private List<byte[]> currentShardKeys;
+  private List<byte[]> currentShardValues;
+  private long currentShardSizeInBytes = 0;
+  private final Deque<Future<Long>> inFlightShards = new ArrayDeque<>();
+
   @VisibleForTesting
   protected Checkpoint createCheckpoint(RocksDB rocksDB) {
     return Checkpoint.create(rocksDB);
@@ -108,6 +127,28 @@ public class RocksDBSstFileWriter {
       String fullPathForTempSSTFileDir,
       boolean isRMD,
       RocksDBServerConfig rocksDBServerConfig) {
+    this(
+        storeName,
+        partitionId,
+        dbDir,
+        envOptions,
+        options,
+        fullPathForTempSSTFileDir,
+        isRMD,
+        rocksDBServerConfig,
+        null);
+  }
+
+  public RocksDBSstFileWriter(
+      String storeName,
+      int partitionId,
+      String dbDir,
+      EnvOptions envOptions,
+      Options options,
+      String fullPathForTempSSTFileDir,
+      boolean isRMD,
+      RocksDBServerConfig rocksDBServerConfig,
+      ExecutorService shardWriterExecutor) {
     this.storeName = storeName;
     this.partitionId = partitionId;
     this.envOptions = envOptions;
@@ -116,14 +157,29 @@ public class RocksDBSstFileWriter {
     this.isRMD = isRMD;
     this.lastCheckPointedSSTFileNum = isRMD ? ROCKSDB_LAST_FINISHED_RMD_SST_FILE_NO : ROCKSDB_LAST_FINISHED_SST_FILE_NO;
     this.rocksDBServerConfig = rocksDBServerConfig;
+    this.shardWriterExecutor = rocksDBServerConfig.getSstFileWriterParallelism() > 1 ? shardWriterExecutor : null;
+  }
+
+  private boolean isShardingEnabled() {
+    return shardWriterExecutor != null;
   }
 
   public void put(byte[] key, ByteBuffer valueBuffer) throws RocksDBException {
+    if (isShardingEnabled()) {
+      putIntoCurrentShard(key, valueBuffer);
+      return;
+    }
     if (currentSSTFileWriter == null) {
       throw new VeniceException(
           "currentSSTFileWriter is null for store: " + storeName + ", partition id: " + partitionId
               + ", 'beginBatchWrite' should be invoked before any write");
     }
+    putIntoWriter(currentSSTFileWriter, key, valueBuffer);
+    ++recordNumInCurrentSSTFile;
+    ++recordNumInAllSSTFiles;
+  }
+
+  private void putIntoWriter(SstFileWriter sstFileWriter, byte[] key, ByteBuffer valueBuffer) throws RocksDBException {
     if (rocksDBServerConfig.isPutReuseByteBufferEnabled()) {
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       reusableObjects.directKeyBuffer.clear();
@@ -140,12 +196,81 @@ public class RocksDBSstFileWriter {
       reusableObjects.directValueBuffer.put(valueBuffer);
       valueBuffer.reset();
       reusableObjects.directValueBuffer.flip();
-      currentSSTFileWriter.put(reusableObjects.directKeyBuffer, reusableObjects.directValueBuffer);
+      sstFileWriter.put(reusableObjects.directKeyBuffer, reusableObjects.directValueBuffer);
     } else {
-      currentSSTFileWriter.put(key, ByteUtils.extractByteArray(valueBuffer));
+      sstFileWriter.put(key, ByteUtils.extractByteArray(valueBuffer));
     }
-    ++recordNumInCurrentSSTFile;
+  }
+
+  private void putIntoCurrentShard(byte[] key, ByteBuffer valueBuffer) {
+    if (currentShardKeys == null) {
+      throw new VeniceException(
+          "currentShardKeys is null for store: " + storeName + ", partition id: " + partitionId
+              + ", 'beginBatchWrite' should be invoked before any write");
+    }
+    // The caller is free to reuse its buffers once this function returns
+    currentShardKeys.add(Arrays.copyOf(key, key.length));
+    currentShardValues.add(ByteUtils.copyByteArray(valueBuffer));
+    currentShardSizeInBytes += key.length + valueBuffer.remaining();
     ++recordNumInAllSSTFiles;
+    if (currentShardSizeInBytes >= rocksDBServerConfig.getSstFileWriterShardSizeInBytes()) {
+      submitCurrentShard();
+    }
+  }
+
+  /**
+   * Hands the current shard over to {@link #shardWriterExecutor}, after waiting for the oldest shard in flight if there
+   * are already as many as the configured parallelism, so that the memory used by each partition stays bounded.
+   */
+  private void submitCurrentShard() {
+    if (currentShardKeys.isEmpty()) {
+      return;
+    }
+    while (inFlightShards.size() >= rocksDBServerConfig.getSstFileWriterParallelism()) {
+      waitForShard(inFlightShards.poll());
+    }
+    final int sstFileNo = currentSSTFileNo++;
+    final List<byte[]> keys = currentShardKeys;
+    final List<byte[]> values = currentShardValues;
+    inFlightShards.add(shardWriterExecutor.submit(() -> writeShard(sstFileNo, keys, values)));
+    currentShardKeys = new ArrayList<>();
+    currentShardValues = new ArrayList<>();
+    currentShardSizeInBytes = 0;
+  }
+
+  /**
+   * @return the number of records written into the SST file.
+   */
+  private long writeShard(int sstFileNo, List<byte[]> keys, List<byte[]> values) {
+    String fullPathForSSTFile = composeFullPathForSSTFile(sstFileNo);
+    try (SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+      sstFileWriter.open(fullPathForSSTFile);
+      for (int i = 0; i < keys.size(); i++) {
+        putIntoWriter(sstFileWriter, keys.get(i), ByteBuffer.wrap(values.get(i)));
+      }
+      sstFileWriter.finish();
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to write sst file: " + fullPathForSSTFile + " for store: " + storeName, e);
+    }
+    return keys.size();
+  }
+
+  private long waitForShard(Future<Long> shard) {
+    try {
+      return shard.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException(
+          "Interrupted while waiting for sst files of store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException(
+          "Failed to write sst files for store: " + storeName + ", partition id: " + partitionId,
+          e.getCause());
+    }
   }
 
   /**
@@ -215,6 +340,14 @@ public class RocksDBSstFileWriter {
           "Checkpointed info and SST files in " + fullPathForTempSSTFileDir
               + " directory doesn't match for RocksDB store: " + storeName + " partition: " + partitionId);
     }
+    this.expectedChecksumSupplier = expectedChecksumSupplier;
+    if (isShardingEnabled()) {
+      // The SST files get created by the shard writers, once the shards are complete
+      currentShardKeys = new ArrayList<>();
+      currentShardValues = new ArrayList<>();
+      currentShardSizeInBytes = 0;
+      return;
+    }
     String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
     currentSSTFileWriter = new SstFileWriter(envOptions, options);
     try {
@@ -223,10 +356,22 @@ public class RocksDBSstFileWriter {
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to open file: " + fullPathForCurrentSSTFile + " with SstFileWriter");
     }
-    this.expectedChecksumSupplier = expectedChecksumSupplier;
   }
 
   public void close() {
+    /**
+     * The shards in flight are waited for, so that no SST file gets written after the partition is closed. The files
+     * which are not checkpointed yet will be removed by {@link #checkDatabaseIntegrity} when the partition resumes.
+     */
+    while (!inFlightShards.isEmpty()) {
+      try {
+        waitForShard(inFlightShards.poll());
+      } catch (VeniceException e) {
+        LOGGER.warn("Failed to write sst file for store: {}, partition id: {}", storeName, partitionId, e);
+      }
+    }
+    currentShardKeys = null;
+    currentShardValues = null;
     if (currentSSTFileWriter != null) {
       currentSSTFileWriter.close();
     }
@@ -237,6 +382,10 @@ public class RocksDBSstFileWriter {
    * validates checksum on this SST file and return updated checkpointingInfo with this lastCheckPointedSSTFileNum.
    */
   public Map<String, String> sync() {
+    if (isShardingEnabled()) {
+      syncShards();
+      return getCheckpointingInfo();
+    }
     try {
       /**
        * {@link SstFileWriter#finish()} will throw exception if the current SST file is empty.
@@ -261,7 +410,10 @@ public class RocksDBSstFileWriter {
         if (!isRMD && expectedChecksumSupplier.isPresent()) {
           byte[] checksumToMatch = expectedChecksumSupplier.get().get();
           long startMs = System.currentTimeMillis();
-          if (!verifyChecksum(fullPathForLastFinishedSSTFile, recordNumInLastSSTFile, checksumToMatch)) {
+          if (!verifyChecksum(
+              Collections.singletonList(fullPathForLastFinishedSSTFile),
+              recordNumInLastSSTFile,
+              checksumToMatch)) {
             throw new VeniceChecksumException(
                 "verifyChecksum: failure. last sstFile checksum didn't match for store: " + storeName + ", partition: "
                     + partitionId + ", sstFile: " + fullPathForLastFinishedSSTFile + ", records: "
@@ -278,9 +430,58 @@ public class RocksDBSstFileWriter {
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to sync SstFileWriter", e);
     }
-    /**
-     * Return the recovery related info to upper layer to checkpoint.
-     */
+    return getCheckpointingInfo();
+  }
+
+  /**
+   * Submits the current shard, waits for all the shards in flight, and validates the checksum on all the SST files
+   * written since the last sync, in key order.
+   */
+  private void syncShards() {
+    if (currentShardKeys != null) {
+      submitCurrentShard();
+    }
+    long recordNumSinceLastSync = 0;
+    while (!inFlightShards.isEmpty()) {
+      recordNumSinceLastSync += waitForShard(inFlightShards.poll());
+    }
+    if (currentSSTFileNo - 1 <= lastFinishedSSTFileNo) {
+      if (!isRMD) {
+        LOGGER.warn(
+            "Sync gets invoked for store: {}, partition id: {}, but there is no new sst file",
+            storeName,
+            partitionId);
+      }
+      return;
+    }
+    int firstSSTFileNoSinceLastSync = lastFinishedSSTFileNo + 1;
+    lastFinishedSSTFileNo = currentSSTFileNo - 1;
+    List<String> sstFilePathsSinceLastSync = new ArrayList<>();
+    for (int sstFileNo = firstSSTFileNoSinceLastSync; sstFileNo <= lastFinishedSSTFileNo; sstFileNo++) {
+      sstFilePathsSinceLastSync.add(composeFullPathForSSTFile(sstFileNo));
+    }
+    LOGGER.info(
+        "Sync gets invoked for store: {}, partition id: {}, finished sst files: {}",
+        storeName,
+        partitionId,
+        sstFilePathsSinceLastSync);
+
+    if (!isRMD && expectedChecksumSupplier.isPresent()) {
+      byte[] checksumToMatch = expectedChecksumSupplier.get().get();
+      long startMs = System.currentTimeMillis();
+      if (!verifyChecksum(sstFilePathsSinceLastSync, recordNumSinceLastSync, checksumToMatch)) {
+        throw new VeniceChecksumException(
+            "verifyChecksum: failure. sstFiles checksum didn't match for store: " + storeName + ", partition: "
+                + partitionId + ", sstFiles: " + sstFilePathsSinceLastSync + ", records: " + recordNumSinceLastSync
+                + ", latency(ms): " + LatencyUtils.getElapsedTimeFromMsToMs(startMs));
+      }
+    }
+  }
+
+  /**
+   * Return the recovery related info to upper layer to checkpoint.
+   */
+  private Map<String, String> getCheckpointingInfo() {
     Map<String, String> checkpointingInfo = new HashMap<>();
     if (lastFinishedSSTFileNo >= 0) {
       checkpointingInfo.put(lastCheckPointedSSTFileNum, Integer.toString(lastFinishedSSTFileNo));
@@ -360,47 +561,51 @@ public class RocksDBSstFileWriter {
   }
 
   /**
-   * This function calculates checksum of all the key/value pair stored in the input sstFilePath. It then
+   * This function calculates checksum of all the key/value pair stored in the input sstFilePaths, in order. It then
    * verifies if the checksum matches with the input checksumToMatch and return the result.
    * A SstFileReader handle is used to perform bulk scan through the entire SST file. fillCache option is
    * explicitly disabled to not pollute the rocksdb internal block caches. And also implicit checksum verification
    * is disabled to reduce latency of the entire operation.
    *
-   * @param sstFilePath the full absolute path of the SST file
-   * @param expectedRecordNumInSSTFile expected number of key/value pairs in the SST File
+   * @param sstFilePaths the full absolute paths of the SST files, in key order
+   * @param expectedRecordNumInSSTFiles expected number of key/value pairs in all the SST Files
    * @param checksumToMatch pre-calculated checksum to match against.
-   * @return true if the sstFile checksum matches with the provided checksum.
+   * @return true if the sstFiles checksum matches with the provided checksum.
    */
-  private boolean verifyChecksum(String sstFilePath, long expectedRecordNumInSSTFile, byte[] checksumToMatch) {
+  private boolean verifyChecksum(List<String> sstFilePaths, long expectedRecordNumInSSTFiles, byte[] checksumToMatch) {
     SstFileReader sstFileReader = null;
     SstFileReaderIterator sstFileReaderIterator = null;
 
-    try {
-      sstFileReader = new SstFileReader(options);
-      sstFileReader.open(sstFilePath);
-      final ReadOptions readOptions = new ReadOptions();
+    try (ReadOptions readOptions = new ReadOptions()) {
       readOptions.setVerifyChecksums(false);
       readOptions.setFillCache(false);
 
-      long actualRecordCounts = sstFileReader.getTableProperties().getNumEntries();
-      if (actualRecordCounts != expectedRecordNumInSSTFile) {
+      long recordCount = 0;
+      CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+      for (String sstFilePath: sstFilePaths) {
+        sstFileReader = new SstFileReader(options);
+        sstFileReader.open(sstFilePath);
+        long actualRecordCount = sstFileReader.getTableProperties().getNumEntries();
+        sstFileReaderIterator = sstFileReader.newIterator(readOptions);
+        sstFileReaderIterator.seekToFirst();
+        while (sstFileReaderIterator.isValid()) {
+          sstFileFinalCheckSum.update(sstFileReaderIterator.key());
+          sstFileFinalCheckSum.update(sstFileReaderIterator.value());
+          sstFileReaderIterator.next();
+        }
+        recordCount += actualRecordCount;
+        sstFileReaderIterator.close();
+        sstFileReaderIterator = null;
+        sstFileReader.close();
+        sstFileReader = null;
+      }
+      if (recordCount != expectedRecordNumInSSTFiles) {
         LOGGER.error(
             "verifyChecksum: failure. SSTFile record count does not match expected: {} actual: {}",
-            expectedRecordNumInSSTFile,
-            actualRecordCounts);
+            expectedRecordNumInSSTFiles,
+            recordCount);
         return false;
       }
-
-      long recordCount = 0;
-      CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
-      sstFileReaderIterator = sstFileReader.newIterator(readOptions);
-      sstFileReaderIterator.seekToFirst();
-      while (sstFileReaderIterator.isValid()) {
-        sstFileFinalCheckSum.update(sstFileReaderIterator.key());
-        sstFileFinalCheckSum.update(sstFileReaderIterator.value());
-        sstFileReaderIterator.next();
-        recordCount++;
-      }
       final byte[] finalChecksum = sstFileFinalCheckSum.getCheckSum();
       boolean result = Arrays.equals(finalChecksum, checksumToMatch);
       if (!result) {
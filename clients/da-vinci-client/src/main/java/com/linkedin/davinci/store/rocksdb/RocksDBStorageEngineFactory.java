@@ -17,6 +17,7 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -26,6 +27,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -99,6 +102,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
    */
   private final RateLimiter rateLimiter;
 
+  /**
+   * Threads writing the SST files of sorted batch pushes in parallel, shared by all the partitions, or null when the
+   * SST files are written serially by the drainer threads.
+   */
+  private final ExecutorService sstFileWriterExecutor;
+
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
 
@@ -200,6 +209,13 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
         DEFAULT_FAIRNESS,
         DEFAULT_MODE,
         rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    if (rocksDBServerConfig.getSstFileWriterParallelism() > 1) {
+      this.sstFileWriterExecutor = Executors.newFixedThreadPool(
+          rocksDBServerConfig.getSstFileWriterThreadPoolSize(),
+          new DaemonThreadFactory("RocksDB-SST-file-writer"));
+    } else {
+      this.sstFileWriterExecutor = null;
+    }
   }
 
   public long getMemoryLimit() {
@@ -230,6 +246,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return sstFileManagerForMemoryLimiter;
   }
 
+  public ExecutorService getSstFileWriterExecutor() {
+    return sstFileWriterExecutor;
+  }
+
   /**
    * Whether memory limiter applies or not.
    */
@@ -297,6 +317,9 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    if (sstFileWriterExecutor != null) {
+      sstFileWriterExecutor.shutdownNow();
+    }
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
@@ -14,7 +14,11 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +30,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.apache.logging.log4j.LogManager;
@@ -47,6 +52,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
 import org.rocksdb.SstFileManager;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
@@ -68,6 +74,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBStoragePartition.class);
   private static final String ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA = "Max allowed space was reached";
   protected static final ReadOptions READ_OPTIONS_DEFAULT = new ReadOptions();
+  private static final int INITIAL_DIRECT_READ_VALUE_SIZE = 1024;
+  // The bounds of the batches of records read by a scan while holding the read lock
+  private static final int SCAN_BATCH_MAX_RECORD_COUNT = 1000;
+  private static final long SCAN_BATCH_MAX_SIZE_IN_BYTES = 4 * 1024 * 1024; // 4MB
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
@@ -96,9 +106,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   private boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * By default, all the modification functions are synchronized, so we don't need any other synchronization for the
+   * update path to guard RocksDB closing behavior.
+   * The following {@link #readCloseRWLock} is used to guard {@link #get} since we don't want to synchronize get requests,
+   * and it is also used to guard the write path when {@link #concurrentWriteEnabled} is true.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
@@ -127,6 +138,16 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   protected final boolean deferredWrite;
 
+  /**
+   * Whether non-deferred writes could be issued by multiple threads concurrently. <br>
+   * If true, put/delete will only acquire the read lock of {@link #readCloseRWLock}, which is enough to guard against
+   * lifecycle operations such as {@link #close()}, {@link #reopen()} and {@link #drop()}, and RocksDB will take care
+   * of grouping the concurrent writers (group commit). <br>
+   * If false, all the writes are serialized by the partition monitor. <br>
+   * Deferred write always uses the serial mode since {@link RocksDBSstFileWriter} is not thread-safe.
+   */
+  protected final boolean concurrentWriteEnabled;
+
   /**
    * Whether the database is read only or not.
    */
@@ -152,6 +173,23 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
 
+  /**
+   * Size of the last value read by {@link #get(ByteBuffer, ByteBufAllocator)}, used to size the buffer of the next read
+   * so that the lookup does not need to be retried with a larger buffer in the common case.
+   */
+  private volatile int directReadValueSizeHint = INITIAL_DIRECT_READ_VALUE_SIZE;
+
+  /**
+   * The snapshots read by the ongoing {@link #getByKeyRange} scans, which are released before the database is closed or
+   * reopened.
+   */
+  private final Set<Snapshot> scanSnapshots = VeniceConcurrentHashMap.newKeySet();
+  /**
+   * The in-memory filter of the keys of the default column family, or null if it is disabled for this partition. Check
+   * {@link #openKeyFilter()}.
+   */
+  private final PartitionKeyFilter keyFilter;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -184,12 +222,17 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     if (columnFamilyNameList.size() > 1 && rocksDBServerConfig.isAtomicFlushEnabled()) {
       options.setAtomicFlush(true);
     }
+    // Pipelined write is incompatible with atomic flush
+    if (rocksDBServerConfig.isPipelinedWriteEnabled() && !options.atomicFlush()) {
+      options.setEnablePipelinedWrite(true);
+    }
 
     if (options.tableFormatConfig() instanceof PlainTableConfig) {
       this.deferredWrite = false;
     } else {
       this.deferredWrite = storagePartitionConfig.isDeferredWrite();
     }
+    this.concurrentWriteEnabled = !this.deferredWrite && rocksDBServerConfig.isConcurrentWriteEnabled();
     this.readOnly = storagePartitionConfig.isReadOnly();
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
     this.readWriteLeaderForDefaultCF = storagePartitionConfig.isReadWriteLeaderForDefaultCF();
@@ -218,7 +261,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           options,
           fullPathForTempSSTFileDir,
           false,
-          rocksDBServerConfig);
+          rocksDBServerConfig,
+          factory.getSstFileWriterExecutor());
     }
 
     /**
@@ -265,13 +309,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     } else {
       dbOpenRunnable.run();
     }
+    this.keyFilter = openKeyFilter();
     registerDBStats();
     LOGGER.info(
         "Opened RocksDB: {} for replica: {} in {} and {} mode",
         fullPathForPartitionDB,
         replicaId,
         this.readOnly ? "read-only" : "read-write",
-        this.deferredWrite ? "deferred write" : "non-deferred write");
+        this.deferredWrite ? "deferred write" : (concurrentWriteEnabled ? "concurrent write" : "non-deferred write"));
   }
 
   public RocksDBStoragePartition(
@@ -493,6 +538,117 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * The key filter is only trusted if it was built along with all the data of the partition, so it is disabled for a
+   * partition which already has data without a persisted filter, e.g. data written before the filter was enabled, or
+   * received from a peer via blob transfer.
+   */
+  private PartitionKeyFilter openKeyFilter() {
+    File partitionDir = new File(fullPathForPartitionDB);
+    if (!rocksDBServerConfig.isKeyFilterEnabled() || partitionId == METADATA_PARTITION_ID) {
+      if (!readOnly) {
+        // A filter left behind by a previous run would miss the keys written from now on
+        PartitionKeyFilter.deleteFrom(partitionDir);
+      }
+      return null;
+    }
+    try {
+      PartitionKeyFilter filter = PartitionKeyFilter.readFrom(partitionDir);
+      if (filter != null) {
+        LOGGER.info("Loaded key filter with {} stages for replica: {}", filter.getStageCount(), replicaId);
+        return filter;
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Failed to load key filter for replica: {}, the filter will be disabled", replicaId, e);
+      if (!readOnly) {
+        PartitionKeyFilter.deleteFrom(partitionDir);
+      }
+      return null;
+    }
+    if (hasData()) {
+      LOGGER.info("Key filter is disabled for replica: {} since it has data without a persisted filter", replicaId);
+      return null;
+    }
+    return new PartitionKeyFilter(
+        rocksDBServerConfig.getKeyFilterBitsPerKey(),
+        rocksDBServerConfig.getKeyFilterInitialCapacity());
+  }
+
+  private boolean hasData() {
+    // The SST files of an ongoing batch push are only ingested into the database at the end of the push
+    String[] tempSSTFiles = new File(fullPathForTempSSTFileDir).list();
+    if (tempSSTFiles != null && tempSSTFiles.length > 0) {
+      return true;
+    }
+    try (RocksIterator iterator = rocksDB.newIterator()) {
+      iterator.seekToFirst();
+      return iterator.isValid();
+    }
+  }
+
+  /**
+   * Keys must be added to the filter before they are written, so that a key is never found in the database without
+   * being in the filter.
+   */
+  protected void addToKeyFilter(byte[] key) {
+    if (keyFilter != null) {
+      keyFilter.add(key);
+    }
+  }
+
+  private boolean isFilteredOut(byte[] key) {
+    return keyFilter != null && !keyFilter.mightContain(key);
+  }
+
+  private boolean isFilteredOut(ByteBuffer key) {
+    return keyFilter != null && !keyFilter.mightContain(key);
+  }
+
+  /**
+   * @return which of the keys are known to be missing, or null if all of them might be present.
+   */
+  private <K> boolean[] getFilteredOutKeys(List<K> keys, BiPredicate<PartitionKeyFilter, K> mightContain) {
+    if (keyFilter == null) {
+      return null;
+    }
+    boolean[] filteredOut = null;
+    for (int i = 0; i < keys.size(); i++) {
+      if (!mightContain.test(keyFilter, keys.get(i))) {
+        if (filteredOut == null) {
+          filteredOut = new boolean[keys.size()];
+        }
+        filteredOut[i] = true;
+      }
+    }
+    return filteredOut;
+  }
+
+  /**
+   * The filter is persisted whenever the partition is synced, before the offset of the synced records is checkpointed,
+   * so the records written after the persisted filter are always consumed again after a crash, which adds their keys
+   * back to the filter.
+   */
+  private void persistKeyFilter() {
+    if (keyFilter == null || readOnly) {
+      return;
+    }
+    try {
+      keyFilter.persistTo(new File(fullPathForPartitionDB));
+    } catch (IOException e) {
+      throw new VeniceException("Failed to persist key filter for replica: " + replicaId, e);
+    }
+  }
+
+  @Override
+  public long getKeyFilterMemoryUsageInBytes() {
+    return keyFilter == null ? 0 : keyFilter.getMemoryUsageInBytes();
+  }
+
+  @Override
+  public double getKeyFilterFalsePositiveRate() {
+    return keyFilter == null ? 0 : keyFilter.getFalsePositiveRate();
+  }
+
   private void checkAndThrowMemoryLimitException(RocksDBException e) {
     if (e.getMessage().contains(ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA)) {
       throw new MemoryLimitExhaustedException(
@@ -503,17 +659,33 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putInternal(key, valueBuffer);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putInternal(key, valueBuffer);
+      }
+    }
+  }
+
+  private void putInternal(byte[] key, ByteBuffer valueBuffer) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
+    addToKeyFilter(key);
     try {
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, valueBuffer);
@@ -543,6 +715,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      if (isFilteredOut(key)) {
+        return null;
+      }
       return rocksDB.get(key);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
@@ -556,6 +731,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      if (isFilteredOut(key)) {
+        return null;
+      }
       int size = rocksDB.get(key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
@@ -587,6 +765,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      if (isFilteredOut(keyBuffer)) {
+        return null;
+      }
       return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
@@ -595,11 +776,76 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Reads the value straight from RocksDB into a direct buffer of the given allocator, without going through a heap
+   * byte array, so that it can be written to a channel without any further copy.
+   */
+  @Override
+  public ByteBuf get(ByteBuffer keyBuffer, ByteBufAllocator allocator) {
+    ByteBuf directKey = allocator.directBuffer(keyBuffer.remaining());
+    ByteBuf value = null;
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      if (isFilteredOut(keyBuffer)) {
+        return null;
+      }
+      directKey.writeBytes(keyBuffer.duplicate());
+      int capacity = directReadValueSizeHint;
+      while (true) {
+        value = allocator.directBuffer(capacity);
+        int size = rocksDB.get(
+            READ_OPTIONS_DEFAULT,
+            directKey.nioBuffer(0, directKey.readableBytes()),
+            value.nioBuffer(0, capacity));
+        if (size == RocksDB.NOT_FOUND) {
+          return null;
+        }
+        directReadValueSizeHint = size;
+        if (size <= capacity) {
+          value.writerIndex(size);
+          ByteBuf result = value;
+          value = null;
+          return result;
+        }
+        // The value did not fit, so look it up again with a large enough buffer
+        value.release();
+        value = null;
+        capacity = size;
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
+    } finally {
+      if (value != null) {
+        value.release();
+      }
+      directKey.release();
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.multiGetAsList(keys);
+      boolean[] filteredOut = getFilteredOutKeys(keys, PartitionKeyFilter::mightContain);
+      if (filteredOut == null) {
+        return rocksDB.multiGetAsList(keys);
+      }
+      List<byte[]> keysToLookUp = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        if (!filteredOut[i]) {
+          keysToLookUp.add(keys.get(i));
+        }
+      }
+      Iterator<byte[]> valueIter =
+          keysToLookUp.isEmpty() ? Collections.emptyIterator() : rocksDB.multiGetAsList(keysToLookUp).iterator();
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        values.add(filteredOut[i] ? null : valueIter.next());
+      }
+      return values;
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -612,6 +858,41 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
     try {
       makeSureRocksDBIsStillOpen();
+      boolean[] filteredOut = getFilteredOutKeys(keys, PartitionKeyFilter::mightContain);
+      if (filteredOut == null) {
+        return multiGetByteBuffers(keys, values);
+      }
+      List<ByteBuffer> keysToLookUp = new ArrayList<>(keys.size());
+      List<ByteBuffer> valuesToPopulate = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        if (!filteredOut[i]) {
+          keysToLookUp.add(keys.get(i));
+          valuesToPopulate.add(values.get(i));
+        }
+      }
+      Iterator<ByteBuffer> resultIter = Collections.emptyIterator();
+      if (!keysToLookUp.isEmpty()) {
+        resultIter = multiGetByteBuffers(keysToLookUp, valuesToPopulate).iterator();
+      }
+      // Hand the buffers reallocated for the large values back to the caller, as the lookup without filter does
+      Iterator<ByteBuffer> valueIter = valuesToPopulate.iterator();
+      List<ByteBuffer> resultList = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        if (filteredOut[i]) {
+          resultList.add(null);
+        } else {
+          resultList.add(resultIter.next());
+          values.set(i, valueIter.next());
+        }
+      }
+      return resultList;
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  private List<ByteBuffer> multiGetByteBuffers(List<ByteBuffer> keys, List<ByteBuffer> values) {
+    try {
       List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(keys, values);
       int keyCnt = keys.size();
       int statusCnt = statusList.size();
@@ -669,8 +950,6 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return resultList;
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
-    } finally {
-      readCloseRWLock.readLock().unlock();
     }
   }
 
@@ -702,6 +981,107 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Scans the keys of the range with a dedicated read-ahead, and without filling the block cache, so that scanning a
+   * whole partition neither issues one read per block nor evicts the blocks of the point lookups from the cache.
+   *
+   * The records are read from a snapshot in bounded batches, and the callback is invoked without holding
+   * {@link #readCloseRWLock}, so that a slow callback does not hold off {@link #close()} or {@link #reopen()}. Each
+   * batch resumes right after the last key of the previous one. If the database is reopened in the middle of the scan,
+   * the scan goes on from a snapshot of the reopened database, and if it is closed, the scan fails.
+   */
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      // Each batch seeks to the key it resumes from, which PlainTable does not support
+      throw new VeniceException("Get by key range is not supported with RocksDB PlainTable Format.");
+    }
+
+    Snapshot snapshot = null;
+    try (Slice upperBound = endKey == null ? null : new Slice(endKey);
+        ReadOptions readOptions = new ReadOptions().setFillCache(false)
+            .setReadaheadSize(rocksDBServerConfig.getIterationReadaheadSizeInBytes())) {
+      if (upperBound != null) {
+        readOptions.setIterateUpperBound(upperBound);
+      }
+      List<byte[]> keys = new ArrayList<>(SCAN_BATCH_MAX_RECORD_COUNT);
+      List<byte[]> values = new ArrayList<>(SCAN_BATCH_MAX_RECORD_COUNT);
+      byte[] batchStartKey = startKey;
+      boolean hasMoreRecords = true;
+      while (hasMoreRecords) {
+        readCloseRWLock.readLock().lock();
+        try {
+          makeSureRocksDBIsStillOpen();
+          if (snapshot == null || !scanSnapshots.contains(snapshot)) {
+            // First batch, or the database was reopened since the previous batch, which released the snapshot
+            snapshot = rocksDB.getSnapshot();
+            scanSnapshots.add(snapshot);
+            readOptions.setSnapshot(snapshot);
+          }
+          try (RocksIterator iterator = rocksDB.newIterator(readOptions)) {
+            if (batchStartKey == null) {
+              iterator.seekToFirst();
+            } else {
+              iterator.seek(batchStartKey);
+            }
+            long batchSizeInBytes = 0;
+            while (iterator.isValid() && keys.size() < SCAN_BATCH_MAX_RECORD_COUNT
+                && batchSizeInBytes < SCAN_BATCH_MAX_SIZE_IN_BYTES) {
+              byte[] key = iterator.key();
+              byte[] value = iterator.value();
+              keys.add(key);
+              values.add(value);
+              batchSizeInBytes += key.length + value.length;
+              iterator.next();
+            }
+            hasMoreRecords = iterator.isValid();
+          }
+        } finally {
+          readCloseRWLock.readLock().unlock();
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+          callback.onRecordReceived(keys.get(i), values.get(i));
+        }
+        if (hasMoreRecords) {
+          // The smallest key after the last one of the batch, in the bytewise order of RocksDB
+          byte[] lastKey = keys.get(keys.size() - 1);
+          batchStartKey = Arrays.copyOf(lastKey, lastKey.length + 1);
+        }
+        keys.clear();
+        values.clear();
+      }
+    } finally {
+      if (snapshot != null) {
+        releaseScanSnapshot(snapshot);
+      }
+      callback.onCompletion();
+    }
+  }
+
+  private void releaseScanSnapshot(Snapshot snapshot) {
+    readCloseRWLock.readLock().lock();
+    try {
+      // The snapshot is already released if the database was closed or reopened in the meantime
+      if (scanSnapshots.remove(snapshot)) {
+        rocksDB.releaseSnapshot(snapshot);
+      }
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Releases the snapshots of the ongoing scans, which must not outlive the database instance they were taken from.
+   * Must be called with the write lock of {@link #readCloseRWLock} held.
+   */
+  private void releaseScanSnapshots() {
+    for (Snapshot snapshot: scanSnapshots) {
+      rocksDB.releaseSnapshot(snapshot);
+    }
+    scanSnapshots.clear();
+  }
+
   public synchronized boolean validateBatchIngestion() {
     if (!deferredWrite) {
       return true;
@@ -736,7 +1116,22 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
+  public void delete(byte[] key) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        deleteInternal(key);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        deleteInternal(key);
+      }
+    }
+  }
+
+  private void deleteInternal(byte[] key) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -757,6 +1152,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   @Override
   public synchronized Map<String, String> sync() {
     makeSureRocksDBIsStillOpen();
+    persistKeyFilter();
     if (!deferredWrite) {
       LOGGER.debug("Flush memtable to disk for RocksDB: {}", replicaId);
 
@@ -847,6 +1243,18 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     deRegisterDBStats();
     readCloseRWLock.writeLock().lock();
     try {
+      /**
+       * The filter is persisted under the write lock, since the concurrent writes only hold the read lock, and a key
+       * added to the filter after it is persisted would be missing from it once the partition is opened again.
+       */
+      try {
+        persistKeyFilter();
+      } catch (VeniceException e) {
+        // The partition will be opened without filter, instead of with a filter which misses some keys
+        LOGGER.error("Failed to persist key filter on close for replica: {}", replicaId, e);
+        PartitionKeyFilter.deleteFrom(new File(fullPathForPartitionDB));
+      }
+      releaseScanSnapshots();
       rocksDB.close();
     } finally {
       isClosed = true;
@@ -876,6 +1284,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.writeLock().lock();
     try {
       long startTimeInMs = System.currentTimeMillis();
+      releaseScanSnapshots();
       rocksDB.close();
       LOGGER.info(
           "RocksDB close for replica: {} took {} ms.",
@@ -0,0 +1,60 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.linkedin.davinci.blobtransfer.client.BlobTransferDownloadScheduler;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestBlobTransferDownloadScheduler {
+  private static final String TOPIC_NAME = "test_store_v1";
+
+  @Test
+  public void testAssignFiles() {
+    BlobTransferFileInfo file1 = new BlobTransferFileInfo("000001.sst", 300, 1);
+    BlobTransferFileInfo file2 = new BlobTransferFileInfo("000002.sst", 200, 2);
+    BlobTransferFileInfo file3 = new BlobTransferFileInfo("000003.sst", 100, 3);
+    BlobTransferFileInfo file4 = new BlobTransferFileInfo("000004.sst", 100, 4);
+    List<BlobTransferFileInfo> files = Arrays.asList(file1, file2, file3, file4);
+
+    Map<String, BlobTransferManifest> manifests = new LinkedHashMap<>();
+    manifests.put("host1", new BlobTransferManifest(TOPIC_NAME, 0, files));
+    // the other peers built their own snapshots, so only some of their files are the same
+    manifests.put(
+        "host2",
+        new BlobTransferManifest(
+            TOPIC_NAME,
+            0,
+            Arrays.asList(file1, file2, new BlobTransferFileInfo("000003.sst", 100, 5), file4)));
+    manifests.put("host3", new BlobTransferManifest(TOPIC_NAME, 0, Arrays.asList(file3, file4)));
+
+    Map<String, Long> fileOffsets = new LinkedHashMap<>();
+    fileOffsets.put("000001.sst", 0L);
+    fileOffsets.put("000002.sst", 0L);
+    fileOffsets.put("000003.sst", 0L);
+    // the partially transferred file only has 50 bytes left to transfer
+    fileOffsets.put("000004.sst", 50L);
+
+    Map<String, Double> throughputs = new HashMap<>();
+    throughputs.put("host1", 1.0);
+    throughputs.put("host2", 2.0);
+    throughputs.put("host3", 1.0);
+
+    Map<String, Map<String, Long>> assignments =
+        BlobTransferDownloadScheduler.assignFiles(files, fileOffsets, manifests, throughputs);
+
+    // each file goes, from the largest to the smallest, to the peer which has it and would finish it first
+    Assert.assertEquals(assignments.size(), 3);
+    Assert.assertEquals(assignments.get("host2"), Collections.singletonMap("000001.sst", 0L));
+    Assert.assertEquals(assignments.get("host1"), Collections.singletonMap("000002.sst", 0L));
+    Map<String, Long> expectedHost3Files = new HashMap<>();
+    expectedHost3Files.put("000003.sst", 0L);
+    expectedHost3Files.put("000004.sst", 50L);
+    Assert.assertEquals(assignments.get("host3"), expectedHost3Files);
+  }
+}
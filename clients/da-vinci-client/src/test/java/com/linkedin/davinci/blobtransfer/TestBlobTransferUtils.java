@@ -0,0 +1,79 @@
+package com.linkedin.davinci.blobtransfer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestBlobTransferUtils {
+  Path partitionDir;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    partitionDir = Files.createTempDirectory("tmpPartitionDir");
+  }
+
+  @AfterMethod
+  public void teardown() throws IOException {
+    Files.walk(partitionDir).sorted(Comparator.reverseOrder()).forEach(path -> {
+      try {
+        Files.delete(path);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    });
+  }
+
+  @Test
+  public void testGetFileOffsetsToTransfer() throws IOException {
+    // the remote snapshot
+    Path remoteDir = Files.createDirectories(partitionDir.resolve(".remote"));
+    Path complete = Files.write(remoteDir.resolve("000001.sst"), "complete".getBytes());
+    Path partial = Files.write(remoteDir.resolve("000002.sst"), "partial".getBytes());
+    Path corrupted = Files.write(remoteDir.resolve("000003.sst"), "corrupted".getBytes());
+    Path missing = Files.write(remoteDir.resolve("MANIFEST-000004"), "missing".getBytes());
+    BlobTransferManifest manifest = new BlobTransferManifest(
+        "test_store_v1",
+        0,
+        Arrays.asList(
+            toFileInfo(complete),
+            toFileInfo(partial),
+            toFileInfo(corrupted),
+            toFileInfo(missing)));
+
+    // the files left by a previous transfer attempt
+    Files.write(partitionDir.resolve("000001.sst"), "complete".getBytes());
+    Files.write(partitionDir.resolve("000002.sst"), "part".getBytes());
+    Files.write(partitionDir.resolve("000003.sst"), "corrupteD".getBytes());
+    Files.write(partitionDir.resolve("000005.sst"), "stale".getBytes());
+
+    Map<String, Long> fileOffsets = BlobTransferUtils.getFileOffsetsToTransfer(manifest, partitionDir);
+
+    // the complete file is skipped, the partial one is resumed, and the others are transferred from the start
+    Assert.assertEquals(fileOffsets.size(), 3);
+    Assert.assertEquals(fileOffsets.get("000002.sst"), Long.valueOf(4));
+    Assert.assertEquals(fileOffsets.get("000003.sst"), Long.valueOf(0));
+    Assert.assertEquals(fileOffsets.get("MANIFEST-000004"), Long.valueOf(0));
+    Assert.assertTrue(Files.exists(partitionDir.resolve("000001.sst")));
+    Assert.assertTrue(Files.exists(partitionDir.resolve("000002.sst")));
+    // the corrupted and stale files are deleted
+    Assert.assertTrue(Files.notExists(partitionDir.resolve("000003.sst")));
+    Assert.assertTrue(Files.notExists(partitionDir.resolve("000005.sst")));
+    // directories are left untouched
+    Assert.assertTrue(Files.exists(remoteDir));
+  }
+
+  private static BlobTransferFileInfo toFileInfo(Path file) throws IOException {
+    return new BlobTransferFileInfo(
+        file.getFileName().toString(),
+        Files.size(file),
+        BlobTransferUtils.computeFileChecksum(file));
+  }
+}
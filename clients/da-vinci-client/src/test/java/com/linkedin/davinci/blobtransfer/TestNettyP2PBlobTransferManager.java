@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import com.linkedin.davinci.blobtransfer.client.BlobTransferDownloadScheduler;
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -28,6 +29,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -285,4 +287,89 @@ public class TestNettyP2PBlobTransferManager {
     Mockito.verify(storageMetadataService, Mockito.times(1))
         .computeStoreVersionState(Mockito.anyString(), Mockito.any());
   }
+
+  /**
+   * Test the case where several peers have the same snapshot, the files should be fetched from all of them
+   * concurrently, and the metadata from the first one.
+   */
+  @Test
+  public void testMultiPeerFileTransfer()
+      throws IOException, ExecutionException, InterruptedException, TimeoutException {
+    // Both hosts reach the same local server, which serves the same snapshot
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(Arrays.asList("localhost", "127.0.0.1"));
+    doReturn(response).when(finder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+    NettyP2PBlobTransferManager multiPeerManager = new NettyP2PBlobTransferManager(
+        server,
+        client,
+        finder,
+        new BlobTransferDownloadScheduler(client, tmpPartitionDir.toString(), 2));
+
+    StoreVersionState storeVersionState = new StoreVersionState();
+    Mockito.doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(Mockito.any());
+
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord expectOffsetRecord = new OffsetRecord(partitionStateSerializer);
+    expectOffsetRecord.setOffsetLag(1000L);
+    Mockito.doReturn(expectOffsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt());
+
+    // Prepare files in the snapshot directory
+    Path snapshotDir = Paths.get(
+        RocksDBUtils.composeSnapshotDir(tmpSnapshotDir.toString(), TEST_STORE + "_v" + TEST_VERSION, TEST_PARTITION));
+    Path partitionDir = Paths.get(
+        RocksDBUtils
+            .composePartitionDbDir(tmpPartitionDir.toString(), TEST_STORE + "_v" + TEST_VERSION, TEST_PARTITION));
+    Files.createDirectories(snapshotDir);
+    Path file1 = snapshotDir.resolve("file1.txt");
+    Path file2 = snapshotDir.resolve("file2.txt");
+    Path file3 = snapshotDir.resolve("file3.txt");
+    Files.write(file1.toAbsolutePath(), "helloworld".getBytes());
+    Files.write(file3.toAbsolutePath(), "helloworldtwice".getBytes());
+    byte[] dummyData = new byte[1024 * 1024];
+    Arrays.fill(dummyData, (byte) 1);
+    Files.write(file2.toAbsolutePath(), dummyData);
+
+    CompletionStage<InputStream> future = multiPeerManager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION);
+    future.toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    // Verify the files are fetched from both hosts, and the metadata from the first one
+    Mockito.verify(client, Mockito.times(1))
+        .getFiles(
+            Mockito.eq("localhost"),
+            Mockito.eq(TEST_STORE),
+            Mockito.eq(TEST_VERSION),
+            Mockito.eq(TEST_PARTITION),
+            Mockito.any(),
+            Mockito.argThat(fileOffsets -> !fileOffsets.isEmpty()),
+            Mockito.eq(false));
+    Mockito.verify(client, Mockito.times(1))
+        .getFiles(
+            Mockito.eq("127.0.0.1"),
+            Mockito.eq(TEST_STORE),
+            Mockito.eq(TEST_VERSION),
+            Mockito.eq(TEST_PARTITION),
+            Mockito.any(),
+            Mockito.argThat(fileOffsets -> !fileOffsets.isEmpty()),
+            Mockito.eq(false));
+    Mockito.verify(client, Mockito.times(1))
+        .getFiles(
+            Mockito.eq("localhost"),
+            Mockito.eq(TEST_STORE),
+            Mockito.eq(TEST_VERSION),
+            Mockito.eq(TEST_PARTITION),
+            Mockito.any(),
+            Mockito.argThat(Map::isEmpty),
+            Mockito.eq(true));
+    Mockito.verify(client, Mockito.never()).get(anyString(), anyString(), anyInt(), anyInt());
+
+    // Verify files are all written to the partition directory with the same content
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file1), Files.readAllBytes(partitionDir.resolve("file1.txt"))));
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file2), Files.readAllBytes(partitionDir.resolve("file2.txt"))));
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file3), Files.readAllBytes(partitionDir.resolve("file3.txt"))));
+
+    // Verify the record is updated once
+    Mockito.verify(storageMetadataService, Mockito.times(1))
+        .put(TEST_STORE + "_v" + TEST_VERSION, TEST_PARTITION, expectOffsetRecord);
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.blobtransfer;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_OFFSET;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_TYPE;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
@@ -12,6 +13,7 @@ import com.linkedin.davinci.blobtransfer.client.P2PFileTransferClientHandler;
 import com.linkedin.davinci.blobtransfer.client.P2PMetadataTransferHandler;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersConnectionException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -35,12 +37,14 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.zip.CRC32;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -375,4 +379,91 @@ public class TestP2PFileTransferClientHandler {
     // Ensure the future is completed
     Assert.assertTrue(inputStreamFuture.toCompletableFuture().isDone());
   }
+
+  @Test
+  public void testResumeFileTransfer() throws ExecutionException, InterruptedException, IOException, TimeoutException {
+    // the file was partially transferred by a previous attempt
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir.toString(), TEST_STORE, TEST_VERSION, TEST_PARTITION);
+    Path dest = Files.createDirectories(Paths.get(payload.getPartitionDir()));
+    Path file1 = Files.write(dest.resolve("test_file.txt"), "123".getBytes());
+    CRC32 expectedChecksum = new CRC32();
+    expectedChecksum.update("12345".getBytes());
+    ch = new EmbeddedChannel(
+        new MetadataAggregator(1024 * 1024 * 100),
+        new P2PFileTransferClientHandler(
+            baseDir.toString(),
+            inputStreamFuture,
+            TEST_STORE,
+            TEST_VERSION,
+            TEST_PARTITION,
+            Collections.singletonList(new BlobTransferFileInfo("test_file.txt", 5, expectedChecksum.getValue()))));
+
+    DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.PARTIAL_CONTENT);
+    response.headers().add("Content-Disposition", "filename=\"test_file.txt\"");
+    response.headers().add("Content-Length", "2");
+    response.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    response.headers().add(BLOB_TRANSFER_FILE_OFFSET, "3");
+    HttpContent chunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("45", CharsetUtil.UTF_8));
+    DefaultHttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().add(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+
+    ch.writeInbound(response);
+    ch.writeInbound(chunk);
+    ch.writeInbound(endOfTransfer);
+    inputStreamFuture.toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    Assert.assertEquals(Files.readAllBytes(file1), "12345".getBytes());
+  }
+
+  @Test
+  public void testChecksumMismatchTransfer() throws IOException {
+    ch = new EmbeddedChannel(
+        new MetadataAggregator(1024 * 1024 * 100),
+        new P2PFileTransferClientHandler(
+            baseDir.toString(),
+            inputStreamFuture,
+            TEST_STORE,
+            TEST_VERSION,
+            TEST_PARTITION,
+            Collections.singletonList(new BlobTransferFileInfo("test_file.txt", 5, 0))));
+
+    DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().add("Content-Disposition", "filename=\"test_file.txt\"");
+    response.headers().add("Content-Length", "5");
+    response.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    HttpContent chunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("12345", CharsetUtil.UTF_8));
+
+    ch.writeInbound(response);
+    ch.writeInbound(chunk);
+    try {
+      inputStreamFuture.toCompletableFuture().get(1, TimeUnit.MINUTES);
+      Assert.fail("Expected exception not thrown");
+    } catch (Exception e) {
+      Assert.assertTrue(e.getCause() instanceof VeniceException);
+      Assert.assertTrue(e.getCause().getMessage().startsWith("Checksum mismatch for test_file.txt"));
+    }
+    // the corrupted file is not kept for the next attempt
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir.toString(), TEST_STORE, TEST_VERSION, TEST_PARTITION);
+    Assert.assertTrue(Files.notExists(Paths.get(payload.getPartitionDir()).resolve("test_file.txt")));
+  }
+
+  @Test
+  public void testConnectionLostDuringTransfer() {
+    DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().add("Content-Disposition", "filename=\"test_file.txt\"");
+    response.headers().add("Content-Length", "5");
+    response.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    HttpContent chunk = new DefaultHttpContent(Unpooled.copiedBuffer("123", CharsetUtil.UTF_8));
+
+    ch.writeInbound(response);
+    ch.writeInbound(chunk);
+    ch.close();
+    try {
+      inputStreamFuture.toCompletableFuture().get(1, TimeUnit.MINUTES);
+      Assert.fail("Expected exception not thrown");
+    } catch (Exception e) {
+      // the transfer is retried, and resumed from the partially transferred file
+      Assert.assertTrue(e.getCause() instanceof VenicePeersConnectionException);
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.blobtransfer;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_OFFSET;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_TYPE;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
@@ -273,4 +274,69 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertTrue(response instanceof DefaultHttpResponse);
     Assert.assertEquals(((DefaultHttpResponse) response).status(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
   }
+
+  @Test
+  public void testTransferManifest() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Path file1 = snapshotDir.resolve("file1");
+    Files.write(file1.toAbsolutePath(), "hello".getBytes());
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/manifest");
+
+    ch.writeInbound(request);
+
+    Object response = ch.readOutbound();
+    Assert.assertTrue(response instanceof FullHttpResponse);
+    FullHttpResponse manifestResponse = (FullHttpResponse) response;
+    Assert.assertEquals(manifestResponse.headers().get(BLOB_TRANSFER_TYPE), BlobTransferType.MANIFEST.toString());
+    ByteBuf content = manifestResponse.content();
+    byte[] manifestBytes = new byte[content.readableBytes()];
+    content.readBytes(manifestBytes);
+    BlobTransferManifest manifest = new ObjectMapper().readValue(manifestBytes, BlobTransferManifest.class);
+    Assert.assertEquals(manifest.getTopicName(), "myStore_v1");
+    Assert.assertEquals(manifest.getPartitionId(), 10);
+    Assert.assertEquals(manifest.getFiles().size(), 1);
+    Assert.assertEquals(manifest.getFiles().get(0).getFileName(), "file1");
+    Assert.assertEquals(manifest.getFiles().get(0).getFileSize(), 5);
+    Assert.assertEquals(manifest.getFiles().get(0).getChecksum(), BlobTransferUtils.computeFileChecksum(file1));
+  }
+
+  @Test
+  public void testTransferFileFromOffset() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Files.write(snapshotDir.resolve("file1").toAbsolutePath(), "hello".getBytes());
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/file/file1");
+    request.headers().set(HttpHeaderNames.RANGE, "bytes=2-");
+
+    ch.writeInbound(request);
+
+    Object response = ch.readOutbound();
+    Assert.assertTrue(response instanceof DefaultHttpResponse);
+    DefaultHttpResponse httpResponse = (DefaultHttpResponse) response;
+    Assert.assertEquals(httpResponse.status(), HttpResponseStatus.PARTIAL_CONTENT);
+    Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH), "3");
+    Assert.assertEquals(httpResponse.headers().get(BLOB_TRANSFER_FILE_OFFSET), "2");
+    Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_RANGE), "bytes 2-4/5");
+    response = ch.readOutbound();
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    Assert.assertEquals(((DefaultFileRegion) response).position(), 2);
+    Assert.assertEquals(((DefaultFileRegion) response).count(), 3);
+    response = ch.readOutbound();
+    Assert.assertTrue(response instanceof LastHttpContent);
+  }
+
+  @Test
+  public void testRejectFileOutsideOfSnapshot() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/file/..");
+
+    ch.writeInbound(request);
+    FullHttpResponse response = ch.readOutbound();
+    Assert.assertEquals(response.status().code(), 404);
+  }
 }
@@ -3,36 +3,74 @@ package com.linkedin.davinci.client;
 import static com.linkedin.davinci.client.AvroGenericDaVinciClient.READ_CHUNK_EXECUTOR;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
 import com.linkedin.alpini.base.concurrency.Executors;
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.serialization.StoreDeserializerCache;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.service.ICProvider;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class AvroGenericDaVinciClientTest {
+  private static final Schema SCAN_KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema SCAN_VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"ScanValue\", \"fields\": [{\"name\": \"payload\", \"type\": \"string\"}]}");
+  private static final int SCAN_VALUE_SCHEMA_ID = 1;
+
   @Test
   public void testPropertyBuilderWithRecordTransformer() {
     String schema = "{\n" + "  \"type\": \"string\"\n" + "}\n";
@@ -138,4 +176,275 @@ public class AvroGenericDaVinciClientTest {
     assertEquals(daVinciClient.getReadChunkExecutorForLargeRequest(), readChunkExecutor);
 
   }
+
+  @Test
+  public void testScanWithChunkedValues() throws Exception {
+    List<Map<ByteBuffer, byte[]>> partitions = Arrays.asList(new LinkedHashMap<>(), new LinkedHashMap<>());
+    Map<String, String> expectedRecords = new HashMap<>();
+    putScanValue(partitions.get(0), "key_0", "value_0", expectedRecords);
+    putChunkedScanValue(partitions.get(0), "key_1", "chunked_value_1", expectedRecords);
+    putChunkedScanValue(partitions.get(1), "key_2", "chunked_value_2", expectedRecords);
+    putScanValue(partitions.get(1), "key_3", "value_3", expectedRecords);
+    AbstractStorageEngine storageEngine = mockScanStorageEngine(partitions, new AtomicInteger());
+    ReferenceCounted<VersionBackend> versionRef =
+        new ReferenceCounted<>(mockScanVersionBackend(storageEngine, partitions.size()), ignored -> {});
+    AvroGenericDaVinciClient<Object, GenericRecord> dvcClient = mockScanClient(versionRef, 2);
+
+    // The chunks are skipped, and the chunked values are re-assembled from them
+    Map<String, String> scannedRecords = new VeniceConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    dvcClient.scan(new StreamingCallback<Object, GenericRecord>() {
+      @Override
+      public void onRecordReceived(Object key, GenericRecord value) {
+        scannedRecords.put(key.toString(), value.get("payload").toString());
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+    assertEquals(completion.get(30, TimeUnit.SECONDS), Optional.empty());
+    assertEquals(scannedRecords, expectedRecords);
+    assertEquals(versionRef.getReferenceCount(), 0);
+  }
+
+  @Test
+  public void testScanBackpressure() throws Exception {
+    List<Map<ByteBuffer, byte[]>> partitions = Collections.singletonList(new LinkedHashMap<>());
+    Map<String, String> expectedRecords = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      putScanValue(partitions.get(0), "key_" + i, "value_" + i, expectedRecords);
+    }
+    AtomicInteger readRecordCount = new AtomicInteger();
+    AbstractStorageEngine storageEngine = mockScanStorageEngine(partitions, readRecordCount);
+    ReferenceCounted<VersionBackend> versionRef =
+        new ReferenceCounted<>(mockScanVersionBackend(storageEngine, partitions.size()), ignored -> {});
+    AvroGenericDaVinciClient<Object, GenericRecord> dvcClient = mockScanClient(versionRef, 1);
+
+    Map<String, String> scannedRecords = new VeniceConcurrentHashMap<>();
+    CountDownLatch firstRecordReceived = new CountDownLatch(1);
+    CountDownLatch resumeScan = new CountDownLatch(1);
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    dvcClient.scan(new StreamingCallback<Object, GenericRecord>() {
+      @Override
+      public void onRecordReceived(Object key, GenericRecord value) {
+        scannedRecords.put(key.toString(), value.get("payload").toString());
+        if (scannedRecords.size() == 1) {
+          firstRecordReceived.countDown();
+          try {
+            resumeScan.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VeniceClientException(e);
+          }
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+
+    // The scan waits for the callback, instead of reading the next records ahead of it
+    Assert.assertTrue(firstRecordReceived.await(30, TimeUnit.SECONDS));
+    assertEquals(readRecordCount.get(), 1);
+    Assert.assertFalse(completion.isDone());
+
+    resumeScan.countDown();
+    assertEquals(completion.get(30, TimeUnit.SECONDS), Optional.empty());
+    assertEquals(scannedRecords, expectedRecords);
+    assertEquals(versionRef.getReferenceCount(), 0);
+  }
+
+  @Test
+  public void testScanCancellation() throws Exception {
+    List<Map<ByteBuffer, byte[]>> partitions =
+        Arrays.asList(new LinkedHashMap<>(), new LinkedHashMap<>(), new LinkedHashMap<>());
+    for (int i = 0; i < 15; i++) {
+      putScanValue(partitions.get(i % partitions.size()), "key_" + i, "value_" + i, new HashMap<>());
+    }
+    AbstractStorageEngine storageEngine = mockScanStorageEngine(partitions, new AtomicInteger());
+    ReferenceCounted<VersionBackend> versionRef =
+        new ReferenceCounted<>(mockScanVersionBackend(storageEngine, partitions.size()), ignored -> {});
+    AvroGenericDaVinciClient<Object, GenericRecord> dvcClient = mockScanClient(versionRef, 1);
+
+    // The callback cancels the scan by throwing
+    VeniceClientException cancellation = new VeniceClientException("Scan is cancelled");
+    AtomicInteger receivedRecordCount = new AtomicInteger();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    dvcClient.scan(new StreamingCallback<Object, GenericRecord>() {
+      @Override
+      public void onRecordReceived(Object key, GenericRecord value) {
+        receivedRecordCount.incrementAndGet();
+        throw cancellation;
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+
+    // The scan completes with the exception of the callback, without moving on to the next records and partitions
+    assertEquals(completion.get(30, TimeUnit.SECONDS), Optional.of(cancellation));
+    assertEquals(receivedRecordCount.get(), 1);
+    verify(storageEngine, times(1)).getByKeyRange(anyInt(), any(), any(), any());
+    assertEquals(versionRef.getReferenceCount(), 0);
+  }
+
+  private static void putScanValue(
+      Map<ByteBuffer, byte[]> partition,
+      String key,
+      String value,
+      Map<String, String> expectedRecords) {
+    partition.put(getStoredScanKey(key), prependSchemaId(SCAN_VALUE_SCHEMA_ID, serializeScanValue(value)));
+    expectedRecords.put(key, value);
+  }
+
+  /**
+   * Stores the value in two chunks, followed by its manifest, as the chunking writer does.
+   */
+  private static void putChunkedScanValue(
+      Map<ByteBuffer, byte[]> partition,
+      String key,
+      String value,
+      Map<String, String> expectedRecords) {
+    byte[] serializedValue = serializeScanValue(value);
+    int cutOff = serializedValue.length / 2;
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+    chunkedValueManifest.schemaId = SCAN_VALUE_SCHEMA_ID;
+    chunkedValueManifest.size = serializedValue.length;
+    int chunkCurrentProtocolVersion = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    ByteBuffer firstChunkKey = ByteBuffer.wrap((key + "_chunk_0").getBytes());
+    partition.put(
+        firstChunkKey,
+        prependSchemaId(chunkCurrentProtocolVersion, Arrays.copyOfRange(serializedValue, 0, cutOff)));
+    chunkedValueManifest.keysWithChunkIdSuffix.add(firstChunkKey);
+    ByteBuffer secondChunkKey = ByteBuffer.wrap((key + "_chunk_1").getBytes());
+    partition.put(
+        secondChunkKey,
+        prependSchemaId(
+            chunkCurrentProtocolVersion,
+            Arrays.copyOfRange(serializedValue, cutOff, serializedValue.length)));
+    chunkedValueManifest.keysWithChunkIdSuffix.add(secondChunkKey);
+
+    byte[] serializedManifest = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    partition.put(
+        getStoredScanKey(key),
+        prependSchemaId(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(), serializedManifest));
+    expectedRecords.put(key, value);
+  }
+
+  private static ByteBuffer getStoredScanKey(String key) {
+    byte[] keyBytes = new AvroSerializer<>(SCAN_KEY_SCHEMA).serialize(key);
+    return ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyBytes));
+  }
+
+  private static byte[] serializeScanValue(String payload) {
+    GenericRecord record = new GenericData.Record(SCAN_VALUE_SCHEMA);
+    record.put("payload", payload);
+    return SerializerDeserializerFactory.getAvroGenericSerializer(SCAN_VALUE_SCHEMA).serialize(record);
+  }
+
+  private static byte[] prependSchemaId(int schemaId, byte[] bytes) {
+    byte[] result = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + bytes.length];
+    ByteUtils.writeInt(result, schemaId, 0);
+    System.arraycopy(bytes, 0, result, ValueRecord.SCHEMA_HEADER_LENGTH, bytes.length);
+    return result;
+  }
+
+  /**
+   * Mocks a storage engine which streams the records of each partition in the order in which they were put, counting
+   * the records it reads.
+   */
+  private static AbstractStorageEngine mockScanStorageEngine(
+      List<Map<ByteBuffer, byte[]>> partitions,
+      AtomicInteger readRecordCount) {
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      BytesStreamingCallback callback = invocation.getArgument(3);
+      for (Map.Entry<ByteBuffer, byte[]> record: partitions.get(partition).entrySet()) {
+        readRecordCount.incrementAndGet();
+        callback.onRecordReceived(ByteUtils.extractByteArray(record.getKey()), record.getValue());
+      }
+      callback.onCompletion();
+      return null;
+    }).when(storageEngine).getByKeyRange(anyInt(), any(), any(), any());
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      ByteBuffer key = invocation.getArgument(1);
+      return partitions.get(partition).get(key);
+    }).when(storageEngine).get(anyInt(), any(ByteBuffer.class));
+    return storageEngine;
+  }
+
+  /**
+   * Mocks a chunked and uncompressed version, which is scanned the same way as {@link VersionBackend#scan} does.
+   */
+  private static VersionBackend mockScanVersionBackend(AbstractStorageEngine storageEngine, int partitionCount) {
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    when(versionBackend.getSupersetOrLatestValueSchemaId()).thenReturn(SCAN_VALUE_SCHEMA_ID);
+    when(versionBackend.getPartitionCount()).thenReturn(partitionCount);
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      byte[] startKeyBytes = invocation.getArgument(1);
+      byte[] endKeyBytes = invocation.getArgument(2);
+      AbstractAvroChunkingAdapter<GenericRecord> chunkingAdapter = invocation.getArgument(3);
+      StoreDeserializerCache<GenericRecord> storeDeserializerCache = invocation.getArgument(4);
+      int readerSchemaId = invocation.getArgument(5);
+      BinaryDecoder binaryDecoder = invocation.getArgument(6);
+      BiConsumer<byte[], GenericRecord> recordConsumer = invocation.getArgument(7);
+      chunkingAdapter.getByKeyRange(
+          storageEngine,
+          partition,
+          startKeyBytes,
+          endKeyBytes,
+          binaryDecoder,
+          true,
+          readerSchemaId,
+          storeDeserializerCache,
+          new NoopCompressor(),
+          recordConsumer);
+      return null;
+    }).when(versionBackend).scan(anyInt(), any(), any(), any(), any(), anyInt(), any(), any());
+    return versionBackend;
+  }
+
+  private static AvroGenericDaVinciClient<Object, GenericRecord> mockScanClient(
+      ReferenceCounted<VersionBackend> versionRef,
+      int scanParallelism) {
+    AvroGenericDaVinciClient<Object, GenericRecord> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getStoreName()).thenReturn("test_store");
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    when(storeBackend.getDaVinciCurrentVersion()).thenReturn(versionRef);
+    when(dvcClient.getStoreBackend()).thenReturn(storeBackend);
+    when(dvcClient.getDaVinciConfig()).thenReturn(new DaVinciConfig().setScanParallelism(scanParallelism));
+    when(dvcClient.getScanExecutor()).thenReturn(AvroGenericDaVinciClient.SCAN_EXECUTOR);
+    when(dvcClient.getKeySerializer()).thenReturn(new AvroSerializer<>(SCAN_KEY_SCHEMA));
+    when(dvcClient.getKeyDeserializer())
+        .thenReturn(SerializerDeserializerFactory.getAvroGenericDeserializer(SCAN_KEY_SCHEMA));
+    when(dvcClient.getAvroChunkingAdapter()).thenReturn(GenericChunkingAdapter.INSTANCE);
+    RecordDeserializer<GenericRecord> valueDeserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(SCAN_VALUE_SCHEMA);
+    when(dvcClient.getStoreDeserializerCache()).thenReturn(new StoreDeserializerCache<GenericRecord>() {
+      @Override
+      public RecordDeserializer<GenericRecord> getDeserializer(int writerSchemaId, int readerSchemaId) {
+        return valueDeserializer;
+      }
+
+      @Override
+      public RecordDeserializer<GenericRecord> getDeserializer(int writerSchemaId) {
+        return valueDeserializer;
+      }
+    });
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
+    doCallRealMethod().when(dvcClient).scan(any());
+    doCallRealMethod().when(dvcClient).scan(any(), any(), any());
+    return dvcClient;
+  }
 }
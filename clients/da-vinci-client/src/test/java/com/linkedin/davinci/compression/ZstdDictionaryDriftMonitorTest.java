@@ -0,0 +1,85 @@
+package com.linkedin.davinci.compression;
+
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.utils.TestMockTime;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ZstdDictionaryDriftMonitorTest {
+  private static final long MONITORING_INTERVAL_MS = 1000;
+
+  @Test
+  public void testDriftMeasurement() {
+    TestMockTime time = new TestMockTime();
+    ZstdDictionaryDriftMonitor driftMonitor = new ZstdDictionaryDriftMonitor(
+        "test_store_v1",
+        NoopCompressor::new,
+        1.0,
+        1024 * 1024,
+        1024,
+        MONITORING_INTERVAL_MS,
+        Runnable::run,
+        time);
+
+    Random random = new Random(0);
+    for (int i = 0; i < 2 * ZstdDictionaryDriftMonitor.MIN_NUMBER_OF_SAMPLES; i++) {
+      ByteBuffer value = createValue(random);
+      int position = value.position();
+      driftMonitor.maybeSample(value);
+      Assert.assertEquals(value.position(), position);
+    }
+    // The monitoring interval has not elapsed yet
+    Assert.assertTrue(Double.isNaN(driftMonitor.getLatestCompressionRatioGain()));
+    Assert.assertNull(driftMonitor.getCandidateDictionary());
+
+    time.addMilliseconds(MONITORING_INTERVAL_MS);
+    driftMonitor.maybeSample(createValue(random));
+    double compressionRatioGain = driftMonitor.getLatestCompressionRatioGain();
+    // Compared to no compression at all, the trained dictionary should compress these values
+    Assert.assertTrue(compressionRatioGain > 1.0, "Unexpected gain: " + compressionRatioGain);
+    byte[] candidateDictionary = driftMonitor.getCandidateDictionary();
+    Assert.assertNotNull(candidateDictionary);
+
+    // The samples were consumed by the training, and the next one only happens after another interval
+    for (int i = 0; i < 2 * ZstdDictionaryDriftMonitor.MIN_NUMBER_OF_SAMPLES; i++) {
+      driftMonitor.maybeSample(createValue(random));
+    }
+    Assert.assertSame(driftMonitor.getCandidateDictionary(), candidateDictionary);
+  }
+
+  @Test
+  public void testSampleSizeIsBounded() {
+    TestMockTime time = new TestMockTime();
+    ZstdDictionaryDriftMonitor driftMonitor = new ZstdDictionaryDriftMonitor(
+        "test_store_v1",
+        NoopCompressor::new,
+        1.0,
+        1024,
+        1024,
+        0,
+        Runnable::run,
+        time);
+
+    Random random = new Random(0);
+    for (int i = 0; i < 2 * ZstdDictionaryDriftMonitor.MIN_NUMBER_OF_SAMPLES; i++) {
+      driftMonitor.maybeSample(createValue(random));
+    }
+    // Not enough samples fit within the bound to train a dictionary
+    Assert.assertTrue(Double.isNaN(driftMonitor.getLatestCompressionRatioGain()));
+    Assert.assertNull(driftMonitor.getCandidateDictionary());
+  }
+
+  private static ByteBuffer createValue(Random random) {
+    String value = String.format(
+        "{\"memberId\": %d, \"country\": \"%s\", \"industry\": \"%s\", \"title\": \"Senior Engineer %d\"}",
+        random.nextInt(1_000_000),
+        random.nextBoolean() ? "us" : "in",
+        random.nextBoolean() ? "software" : "finance",
+        random.nextInt(10));
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,145 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class IngestionFrameRequestHandlerTest {
+  private static EmbeddedChannel createChannel(IngestionFrameRequestHandler handler) {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    IngestionFrame.initPipeline(channel.pipeline());
+    if (handler != null) {
+      channel.pipeline().addLast(handler);
+    }
+    return channel;
+  }
+
+  /**
+   * Sends the frames from the client channel to the server channel, and the responses back.
+   */
+  private static List<IngestionFrame> exchange(
+      EmbeddedChannel client,
+      EmbeddedChannel server,
+      IngestionFrame... frames) {
+    for (IngestionFrame frame: frames) {
+      client.write(frame);
+    }
+    client.flush();
+    transfer(client, server);
+    transfer(server, client);
+    List<IngestionFrame> responses = new ArrayList<>();
+    IngestionFrame response;
+    while ((response = client.readInbound()) != null) {
+      responses.add(response);
+    }
+    return responses;
+  }
+
+  private static void transfer(EmbeddedChannel from, EmbeddedChannel to) {
+    // Flushes are consolidated on the event loop.
+    from.runPendingTasks();
+    ByteBuf buf;
+    while ((buf = from.readOutbound()) != null) {
+      to.writeInbound(buf);
+    }
+    to.runPendingTasks();
+  }
+
+  @Test
+  public void testRequestsAreAnsweredInOrder() {
+    IngestionFrameRequestHandler handler = new IngestionFrameRequestHandler((action, content) -> {
+      switch (action) {
+        case REPORT:
+          return content;
+        case METRIC:
+          throw new VeniceException("Test exception");
+        default:
+          throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
+      }
+    }, Collections.emptySet(), Runnable::run);
+    EmbeddedChannel client = createChannel(null);
+    EmbeddedChannel server = createChannel(handler);
+
+    List<IngestionFrame> responses = exchange(
+        client,
+        server,
+        new IngestionFrame(1, IngestionAction.REPORT, IngestionFrame.STATUS_OK, new byte[] { 1, 2, 3 }),
+        new IngestionFrame(2, IngestionAction.METRIC, IngestionFrame.STATUS_OK, new byte[0]),
+        new IngestionFrame(3, IngestionAction.HEARTBEAT, IngestionFrame.STATUS_OK, new byte[0]),
+        new IngestionFrame(4, IngestionAction.REPORT, IngestionFrame.STATUS_OK, new byte[] { 4 }));
+
+    Assert.assertEquals(responses.size(), 4);
+    Assert.assertEquals(responses.get(0).getRequestId(), 1);
+    Assert.assertEquals(responses.get(0).getAction(), IngestionAction.REPORT);
+    Assert.assertEquals(responses.get(0).getStatus(), IngestionFrame.STATUS_OK);
+    Assert.assertEquals(responses.get(0).getPayload(), new byte[] { 1, 2, 3 });
+    Assert.assertEquals(responses.get(1).getRequestId(), 2);
+    Assert.assertEquals(responses.get(1).getStatus(), IngestionFrame.STATUS_INTERNAL_ERROR);
+    Assert.assertEquals(responses.get(2).getRequestId(), 3);
+    Assert.assertEquals(responses.get(2).getStatus(), IngestionFrame.STATUS_BAD_REQUEST);
+    Assert.assertEquals(responses.get(3).getRequestId(), 4);
+    Assert.assertEquals(responses.get(3).getPayload(), new byte[] { 4 });
+    Assert.assertTrue(server.isActive());
+  }
+
+  @Test
+  public void testBlockingActionsAreOffloaded() {
+    List<Runnable> offloadedRequests = new ArrayList<>();
+    IngestionFrameRequestHandler handler = new IngestionFrameRequestHandler(
+        (action, content) -> content,
+        EnumSet.of(IngestionAction.COMMAND),
+        offloadedRequests::add);
+    EmbeddedChannel client = createChannel(null);
+    EmbeddedChannel server = createChannel(handler);
+
+    // The heartbeat is answered right away, while the command is still waiting to be processed.
+    List<IngestionFrame> responses = exchange(
+        client,
+        server,
+        new IngestionFrame(1, IngestionAction.COMMAND, IngestionFrame.STATUS_OK, new byte[] { 1 }),
+        new IngestionFrame(2, IngestionAction.HEARTBEAT, IngestionFrame.STATUS_OK, new byte[] { 2 }));
+    Assert.assertEquals(responses.size(), 1);
+    Assert.assertEquals(responses.get(0).getRequestId(), 2);
+
+    Assert.assertEquals(offloadedRequests.size(), 1);
+    offloadedRequests.get(0).run();
+    responses = exchange(client, server);
+    Assert.assertEquals(responses.size(), 1);
+    Assert.assertEquals(responses.get(0).getRequestId(), 1);
+    Assert.assertEquals(responses.get(0).getPayload(), new byte[] { 1 });
+  }
+
+  @Test
+  public void testMalformedFrameClosesConnection() {
+    EmbeddedChannel server =
+        createChannel(new IngestionFrameRequestHandler((action, content) -> content, Collections.emptySet(), null));
+    ByteBuf buf = server.alloc().buffer();
+    // A frame which is shorter than the header.
+    buf.writeInt(2);
+    buf.writeShort(0);
+    server.writeInbound(buf);
+    Assert.assertFalse(server.isOpen());
+  }
+
+  @Test
+  public void testUnknownActionClosesConnection() {
+    EmbeddedChannel server =
+        createChannel(new IngestionFrameRequestHandler((action, content) -> content, Collections.emptySet(), null));
+    ByteBuf buf = server.alloc().buffer();
+    buf.writeInt(Long.BYTES + 2 * Byte.BYTES);
+    buf.writeLong(1);
+    // The actions are sent by their value, and this one doesn't exist.
+    buf.writeByte(IngestionAction.values().length + 1);
+    buf.writeByte(IngestionFrame.STATUS_OK);
+    server.writeInbound(buf);
+    Assert.assertFalse(server.isOpen());
+  }
+}
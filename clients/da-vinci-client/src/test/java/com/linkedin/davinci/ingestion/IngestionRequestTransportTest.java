@@ -0,0 +1,53 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class IngestionRequestTransportTest {
+  @Test
+  public void testSendRequestsAsyncStopsAtFirstFailure() {
+    List<Integer> sentPartitions = new ArrayList<>();
+    IngestionRequestTransport transport = new IngestionRequestTransport(1) {
+      @Override
+      public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+          IngestionAction action,
+          S param,
+          int requestTimeoutInSeconds) {
+        IngestionTaskReport report = (IngestionTaskReport) param;
+        sentPartitions.add(report.partitionId);
+        if (report.partitionId == 1) {
+          throw new VeniceException("Test exception");
+        }
+        return (T) report;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    List<IngestionTaskReport> reports = new ArrayList<>();
+    for (int partitionId = 0; partitionId < 3; partitionId++) {
+      IngestionTaskReport report = new IngestionTaskReport();
+      report.partitionId = partitionId;
+      reports.add(report);
+    }
+    List<CompletableFuture<IngestionTaskReport>> futures =
+        transport.sendRequestsAsync(IngestionAction.REPORT, reports);
+    Assert.assertEquals(futures.size(), 3);
+    Assert.assertEquals(futures.get(0).join().partitionId, 0);
+    Assert.assertTrue(futures.get(1).isCompletedExceptionally());
+    Assert.assertTrue(futures.get(2).isCompletedExceptionally());
+    // The request after the failed one was not sent, so that it can be retried in order.
+    Assert.assertEquals(sentPartitions, Arrays.asList(0, 1));
+  }
+}
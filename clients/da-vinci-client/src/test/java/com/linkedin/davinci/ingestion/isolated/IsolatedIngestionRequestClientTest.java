@@ -30,7 +30,7 @@ public class IsolatedIngestionRequestClientTest {
     when(configLoader.getCombinedProperties()).thenReturn(properties);
     HttpClientTransport transport = mock(HttpClientTransport.class);
     IsolatedIngestionRequestClient client = new IsolatedIngestionRequestClient(configLoader);
-    client.setHttpClientTransport(transport);
+    client.setRequestTransport(transport);
     IngestionTaskReport report = new IngestionTaskReport();
     report.topicName = "topic";
     report.partitionId = 1;
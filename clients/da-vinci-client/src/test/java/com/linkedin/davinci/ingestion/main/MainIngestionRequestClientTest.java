@@ -33,11 +33,11 @@ public class MainIngestionRequestClientTest {
       IngestionTaskReport taskReport = new IngestionTaskReport();
       taskReport.setMessage("TEST MSG");
       when(mockedClientTransport.sendRequestWithRetry(any(), any(), anyInt())).thenReturn(taskReport);
-      client.setHttpClientTransport(mockedClientTransport);
+      client.setRequestTransport(mockedClientTransport);
       Assert.assertFalse(client.startConsumption("dummyTopic", 1));
 
       HttpClientTransport mockedBadClientTransport = Mockito.mock(HttpClientTransport.class);
-      client.setHttpClientTransport(mockedBadClientTransport);
+      client.setRequestTransport(mockedBadClientTransport);
 
       // Ingestion request command should throw exception when failing to send command to forked process.
       when(mockedBadClientTransport.sendRequestWithRetry(any(), any(), anyInt()))
@@ -65,7 +65,7 @@ public class MainIngestionRequestClientTest {
       reportWithExceptionThrow.isPositive = false;
       reportWithExceptionThrow.exceptionThrown = true;
       when(mockTransport.sendRequestWithRetry(any(), any(), anyInt())).thenReturn(reportWithExceptionThrow);
-      ingestionRequestClient.setHttpClientTransport(mockTransport);
+      ingestionRequestClient.setRequestTransport(mockTransport);
       Assert.assertThrows(() -> ingestionRequestClient.startConsumption(topicName, partitionId));
       // Client should return false when isolated process rejects command execution.
       IngestionTaskReport reportWithNegativeResponse = new IngestionTaskReport();
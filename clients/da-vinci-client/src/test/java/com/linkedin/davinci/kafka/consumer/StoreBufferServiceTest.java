@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
@@ -28,10 +29,13 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -228,6 +232,54 @@ public class StoreBufferServiceTest {
     }
   }
 
+  @Test
+  public void testAdaptiveDrainerAssignment() throws Exception {
+    // Any queued record exceeds the reassignment threshold of 100 bytes
+    StoreBufferService bufferService = new StoreBufferService(2, 10000, 1000, true, mockedStats, true, 0.01);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(topic);
+    // Both partitions are hashed to the same drainer
+    int hotPartition = 1;
+    int coldPartition = 3;
+    PubSubTopicPartition hotTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, hotPartition);
+    PubSubTopicPartition coldTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, coldPartition);
+    int hashedDrainerIndex = bufferService.getCurrentDrainerIndex(hotTopicPartition);
+    Assert.assertEquals(bufferService.getCurrentDrainerIndex(coldTopicPartition), hashedDrainerIndex);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> hotRecord1 =
+        new ImmutablePubSubMessage<>(key, value, hotTopicPartition, 0, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> hotRecord2 =
+        new ImmutablePubSubMessage<>(key, value, hotTopicPartition, 1, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> coldRecord =
+        new ImmutablePubSubMessage<>(key, value, coldTopicPartition, 0, 0, 0);
+
+    bufferService.putConsumerRecord(hotRecord1, mockTask, null, hotPartition, kafkaUrl, 0L);
+    // The hot partition still has a pending record, so it stays on its drainer to preserve the ordering
+    bufferService.putConsumerRecord(hotRecord2, mockTask, null, hotPartition, kafkaUrl, 0L);
+    Assert.assertEquals(bufferService.getCurrentDrainerIndex(hotTopicPartition), hashedDrainerIndex);
+    // The idle partition gets moved away from the loaded drainer
+    bufferService.putConsumerRecord(coldRecord, mockTask, null, coldPartition, kafkaUrl, 0L);
+    Assert.assertNotEquals(bufferService.getCurrentDrainerIndex(coldTopicPartition), hashedDrainerIndex);
+    verify(mockedStats).recordWriterReassignment();
+    Assert.assertTrue(bufferService.getMemoryUsageSkewAcrossDrainers() > 0);
+
+    bufferService.start();
+    InOrder inOrder = inOrder(mockTask);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS))
+        .processConsumerRecord(hotRecord1, null, hotPartition, kafkaUrl, 0L);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS))
+        .processConsumerRecord(hotRecord2, null, hotPartition, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(coldRecord, null, coldPartition, kafkaUrl, 0L);
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(hotTopicPartition, 3, 50);
+    // Drained partitions are assigned by hash again
+    TestUtils.waitForNonDeterministicAssertion(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS, () -> {
+      bufferService.internalDrainBufferedRecordsFromTopicPartition(coldTopicPartition, 3, 50);
+      Assert.assertEquals(bufferService.getCurrentDrainerIndex(coldTopicPartition), hashedDrainerIndex);
+    });
+    bufferService.stop();
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowVeniceCheckSumFailException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites, mockedStats);
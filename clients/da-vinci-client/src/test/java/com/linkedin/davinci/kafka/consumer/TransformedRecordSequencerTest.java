@@ -0,0 +1,138 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.TestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TransformedRecordSequencerTest {
+  @Test(timeOut = 60 * 1000)
+  public void testRecordsAreWrittenInOrder() {
+    List<Integer> writtenRecords = Collections.synchronizedList(new ArrayList<>());
+    try (TransformedRecordSequencer sequencer = new TransformedRecordSequencer("test", 4, 10)) {
+      for (int i = 0; i < 100; i++) {
+        int record = i;
+        sequencer.submit(0, key(record), () -> {
+          // The later records are often transformed before the earlier ones
+          sleep(ThreadLocalRandom.current().nextInt(5));
+          return () -> writtenRecords.add(record);
+        });
+        Assert.assertTrue(sequencer.getPendingRecordCount() <= 10);
+      }
+      sequencer.flush(0);
+      Assert.assertEquals(sequencer.getPendingRecordCount(), 0);
+    }
+    Assert.assertEquals(writtenRecords.size(), 100);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals((int) writtenRecords.get(i), i);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testFailedTransformationStopsThePartition() {
+    List<Integer> writtenRecords = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch failureLatch = new CountDownLatch(1);
+    try (TransformedRecordSequencer sequencer = new TransformedRecordSequencer("test", 2, 10)) {
+      sequencer.submit(0, key(0), () -> () -> writtenRecords.add(0));
+      sequencer.submit(0, key(1), () -> {
+        awaitQuietly(failureLatch);
+        throw new VeniceException("Failed to transform record 1");
+      });
+      sequencer.submit(0, key(2), () -> () -> writtenRecords.add(2));
+      sequencer.submit(1, key(10), () -> () -> writtenRecords.add(10));
+      failureLatch.countDown();
+
+      // The records after the failed one are not written, and the partition keeps failing
+      Assert.assertThrows(VeniceException.class, () -> sequencer.flush(0));
+      Assert.assertThrows(VeniceException.class, () -> sequencer.flush(0));
+      Assert.assertThrows(VeniceException.class, () -> sequencer.submit(0, key(3), () -> () -> writtenRecords.add(3)));
+      Assert.assertFalse(writtenRecords.contains(2));
+      Assert.assertFalse(writtenRecords.contains(3));
+
+      // The other partitions are not affected
+      sequencer.flush(1);
+      Assert.assertTrue(writtenRecords.contains(10));
+
+      // The partition can be used again once cleared
+      sequencer.clear(0);
+      sequencer.submit(0, key(4), () -> () -> writtenRecords.add(4));
+      sequencer.flush(0);
+      Assert.assertTrue(writtenRecords.contains(4));
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testRecordsOfTheSameKeyAreTransformedOneAtATime() {
+    List<Integer> transformedRecords = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger concurrentTransformations = new AtomicInteger();
+    AtomicInteger maxConcurrentTransformations = new AtomicInteger();
+    try (TransformedRecordSequencer sequencer = new TransformedRecordSequencer("test", 4, 100)) {
+      for (int i = 0; i < 50; i++) {
+        int record = i;
+        sequencer.submit(0, key(0), () -> {
+          maxConcurrentTransformations.accumulateAndGet(concurrentTransformations.incrementAndGet(), Math::max);
+          sleep(ThreadLocalRandom.current().nextInt(3));
+          transformedRecords.add(record);
+          concurrentTransformations.decrementAndGet();
+          return () -> {};
+        });
+      }
+      sequencer.flush(0);
+    }
+    Assert.assertEquals(maxConcurrentTransformations.get(), 1);
+    for (int i = 0; i < 50; i++) {
+      Assert.assertEquals((int) transformedRecords.get(i), i);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testTransformedRecordsAreWrittenWithoutFurtherRecords() {
+    List<Integer> writtenRecords = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch transformationLatch = new CountDownLatch(1);
+    try (TransformedRecordSequencer sequencer = new TransformedRecordSequencer("test", 2, 10)) {
+      sequencer.submit(0, key(0), () -> {
+        awaitQuietly(transformationLatch);
+        return () -> writtenRecords.add(0);
+      });
+      sequencer.submit(0, key(1), () -> () -> writtenRecords.add(1));
+      Assert.assertTrue(writtenRecords.isEmpty());
+
+      // The records are written once transformed, without waiting for the next record or flush of the partition
+      transformationLatch.countDown();
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(writtenRecords, Arrays.asList(0, 1));
+        Assert.assertEquals(sequencer.getPendingRecordCount(), 0);
+      });
+    }
+  }
+
+  private static byte[] key(int key) {
+    return ("key_" + key).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -40,6 +40,23 @@ public class IngestionStatsTest {
     Assert.assertEquals(ingestionStats.getLeaderStalledHybridIngestion(), 1.0);
   }
 
+  @Test
+  public void testGetZstdDictDriftCompressionRatioGain() {
+    PropertyBuilder builder = new PropertyBuilder();
+    builder.put(CLUSTER_NAME, "testCluster");
+    builder.put(ZOOKEEPER_ADDRESS, "fake");
+    builder.put(KAFKA_BOOTSTRAP_SERVERS, "faker");
+    VeniceProperties veniceProperties = new VeniceProperties(builder.build().toProperties());
+    IngestionStats ingestionStats = new IngestionStats(new VeniceServerConfig(veniceProperties));
+    Assert.assertEquals(ingestionStats.getZstdDictDriftCompressionRatioGain(), 0.0);
+
+    StoreIngestionTask ingestionTask = mock(StoreIngestionTask.class);
+    Mockito.when(ingestionTask.getZstdDictDriftCompressionRatioGain()).thenReturn(1.5);
+    Mockito.when(ingestionTask.isRunning()).thenReturn(true);
+    ingestionStats.setIngestionTask(ingestionTask);
+    Assert.assertEquals(ingestionStats.getZstdDictDriftCompressionRatioGain(), 1.5);
+  }
+
   @Test
   public void testIngestionStatsGauge() {
     AbstractVeniceStatsReporter mockReporter = mock(AbstractVeniceStatsReporter.class);
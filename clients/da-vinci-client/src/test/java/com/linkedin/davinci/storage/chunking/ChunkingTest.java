@@ -1,16 +1,22 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
@@ -23,6 +29,7 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -292,4 +299,35 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+  @Test
+  public void testPrefetchedValueLookupLatencyIsRecordedOnce() {
+    int partition = 1;
+    byte[] serializedValue = "value".getBytes();
+    byte[] valueBytes = ValueRecord.create(SCHEMA_ID, serializedValue).serialize();
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(Collections.singletonList(valueBytes)).when(storageEngine).multiGet(eq(partition), anyList());
+    ReadResponseStats responseStats = mock(ReadResponseStats.class);
+
+    List<byte[]> values = ChunkingUtils.multiGetFromStorage(
+        storageEngine,
+        partition,
+        Collections.singletonList(ByteBuffer.wrap("key".getBytes())),
+        false,
+        responseStats);
+    ByteBuffer value = ChunkingUtils.getFromPrefetchedValue(
+        RawBytesChunkingAdapter.INSTANCE,
+        storageEngine,
+        partition,
+        values.get(0),
+        responseStats,
+        null,
+        null,
+        SCHEMA_ID,
+        RawBytesStoreDeserializerCache.getInstance(),
+        new NoopCompressor());
+
+    Assert.assertEquals(ByteUtils.extractByteArray(value), serializedValue);
+    // Only the batched lookup is recorded, rather than a lookup per prefetched value
+    verify(responseStats, times(1)).addDatabaseLookupLatency(anyLong());
+  }
 }
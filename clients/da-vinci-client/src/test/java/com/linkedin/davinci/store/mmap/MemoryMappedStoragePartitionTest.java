@@ -0,0 +1,194 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class MemoryMappedStoragePartitionTest {
+  private static final String STORE_NAME = Utils.getUniqueString("mmap_store_v1");
+  private static final int PARTITION_ID = 0;
+  // Small segments, so that records get padded at segment boundaries
+  private static final int SEGMENT_SIZE = 256;
+  private static final int KEY_COUNT = 1000;
+
+  private File storeDir;
+
+  @BeforeMethod
+  public void setUp() {
+    storeDir = new File(Utils.getUniqueTempPath("mmap"));
+    storeDir.mkdirs();
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    FileUtils.deleteQuietly(storeDir);
+  }
+
+  private MemoryMappedStoragePartition openPartition() {
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(STORE_NAME, PARTITION_ID);
+    return new MemoryMappedStoragePartition(partitionConfig, storeDir, SEGMENT_SIZE);
+  }
+
+  private static byte[] key(int i) {
+    return ("key_" + i).getBytes();
+  }
+
+  private static byte[] value(int i, int version) {
+    return ("value_" + i + "_" + version).getBytes();
+  }
+
+  @Test
+  public void testLookupsAfterSeal() {
+    MemoryMappedStoragePartition partition = openPartition();
+    partition.beginBatchWrite(Collections.emptyMap(), Optional.empty());
+    for (int i = 0; i < KEY_COUNT; i++) {
+      partition.put(key(i), value(i, 0));
+    }
+    // Overwrite the even keys, and delete the keys which are multiples of 3, except the ones put again afterward
+    for (int i = 0; i < KEY_COUNT; i += 2) {
+      partition.put(key(i), value(i, 1));
+    }
+    for (int i = 0; i < KEY_COUNT; i += 3) {
+      partition.delete(key(i));
+    }
+    for (int i = 0; i < KEY_COUNT; i += 9) {
+      partition.put(key(i), value(i, 2));
+    }
+    Assert.assertNull(partition.get(key(1)), "Records should not be readable before the partition is sealed");
+
+    partition.endBatchWrite();
+    Assert.assertTrue(partition.isSealed());
+    verifyContent(partition);
+    Assert.assertThrows(VeniceException.class, () -> partition.put(key(1), value(1, 3)));
+    partition.close();
+
+    // The sealed file is served as is after a restart
+    MemoryMappedStoragePartition reopenedPartition = openPartition();
+    Assert.assertTrue(reopenedPartition.isSealed());
+    verifyContent(reopenedPartition);
+    reopenedPartition.drop();
+    Assert.assertEquals(storeDir.list().length, 0);
+  }
+
+  private static byte[] expectedValue(int i) {
+    if (i % 9 == 0) {
+      return value(i, 2);
+    } else if (i % 3 == 0) {
+      return null;
+    } else if (i % 2 == 0) {
+      return value(i, 1);
+    }
+    return value(i, 0);
+  }
+
+  private static void verifyContent(MemoryMappedStoragePartition partition) {
+    int expectedKeyCount = 0;
+    for (int i = 0; i < KEY_COUNT; i++) {
+      byte[] expectedValue = expectedValue(i);
+      Assert.assertEquals(partition.get(key(i)), expectedValue, "Unexpected value for key: " + i);
+      ByteBuf value = partition.get(ByteBuffer.wrap(key(i)), ByteBufAllocator.DEFAULT);
+      if (expectedValue == null) {
+        Assert.assertNull(value);
+      } else {
+        expectedKeyCount++;
+        Assert.assertEquals(ByteBufUtil.getBytes(value), expectedValue);
+        value.release();
+      }
+    }
+    Assert.assertNull(partition.get(key(KEY_COUNT)));
+    Assert.assertNull(partition.get("missing".getBytes()));
+
+    AtomicInteger keyCount = new AtomicInteger();
+    partition.getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        keyCount.incrementAndGet();
+        Assert.assertEquals(value, partition.get(key));
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    Assert.assertEquals(keyCount.get(), expectedKeyCount);
+  }
+
+  @Test
+  public void testResumeFromCheckpoint() {
+    MemoryMappedStoragePartition partition = openPartition();
+    partition.beginBatchWrite(Collections.emptyMap(), Optional.empty());
+    for (int i = 0; i < KEY_COUNT / 2; i++) {
+      partition.put(key(i), value(i, 0));
+    }
+    Map<String, String> checkpointedInfo = partition.sync();
+    // Records written after the checkpoint are dropped, and consumed again after the restart
+    partition.put(key(KEY_COUNT), value(KEY_COUNT, 0));
+    partition.close();
+
+    MemoryMappedStoragePartition reopenedPartition = openPartition();
+    Assert.assertTrue(reopenedPartition.checkDatabaseIntegrity(checkpointedInfo));
+    reopenedPartition.beginBatchWrite(checkpointedInfo, Optional.empty());
+    for (int i = KEY_COUNT / 2; i < KEY_COUNT; i++) {
+      reopenedPartition.put(key(i), value(i, 0));
+    }
+    reopenedPartition.endBatchWrite();
+    for (int i = 0; i < KEY_COUNT; i++) {
+      Assert.assertEquals(reopenedPartition.get(key(i)), value(i, 0));
+    }
+    Assert.assertNull(reopenedPartition.get(key(KEY_COUNT)));
+    reopenedPartition.drop();
+  }
+
+  @Test
+  public void testCheckDatabaseIntegrityWithTruncatedLog() {
+    MemoryMappedStoragePartition partition = openPartition();
+    partition.beginBatchWrite(Collections.emptyMap(), Optional.empty());
+    partition.put(key(0), value(0, 0));
+    Map<String, String> checkpointedInfo = partition.sync();
+    partition.drop();
+
+    MemoryMappedStoragePartition reopenedPartition = openPartition();
+    Assert.assertFalse(reopenedPartition.checkDatabaseIntegrity(checkpointedInfo));
+    Assert.assertTrue(reopenedPartition.checkDatabaseIntegrity(Collections.emptyMap()));
+    reopenedPartition.beginBatchWrite(Collections.emptyMap(), Optional.empty());
+    reopenedPartition.endBatchWrite();
+    Assert.assertNull(reopenedPartition.get(key(0)));
+    Assert.assertEquals(reopenedPartition.sync(), Collections.emptyMap());
+    reopenedPartition.drop();
+  }
+
+  @Test
+  public void testMetadataPartitionReplaysItsLog() {
+    StoragePartitionConfig metadataPartitionConfig = new StoragePartitionConfig(STORE_NAME, 1000_000_000);
+    MemoryMappedMetadataPartition partition = new MemoryMappedMetadataPartition(metadataPartitionConfig, storeDir);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      partition.put(key(i % 10), value(i, 0));
+    }
+    partition.delete(key(0));
+    partition.close();
+
+    MemoryMappedMetadataPartition reopenedPartition =
+        new MemoryMappedMetadataPartition(metadataPartitionConfig, storeDir);
+    Assert.assertNull(reopenedPartition.get(key(0)));
+    for (int i = 1; i < 10; i++) {
+      Assert.assertEquals(reopenedPartition.get(key(i)), value(KEY_COUNT - 10 + i, 0));
+    }
+    reopenedPartition.drop();
+  }
+}
@@ -0,0 +1,135 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PartitionKeyFilterTest {
+  private static byte[] key(String prefix, int i) {
+    return (prefix + i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testAddedKeysAreAlwaysFound() {
+    PartitionKeyFilter filter = new PartitionKeyFilter(10, 1000);
+    for (int i = 0; i < 100_000; i++) {
+      filter.add(key("key_", i));
+    }
+    // The filter grows beyond its initial capacity, without ever losing a key
+    Assert.assertTrue(filter.getStageCount() > 1);
+    for (int i = 0; i < 100_000; i++) {
+      Assert.assertTrue(filter.mightContain(key("key_", i)));
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain(key("missing_key_", i))) {
+        falsePositives++;
+      }
+    }
+    double falsePositiveRate = falsePositives / 100_000.0;
+    Assert.assertTrue(falsePositiveRate < 0.05, "Unexpected false positive rate: " + falsePositiveRate);
+    Assert.assertTrue(filter.getFalsePositiveRate() > 0);
+    Assert.assertTrue(filter.getFalsePositiveRate() < 0.05);
+    Assert.assertTrue(filter.getMemoryUsageInBytes() > 0);
+  }
+
+  @Test
+  public void testUpdatesDoNotGrowTheFilter() {
+    PartitionKeyFilter filter = new PartitionKeyFilter(10, 1000);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 900; i++) {
+        filter.add(key("key_", i));
+      }
+    }
+    Assert.assertEquals(filter.getStageCount(), 1);
+  }
+
+  @Test
+  public void testHeapAndDirectKeysMatch() {
+    PartitionKeyFilter filter = new PartitionKeyFilter(10, 1000);
+    byte[] keyBytes = key("key_", 1);
+    filter.add(keyBytes);
+
+    ByteBuffer directKey = ByteBuffer.allocateDirect(keyBytes.length + 2);
+    directKey.put((byte) 0).put(keyBytes).put((byte) 0);
+    directKey.position(1).limit(keyBytes.length + 1);
+    Assert.assertTrue(filter.mightContain(directKey));
+    Assert.assertEquals(directKey.position(), 1);
+    Assert.assertEquals(PartitionKeyFilter.hash(directKey), PartitionKeyFilter.hash(ByteBuffer.wrap(keyBytes)));
+  }
+
+  @Test
+  public void testPersistence() throws IOException {
+    File dir = Utils.getTempDataDirectory();
+    try {
+      Assert.assertNull(PartitionKeyFilter.readFrom(dir));
+
+      PartitionKeyFilter filter = new PartitionKeyFilter(10, 1000);
+      for (int i = 0; i < 5000; i++) {
+        filter.add(key("key_", i));
+      }
+      // The first call writes a snapshot, and the following ones append the new keys to the journal
+      filter.persistTo(dir);
+      Assert.assertTrue(new File(dir, PartitionKeyFilter.FILE_NAME).exists());
+      Assert.assertFalse(new File(dir, PartitionKeyFilter.JOURNAL_FILE_NAME).exists());
+      for (int i = 5000; i < 5100; i++) {
+        filter.add(key("key_", i));
+      }
+      filter.persistTo(dir);
+      Assert.assertEquals(new File(dir, PartitionKeyFilter.JOURNAL_FILE_NAME).length(), 100 * Long.BYTES);
+
+      PartitionKeyFilter loadedFilter = PartitionKeyFilter.readFrom(dir);
+      Assert.assertNotNull(loadedFilter);
+      Assert.assertEquals(loadedFilter.getStageCount(), filter.getStageCount());
+      for (int i = 0; i < 5100; i++) {
+        Assert.assertTrue(loadedFilter.mightContain(key("key_", i)));
+      }
+
+      // Once the journal outgrows the snapshot, the snapshot replaces it
+      for (int i = 5100; i < 50_000; i++) {
+        loadedFilter.add(key("key_", i));
+      }
+      loadedFilter.persistTo(dir);
+      Assert.assertFalse(new File(dir, PartitionKeyFilter.JOURNAL_FILE_NAME).exists());
+      PartitionKeyFilter reloadedFilter = PartitionKeyFilter.readFrom(dir);
+      for (int i = 0; i < 50_000; i++) {
+        Assert.assertTrue(reloadedFilter.mightContain(key("key_", i)));
+      }
+
+      PartitionKeyFilter.deleteFrom(dir);
+      Assert.assertNull(PartitionKeyFilter.readFrom(dir));
+    } finally {
+      PartitionKeyFilter.deleteFrom(dir);
+      dir.delete();
+    }
+  }
+
+  @Test
+  public void testCorruptedFilter() throws IOException {
+    File dir = Utils.getTempDataDirectory();
+    try {
+      PartitionKeyFilter filter = new PartitionKeyFilter(10, 1000);
+      filter.add(key("key_", 0));
+      filter.persistTo(dir);
+      try (RandomAccessFile file = new RandomAccessFile(new File(dir, PartitionKeyFilter.FILE_NAME), "rw")) {
+        file.setLength(file.length() / 2);
+      }
+      Assert.assertThrows(IOException.class, () -> PartitionKeyFilter.readFrom(dir));
+
+      // A journal without snapshot can not be trusted either
+      PartitionKeyFilter.deleteFrom(dir);
+      Assert.assertTrue(new File(dir, PartitionKeyFilter.JOURNAL_FILE_NAME).createNewFile());
+      Assert.assertThrows(IOException.class, () -> PartitionKeyFilter.readFrom(dir));
+    } finally {
+      PartitionKeyFilter.deleteFrom(dir);
+      dir.delete();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
@@ -11,6 +12,8 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
@@ -385,6 +388,60 @@ public class RocksDBSstFileWriterTest {
     }
   }
 
+  @Test
+  public void testSyncWithParallelShards() throws IOException, RocksDBException {
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_SST_FILE_WRITER_PARALLELISM, 2)
+            .put(RocksDBServerConfig.ROCKSDB_SST_FILE_WRITER_SHARD_SIZE_IN_BYTES, 100)
+            .build());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          rocksDBServerConfig,
+          executor);
+      Map<String, String> checkpointedInfo = new HashMap<>();
+
+      // Checkpoint that 1 sst file should be found
+      checkpointedInfo.put(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum(), "0");
+      createSstFiles(1);
+
+      CheckSum expectedCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+      rocksDBSstFileWriter.open(checkpointedInfo, Optional.of(expectedCheckSum::getCheckSum));
+      // Each record is 20 bytes, so a shard gets submitted every 5 records
+      for (int i = 0; i < 50; i++) {
+        byte[] key = String.format("key_%06d", i).getBytes();
+        byte[] value = String.format("value_%04d", i).getBytes();
+        expectedCheckSum.update(key);
+        expectedCheckSum.update(value);
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(value));
+      }
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+
+      // Files 1 to 10 hold consecutive key ranges, and are all checkpointed
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "10");
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 11);
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 50);
+
+      // Nothing new to sync
+      checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "10");
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      executor.shutdownNow();
+      deleteTempDatabaseDir();
+    }
+  }
+
   private String getTempDatabaseDir() {
     File storeDir = new File(DB_DIR).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
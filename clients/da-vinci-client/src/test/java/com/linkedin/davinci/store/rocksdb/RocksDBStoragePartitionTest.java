@@ -10,6 +10,7 @@ import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertFalse;
 
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
@@ -22,10 +23,14 @@ import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -36,6 +41,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -952,4 +963,373 @@ public class RocksDBStoragePartitionTest {
     }
     removeDir(storeDir);
   }
+
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testConcurrentWrite(boolean pipelinedWriteEnabled) throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    properties.put(ROCKSDB_PIPELINED_WRITE_ENABLED, Boolean.toString(pipelinedWriteEnabled));
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    int writerCnt = 4;
+    int recordCntPerWriter = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(writerCnt);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < writerCnt; ++w) {
+        final int writerId = w;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < recordCntPerWriter; ++i) {
+            String key = KEY_PREFIX + writerId + "_" + i;
+            storagePartition.put(key.getBytes(), (VALUE_PREFIX + i).getBytes());
+            if (i % 10 == 0) {
+              storagePartition.delete(key.getBytes());
+            }
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+      storagePartition.sync();
+
+      for (int w = 0; w < writerCnt; ++w) {
+        for (int i = 0; i < recordCntPerWriter; ++i) {
+          byte[] value = storagePartition.get((KEY_PREFIX + w + "_" + i).getBytes());
+          if (i % 10 == 0) {
+            Assert.assertNull(value);
+          } else {
+            Assert.assertEquals(new String(value), VALUE_PREFIX + i);
+          }
+        }
+      }
+
+      storagePartition.close();
+      Assert.assertThrows(VeniceException.class, () -> storagePartition.put("key".getBytes(), "value".getBytes()));
+    } finally {
+      executor.shutdownNow();
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  @Test
+  public void testGetIntoDirectBuffer() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    try {
+      // Values larger than the initial size of the direct buffers need a second read
+      Map<String, String> inputRecords = generateInput(100, false, 4096);
+      inputRecords.put(KEY_PREFIX + "small", VALUE_PREFIX + "small");
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+      }
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        ByteBuf value = storagePartition
+            .get(ByteBuffer.wrap(entry.getKey().getBytes()), PooledByteBufAllocator.DEFAULT);
+        try {
+          Assert.assertTrue(value.isDirect());
+          Assert.assertEquals(new String(ByteBufUtil.getBytes(value)), entry.getValue());
+        } finally {
+          value.release();
+        }
+      }
+      Assert.assertNull(
+          storagePartition.get(ByteBuffer.wrap((KEY_PREFIX + "missing").getBytes()), PooledByteBufAllocator.DEFAULT));
+    } finally {
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  @Test
+  public void testKeyFilter() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_KEY_FILTER_ENABLED, "true");
+    properties.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    Supplier<RocksDBStoragePartition> partitionSupplier = () -> new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+    File partitionDir = new File(RocksDBUtils.composePartitionDbDir(DATA_BASE_DIR, storeName, partitionId));
+    byte[] missingKey = (KEY_PREFIX + "missing").getBytes();
+
+    RocksDBStoragePartition storagePartition = partitionSupplier.get();
+    try {
+      // A new partition starts with an empty filter, which filters out all the keys
+      Assert.assertTrue(storagePartition.getKeyFilterMemoryUsageInBytes() > 0);
+      Assert.assertNull(storagePartition.get(missingKey));
+
+      int writerCnt = 4;
+      Map<String, String> inputRecords = generateInput(1000, false, 0);
+      List<Map.Entry<String, String>> entries = new ArrayList<>(inputRecords.entrySet());
+      RocksDBStoragePartition writtenPartition = storagePartition;
+      ExecutorService executor = Executors.newFixedThreadPool(writerCnt);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writerCnt; ++w) {
+          final int writerId = w;
+          futures.add(executor.submit(() -> {
+            for (int i = writerId; i < entries.size(); i += writerCnt) {
+              writtenPartition.put(entries.get(i).getKey().getBytes(), entries.get(i).getValue().getBytes());
+            }
+          }));
+        }
+        for (Future<?> future: futures) {
+          future.get(60, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+      verifyKeyFilteredPartition(storagePartition, inputRecords, missingKey);
+
+      // The filter is kept in memory across a reopen
+      storagePartition.reopen();
+      verifyKeyFilteredPartition(storagePartition, inputRecords, missingKey);
+
+      // The filter is persisted on close, and loaded along with the data
+      storagePartition.close();
+      Assert.assertTrue(new File(partitionDir, PartitionKeyFilter.FILE_NAME).exists());
+      storagePartition = partitionSupplier.get();
+      Assert.assertTrue(storagePartition.getKeyFilterMemoryUsageInBytes() > 0);
+      verifyKeyFilteredPartition(storagePartition, inputRecords, missingKey);
+
+      // A partition with data but without persisted filter can't trust an empty filter, so it is opened without one
+      storagePartition.close();
+      PartitionKeyFilter.deleteFrom(partitionDir);
+      storagePartition = partitionSupplier.get();
+      Assert.assertEquals(storagePartition.getKeyFilterMemoryUsageInBytes(), 0);
+      verifyKeyFilteredPartition(storagePartition, inputRecords, missingKey);
+      storagePartition.close();
+      Assert.assertFalse(new File(partitionDir, PartitionKeyFilter.FILE_NAME).exists());
+    } finally {
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  private void verifyKeyFilteredPartition(
+      RocksDBStoragePartition storagePartition,
+      Map<String, String> inputRecords,
+      byte[] missingKey) {
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      Assert.assertEquals(new String(storagePartition.get(entry.getKey().getBytes())), entry.getValue());
+    }
+    Assert.assertNull(storagePartition.get(missingKey));
+  }
+
+  @Test
+  public void testGetByKeyRange() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    try {
+      Map<String, String> inputRecords = generateInput(100, true, 0);
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+      }
+      List<String> sortedKeys = new ArrayList<>(inputRecords.keySet());
+      String startKey = sortedKeys.get(10);
+      String endKey = sortedKeys.get(20);
+
+      // The start key is inclusive and the end key is exclusive
+      List<String> scannedKeys = new ArrayList<>();
+      boolean[] completed = new boolean[1];
+      BytesStreamingCallback callback = new BytesStreamingCallback() {
+        @Override
+        public void onRecordReceived(byte[] key, byte[] value) {
+          Assert.assertEquals(new String(value), inputRecords.get(new String(key)));
+          scannedKeys.add(new String(key));
+        }
+
+        @Override
+        public void onCompletion() {
+          completed[0] = true;
+        }
+      };
+      storagePartition.getByKeyRange(startKey.getBytes(), endKey.getBytes(), callback);
+      Assert.assertTrue(completed[0]);
+      Assert.assertEquals(scannedKeys, sortedKeys.subList(10, 20));
+
+      // Unbounded ranges scan to the ends of the partition
+      scannedKeys.clear();
+      storagePartition.getByKeyRange(startKey.getBytes(), null, callback);
+      Assert.assertEquals(scannedKeys, sortedKeys.subList(10, sortedKeys.size()));
+      scannedKeys.clear();
+      storagePartition.getByKeyRange(null, null, callback);
+      Assert.assertEquals(scannedKeys, sortedKeys);
+    } finally {
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  @Test
+  public void testGetByKeyRangeDoesNotHoldOffReopenAndClose() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      // More records than a single batch of the scan
+      Map<String, String> inputRecords = generateInput(2500, true, 0);
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+      }
+      List<String> sortedKeys = new ArrayList<>(inputRecords.keySet());
+
+      // The database can be reopened while the callback blocks the scan, which then goes on from the reopened one
+      List<String> scannedKeys = new ArrayList<>();
+      CountDownLatch firstRecordReceived = new CountDownLatch(1);
+      CountDownLatch resumeScan = new CountDownLatch(1);
+      Future<?> scan = executor.submit(
+          () -> storagePartition
+              .getByKeyRange(null, null, getBlockingCallback(scannedKeys, firstRecordReceived, resumeScan)));
+      Assert.assertTrue(firstRecordReceived.await(30, TimeUnit.SECONDS));
+      storagePartition.reopen();
+      resumeScan.countDown();
+      scan.get(30, TimeUnit.SECONDS);
+      Assert.assertEquals(scannedKeys, sortedKeys);
+
+      // The database can be closed while the callback blocks the scan, which then fails at its next batch
+      scannedKeys.clear();
+      CountDownLatch firstRecordReceivedBeforeClose = new CountDownLatch(1);
+      CountDownLatch resumeScanAfterClose = new CountDownLatch(1);
+      scan = executor.submit(
+          () -> storagePartition.getByKeyRange(
+              null,
+              null,
+              getBlockingCallback(scannedKeys, firstRecordReceivedBeforeClose, resumeScanAfterClose)));
+      Assert.assertTrue(firstRecordReceivedBeforeClose.await(30, TimeUnit.SECONDS));
+      storagePartition.close();
+      resumeScanAfterClose.countDown();
+      try {
+        scan.get(30, TimeUnit.SECONDS);
+        Assert.fail("The scan should fail once the partition is closed");
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof VeniceException);
+      }
+      Assert.assertTrue(scannedKeys.size() < sortedKeys.size());
+      Assert.assertEquals(scannedKeys, sortedKeys.subList(0, scannedKeys.size()));
+    } finally {
+      executor.shutdownNow();
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  /**
+   * Returns a callback which collects the scanned keys, and blocks on the first of them until the scan is resumed.
+   */
+  private BytesStreamingCallback getBlockingCallback(
+      List<String> scannedKeys,
+      CountDownLatch firstRecordReceived,
+      CountDownLatch resumeScan) {
+    return new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        scannedKeys.add(new String(key));
+        if (scannedKeys.size() == 1) {
+          firstRecordReceived.countDown();
+          try {
+            resumeScan.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VeniceException(e);
+          }
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    };
+  }
 }
@@ -0,0 +1,164 @@
+package com.linkedin.venice.fastclient;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+
+
+/**
+ * This class adds an optional near cache for single-get requests on top of Layer 2 or Layer 1, so that the lookups of
+ * the hot keys don't need to go over the network every time:
+ * 1. The entries are keyed by the current version of the store, so a new version being swapped in will never be
+ *    served with the values of the previous one, and the entries of the previous version are evicted over time.
+ * 2. The entries expire after {@link ClientConfig#getNearCacheTtlInMs()}, which bounds the staleness of the values
+ *    for hybrid stores, and the cache holds at most {@link ClientConfig#getNearCacheMaxEntryCount()} entries.
+ * 3. The concurrent requests for a key which is not cached yet are coalesced, and only the first one is sent to the
+ *    backend, while the others wait for its response.
+ * 4. The missing keys and the failed requests are not cached.
+ * 5. The entries are keyed by the serialized key, so the callers can't affect the cache by modifying their key after
+ *    the request, and equal keys of different instances (e.g. {@link String} and {@link org.apache.avro.util.Utf8})
+ *    share the same entry.
+ *
+ * The cache keeps its own copy of the Avro records, and each caller receives a separate copy, so that the callers can
+ * modify the records they get. The other values are shared by all the callers, so they should not be modified.
+ */
+public class CachingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private final StoreMetadata metadata;
+  private final AsyncCache<Pair<Integer, ByteBuffer>, V> cache;
+  private final FastClientStats clientStatsForSingleGet;
+  private final boolean isVsonStore;
+  private volatile RecordSerializer<K> keySerializer;
+
+  public CachingAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata) {
+    this(delegate, clientConfig, metadata, SystemTime.INSTANCE);
+  }
+
+  CachingAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata,
+      Time time) {
+    super(delegate, clientConfig);
+    if (!clientConfig.isNearCacheEnabled()) {
+      throw new VeniceClientException("Near cache is not enabled");
+    }
+    this.metadata = metadata;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(clientConfig.getNearCacheMaxEntryCount())
+        .expireAfterWrite(clientConfig.getNearCacheTtlInMs(), TimeUnit.MILLISECONDS)
+        .ticker(time::getNanoseconds)
+        .buildAsync();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.isVsonStore = clientConfig.isVsonStore();
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    int currentVersion = metadata.getCurrentStoreVersion();
+    if (currentVersion <= 0) {
+      // Let the inner layers fail the request
+      return super.get(requestContext, key);
+    }
+    Pair<Integer, ByteBuffer> cacheKey = new Pair<>(currentVersion, ByteBuffer.wrap(getKeySerializer().serialize(key)));
+    CompletableFuture<V> cachedFuture = cache.getIfPresent(cacheKey);
+    if (cachedFuture == null) {
+      CompletableFuture<V> valueFuture = new CompletableFuture<>();
+      cachedFuture = cache.asMap().putIfAbsent(cacheKey, valueFuture);
+      if (cachedFuture == null) {
+        /**
+         * The entry is removed by the cache once the future completes exceptionally or with a null value, and the
+         * next request will be sent to the backend again.
+         */
+        CompletableFuture<V> innerFuture;
+        try {
+          innerFuture = super.get(requestContext, key);
+        } catch (RuntimeException e) {
+          // The pending entry would never expire otherwise
+          valueFuture.completeExceptionally(e);
+          throw e;
+        }
+        innerFuture.whenComplete((value, throwable) -> {
+          if (throwable != null) {
+            valueFuture.completeExceptionally(throwable);
+          } else {
+            // The first caller receives the original value, which it may modify
+            valueFuture.complete(copyValue(value));
+          }
+        });
+        return innerFuture;
+      }
+    }
+
+    if (cachedFuture.isDone()) {
+      clientStatsForSingleGet.recordNearCacheHitRequest();
+    } else {
+      clientStatsForSingleGet.recordNearCacheCoalescedRequest();
+    }
+    CompletableFuture<V> resultFuture = new CompletableFuture<>();
+    cachedFuture.whenComplete((value, throwable) -> {
+      if (throwable != null) {
+        resultFuture.completeExceptionally(throwable);
+        return;
+      }
+      if (value != null) {
+        requestContext.successRequestKeyCount.incrementAndGet();
+      }
+      resultFuture.complete(copyValue(value));
+    });
+    return resultFuture;
+  }
+
+  private RecordSerializer<K> getKeySerializer() {
+    // The key schema is only available once the client is started
+    RecordSerializer<K> serializer = keySerializer;
+    if (serializer == null) {
+      Schema keySchema = getKeySchema();
+      if (isVsonStore) {
+        serializer = SerializerDeserializerFactory.getVsonSerializer(keySchema);
+      } else {
+        serializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema);
+      }
+      keySerializer = serializer;
+    }
+    return serializer;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V copyValue(V value) {
+    if (value instanceof SpecificRecord) {
+      return (V) SpecificData.get().deepCopy(((SpecificRecord) value).getSchema(), value);
+    }
+    if (value instanceof GenericContainer) {
+      return (V) GenericData.get().deepCopy(((GenericContainer) value).getSchema(), value);
+    }
+    if (value instanceof ByteBuffer) {
+      // The position and the limit of each caller's buffer are independent
+      return (V) ((ByteBuffer) value).duplicate();
+    }
+    return value;
+  }
+
+  long getCachedEntryCount() {
+    return cache.synchronous().estimatedSize();
+  }
+}
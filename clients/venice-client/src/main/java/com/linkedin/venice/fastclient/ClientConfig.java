@@ -91,6 +91,17 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * retry budget for the next minute and so on.
    */
   private final long longTailRetryBudgetEnforcementWindowInMs;
+  /**
+   * When positive, the long tail retry thresholds follow this percentile of the latency of the requests, and the
+   * configured thresholds are only used until enough latencies are recorded.
+   */
+  private final double longTailRetryThresholdPercentile;
+  /**
+   * For the near cache of single-get requests, which is disabled when the max entry count is not positive.
+   * Please check {@link CachingAvroGenericStoreClient} to find more details.
+   */
+  private final long nearCacheMaxEntryCount;
+  private final long nearCacheTtlInMs;
 
   private boolean projectionFieldValidation;
   private Set<String> harClusters;
@@ -132,6 +143,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       GrpcClientConfig grpcClientConfig,
       boolean projectionFieldValidation,
       long longTailRetryBudgetEnforcementWindowInMs,
+      double longTailRetryThresholdPercentile,
+      long nearCacheMaxEntryCount,
+      long nearCacheTtlInMs,
       Set<String> harClusters) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
@@ -262,6 +276,17 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.projectionFieldValidation = projectionFieldValidation;
     this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+    if (longTailRetryThresholdPercentile < 0 || longTailRetryThresholdPercentile > 100) {
+      throw new VeniceClientException(
+          "longTailRetryThresholdPercentile must be between 0 and 100, but got: " + longTailRetryThresholdPercentile);
+    }
+    this.longTailRetryThresholdPercentile = longTailRetryThresholdPercentile;
+    if (nearCacheMaxEntryCount > 0 && nearCacheTtlInMs <= 0) {
+      throw new VeniceClientException(
+          "nearCacheTtlInMs must be positive when the near cache is enabled, but got: " + nearCacheTtlInMs);
+    }
+    this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+    this.nearCacheTtlInMs = nearCacheTtlInMs;
     this.harClusters = harClusters;
   }
 
@@ -406,6 +431,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryBudgetEnforcementWindowInMs;
   }
 
+  public double getLongTailRetryThresholdPercentile() {
+    return longTailRetryThresholdPercentile;
+  }
+
+  public boolean isNearCacheEnabled() {
+    return nearCacheMaxEntryCount > 0;
+  }
+
+  public long getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
   public Set<String> getHarClusters() {
     return Collections.unmodifiableSet(harClusters);
   }
@@ -461,6 +502,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     private long longTailRetryBudgetEnforcementWindowInMs = 60000; // 1 minute
 
+    private double longTailRetryThresholdPercentile = 0; // static thresholds
+
+    private long nearCacheMaxEntryCount = 0; // disabled
+    private long nearCacheTtlInMs = 1000; // 1 second
+
     private Set<String> harClusters = Collections.EMPTY_SET;
 
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
@@ -651,6 +697,26 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setLongTailRetryThresholdPercentile(double longTailRetryThresholdPercentile) {
+      this.longTailRetryThresholdPercentile = longTailRetryThresholdPercentile;
+      return this;
+    }
+
+    /**
+     * Enables the near cache for single-get requests when positive. Each caller receives its own copy of the cached
+     * Avro records, but the other cached values (e.g. {@link org.apache.avro.util.Utf8}) are shared, so they should not
+     * be modified. See {@link CachingAvroGenericStoreClient}.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxEntryCount(long nearCacheMaxEntryCount) {
+      this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setHARClusters(Set<String> clusters) {
       this.harClusters = clusters;
       return this;
@@ -692,6 +758,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setGrpcClientConfig(grpcClientConfig)
           .setProjectionFieldValidationEnabled(projectionFieldValidation)
           .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs)
+          .setLongTailRetryThresholdPercentile(longTailRetryThresholdPercentile)
+          .setNearCacheMaxEntryCount(nearCacheMaxEntryCount)
+          .setNearCacheTtlInMs(nearCacheTtlInMs)
           .setHARClusters(harClusters);
     }
 
@@ -731,6 +800,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           grpcClientConfig,
           projectionFieldValidation,
           longTailRetryBudgetEnforcementWindowInMs,
+          longTailRetryThresholdPercentile,
+          nearCacheMaxEntryCount,
+          nearCacheTtlInMs,
           harClusters);
     }
   }
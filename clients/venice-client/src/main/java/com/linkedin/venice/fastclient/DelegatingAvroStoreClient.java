@@ -50,13 +50,18 @@ import org.apache.avro.Schema;
  *
  * <br><br>
  * Layer 3:<br>
- * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2 or
- * Layer 1. There is no option to disable it, but if needed, can be disabled.
+ * {@link CachingAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an optional near cache for
+ * single-get requests on top of Layer 2 or Layer 1
  *
  * <br><br>
  * Layer 4:<br>
+ * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 3,
+ * Layer 2 or Layer 1. There is no option to disable it, but if needed, can be disabled.
+ *
+ * <br><br>
+ * Layer 5:<br>
  * {@link DualReadAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an extra read via thin
- * client on top of Layer 3.
+ * client on top of Layer 4.
  *
  * <br><br>
  * utils class:<br>
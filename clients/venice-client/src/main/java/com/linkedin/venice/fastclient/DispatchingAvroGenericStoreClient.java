@@ -6,17 +6,19 @@ import static org.apache.hc.core5.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 
-import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.store.AbstractAvroStoreClient;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.ComputeRecordStreamDecoder;
+import com.linkedin.venice.client.store.streaming.MultiGetRecordStreamDecoder;
+import com.linkedin.venice.client.store.streaming.RecordStreamDecoder;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.TrackingStreamingCallback;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
@@ -45,7 +47,6 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,10 +57,11 @@ import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.ByteBufferOptimizedBinaryDecoder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -370,24 +372,24 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         composeRouteForBatchGetRequest(requestContext),
         RequestHeadersProvider.getStreamingBatchGetHeaders(keys.size()),
         this::serializeMultiGetRequest,
-        (MultiKeyStreamingRouteResponseHandler<K>) (
+        BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE,
+        (MultiKeyStreamingRouteResponseDecoderProvider<K>) (
             keysForRoutes,
-            response,
-            throwable) -> batchGetTransportRequestCompletionHandler(requestContext, response, throwable, callback));
+            response) -> getBatchGetDecoderForRoute(requestContext, keysForRoutes, response, callback));
   }
 
-  private interface MultiKeyStreamingRouteResponseHandler<K> {
+  private interface MultiKeyStreamingRouteResponseDecoderProvider<K> {
     /**
-     * Multi-key requests might be routed to different server hosts and this class offers a way to handle the response
-     * per route, and it is responsible for:
-     * 1. Marking the original {@link RequestContext} as completed (successfully or exceptionally).
-     * 2. Completing the {@link TransportClientResponseForRoute#getRouteRequestFuture()} with appropriate HTTP status
+     * Multi-key requests might be routed to different server hosts and this class offers a way to decode the response
+     * per route while it is being received, and the returned decoder is responsible for:
+     * 1. Invoking {@link StreamingCallback#onRecordReceived(Object, Object)} for each key of the route.
+     * 2. Marking the original {@link RequestContext} as completed (successfully or exceptionally).
+     * 3. Completing the {@link TransportClientResponseForRoute#getRouteRequestFuture()} with appropriate HTTP status
      * codes for that route after the response has been processed completely. (200 and 404 are considered SUCCESS).
      */
-    void handle(
+    RecordStreamDecoder getDecoder(
         List<MultiKeyRequestContext.KeyInfo<K>> keysForRoutes,
-        TransportClientResponseForRoute transportClientResponse,
-        Throwable exception);
+        TransportClientResponseForRoute transportClientResponse);
   }
 
   /**
@@ -401,8 +403,10 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
    * @param routeForMultiKeyRequest The endpoint on the servers that the POST request will be sent to
    * @param requestHeaders The headers to be sent with the request
    * @param requestSerializer The function that serializes the request from a list of keys to a byte array. This will form the body of the request.
-   * @param routeResponseHandler The callback is invoked whenever a response is received from the internal transport.
-   *                             It is responsible for invoking {@link StreamingCallback#onRecordReceived(Object, Object)}
+   * @param transportExceptionFilterMessage The message used to filter the redundant logging of transport exceptions.
+   * @param routeResponseDecoderProvider The provider of the decoder for the response of each route, which is fed with
+   *                             the response chunks as they are received from the internal transport. The decoder is
+   *                             responsible for invoking {@link StreamingCallback#onRecordReceived(Object, Object)}
    *                             on the {@param callback} function for each key, marking the {@param requestContext} as
    *                             completed, and for completing the {@link TransportClientResponseForRoute#getRouteRequestFuture()} for that route.
    */
@@ -414,7 +418,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       String routeForMultiKeyRequest,
       Map<String, String> requestHeaders,
       Function<List<MultiKeyRequestContext.KeyInfo<K>>, byte[]> requestSerializer,
-      MultiKeyStreamingRouteResponseHandler routeResponseHandler) {
+      String transportExceptionFilterMessage,
+      MultiKeyStreamingRouteResponseDecoderProvider routeResponseDecoderProvider) {
     verifyMetadataInitialized();
     int keyCnt = keys.size();
     if (keyCnt > metadata.getBatchGetLimit()) {
@@ -475,19 +480,30 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       byte[] serializedRequest = requestSerializer.apply(keysForRoutes);
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(nanoTsBeforeSerialization));
       requestContext.recordRequestSentTimeStamp(route);
-      CompletableFuture<TransportClientResponse> transportClientFutureForRoute =
-          transportClient.post(url, requestHeaders, serializedRequest);
+      /**
+       * This future completes once the response of the route is fully received, and it could also be completed
+       * exceptionally by {@link StoreMetadata#trackHealthBasedOnRequestToInstance} if the request is leaked.
+       */
+      CompletableFuture<TransportClientResponse> transportClientFutureForRoute = new CompletableFuture<>();
       ChainedCompletableFuture<Integer, Integer> routeRequestFuture =
           metadata.trackHealthBasedOnRequestToInstance(route, currentVersion, 0, transportClientFutureForRoute);
       requestContext.routeRequestMap.put(route, routeRequestFuture.getOriginalFuture());
       requestCompletionFutures[routeIndex] = routeRequestFuture.getResultFuture();
 
-      transportClientFutureForRoute.whenComplete((transportClientResponse, throwable) -> {
-        requestContext.recordRequestSubmissionToResponseHandlingTime(route);
-        TransportClientResponseForRoute response = TransportClientResponseForRoute
-            .fromTransportClientWithRoute(transportClientResponse, route, routeRequestFuture.getOriginalFuture());
-        routeResponseHandler.handle(keysForRoutes, response, throwable);
-      });
+      TransportClientResponseForRoute response = TransportClientResponseForRoute
+          .fromTransportClientWithRoute(null, route, routeRequestFuture.getOriginalFuture());
+      RecordStreamDecoder decoder = routeResponseDecoderProvider.getDecoder(keysForRoutes, response);
+      transportClient.streamPost(
+          url,
+          requestHeaders,
+          serializedRequest,
+          new RouteResponseStreamingCallback(
+              requestContext,
+              route,
+              decoder,
+              transportClientFutureForRoute,
+              transportExceptionFilterMessage),
+          keysForRoutes.size());
       routeIndex++;
     }
 
@@ -545,68 +561,188 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   /**
-   * This callback handles results from one route for multiple keys in that route once the post()
-   * is completed with {@link TransportClientResponseForRoute} for this route.
+   * This callback feeds the response of one route to its {@link RecordStreamDecoder} while it is being received, so the
+   * records of this route could be delivered before the whole response is received. The decoder is completed once
+   * the transport future of this route is completed, which could be completed exceptionally when the request is
+   * leaked as well, and the chunks received after that are ignored.
    */
-  private void batchGetTransportRequestCompletionHandler(
-      MultiKeyRequestContext<K, V> requestContext,
-      TransportClientResponseForRoute transportClientResponse,
-      Throwable exception,
-      StreamingCallback<K, V> callback) {
-    if (exception != null) {
-      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE)) {
-        LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
+  private class RouteResponseStreamingCallback implements TransportClientStreamingCallback {
+    private final MultiKeyRequestContext<K, V> requestContext;
+    private final String route;
+    private final RecordStreamDecoder decoder;
+    private final CompletableFuture<TransportClientResponse> transportFuture;
+    private final String transportExceptionFilterMessage;
+
+    RouteResponseStreamingCallback(
+        MultiKeyRequestContext<K, V> requestContext,
+        String route,
+        RecordStreamDecoder decoder,
+        CompletableFuture<TransportClientResponse> transportFuture,
+        String transportExceptionFilterMessage) {
+      this.requestContext = requestContext;
+      this.route = route;
+      this.decoder = decoder;
+      this.transportFuture = transportFuture;
+      this.transportExceptionFilterMessage = transportExceptionFilterMessage;
+      transportFuture.whenComplete((ignored, throwable) -> completeDecoder(throwable));
+    }
+
+    @Override
+    public synchronized void onHeaderReceived(Map<String, String> headers) {
+      if (transportFuture.isDone()) {
+        return;
       }
+      requestContext.recordRequestSubmissionToResponseHandlingTime(route);
+      try {
+        decoder.onHeaderReceived(headers);
+      } catch (Throwable t) {
+        failDecoding(t);
+      }
+    }
 
-      requestContext.markCompleteExceptionally(transportClientResponse, exception);
-      transportClientResponse.getRouteRequestFuture().completeExceptionally(exception);
-      return;
+    @Override
+    public synchronized void onDataReceived(ByteBuffer chunk) {
+      if (transportFuture.isDone()) {
+        return;
+      }
+      long nanoTsBeforeRequestDeserialization = System.nanoTime();
+      try {
+        decoder.onDataReceived(chunk);
+      } catch (Throwable t) {
+        failDecoding(t);
+        return;
+      }
+      requestContext.recordRequestDeserializationTime(route, getLatencyInNS(nanoTsBeforeRequestDeserialization));
     }
-    // deserialize records and find the status
-    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
-        getMultiGetResponseRecordDeserializer(transportClientResponse.getSchemaId());
-    long nanoTsBeforeRequestDeserialization = System.nanoTime();
-    Iterable<MultiGetResponseRecordV1> records =
-        deserializer.deserializeObjects(new ByteBufferOptimizedBinaryDecoder(transportClientResponse.getBody()));
-    requestContext.recordRequestDeserializationTime(
-        transportClientResponse.getRouteId(),
-        getLatencyInNS(nanoTsBeforeRequestDeserialization));
-
-    List<MultiKeyRequestContext.KeyInfo<K>> keyInfos =
-        requestContext.keysForRoutes(transportClientResponse.getRouteId());
-    Set<Integer> keysSeen = new HashSet<>();
-
-    long totalDecompressionTimeForResponse = 0;
-    VeniceCompressor compressor =
-        metadata.getCompressor(transportClientResponse.getCompressionStrategy(), requestContext.currentVersion);
-    for (MultiGetResponseRecordV1 r: records) {
-      long nanoTsBeforeDecompression = System.nanoTime();
-
-      ByteBuffer decompressRecord = decompressRecord(
-          transportClientResponse.getCompressionStrategy(),
-          r.value,
-          requestContext.currentVersion,
-          compressor);
-
-      long nanoTsBeforeDeserialization = System.nanoTime();
-      totalDecompressionTimeForResponse += nanoTsBeforeDeserialization - nanoTsBeforeDecompression;
-      RecordDeserializer<V> dataRecordDeserializer = getDataRecordDeserializer(r.getSchemaId());
-      V deserializedValue = dataRecordDeserializer.deserialize(decompressRecord);
-      requestContext.recordRecordDeserializationTime(
-          transportClientResponse.getRouteId(),
-          getLatencyInNS(nanoTsBeforeDeserialization));
-      MultiKeyRequestContext.KeyInfo<K> k = keyInfos.get(r.keyIndex);
-      keysSeen.add(r.keyIndex);
-      callback.onRecordReceived(k.getKey(), deserializedValue);
+
+    @Override
+    public void onCompletion(Optional<VeniceClientException> exception) {
+      if (exception.isPresent()) {
+        transportFuture.completeExceptionally(exception.get());
+      } else {
+        transportFuture.complete(null);
+      }
+    }
+
+    private void failDecoding(Throwable t) {
+      LOGGER.error("Exception while decoding the response from route: {}. ExMsg: {}", route, t.getMessage());
+      transportFuture.completeExceptionally(
+          new VeniceClientHttpException("Failed to decode the response", SC_INTERNAL_SERVER_ERROR, t));
+    }
+
+    private synchronized void completeDecoder(Throwable exception) {
+      requestContext.recordRequestSubmissionToResponseHandlingTime(route);
+      if (exception == null) {
+        decoder.onCompletion(Optional.empty());
+        return;
+      }
+      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(transportExceptionFilterMessage)) {
+        LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
+      }
+      VeniceClientException clientException;
+      if (exception instanceof VeniceClientException) {
+        clientException = (VeniceClientException) exception;
+      } else {
+        clientException = new VeniceClientException("Exception received from transport", exception);
+      }
+      decoder.onCompletion(Optional.of(clientException));
     }
-    requestContext.recordDecompressionTime(transportClientResponse.getRouteId(), totalDecompressionTimeForResponse);
-    for (int i = 0; i < keyInfos.size(); i++) {
-      if (!keysSeen.contains(i)) {
-        callback.onRecordReceived(keyInfos.get(i).getKey(), null);
+  }
+
+  private RecordStreamDecoder getBatchGetDecoderForRoute(
+      MultiKeyRequestContext<K, V> requestContext,
+      List<MultiKeyRequestContext.KeyInfo<K>> keysForRoutes,
+      TransportClientResponseForRoute transportClientResponse,
+      StreamingCallback<K, V> allRecordsCallback) {
+    String route = transportClientResponse.getRouteId();
+    int currentVersion = requestContext.currentVersion;
+    Function<Integer, RecordDeserializer<V>> valueDeserializerProvider = this::getDataRecordDeserializer;
+    BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor = (compressionStrategy, data) -> {
+      VeniceCompressor compressor = metadata.getCompressor(compressionStrategy, currentVersion);
+      return decompressRecord(compressionStrategy, data, currentVersion, compressor);
+    };
+
+    TrackingStreamingCallback<K, V> nonCompletingStreamingCallback = getNonCompletingStreamingCallback(
+        requestContext,
+        transportClientResponse,
+        allRecordsCallback::onRecordReceived);
+
+    return new MultiGetRecordStreamDecoder<K, V>(
+        getKeyList(keysForRoutes),
+        nonCompletingStreamingCallback,
+        deserializationExecutor,
+        STREAMING_FOOTER_RECORD_DESERIALIZER,
+        valueDeserializerProvider,
+        decompressor) {
+      /**
+       * Same as {@link MultiGetRecordStreamDecoder#getValueRecord}, and it tracks the decompression and deserialization
+       * latency of each record separately.
+       */
+      @Override
+      protected V getValueRecord(MultiGetResponseRecordV1 envelope, CompressionStrategy compression) {
+        if (!envelope.value.hasRemaining()) {
+          // Safeguard to handle empty value, which indicates non-existing key.
+          return null;
+        }
+        long nanoTsBeforeDecompression = System.nanoTime();
+        ByteBuffer decompressedValue = decompressor.apply(compression, envelope.value);
+        long nanoTsBeforeDeserialization = System.nanoTime();
+        requestContext.recordDecompressionTime(route, nanoTsBeforeDeserialization - nanoTsBeforeDecompression);
+        V value = valueDeserializerProvider.apply(envelope.schemaId).deserialize(decompressedValue);
+        requestContext.recordRecordDeserializationTime(route, getLatencyInNS(nanoTsBeforeDeserialization));
+        return value;
       }
+    };
+  }
+
+  private List<K> getKeyList(List<MultiKeyRequestContext.KeyInfo<K>> keysForRoutes) {
+    List<K> keyList = new ArrayList<>(keysForRoutes.size());
+    for (MultiKeyRequestContext.KeyInfo<K> keyInfo: keysForRoutes) {
+      keyList.add(keyInfo.getKey());
     }
-    requestContext.markComplete(transportClientResponse);
-    transportClientResponse.getRouteRequestFuture().complete(SC_OK);
+    return keyList;
+  }
+
+  private <T> TrackingStreamingCallback<K, T> getNonCompletingStreamingCallback(
+      MultiKeyRequestContext<K, V> requestContext,
+      TransportClientResponseForRoute transportClientResponse,
+      BiConsumer<K, T> recordConsumer) {
+    // Don't want it to mark the future for all routes complete
+    return new TrackingStreamingCallback<K, T>() {
+      @Override
+      public Optional<ClientStats> getStats() {
+        return Optional.empty();
+      }
+
+      @Override
+      public void onRecordDeserialized() {
+      }
+
+      @Override
+      public void onDeserializationCompletion(
+          Optional<Exception> exception,
+          int successKeyCount,
+          int duplicateEntryCount) {
+      }
+
+      @Override
+      public void onRecordReceived(K key, T value) {
+        recordConsumer.accept(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        // Don't complete the main callback here. It will be completed when all routes are done.
+        if (exception.isPresent()) {
+          Exception e = exception.get();
+          requestContext.markCompleteExceptionally(transportClientResponse, e);
+          transportClientResponse.getRouteRequestFuture().completeExceptionally(e);
+        } else {
+          requestContext.markComplete(transportClientResponse);
+          transportClientResponse.getRouteRequestFuture().complete(SC_OK);
+        }
+      }
+    };
   }
 
   @Override
@@ -628,18 +764,16 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         composeRouteForComputeRequest(requestContext),
-        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest, true),
         (keysForRoutes) -> serializeComputeRequest(computeRequest, keysForRoutes),
-        (MultiKeyStreamingRouteResponseHandler<K>) (keysForRoutes, response, throwable) -> {
-          ComputeRecordStreamDecoder decoder = getComputeDecoderForRoute(
-              requestContext,
-              computeRequest,
-              keysForRoutes,
-              response,
-              computeResultRecordDeserializer,
-              callback);
-          computeTransportRequestCompletionHandler(response, throwable, decoder);
-        });
+        COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE,
+        (MultiKeyStreamingRouteResponseDecoderProvider<K>) (keysForRoutes, response) -> getComputeDecoderForRoute(
+            requestContext,
+            computeRequest,
+            keysForRoutes,
+            response,
+            computeResultRecordDeserializer,
+            callback));
   }
 
   private ComputeRecordStreamDecoder getComputeDecoderForRoute(
@@ -649,95 +783,21 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       TransportClientResponseForRoute transportClientResponse,
       RecordDeserializer<GenericRecord> computeResultRecordDeserializer,
       StreamingCallback<K, ComputeGenericRecord> allRecordsCallback) {
-    List<K> keyList = new ArrayList<>(keysForRoutes.size());
-    for (MultiKeyRequestContext.KeyInfo keyInfo: keysForRoutes) {
-      keyList.add((K) keyInfo.getKey());
-    }
-
-    // Don't want it to mark the future for all routes complete
-    TrackingStreamingCallback<K, GenericRecord> nonCompletingStreamingCallback =
-        new TrackingStreamingCallback<K, GenericRecord>() {
-          @Override
-          public Optional<ClientStats> getStats() {
-            return Optional.empty();
-          }
-
-          @Override
-          public void onRecordDeserialized() {
-          }
-
-          @Override
-          public void onDeserializationCompletion(
-              Optional<Exception> exception,
-              int successKeyCount,
-              int duplicateEntryCount) {
-          }
-
-          @Override
-          public void onRecordReceived(K key, GenericRecord value) {
-            allRecordsCallback.onRecordReceived(
-                key,
-                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null);
-          }
-
-          @Override
-          public void onCompletion(Optional<Exception> exception) {
-            // Don't complete the main callback here. It will be completed when all routes are done.
-            if (exception.isPresent()) {
-              Exception e = exception.get();
-              requestContext.markCompleteExceptionally(transportClientResponse, e);
-              transportClientResponse.getRouteRequestFuture().completeExceptionally(e);
-            } else {
-              requestContext.markComplete(transportClientResponse);
-              transportClientResponse.getRouteRequestFuture().complete(SC_OK);
-            }
-          }
-        };
+    TrackingStreamingCallback<K, GenericRecord> nonCompletingStreamingCallback = getNonCompletingStreamingCallback(
+        requestContext,
+        transportClientResponse,
+        (key, value) -> allRecordsCallback.onRecordReceived(
+            key,
+            value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null));
 
     return new ComputeRecordStreamDecoder<>(
-        keyList,
+        getKeyList(keysForRoutes),
         nonCompletingStreamingCallback,
         deserializationExecutor,
         STREAMING_FOOTER_RECORD_DESERIALIZER,
         computeResultRecordDeserializer);
   }
 
-  /**
-   * This callback handles results from one route for multiple keys in that route once the post()
-   * is completed with {@link TransportClientResponseForRoute} for this route.
-   */
-  private void computeTransportRequestCompletionHandler(
-      TransportClientResponseForRoute transportClientResponse,
-      Throwable exception,
-      ComputeRecordStreamDecoder decoder) {
-    if (exception != null) {
-      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE)) {
-        LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
-      }
-      VeniceClientException clientException;
-      if (exception instanceof VeniceClientException) {
-        clientException = (VeniceClientException) exception;
-      } else {
-        clientException = new VeniceClientException("Exception received from transport", exception);
-      }
-      decoder.onCompletion(Optional.of(clientException));
-      return;
-    }
-
-    try {
-      Map<String, String> headers = Collections
-          .singletonMap(HttpConstants.VENICE_SCHEMA_ID, String.valueOf(transportClientResponse.getSchemaId()));
-
-      decoder.onHeaderReceived(headers);
-      decoder.onDataReceived(ByteBuffer.wrap(transportClientResponse.getBody()));
-      decoder.onCompletion(Optional.empty());
-    } catch (Throwable t) {
-      LOGGER.error("Exception while decoding compute response. ExMsg: {}", t.getMessage());
-      decoder.onCompletion(
-          Optional.of(new VeniceClientHttpException("Failed to decode compute response", SC_INTERNAL_SERVER_ERROR, t)));
-    }
-  }
-
   private byte[] serializeComputeRequest(
       ComputeRequestWrapper computeRequest,
       List<MultiKeyRequestContext.KeyInfo<K>> keyList) {
@@ -756,13 +816,6 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   /* Batch get helper methods */
-  protected RecordDeserializer<MultiGetResponseRecordV1> getMultiGetResponseRecordDeserializer(int schemaId) {
-    // TODO: get multi-get response write schema from Router
-
-    return FastSerializerDeserializerFactory
-        .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
-  }
-
   protected RecordDeserializer<V> getDataRecordDeserializer(int schemaId) throws VeniceClientException {
     return storeDeserializerCache.getDeserializer(schemaId, metadata.getLatestValueSchemaId());
   }
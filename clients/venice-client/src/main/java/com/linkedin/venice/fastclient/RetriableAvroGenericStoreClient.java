@@ -8,10 +8,12 @@ import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.AdaptiveRetryThreshold;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -51,6 +53,15 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   private RetryManager singleKeyLongTailRetryManager = null;
   private RetryManager multiKeyLongTailRetryManager = null;
+  /**
+   * The thresholds which follow the latency of the original requests, when
+   * {@link ClientConfig#getLongTailRetryThresholdPercentile()} is positive, and null otherwise. The latency of the
+   * multi-key requests grows with their key count, so they have a threshold per key count bucket, like in the router.
+   */
+  private AdaptiveRetryThreshold singleGetLongTailRetryThreshold = null;
+  private Map<Integer, AdaptiveRetryThreshold> batchGetLongTailRetryThresholds = null;
+  private Map<Integer, AdaptiveRetryThreshold> computeLongTailRetryThresholds = null;
+  private final double longTailRetryThresholdPercentile;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
   // Default value of 0.1 meaning only 10 percent of the user requests are allowed to trigger long tail retry
   private static final double LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL = 0.1d;
@@ -92,6 +103,15 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
           LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL,
           retryManagerExecutorService);
     }
+    this.longTailRetryThresholdPercentile = clientConfig.getLongTailRetryThresholdPercentile();
+    if (longTailRetryThresholdPercentile > 0) {
+      this.singleGetLongTailRetryThreshold = new AdaptiveRetryThreshold(
+          longTailRetryThresholdPercentile,
+          longTailRetryThresholdForSingleGetInMicroSeconds,
+          singleKeyLongTailRetryManager);
+      this.batchGetLongTailRetryThresholds = new VeniceConcurrentHashMap<>();
+      this.computeLongTailRetryThresholds = new VeniceConcurrentHashMap<>();
+    }
   }
 
   enum RetryType {
@@ -136,6 +156,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
@@ -174,11 +195,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            singleGetLongTailRetryThreshold,
+            longTailRetryThresholdForSingleGetInMicroSeconds),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        recordLatency(singleGetLongTailRetryThreshold, startTimeInNS);
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -232,6 +256,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        getMultiKeyLongTailRetryThreshold(
+            batchGetLongTailRetryThresholds,
+            keys.size(),
+            longTailRetryThresholdForBatchGetInMicroSeconds),
         longTailRetryThresholdForBatchGetInMicroSeconds,
         BatchGetRequestContext::new,
         super::streamingBatchGet);
@@ -245,7 +273,11 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Schema resultSchema,
       StreamingCallback<K, ComputeGenericRecord> callback,
       long preRequestTimeInNS) throws VeniceClientException {
-    if (!longTailRetryEnabledForCompute) {
+    /**
+     * The storage nodes only return the partial top-K of a top-K request, so most of the keys never receive a record,
+     * and retrying them per key would re-send almost the whole request.
+     */
+    if (!longTailRetryEnabledForCompute || computeRequestWrapper.isTopKRequest()) {
       // if longTailRetry is not enabled for compute, simply return
       super.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
       return;
@@ -255,6 +287,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        getMultiKeyLongTailRetryThreshold(
+            computeLongTailRetryThresholds,
+            keys.size(),
+            longTailRetryThresholdForComputeInMicroSeconds),
         longTailRetryThresholdForComputeInMicroSeconds,
         ComputeRequestContext::new,
         (requestContextInternal, internalKeys, internalCallback) -> {
@@ -278,7 +314,8 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       R requestContext,
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
-      int longTailRetryThresholdInMicroSeconds,
+      AdaptiveRetryThreshold adaptiveLongTailRetryThreshold,
+      int staticLongTailRetryThresholdInMicroSeconds,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
@@ -338,6 +375,9 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       }
     };
 
+    long longTailRetryThresholdInMicroSeconds = getLongTailRetryThresholdInMicroSeconds(
+        adaptiveLongTailRetryThreshold,
+        staticLongTailRetryThresholdInMicroSeconds);
     TimeoutProcessor.TimeoutFuture scheduledRetryTask =
         timeoutProcessor.schedule(retryTask, longTailRetryThresholdInMicroSeconds, TimeUnit.MICROSECONDS);
 
@@ -350,15 +390,17 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
      * 2. If no 429 exceptions are caught after longTailRetryThresholdInMicroSeconds when the retry task is running then
      * all incomplete keys whether due to long tail or errors (e.g. mis-routed) are retried.
      */
-    streamingRequestExecutor.trigger(
+    StreamingCallback<K, RESPONSE> originalRequestCallback = getStreamingCallback(
         requestContext,
-        keys,
-        getStreamingCallback(
-            requestContext,
-            finalRequestCompletionFuture,
-            savedException,
-            pendingKeysFuture,
-            scheduledRetryTask));
+        finalRequestCompletionFuture,
+        savedException,
+        pendingKeysFuture,
+        scheduledRetryTask);
+    if (adaptiveLongTailRetryThreshold != null) {
+      originalRequestCallback =
+          getLatencyRecordingCallback(originalRequestCallback, adaptiveLongTailRetryThreshold, System.nanoTime());
+    }
+    streamingRequestExecutor.trigger(requestContext, keys, originalRequestCallback);
     multiKeyLongTailRetryManager.recordRequests(requestContext.numKeysInRequest);
 
     finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
@@ -444,6 +486,64 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     };
   }
 
+  private static long getLongTailRetryThresholdInMicroSeconds(
+      AdaptiveRetryThreshold adaptiveThreshold,
+      int staticThresholdInMicroSeconds) {
+    return adaptiveThreshold == null ? staticThresholdInMicroSeconds : adaptiveThreshold.getThreshold();
+  }
+
+  /**
+   * The requests are bucketed by their key count rounded up to the next power of two, and the threshold of each bucket
+   * starts from the static threshold until enough latencies are recorded.
+   *
+   * @return the threshold of the bucket of the given key count, or null if the thresholds are static.
+   */
+  private AdaptiveRetryThreshold getMultiKeyLongTailRetryThreshold(
+      Map<Integer, AdaptiveRetryThreshold> adaptiveThresholds,
+      int keyCount,
+      int staticThresholdInMicroSeconds) {
+    if (adaptiveThresholds == null) {
+      return null;
+    }
+    int keyCountBucket = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(keyCount, 1) - 1);
+    return adaptiveThresholds.computeIfAbsent(
+        keyCountBucket,
+        ignored -> new AdaptiveRetryThreshold(
+            longTailRetryThresholdPercentile,
+            staticThresholdInMicroSeconds,
+            multiKeyLongTailRetryManager));
+  }
+
+  private static void recordLatency(AdaptiveRetryThreshold adaptiveThreshold, long startTimeInNS) {
+    if (adaptiveThreshold != null) {
+      adaptiveThreshold.recordLatency(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS));
+    }
+  }
+
+  /**
+   * Records the latency of the original request once it completes successfully, so that the long tail retry threshold
+   * follows the latency of the requests which were not retried, whether or not the retry completes first.
+   */
+  private <RESPONSE> StreamingCallback<K, RESPONSE> getLatencyRecordingCallback(
+      StreamingCallback<K, RESPONSE> callback,
+      AdaptiveRetryThreshold adaptiveThreshold,
+      long startTimeInNS) {
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          recordLatency(adaptiveThreshold, startTimeInNS);
+        }
+        callback.onCompletion(exception);
+      }
+    };
+  }
+
   private boolean isExceptionCausedByTooManyRequests(Throwable e) {
     if (e instanceof VeniceClientHttpException) {
       VeniceClientHttpException clientHttpException = (VeniceClientHttpException) e;
@@ -289,6 +289,9 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
             default:
               routeStats.recordOtherErrorRequest();
           }
+          if (monitor != null) {
+            routeStats.recordRoutingScore(monitor.getInstanceScore(instance));
+          }
         });
       });
     }
@@ -11,6 +11,7 @@ import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.utils.EwmaLoadScore;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
@@ -38,6 +39,8 @@ import org.apache.logging.log4j.Logger;
  * 2. For the error response, the pending request counter reset will be delayed, which is a way to downgrade the instance.
  * 3. When the pending request counter exceeds the pre-defined threshold, the instance will be completely blocked.
  *
+ * It also tracks the response time and the error rate of each instance, which are combined with the pending request
+ * counter into a score by {@link #getInstanceScore}, to rank the instances which are not blocked.
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(InstanceHealthMonitor.class);
@@ -46,6 +49,7 @@ public class InstanceHealthMonitor implements Closeable {
   // Map/set of per store replica instances
   private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
   private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
+  private final Map<String, EwmaLoadScore> loadScoreMap = new VeniceConcurrentHashMap<>();
 
   private final TimeoutProcessor timeoutProcessor;
   private final Consumer<String> counterResetConsumer;
@@ -93,6 +97,7 @@ public class InstanceHealthMonitor implements Closeable {
   public ChainedCompletableFuture<Integer, Integer> trackHealthBasedOnRequestToInstance(
       String instance,
       CompletableFuture<TransportClientResponse> transportFuture) {
+    final long requestStartTimeInNS = System.nanoTime();
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
     pendingRequestCounterMap.compute(instance, (k, v) -> {
       // currently tracking the number of requests as 1 for single get
@@ -166,6 +171,8 @@ public class InstanceHealthMonitor implements Closeable {
             counterResetDelayMS,
             TimeUnit.MILLISECONDS.MILLISECONDS);
       }
+      loadScoreMap.computeIfAbsent(instance, ignored -> new EwmaLoadScore())
+          .recordResponse(System.nanoTime() - requestStartTimeInNS, httpStatus != SC_OK && httpStatus != SC_NOT_FOUND);
       if (unhealthyInstance) {
         if (unhealthyInstanceSet.add(instance)) {
           LOGGER.info("Marked instance: {} as unhealthy because of error response", instance);
@@ -218,6 +225,15 @@ public class InstanceHealthMonitor implements Closeable {
     return pendingRequestCounter == null ? 0 : pendingRequestCounter;
   }
 
+  /**
+   * @return the score of the instance according to its response time, its error rate and its pending requests, which
+   *         is better when lower. Check {@link EwmaLoadScore} for more details.
+   */
+  public double getInstanceScore(String instance) {
+    return loadScoreMap.computeIfAbsent(instance, ignored -> new EwmaLoadScore())
+        .getScore(getPendingRequestCounter(instance));
+  }
+
   @Override
   public void close() throws IOException {
     if (timeoutProcessor != null) {
@@ -0,0 +1,63 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This strategy is trying to route the request to the instances with the best score, which combines the response time,
+ * the error rate and the pending requests of each instance, check {@link InstanceHealthMonitor#getInstanceScore}.
+ * 1. Each replica is selected with the power of two choices: among two random instances, the one with the better score
+ *    is selected. This avoids the slow instances, such as the ones in a GC pause or in a compaction, before they are
+ *    backed up with enough pending requests to be blocked, while it does not send all the requests to the single best
+ *    instance in the meantime, which would only make it the slowest one.
+ * 2. This strategy will skip any blocked instance.
+ * 3. The unhealthy instances are not skipped, but their error rate makes them unlikely to be selected, and they will
+ *    still receive some requests, so we could mark them healthy once they are recovered.
+ */
+public class LatencyAwareClientRoutingStrategy extends AbstractClientRoutingStrategy {
+  private final InstanceHealthMonitor instanceHealthMonitor;
+
+  public LatencyAwareClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+  }
+
+  @Override
+  public List<String> getReplicas(long ignored, List<String> replicas, int requiredReplicaCount) {
+    if (replicas.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    if (requiredReplicaCount >= availReplicas.size()) {
+      availReplicas.sort(Comparator.comparingDouble(instanceHealthMonitor::getInstanceScore));
+      return availReplicas;
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<String> selectedReplicas = new ArrayList<>(requiredReplicaCount);
+    while (selectedReplicas.size() < requiredReplicaCount) {
+      // There are always at least two candidates left, since fewer replicas are required than available
+      int candidateCount = availReplicas.size();
+      int first = random.nextInt(candidateCount);
+      int second = random.nextInt(candidateCount - 1);
+      if (second >= first) {
+        ++second;
+      }
+      int selected = instanceHealthMonitor.getInstanceScore(availReplicas.get(first)) <= instanceHealthMonitor
+          .getInstanceScore(availReplicas.get(second)) ? first : second;
+      selectedReplicas.add(availReplicas.get(selected));
+      // Remove the selected replica without shifting the others
+      availReplicas.set(selected, availReplicas.get(candidateCount - 1));
+      availReplicas.remove(candidateCount - 1);
+    }
+    return selectedReplicas;
+  }
+}
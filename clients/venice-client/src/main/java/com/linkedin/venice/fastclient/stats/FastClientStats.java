@@ -34,6 +34,8 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor metadataStalenessSensor;
   private final Sensor fanoutSizeSensor;
   private final Sensor retryFanoutSizeSensor;
+  private final Sensor nearCacheHitRequestSensor;
+  private final Sensor nearCacheCoalescedRequestSensor;
   private long cacheTimeStampInMs = 0;
 
   public static FastClientStats getClientStats(
@@ -86,6 +88,8 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     }, "metadata_staleness_high_watermark_ms"));
     this.fanoutSizeSensor = registerSensor("fanout_size", new Avg(), new Max());
     this.retryFanoutSizeSensor = registerSensor("retry_fanout_size", new Avg(), new Max());
+    this.nearCacheHitRequestSensor = registerSensor("near_cache_hit_request", new OccurrenceRate());
+    this.nearCacheCoalescedRequestSensor = registerSensor("near_cache_coalesced_request", new OccurrenceRate());
   }
 
   public void recordNoAvailableReplicaRequest() {
@@ -128,6 +132,14 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryFanoutSizeSensor.record(retryFanoutSize);
   }
 
+  public void recordNearCacheHitRequest() {
+    nearCacheHitRequestSensor.record();
+  }
+
+  public void recordNearCacheCoalescedRequest() {
+    nearCacheCoalescedRequestSensor.record();
+  }
+
   /**
    * This method is a utility method to build concise summaries useful in tests
    * and for logging. It generates a single string for all metrics for a sensor
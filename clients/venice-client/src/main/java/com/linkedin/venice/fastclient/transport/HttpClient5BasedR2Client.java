@@ -2,24 +2,41 @@ package com.linkedin.venice.fastclient.transport;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.message.Messages;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.EntityStream;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.WriteHandle;
+import com.linkedin.r2.message.stream.entitystream.Writer;
 import com.linkedin.r2.transport.common.Client;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.httpclient5.HttpClient5Utils;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.io.CloseMode;
 
@@ -87,28 +104,7 @@ public class HttpClient5BasedR2Client {
 
       @Override
       public void restRequest(RestRequest request, Callback<RestResponse> callback) {
-        String method = request.getMethod();
-        boolean isGetRequest = false;
-        if (HTTP_METHOD_GET_LOWER_CASE.equalsIgnoreCase(method)) {
-          isGetRequest = true;
-        } else if (!HTTP_METHOD_POST_LOWER_CASE.equalsIgnoreCase(method)) {
-          throw new UnsupportedOperationException("Method: " + method + " is not supported");
-        }
-
-        final SimpleRequestBuilder simpleRequestBuilder;
-        if (isGetRequest) {
-          simpleRequestBuilder = SimpleRequestBuilder.create(Method.GET).setUri(request.getURI());
-        } else {
-          simpleRequestBuilder = SimpleRequestBuilder.create(Method.POST)
-              .setUri(request.getURI())
-              /**
-               * TODO: this is not efficient, and later, we need to provide a native HttpClient5 impl to avoid the copy.
-               */
-              .setBody(request.getEntity().copyBytes(), ContentType.DEFAULT_BINARY);
-        }
-        request.getHeaders().forEach((k, v) -> simpleRequestBuilder.addHeader(k, v));
-
-        client.execute(simpleRequestBuilder.build(), new FutureCallback<SimpleHttpResponse>() {
+        client.execute(toSimpleHttpRequest(request), new FutureCallback<SimpleHttpResponse>() {
           @Override
           public void completed(SimpleHttpResponse result) {
             RestResponseBuilder restResponseBuilder = new RestResponseBuilder();
@@ -140,6 +136,51 @@ public class HttpClient5BasedR2Client {
         throw new UnsupportedOperationException();
       }
 
+      /**
+       * Different from {@link #restRequest(RestRequest, Callback)}, the response body is passed to the
+       * {@link EntityStream} of the {@link StreamResponse} chunk by chunk while it is being received.
+       */
+      @Override
+      public void streamRequest(StreamRequest request, Callback<StreamResponse> callback) {
+        // The request body is small and fully available, so it is sent at once.
+        Messages.toRestRequest(request, new Callback<RestRequest>() {
+          @Override
+          public void onError(Throwable e) {
+            callback.onError(e);
+          }
+
+          @Override
+          public void onSuccess(RestRequest restRequest) {
+            SimpleHttpRequest httpRequest = toSimpleHttpRequest(restRequest);
+            StreamResponseConsumer responseConsumer = new StreamResponseConsumer(callback);
+            client.execute(SimpleRequestProducer.create(httpRequest), responseConsumer, new FutureCallback<Void>() {
+              @Override
+              public void completed(Void result) {
+                responseConsumer.onResponseCompleted();
+              }
+
+              @Override
+              public void failed(Exception ex) {
+                responseConsumer.onResponseFailed(ex);
+              }
+
+              @Override
+              public void cancelled() {
+                responseConsumer.onResponseFailed(new VeniceException("Request got cancelled"));
+              }
+            });
+          }
+        });
+      }
+
+      @Override
+      public void streamRequest(
+          StreamRequest request,
+          RequestContext requestContext,
+          Callback<StreamResponse> callback) {
+        throw new UnsupportedOperationException();
+      }
+
       @Override
       public void shutdown(Callback<None> callback) {
         client.close(CloseMode.GRACEFUL);
@@ -149,4 +190,152 @@ public class HttpClient5BasedR2Client {
       }
     };
   }
+
+  private static SimpleHttpRequest toSimpleHttpRequest(RestRequest request) {
+    String method = request.getMethod();
+    boolean isGetRequest = false;
+    if (HTTP_METHOD_GET_LOWER_CASE.equalsIgnoreCase(method)) {
+      isGetRequest = true;
+    } else if (!HTTP_METHOD_POST_LOWER_CASE.equalsIgnoreCase(method)) {
+      throw new UnsupportedOperationException("Method: " + method + " is not supported");
+    }
+
+    final SimpleRequestBuilder simpleRequestBuilder;
+    if (isGetRequest) {
+      simpleRequestBuilder = SimpleRequestBuilder.create(Method.GET).setUri(request.getURI());
+    } else {
+      simpleRequestBuilder = SimpleRequestBuilder.create(Method.POST)
+          .setUri(request.getURI())
+          /**
+           * TODO: this is not efficient, and later, we need to provide a native HttpClient5 impl to avoid the copy.
+           */
+          .setBody(request.getEntity().copyBytes(), ContentType.DEFAULT_BINARY);
+    }
+    request.getHeaders().forEach((k, v) -> simpleRequestBuilder.addHeader(k, v));
+    return simpleRequestBuilder.build();
+  }
+
+  /**
+   * This class passes the response of HttpClient5 to R2 as a {@link StreamResponse} once the status and the headers are
+   * received, and the body chunks are written to its {@link EntityStream} as they arrive.
+   */
+  private static class StreamResponseConsumer extends AbstractBinResponseConsumer<Void> {
+    private final Callback<StreamResponse> callback;
+    private final ResponseEntityWriter entityWriter = new ResponseEntityWriter();
+    private volatile boolean responseStarted = false;
+
+    StreamResponseConsumer(Callback<StreamResponse> callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    protected void start(HttpResponse response, ContentType contentType) {
+      StreamResponseBuilder responseBuilder = new StreamResponseBuilder().setStatus(response.getCode());
+      for (Header header: response.getHeaders()) {
+        responseBuilder.setHeader(header.getName(), header.getValue());
+      }
+      responseStarted = true;
+      callback.onSuccess(responseBuilder.build(EntityStreams.newEntityStream(entityWriter)));
+    }
+
+    @Override
+    protected int capacityIncrement() {
+      // Same as the buffered response consumer, the chunks are buffered by the writer until they are read.
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected void data(ByteBuffer src, boolean endOfStream) {
+      if (src.hasRemaining()) {
+        // The buffer is reused by HttpClient5 once this function returns.
+        byte[] chunk = new byte[src.remaining()];
+        src.get(chunk);
+        entityWriter.write(ByteString.unsafeWrap(chunk));
+      }
+    }
+
+    @Override
+    protected Void buildResult() {
+      return null;
+    }
+
+    @Override
+    public void releaseResources() {
+    }
+
+    void onResponseCompleted() {
+      entityWriter.done();
+    }
+
+    void onResponseFailed(Exception e) {
+      if (responseStarted) {
+        entityWriter.error(e);
+      } else {
+        callback.onError(e);
+      }
+    }
+  }
+
+  /**
+   * All the operations are synchronized since the chunks are written by the I/O thread of HttpClient5, while they are
+   * requested by the reader of the {@link EntityStream}.
+   */
+  private static class ResponseEntityWriter implements Writer {
+    private final Queue<ByteString> chunks = new ArrayDeque<>();
+    private WriteHandle wh;
+    private boolean done = false;
+    private Throwable error = null;
+    private boolean completed = false;
+
+    synchronized void write(ByteString chunk) {
+      chunks.add(chunk);
+      writeIfPossible();
+    }
+
+    synchronized void done() {
+      done = true;
+      writeIfPossible();
+    }
+
+    synchronized void error(Throwable e) {
+      error = e;
+      writeIfPossible();
+    }
+
+    @Override
+    public synchronized void onInit(WriteHandle wh) {
+      this.wh = wh;
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+      writeIfPossible();
+    }
+
+    @Override
+    public synchronized void onAbort(Throwable e) {
+      completed = true;
+      chunks.clear();
+    }
+
+    private void writeIfPossible() {
+      if (wh == null || completed) {
+        return;
+      }
+      if (error != null) {
+        completed = true;
+        chunks.clear();
+        wh.error(error);
+        return;
+      }
+      // Writing a chunk could trigger this function again when the reader requests more data right away.
+      while (!completed && !chunks.isEmpty() && wh.remaining() > 0) {
+        wh.write(chunks.poll());
+      }
+      if (done && !completed && chunks.isEmpty()) {
+        completed = true;
+        wh.done();
+      }
+    }
+  }
 }
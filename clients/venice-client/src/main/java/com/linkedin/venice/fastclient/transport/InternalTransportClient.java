@@ -1,9 +1,15 @@
 package com.linkedin.venice.fastclient.transport;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import org.apache.hc.core5.http.HttpStatus;
 
 
 /**
@@ -12,12 +18,47 @@ import java.util.Map;
  * Eventually this class can be deleted once all the methods defined in {@link TransportClient} are required in Fast-Client.
  */
 public abstract class InternalTransportClient extends TransportClient {
+  /**
+   * The default implementation doesn't stream the response, and the whole response is passed to the callback as a
+   * single chunk once it is fully received. The transport clients, which are able to receive the response
+   * incrementally, should override this function.
+   */
   public void streamPost(
       String requestPath,
       Map<String, String> headers,
       byte[] requestBody,
       TransportClientStreamingCallback callback,
       int keyCount) {
-    throw new VeniceClientException("'streamPost' is not supported.");
+    try {
+      post(requestPath, headers, requestBody).whenComplete((response, throwable) -> {
+        if (throwable != null) {
+          callback.onCompletion(
+              Optional.of(
+                  throwable instanceof VeniceClientException
+                      ? (VeniceClientException) throwable
+                      : new VeniceClientException(throwable)));
+          return;
+        }
+        if (response == null) {
+          callback.onCompletion(
+              Optional.of(
+                  new VeniceClientHttpException("Resource not found: " + requestPath, HttpStatus.SC_NOT_FOUND)));
+          return;
+        }
+        // Compose the header map
+        Map<String, String> responseHeaderMap = new HashMap<>();
+        if (response.isSchemaIdValid()) {
+          responseHeaderMap.put(HttpConstants.VENICE_SCHEMA_ID, Integer.toString(response.getSchemaId()));
+        }
+        responseHeaderMap.put(
+            HttpConstants.VENICE_COMPRESSION_STRATEGY,
+            Integer.toString(response.getCompressionStrategy().getValue()));
+        callback.onHeaderReceived(responseHeaderMap);
+        callback.onDataReceived(ByteBuffer.wrap(response.getBody()));
+        callback.onCompletion(Optional.empty());
+      });
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(new VeniceClientException(e)));
+    }
   }
 }
@@ -1,19 +1,36 @@
 package com.linkedin.venice.fastclient.transport;
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestMethod;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.FullEntityReader;
+import com.linkedin.r2.message.stream.entitystream.ReadHandle;
+import com.linkedin.r2.message.stream.entitystream.Reader;
 import com.linkedin.r2.transport.common.Client;
 import com.linkedin.venice.D2.D2ClientUtils;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
+import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.client.store.transport.TransportClientCallback;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.schema.SchemaData;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import org.apache.commons.httpclient.HttpStatus;
 import org.apache.logging.log4j.LogManager;
@@ -52,6 +69,40 @@ public class R2TransportClient extends InternalTransportClient {
     return valueFuture;
   }
 
+  /**
+   * The response is passed to the callback chunk by chunk as it is being received, so that the records in the response
+   * could be decoded before the whole response is received. If the R2 client doesn't support streaming, the whole
+   * response will be passed to the callback as a single chunk once it is fully received.
+   *
+   * The key count is not used here since it is carried by the request headers already.
+   */
+  @Override
+  public void streamPost(
+      String requestUrl,
+      Map<String, String> headers,
+      byte[] requestBody,
+      TransportClientStreamingCallback callback,
+      int keyCount) {
+    StreamRequest request;
+    try {
+      StreamRequestBuilder requestBuilder = new StreamRequestBuilder(URI.create(requestUrl));
+      headers.forEach(requestBuilder::addHeaderValue);
+      requestBuilder.setMethod(RestMethod.POST);
+      request =
+          requestBuilder.build(EntityStreams.newEntityStream(new ByteStringWriter(ByteString.unsafeWrap(requestBody))));
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(new VeniceClientException("Received exception when sending out request", e)));
+      return;
+    }
+    try {
+      r2Client.streamRequest(request, new R2TransportClientStreamingCallback(callback));
+    } catch (UnsupportedOperationException e) {
+      super.streamPost(requestUrl, headers, requestBody, callback, keyCount);
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(new VeniceClientException("Received exception when sending out request", e)));
+    }
+  }
+
   @Override
   public void close() throws IOException {
 
@@ -102,4 +153,99 @@ public class R2TransportClient extends InternalTransportClient {
       completeFuture(statusCode, schemaId, compressionStrategy, body);
     }
   }
+
+  public static class R2TransportClientStreamingCallback implements Callback<StreamResponse> {
+    private final Logger logger = LogManager.getLogger(R2TransportClientStreamingCallback.class);
+    private final TransportClientStreamingCallback callback;
+
+    public R2TransportClientStreamingCallback(TransportClientStreamingCallback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      if (e instanceof StreamException) {
+        // Get the StreamResponse for status codes other than 200
+        onErrorResponse(((StreamException) e).getResponse());
+      } else {
+        logger.error("", e);
+        callback.onCompletion(Optional.of(new VeniceClientException(e)));
+      }
+    }
+
+    @Override
+    public void onSuccess(StreamResponse result) {
+      int statusCode = result.getStatus();
+      if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+        onErrorResponse(result);
+        return;
+      }
+      callback.onHeaderReceived(result.getHeaders());
+      /**
+       * All the operations in Reader are synchronized to guarantee that the chunks are passed to the callback in
+       * order, and the callback is completed at most once after all the chunks.
+       */
+      result.getEntityStream().setReader(new Reader() {
+        private boolean isDone = false;
+        private ReadHandle rh;
+
+        @Override
+        public synchronized void onInit(ReadHandle rh) {
+          this.rh = rh;
+          rh.request(10);
+        }
+
+        @Override
+        public synchronized void onDataAvailable(ByteString data) {
+          if (isDone) {
+            logger.warn("Received data after completion and data length: {}", data.length());
+            return;
+          }
+          callback.onDataReceived(data.asByteBuffer());
+          rh.request(1);
+        }
+
+        @Override
+        public synchronized void onDone() {
+          if (isDone) {
+            logger.warn("onDone got invoked after completion");
+            return;
+          }
+          isDone = true;
+          callback.onCompletion(Optional.empty());
+        }
+
+        @Override
+        public synchronized void onError(Throwable e) {
+          if (isDone) {
+            logger.warn("onError got invoked after completion");
+            return;
+          }
+          isDone = true;
+          callback.onCompletion(Optional.of(new VeniceClientException(e)));
+        }
+      });
+    }
+
+    private void onErrorResponse(StreamResponse response) {
+      int statusCode = response.getStatus();
+      response.getEntityStream().setReader(new FullEntityReader(new Callback<ByteString>() {
+        @Override
+        public void onError(Throwable e) {
+          callback.onCompletion(Optional.of(new VeniceClientHttpException(statusCode)));
+        }
+
+        @Override
+        public void onSuccess(ByteString body) {
+          // Only convert body from `ByteString` to `String` when necessary since it is quite expensive
+          String msg = body.asString(StandardCharsets.UTF_8);
+          if (statusCode == VeniceClientRateExceededException.HTTP_TOO_MANY_REQUESTS) {
+            callback.onCompletion(Optional.of(new VeniceClientRateExceededException(msg)));
+          } else {
+            callback.onCompletion(Optional.of(new VeniceClientHttpException(msg, statusCode)));
+          }
+        }
+      }));
+    }
+  }
 }
@@ -0,0 +1,156 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class CachingAvroGenericStoreClientTest {
+  private static final String KEY = "test_key";
+  private static final long TTL_IN_MS = 1000;
+  private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
+
+  private InternalAvroStoreClient<String, String> innerClient;
+  private StoreMetadata metadata;
+  private TestMockTime time;
+  private ClientConfig clientConfig;
+  private CachingAvroGenericStoreClient<String, String> cachingClient;
+
+  @BeforeMethod
+  public void setUp() {
+    clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName("test_store")
+        .setR2Client(mock(Client.class))
+        .setNearCacheMaxEntryCount(100)
+        .setNearCacheTtlInMs(TTL_IN_MS)
+        .build();
+    innerClient = mock(InternalAvroStoreClient.class);
+    doReturn(STRING_SCHEMA).when(innerClient).getKeySchema();
+    metadata = mock(StoreMetadata.class);
+    doReturn(1).when(metadata).getCurrentStoreVersion();
+    time = new TestMockTime();
+    cachingClient = new CachingAvroGenericStoreClient<>(innerClient, clientConfig, metadata, time);
+  }
+
+  @Test
+  public void testCachedValueIsServedUntilExpiration() throws ExecutionException, InterruptedException {
+    doReturn(CompletableFuture.completedFuture("value_1")).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    assertEquals(cachingClient.get(new GetRequestContext(), KEY).get(), "value_1");
+
+    GetRequestContext requestContext = new GetRequestContext();
+    assertEquals(cachingClient.get(requestContext, KEY).get(), "value_1");
+    assertEquals(requestContext.successRequestKeyCount.get(), 1);
+    verify(innerClient, times(1)).get(any(GetRequestContext.class), eq(KEY));
+
+    // The expired value is fetched again
+    doReturn(CompletableFuture.completedFuture("value_2")).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    time.addMilliseconds(TTL_IN_MS + 1);
+    assertEquals(cachingClient.get(new GetRequestContext(), KEY).get(), "value_2");
+    verify(innerClient, times(2)).get(any(GetRequestContext.class), eq(KEY));
+  }
+
+  @Test
+  public void testNewVersionIsNotServedFromPreviousVersion() throws ExecutionException, InterruptedException {
+    doReturn(CompletableFuture.completedFuture("value_1")).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    assertEquals(cachingClient.get(new GetRequestContext(), KEY).get(), "value_1");
+
+    doReturn(2).when(metadata).getCurrentStoreVersion();
+    doReturn(CompletableFuture.completedFuture("value_2")).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    assertEquals(cachingClient.get(new GetRequestContext(), KEY).get(), "value_2");
+    verify(innerClient, times(2)).get(any(GetRequestContext.class), eq(KEY));
+  }
+
+  @Test
+  public void testConcurrentMissesAreCoalesced() throws ExecutionException, InterruptedException {
+    CompletableFuture<String> innerFuture = new CompletableFuture<>();
+    doReturn(innerFuture).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    CompletableFuture<String> firstFuture = cachingClient.get(new GetRequestContext(), KEY);
+    CompletableFuture<String> secondFuture = cachingClient.get(new GetRequestContext(), KEY);
+    assertSame(firstFuture, innerFuture);
+    verify(innerClient, times(1)).get(any(GetRequestContext.class), eq(KEY));
+
+    innerFuture.complete("value");
+    assertEquals(secondFuture.get(), "value");
+  }
+
+  @Test
+  public void testMissingKeysAndFailuresAreNotCached() throws ExecutionException, InterruptedException {
+    CompletableFuture<String> failedFuture = new CompletableFuture<>();
+    doReturn(failedFuture).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    CompletableFuture<String> firstFuture = cachingClient.get(new GetRequestContext(), KEY);
+    CompletableFuture<String> secondFuture = cachingClient.get(new GetRequestContext(), KEY);
+    failedFuture.completeExceptionally(new VeniceClientException("test"));
+    // The coalesced request receives the original exception
+    ExecutionException e = expectThrows(ExecutionException.class, secondFuture::get);
+    assertTrue(e.getCause() instanceof VeniceClientException);
+    assertTrue(firstFuture.isCompletedExceptionally());
+
+    doReturn(CompletableFuture.completedFuture(null)).when(innerClient).get(any(GetRequestContext.class), eq(KEY));
+    assertNull(cachingClient.get(new GetRequestContext(), KEY).get());
+    assertNull(cachingClient.get(new GetRequestContext(), KEY).get());
+    verify(innerClient, times(3)).get(any(GetRequestContext.class), eq(KEY));
+    assertEquals(cachingClient.getCachedEntryCount(), 0);
+  }
+
+  @Test
+  public void testEntriesAreKeyedBySerializedKey() throws ExecutionException, InterruptedException {
+    InternalAvroStoreClient<CharSequence, String> innerUtf8Client = mock(InternalAvroStoreClient.class);
+    doReturn(STRING_SCHEMA).when(innerUtf8Client).getKeySchema();
+    doReturn(CompletableFuture.completedFuture("value")).when(innerUtf8Client).get(any(GetRequestContext.class), any());
+    CachingAvroGenericStoreClient<CharSequence, String> utf8CachingClient =
+        new CachingAvroGenericStoreClient<>(innerUtf8Client, clientConfig, metadata, time);
+
+    Utf8 key = new Utf8(KEY);
+    assertEquals(utf8CachingClient.get(new GetRequestContext(), key).get(), "value");
+    // Modifying the key after the request doesn't affect the cached entry
+    key.set("another_key");
+    assertEquals(utf8CachingClient.get(new GetRequestContext(), KEY).get(), "value");
+    assertEquals(utf8CachingClient.get(new GetRequestContext(), new Utf8(KEY)).get(), "value");
+    verify(innerUtf8Client, times(1)).get(any(GetRequestContext.class), any());
+  }
+
+  @Test
+  public void testCallersReceiveSeparateRecords() throws ExecutionException, InterruptedException {
+    Schema valueSchema = SchemaBuilder.record("TestRecord").fields().requiredString("field").endRecord();
+    GenericRecord value = new GenericData.Record(valueSchema);
+    value.put("field", "value");
+    InternalAvroStoreClient<String, GenericRecord> innerRecordClient = mock(InternalAvroStoreClient.class);
+    doReturn(STRING_SCHEMA).when(innerRecordClient).getKeySchema();
+    doReturn(CompletableFuture.completedFuture(value)).when(innerRecordClient)
+        .get(any(GetRequestContext.class), eq(KEY));
+    CachingAvroGenericStoreClient<String, GenericRecord> recordCachingClient =
+        new CachingAvroGenericStoreClient<>(innerRecordClient, clientConfig, metadata, time);
+
+    assertSame(recordCachingClient.get(new GetRequestContext(), KEY).get(), value);
+    // Modifying the returned record doesn't affect the cached one
+    value.put("field", "modified");
+    GenericRecord firstCachedValue = recordCachingClient.get(new GetRequestContext(), KEY).get();
+    GenericRecord secondCachedValue = recordCachingClient.get(new GetRequestContext(), KEY).get();
+    assertEquals(firstCachedValue.get("field").toString(), "value");
+    assertEquals(secondCachedValue, firstCachedValue);
+    assertNotSame(secondCachedValue, firstCachedValue);
+    verify(innerRecordClient, times(1)).get(any(GetRequestContext.class), eq(KEY));
+  }
+}
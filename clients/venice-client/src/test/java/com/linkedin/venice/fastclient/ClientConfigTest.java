@@ -81,6 +81,14 @@ public class ClientConfigTest {
     clientConfigBuilder.build();
   }
 
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "nearCacheTtlInMs must be positive.*")
+  public void testClientWithNearCacheAndInvalidTtl() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setNearCacheMaxEntryCount(1000);
+    clientConfigBuilder.setNearCacheTtlInMs(0);
+    clientConfigBuilder.build();
+  }
+
   @Test
   public void testLongTailRetryWithDualRead() {
     ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
@@ -8,8 +8,11 @@ import static com.linkedin.venice.fastclient.meta.RequestBasedMetadataTestUtils.
 import static com.linkedin.venice.fastclient.meta.RequestBasedMetadataTestUtils.getMockRouterBackedSchemaReader;
 import static com.linkedin.venice.schema.Utils.loadSchemaFileAsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -26,13 +29,16 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.fastclient.meta.RequestBasedMetadataTestUtils;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.transport.InternalTransportClient;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
 import com.linkedin.venice.fastclient.utils.ClientTestUtils;
 import com.linkedin.venice.meta.Store;
@@ -56,8 +62,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -191,7 +199,8 @@ public class DispatchingAvroGenericStoreClientTest {
 
     mockedTransportClient = null;
     if (mockTransportClient) {
-      mockedTransportClient = mock(TransportClient.class);
+      // The real buffered streamPost is used, so that it is backed by the mocked post
+      mockedTransportClient = mock(InternalTransportClient.class, CALLS_REAL_METHODS);
       dispatchingAvroGenericStoreClient =
           new DispatchingAvroGenericStoreClient(storeMetadata, clientConfig, mockedTransportClient);
     } else {
@@ -896,6 +905,60 @@ public class DispatchingAvroGenericStoreClientTest {
     }
   }
 
+  /**
+   * Condition to test: streamingBatchGet(keys, callback) API delivers the records as soon as they are decoded.
+   * setup: the response for the route of 1 key is received in 2 chunks, and the response isn't completed yet.
+   * Behavior: the record is delivered to the callback before the response of that route is completed.
+   */
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testStreamingBatchGetDeliversRecordsBeforeResponseCompletion() throws IOException, InterruptedException {
+    try {
+      setUpClient();
+      CompletableFuture<TransportClientStreamingCallback> routeCallbackFuture = new CompletableFuture<>();
+      doAnswer(invocation -> {
+        routeCallbackFuture.complete(invocation.getArgument(3));
+        return null;
+      }).when(mockedTransportClient)
+          .streamPost(eq(REPLICA1_NAME + "/storage/test_store_v1"), any(), any(), any(), anyInt());
+
+      Map<String, GenericRecord> receivedRecords = new ConcurrentHashMap<>();
+      CompletableFuture<Optional<Exception>> completionFuture = new CompletableFuture<>();
+      statsAvroGenericStoreClient.streamingBatchGet(BATCH_GET_KEYS, new StreamingCallback<String, GenericRecord>() {
+        @Override
+        public void onRecordReceived(String key, GenericRecord value) {
+          receivedRecords.put(key, value);
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          completionFuture.complete(exception);
+        }
+      });
+
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> assertTrue(routeCallbackFuture.isDone()));
+      TransportClientStreamingCallback routeCallback = routeCallbackFuture.join();
+      Map<String, String> headers = new HashMap<>();
+      headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+      headers.put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(CompressionStrategy.NO_OP.getValue()));
+      routeCallback.onHeaderReceived(headers);
+      byte[] body = serializeBatchGetResponse(BATCH_GET_PARTIAL_KEYS_1);
+      int firstChunkSize = body.length / 2;
+      routeCallback.onDataReceived(ByteBuffer.wrap(body, 0, firstChunkSize));
+      routeCallback.onDataReceived(ByteBuffer.wrap(body, firstChunkSize, body.length - firstChunkSize));
+
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        assertEquals(receivedRecords.get("test_key_1"), BATCH_GET_VALUE_RESPONSE.get("test_key_1"));
+      });
+      assertFalse(completionFuture.isDone());
+
+      routeCallback.onCompletion(Optional.empty());
+      assertFalse(completionFuture.join().isPresent());
+      assertEquals(receivedRecords, BATCH_GET_VALUE_RESPONSE);
+    } finally {
+      tearDown();
+    }
+  }
+
   /**
    * Condition to test: streamingBatchGet(keys) API returns partial results in case of future.get(timeout)
    * setup: 1 key returns valid value and the other key doesn't return anything.
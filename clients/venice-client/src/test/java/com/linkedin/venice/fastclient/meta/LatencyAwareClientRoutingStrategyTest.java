@@ -0,0 +1,71 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class LatencyAwareClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(String[] instances, boolean[] blocked, double[] scores) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    if (instances.length != blocked.length || blocked.length != scores.length) {
+      throw new IllegalArgumentException("The length of each array param should be same");
+    }
+    for (int i = 0; i < instances.length; ++i) {
+      String instance = instances[i];
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instance);
+      doReturn(scores[i]).when(instanceHealthMonitor).getInstanceScore(instance);
+    }
+    return instanceHealthMonitor;
+  }
+
+  @Test
+  public void testSlowReplicaIsAvoided() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    InstanceHealthMonitor instanceHealthMonitor =
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, false, false }, new double[] { 1000, 2, 1 });
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor);
+
+    // The worst replica always loses the comparison, so it is never selected when fewer replicas are required
+    for (int i = 0; i < 100; i++) {
+      List<String> selectedReplicas = strategy.getReplicas(i, replicas, 2);
+      assertEquals(new HashSet<>(selectedReplicas), new HashSet<>(Arrays.asList(instance2, instance3)));
+    }
+    // The second best replica still receives some traffic, when compared with the worst one
+    boolean instance2Selected = false;
+    for (int i = 0; i < 100 && !instance2Selected; i++) {
+      List<String> selectedReplicas = strategy.getReplicas(i, replicas, 1);
+      assertEquals(selectedReplicas.size(), 1);
+      assertFalse(selectedReplicas.contains(instance1));
+      instance2Selected = selectedReplicas.contains(instance2);
+    }
+    assertTrue(instance2Selected);
+    // The input list is not modified
+    assertEquals(replicas, Arrays.asList(instances));
+  }
+
+  @Test
+  public void testGetReplicasWithBlockedReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = new ArrayList<>(Arrays.asList(instances));
+    InstanceHealthMonitor instanceHealthMonitor =
+        mockInstanceHealthyMonitor(instances, new boolean[] { true, false, false }, new double[] { 0, 5, 4 });
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor);
+    // All the available replicas are returned, best first
+    assertEquals(strategy.getReplicas(0, replicas, 2), Arrays.asList(instance3, instance2));
+    assertEquals(strategy.getReplicas(1, replicas, 3), Arrays.asList(instance3, instance2));
+  }
+}
@@ -1,16 +1,25 @@
 package com.linkedin.venice.fastclient.transport;
 
 import static com.linkedin.venice.fastclient.utils.ClientTestUtils.FASTCLIENT_HTTP_VARIANTS;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.r2.transport.common.Client;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.fastclient.utils.ClientTestUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -66,11 +75,43 @@ public class R2TransportClientTest {
     }
   }
 
-  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "'streamPost' is not supported.")
-  public void testStreamPost() throws Exception {
-    Client r2Client = ClientTestUtils.getR2Client(ClientTestUtils.FastClientHTTPVariant.HTTP_2_BASED_HTTPCLIENT5);
+  @DataProvider(name = "fastClientHTTPVariants")
+  public static Object[][] httpVariants() {
+    return DataProviderUtils.allPermutationGenerator(FASTCLIENT_HTTP_VARIANTS);
+  }
+
+  @Test(dataProvider = "fastClientHTTPVariants")
+  public void testStreamPostToUnreachableHost(ClientTestUtils.FastClientHTTPVariant fastClientHTTPVariant)
+      throws Exception {
+    Client r2Client = ClientTestUtils.getR2Client(fastClientHTTPVariant);
     R2TransportClient r2TransportClient = new R2TransportClient(r2Client);
 
-    r2TransportClient.streamPost(null, null, null, null, 0);
+    String fakeUrl = "https://fake.host/test_path";
+    AtomicBoolean headerReceived = new AtomicBoolean(false);
+    CompletableFuture<Optional<VeniceClientException>> completionFuture = new CompletableFuture<>();
+    try {
+      r2TransportClient
+          .streamPost(fakeUrl, Collections.emptyMap(), "".getBytes(), new TransportClientStreamingCallback() {
+            @Override
+            public void onHeaderReceived(Map<String, String> headers) {
+              headerReceived.set(true);
+            }
+
+            @Override
+            public void onDataReceived(ByteBuffer chunk) {
+              fail("No data is expected from an unreachable host");
+            }
+
+            @Override
+            public void onCompletion(Optional<VeniceClientException> exception) {
+              completionFuture.complete(exception);
+            }
+          }, 1);
+      Optional<VeniceClientException> exception = completionFuture.get(30, TimeUnit.SECONDS);
+      assertTrue(exception.isPresent(), "The failure should be passed to the streaming callback");
+      assertFalse(headerReceived.get());
+    } finally {
+      r2Client.shutdown(null);
+    }
   }
 }
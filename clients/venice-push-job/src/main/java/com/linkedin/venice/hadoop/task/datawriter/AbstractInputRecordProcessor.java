@@ -161,6 +161,11 @@ public abstract class AbstractInputRecordProcessor<INPUT_KEY, INPUT_VALUE> exten
               dataWriterTaskTracker.trackZstdCompressedValueSize(compressedRecordValue.length);
               break;
 
+            case LZ4:
+            case ZSTD_NO_DICT:
+              // Only initialized when configured, in which case the compressed value size is already collected
+              break;
+
             default:
               // NO_OP won't reach here as its collected already for all cases.
               // ZSTD won't reach here as its deprecated, so not initialized.
@@ -238,6 +243,14 @@ public abstract class AbstractInputRecordProcessor<INPUT_KEY, INPUT_VALUE> exten
             // deprecated
             break;
 
+          case LZ4:
+          case ZSTD_NO_DICT:
+            // Metrics are not collected for these, so they are only needed when they are the configured strategy
+            if (compressionStrategy == this.compressionStrategy) {
+              this.compressors[compressionStrategy.getValue()] = compressorFactory.getCompressor(compressionStrategy);
+            }
+            break;
+
           default: // defensive check
             throw new VeniceException(
                 "Support for compression Strategy: " + compressionStrategy.name() + " needs to be added");
@@ -78,6 +78,8 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private int topK = 0;
+  private String topKResultFieldName = null;
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
     this.latestValueSchemaId = schemaReader.getLatestValueSchemaId();
@@ -153,6 +155,19 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return this;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> topK(int k, String resultFieldName) {
+    if (k <= 0) {
+      throw new VeniceClientException("K should be positive, but got: " + k);
+    }
+    if (resultFieldName == null) {
+      throw new VeniceClientException("Top-K result field name should not be null");
+    }
+    this.topK = k;
+    this.topKResultFieldName = resultFieldName;
+    return this;
+  }
+
   /**
    * Generate compute spec for projections, dot-product and cosine-similarity.
    * @return common compute spec
@@ -305,7 +320,8 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     streamResultFuture.whenComplete((response, throwable) -> {
       if (throwable != null) {
         resultFuture.completeExceptionally(throwable);
-      } else if (!response.isFullResponse()) {
+      } else if (!response.isFullResponse() && topK == 0) {
+        // A top-K response never covers all the keys, so it is complete as soon as the request succeeds
         resultFuture.completeExceptionally(
             new VeniceClientException(
                 "Received partial response, returned entry count: " + response.getTotalEntryCount()
@@ -354,6 +370,10 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
         if (exception.isPresent()) {
           resultFuture.completeExceptionally(exception.get());
         } else {
+          /**
+           * The keys outside the top-K are reported neither as results nor as non-existing keys, so a top-K response
+           * is only full when it covers all the keys, like any other response.
+           */
           boolean isFullResponse = resultMap.size() + nonExistingKeyList.size() == keys.size();
           resultFuture.complete(new VeniceResponseMapImpl(resultMap, nonExistingKeyList, isFullResponse));
         }
@@ -382,9 +402,26 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     SchemaAndToString resultSchema = getResultSchema();
     // Generate ComputeRequest object
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, originallyStreaming);
+    if (topK > 0) {
+      checkTopKResultField();
+      computeRequestWrapper.setTopK(topK, topKResultFieldName);
+      callback = new TopKComputeStreamingCallback<>(callback, topK, topKResultFieldName);
+    }
     storeClient.compute(computeRequestWrapper, keys, resultSchema.getSchema(), callback, preRequestTimeInNS);
   }
 
+  private void checkTopKResultField() {
+    boolean isScoreField =
+        dotProducts.stream().anyMatch(dotProduct -> topKResultFieldName.equals(dotProduct.resultFieldName.toString()))
+            || cosineSimilarities.stream()
+                .anyMatch(cosineSimilarity -> topKResultFieldName.equals(cosineSimilarity.resultFieldName.toString()));
+    if (!isScoreField) {
+      throw new VeniceClientException(
+          "Top-K result field: " + topKResultFieldName
+              + " should be the result field of a dot-product or cosine-similarity operation");
+    }
+  }
+
   protected void checkComputeFieldValidity(
       String computeFieldName,
       String resultFieldName,
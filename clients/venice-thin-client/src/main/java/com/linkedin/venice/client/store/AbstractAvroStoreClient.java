@@ -625,10 +625,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     byte[] serializedRequest = serializeComputeRequest(computeRequest, keyList, stats);
     transportClient.streamPost(
         getComputeRequestPath(),
-        RequestHeadersProvider.getStreamingComputeHeaderMap(
-            keyList.size(),
-            computeRequest.getValueSchemaID(),
-            clientConfig.isRemoteComputationOnly()),
+        RequestHeadersProvider
+            .getStreamingComputeHeaderMap(keyList.size(), computeRequest, clientConfig.isRemoteComputationOnly()),
         serializedRequest,
         callback,
         keyList.size());
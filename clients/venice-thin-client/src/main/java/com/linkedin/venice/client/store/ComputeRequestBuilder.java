@@ -69,6 +69,19 @@ public interface ComputeRequestBuilder<K> {
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Only return the K records with the highest value of the given result field, which must be the result field of a
+   * dot-product or cosine-similarity operation. The records of the other keys, including the non-existing ones, are
+   * not returned, and {@link StreamingCallback#onRecordReceived} is invoked by descending score once all the records
+   * have been received.
+   * @param k : number of records to return
+   * @param resultFieldName : result field name of a dot-product or cosine-similarity operation
+   * @return
+   */
+  default ComputeRequestBuilder<K> topK(int k, String resultFieldName) {
+    throw new VeniceClientException("Top-K is not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * @param keys : keys for the candidate records
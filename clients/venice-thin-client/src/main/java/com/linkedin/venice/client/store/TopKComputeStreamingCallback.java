@@ -0,0 +1,62 @@
+package com.linkedin.venice.client.store;
+
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compute.TopKCollector;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.Pair;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Merges the partial top-K results returned by the storage nodes into the final top-K, and only hands the K records
+ * with the highest score to the user callback, by descending score, once the whole response has been received.
+ *
+ * The records received from a storage node which doesn't support top-K requests are simply all candidates, so the
+ * final result is the same either way.
+ */
+class TopKComputeStreamingCallback<K> implements StreamingCallback<K, ComputeGenericRecord> {
+  private final StreamingCallback<K, ComputeGenericRecord> delegate;
+  private final String resultFieldName;
+  private final TopKCollector<Pair<K, ComputeGenericRecord>> collector;
+
+  TopKComputeStreamingCallback(StreamingCallback<K, ComputeGenericRecord> delegate, int k, String resultFieldName) {
+    this.delegate = delegate;
+    this.resultFieldName = resultFieldName;
+    this.collector = new TopKCollector<>(k);
+  }
+
+  @Override
+  public void onRecordReceived(K key, ComputeGenericRecord value) {
+    if (value == null) {
+      return;
+    }
+    Object score;
+    try {
+      score = value.get(resultFieldName);
+    } catch (VeniceException e) {
+      // The operation failed for this record, which is never part of the top-K then.
+      return;
+    }
+    if (!(score instanceof Number)) {
+      return;
+    }
+    synchronized (collector) {
+      collector.offer(((Number) score).floatValue(), Pair.create(key, value));
+    }
+  }
+
+  @Override
+  public void onCompletion(Optional<Exception> exception) {
+    if (!exception.isPresent()) {
+      List<Pair<K, ComputeGenericRecord>> topRecords;
+      synchronized (collector) {
+        topRecords = collector.drainDescending();
+      }
+      for (Pair<K, ComputeGenericRecord> record: topRecords) {
+        delegate.onRecordReceived(record.getFirst(), record.getSecond());
+      }
+    }
+    delegate.onCompletion(exception);
+  }
+}
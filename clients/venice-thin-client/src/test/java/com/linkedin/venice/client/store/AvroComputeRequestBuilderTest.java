@@ -482,6 +482,64 @@ public class AvroComputeRequestBuilderTest {
         });
   }
 
+  @Test
+  public void testTopK() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    ArgumentCaptor<Schema> resultSchemaCaptor = ArgumentCaptor.forClass(Schema.class);
+    ArgumentCaptor<StreamingCallback> callbackCaptor = ArgumentCaptor.forClass(StreamingCallback.class);
+    List<String> receivedKeys = new ArrayList<>();
+    List<Optional<Exception>> completions = new ArrayList<>();
+
+    new AvroComputeRequestBuilderV3<String>(mockClient, mockClient.getSchemaReader())
+        .dotProduct("float_array_field1", dotProductParam, "score")
+        .topK(2, "score")
+        .streamingExecute(keys, new StreamingCallback<String, ComputeGenericRecord>() {
+          @Override
+          public void onRecordReceived(String key, ComputeGenericRecord value) {
+            receivedKeys.add(key);
+          }
+
+          @Override
+          public void onCompletion(Optional<Exception> exception) {
+            completions.add(exception);
+          }
+        });
+    verify(mockClient).compute(
+        computeRequestCaptor.capture(),
+        Mockito.any(),
+        resultSchemaCaptor.capture(),
+        callbackCaptor.capture(),
+        Mockito.anyLong());
+    ComputeRequestWrapper capturedComputeRequest = computeRequestCaptor.getValue();
+    Assert.assertTrue(capturedComputeRequest.isTopKRequest());
+    Assert.assertEquals(capturedComputeRequest.getTopK(), 2);
+    Assert.assertEquals(capturedComputeRequest.getTopKResultFieldName(), "score");
+
+    Schema resultSchema = resultSchemaCaptor.getValue();
+    StreamingCallback<String, ComputeGenericRecord> callback = callbackCaptor.getValue();
+    float[] scores = { 1.0f, 4.0f, 2.0f, 3.0f };
+    for (int i = 0; i < scores.length; i++) {
+      GenericRecord record = new GenericData.Record(resultSchema);
+      record.put("score", scores[i]);
+      callback.onRecordReceived("key_" + i, new ComputeGenericRecord(record, VALID_RECORD_SCHEMA));
+    }
+    callback.onRecordReceived("missing_key", null);
+    Assert.assertTrue(receivedKeys.isEmpty());
+    callback.onCompletion(Optional.empty());
+    Assert.assertEquals(receivedKeys, Arrays.asList("key_1", "key_3"));
+    Assert.assertEquals(completions, Arrays.asList(Optional.empty()));
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "Top-K result field: .* should be the result field of a dot-product or cosine-similarity operation")
+  public void testTopKAgainstNonScoreField() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    new AvroComputeRequestBuilderV3<String>(mockClient, mockClient.getSchemaReader())
+        .hadamardProduct("float_array_field1", hadamardProductParam, "hadamard_product_result")
+        .topK(2, "hadamard_product_result")
+        .execute(keys);
+  }
+
   private AbstractAvroStoreClient getMockClient(Schema valueSchema) {
     AbstractAvroStoreClient mockClient = mock(AbstractAvroStoreClient.class);
     String storeName = Utils.getUniqueString("store_for_mock_client");
@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
@@ -15,6 +16,11 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
 import io.netty.util.AttributeKey;
 import io.netty.util.AttributeMap;
 import io.netty.util.concurrent.EventExecutorGroup;
@@ -58,6 +64,16 @@ public class NettyUtils {
       public NioEventLoopGroup newEventLoopGroup(int nThreads, Executor executor) {
         return new NioEventLoopGroup(nThreads, executor);
       }
+
+      @Override
+      public NioEventLoopGroup newEventLoopGroup(int nThreads) {
+        return new NioEventLoopGroup(nThreads);
+      }
+
+      @Override
+      public boolean isAvailable() {
+        return true;
+      }
     },
 
     EPOLL {
@@ -85,6 +101,60 @@ public class NettyUtils {
       public EpollEventLoopGroup newEventLoopGroup(int nThreads, Executor executor) {
         return new EpollEventLoopGroup(nThreads, executor);
       }
+
+      @Override
+      public EpollEventLoopGroup newEventLoopGroup(int nThreads) {
+        return new EpollEventLoopGroup(nThreads);
+      }
+
+      @Override
+      public boolean isAvailable() {
+        return Epoll.isAvailable();
+      }
+    },
+
+    /**
+     * Requires Linux 5.9+, and is backed by the incubator transport of Netty.
+     */
+    IO_URING {
+      @Override
+      public Class<IOUringSocketChannel> socketChannel() {
+        return IOUringSocketChannel.class;
+      }
+
+      @Override
+      public Class<IOUringServerSocketChannel> serverSocketChannel() {
+        return IOUringServerSocketChannel.class;
+      }
+
+      @Override
+      public Class<IOUringDatagramChannel> datagramChannel() {
+        return IOUringDatagramChannel.class;
+      }
+
+      @Override
+      public IOUringEventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+        return new IOUringEventLoopGroup(nThreads, threadFactory);
+      }
+
+      @Override
+      public IOUringEventLoopGroup newEventLoopGroup(int nThreads, Executor executor) {
+        return new IOUringEventLoopGroup(nThreads, executor);
+      }
+
+      @Override
+      public IOUringEventLoopGroup newEventLoopGroup(int nThreads) {
+        return new IOUringEventLoopGroup(nThreads);
+      }
+
+      @Override
+      public boolean isAvailable() {
+        try {
+          return IOUring.isAvailable();
+        } catch (LinkageError e) {
+          return false;
+        }
+      }
     };
 
     public abstract Class<? extends SocketChannel> socketChannel();
@@ -96,6 +166,24 @@ public class NettyUtils {
     public abstract EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory);
 
     public abstract EventLoopGroup newEventLoopGroup(int nThreads, Executor executor);
+
+    /**
+     * @param nThreads the number of event loops, or 0 for the default of Netty, which is twice the number of cores.
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int nThreads);
+
+    /**
+     * @return whether the native libraries of this transport can be loaded on the current platform.
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * @return this mode if it is available on the current platform, otherwise {@link #NIO}.
+     */
+    @Nonnull
+    public Mode orNioIfUnavailable() {
+      return isAvailable() ? this : NIO;
+    }
   }
 
   public enum ReadMode {
@@ -32,6 +32,19 @@ public class HttpConstants {
 
   public static final String VENICE_COMPUTE_VALUE_SCHEMA_ID = "X-VENICE-COMPUTE-VALUE-SCHEMA-ID";
 
+  /**
+   * When present on a compute request, the server only returns the records with the K highest values of the result
+   * field named by {@link #VENICE_COMPUTE_TOP_K_FIELD}, and the partial top-K of each server are merged by the router
+   * and the client.
+   */
+  public static final String VENICE_COMPUTE_TOP_K = "X-VENICE-COMPUTE-TOP-K";
+  public static final String VENICE_COMPUTE_TOP_K_FIELD = "X-VENICE-COMPUTE-TOP-K-FIELD";
+  /**
+   * Set by the server on the response of a top-K compute request: the comma-separated scores of the returned records,
+   * which are sorted by descending score, so that the router can merge the partial top-K without decoding the results.
+   */
+  public static final String VENICE_COMPUTE_TOP_K_SCORES = "X-VENICE-COMPUTE-TOP-K-SCORES";
+
   public static final String VENICE_ALLOW_REDIRECT = "X-VENICE-ALLOW-REDIRECT";
 
   public static final String VENICE_CLIENT_COMPUTE = "X-VENICE-CLIENT-COMPUTE";
@@ -10,7 +10,15 @@ import java.util.List;
  */
 public enum CompressionStrategy implements VeniceEnumValue {
   NO_OP(0, false), GZIP(1, true), @Deprecated
-  ZSTD(2, true), ZSTD_WITH_DICT(3, true);
+  ZSTD(2, true), ZSTD_WITH_DICT(3, true),
+  /**
+   * LZ4 block compression, which trades some compression ratio for a much cheaper decompression than GZIP.
+   */
+  LZ4(4, true),
+  /**
+   * Zstd compression at a fast level, without any dictionary, so that it does not depend on a push job to train one.
+   */
+  ZSTD_NO_DICT(5, true);
 
   private final int value;
   private final boolean compressionEnabled;
@@ -0,0 +1,188 @@
+package com.linkedin.venice.compression;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.commons.io.IOUtils;
+
+
+/**
+ * Compresses each value into a single LZ4 block, prefixed by the size of the decompressed value, so that the output of
+ * the decompression can be allocated upfront, and so that direct buffers can be decompressed into direct buffers
+ * without any intermediate copy.
+ *
+ * The LZ4 compressor and decompressor are stateless, so this class is thread-safe.
+ */
+public class Lz4Compressor extends VeniceCompressor {
+  private static final int DECOMPRESSED_SIZE_LENGTH = ByteUtils.SIZE_OF_INT;
+  /**
+   * Each byte of an LZ4 block expands to at most 255 bytes, so a larger declared size can only come from a corrupted
+   * payload, which must not be trusted for the allocation of the output.
+   */
+  private static final long MAX_COMPRESSION_RATIO = 255;
+
+  private final LZ4Compressor compressor;
+  private final LZ4SafeDecompressor decompressor;
+
+  public Lz4Compressor() {
+    super(CompressionStrategy.LZ4);
+    LZ4Factory factory = LZ4Factory.fastestInstance();
+    this.compressor = factory.fastCompressor();
+    this.decompressor = factory.safeDecompressor();
+  }
+
+  @Override
+  public byte[] compress(byte[] data) {
+    int maxCompressedSize = compressor.maxCompressedLength(data.length);
+    byte[] output = new byte[DECOMPRESSED_SIZE_LENGTH + maxCompressedSize];
+    ByteUtils.writeInt(output, data.length, 0);
+    int size = compressor.compress(data, 0, data.length, output, DECOMPRESSED_SIZE_LENGTH, maxCompressedSize);
+    return Arrays.copyOf(output, DECOMPRESSED_SIZE_LENGTH + size);
+  }
+
+  @Override
+  public ByteBuffer compress(ByteBuffer data, int startPositionOfOutput) throws IOException {
+    int maxCompressedSize = compressor.maxCompressedLength(data.remaining());
+    int blockPosition = startPositionOfOutput + DECOMPRESSED_SIZE_LENGTH;
+    if (data.hasArray()) {
+      byte[] dst = new byte[blockPosition + maxCompressedSize];
+      ByteUtils.writeInt(dst, data.remaining(), startPositionOfOutput);
+      int size = compressor.compress(
+          data.array(),
+          data.arrayOffset() + data.position(),
+          data.remaining(),
+          dst,
+          blockPosition,
+          maxCompressedSize);
+      return ByteBuffer.wrap(dst, startPositionOfOutput, DECOMPRESSED_SIZE_LENGTH + size);
+    } else if (data.isDirect()) {
+      ByteBuffer output = ByteBuffer.allocateDirect(blockPosition + maxCompressedSize);
+      output.putInt(startPositionOfOutput, data.remaining());
+      // The LZ4 library does not move the positions of the buffers
+      int size = compressor.compress(data, data.position(), data.remaining(), output, blockPosition, maxCompressedSize);
+      output.position(startPositionOfOutput);
+      output.limit(blockPosition + size);
+      return output;
+    } else {
+      throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+    }
+  }
+
+  @Override
+  public ByteBuffer decompress(ByteBuffer data) throws IOException {
+    if (data.hasRemaining()) {
+      if (data.hasArray()) {
+        return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+      } else if (data.isDirect()) {
+        validateCompressedLength(data.remaining());
+        int expectedSize = validateExpectedDecompressedSize(data.getInt(data.position()), data.remaining());
+        ByteBuffer output = ByteBuffer.allocateDirect(expectedSize);
+        int actualSize = decompressor.decompress(
+            data,
+            data.position() + DECOMPRESSED_SIZE_LENGTH,
+            data.remaining() - DECOMPRESSED_SIZE_LENGTH,
+            output,
+            0,
+            expectedSize);
+        validateActualDecompressedSize(actualSize, expectedSize);
+        return output;
+      } else {
+        throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+      }
+    } else {
+      return data;
+    }
+  }
+
+  @Override
+  public ByteBuffer decompress(byte[] data, int offset, int length) throws IOException {
+    validateCompressedLength(length);
+    int expectedSize = validateExpectedDecompressedSize(ByteUtils.readInt(data, offset), length);
+    ByteBuffer returnedData = ByteBuffer.allocate(expectedSize);
+    int actualSize = decompressor.decompress(
+        data,
+        offset + DECOMPRESSED_SIZE_LENGTH,
+        length - DECOMPRESSED_SIZE_LENGTH,
+        returnedData.array(),
+        0,
+        expectedSize);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    return returnedData;
+  }
+
+  @Override
+  public ByteBuffer decompressAndPrependSchemaHeader(byte[] data, int offset, int length, int schemaHeader)
+      throws IOException {
+    validateCompressedLength(length);
+    int expectedSize = validateExpectedDecompressedSize(ByteUtils.readInt(data, offset), length);
+    ByteBuffer result = ByteBuffer.allocate(expectedSize + SCHEMA_HEADER_LENGTH);
+    result.putInt(schemaHeader);
+    int actualSize = decompressor.decompress(
+        data,
+        offset + DECOMPRESSED_SIZE_LENGTH,
+        length - DECOMPRESSED_SIZE_LENGTH,
+        result.array(),
+        SCHEMA_HEADER_LENGTH,
+        expectedSize);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    result.position(SCHEMA_HEADER_LENGTH);
+    return result;
+  }
+
+  /**
+   * Values are compressed into a single block, rather than with the LZ4 framing format, so the whole stream needs to
+   * be read before it can be decompressed.
+   */
+  @Override
+  public InputStream decompress(InputStream inputStream) throws IOException {
+    byte[] compressed = IOUtils.toByteArray(inputStream);
+    ByteBuffer decompressed = decompress(compressed, 0, compressed.length);
+    return new ByteArrayInputStream(decompressed.array(), decompressed.position(), decompressed.remaining());
+  }
+
+  /**
+   * Must be called before the decompressed size is read from the payload.
+   */
+  private static void validateCompressedLength(int compressedLength) {
+    if (compressedLength < DECOMPRESSED_SIZE_LENGTH) {
+      throw new VeniceException("The compressed payload is too short: " + compressedLength);
+    }
+  }
+
+  private static int validateExpectedDecompressedSize(int expectedSize, int compressedLength) {
+    long maxExpectedSize = MAX_COMPRESSION_RATIO * (compressedLength - DECOMPRESSED_SIZE_LENGTH);
+    if (expectedSize < 0 || expectedSize > maxExpectedSize) {
+      throw new VeniceException(
+          "The decompressed payload size (" + expectedSize + ") is invalid for a compressed payload of "
+              + compressedLength + " bytes.");
+    }
+    return expectedSize;
+  }
+
+  private static void validateActualDecompressedSize(int actual, int expected) {
+    if (actual != expected) {
+      throw new VeniceException(
+          "The decompressed payload size (" + actual + ") is not as expected (" + expected + ").");
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    return o != null && o instanceof Lz4Compressor;
+  }
+}
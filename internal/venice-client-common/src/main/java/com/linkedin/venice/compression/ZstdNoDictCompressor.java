@@ -0,0 +1,160 @@
+package com.linkedin.venice.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStream;
+import com.linkedin.venice.utils.concurrent.CloseableThreadLocal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Zstd compression without any dictionary, at a fast level by default. Direct buffers are decompressed into direct
+ * buffers, without any intermediate copy.
+ */
+public class ZstdNoDictCompressor extends VeniceCompressor {
+  /**
+   * Favors the compression speed, since values are compressed on the ingestion path of the leaders.
+   */
+  public static final int DEFAULT_LEVEL = 1;
+
+  private final CloseableThreadLocal<ZstdCompressCtx> compressor;
+  private final CloseableThreadLocal<ZstdDecompressCtx> decompressor;
+  private final int level;
+
+  public ZstdNoDictCompressor() {
+    this(DEFAULT_LEVEL);
+  }
+
+  public ZstdNoDictCompressor(int level) {
+    super(CompressionStrategy.ZSTD_NO_DICT);
+    this.level = level;
+    this.compressor = new CloseableThreadLocal<>(() -> new ZstdCompressCtx().setLevel(level));
+    this.decompressor = new CloseableThreadLocal<>(ZstdDecompressCtx::new);
+  }
+
+  @Override
+  public byte[] compress(byte[] data) {
+    return compressor.get().compress(data);
+  }
+
+  @Override
+  public ByteBuffer compress(ByteBuffer data, int startPositionOfOutput) throws IOException {
+    long maxDstSize = Zstd.compressBound(data.remaining());
+    if (maxDstSize + startPositionOfOutput > Integer.MAX_VALUE) {
+      throw new ZstdException(Zstd.errGeneric(), "Max output size is greater than Integer.MAX_VALUE");
+    }
+    int sizeOfOutput = (int) maxDstSize + startPositionOfOutput;
+    if (data.hasArray()) {
+      byte[] dst = new byte[sizeOfOutput];
+      int size = compressor.get()
+          .compressByteArray(
+              dst,
+              startPositionOfOutput,
+              (int) maxDstSize,
+              data.array(),
+              data.arrayOffset() + data.position(),
+              data.remaining());
+      return ByteBuffer.wrap(dst, startPositionOfOutput, size);
+    } else if (data.isDirect()) {
+      ByteBuffer output = ByteBuffer.allocateDirect(sizeOfOutput);
+      output.position(startPositionOfOutput);
+      int size = compressor.get().compress(output, data.duplicate());
+      output.position(startPositionOfOutput);
+      output.limit(startPositionOfOutput + size);
+      return output;
+    } else {
+      throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+    }
+  }
+
+  @Override
+  public ByteBuffer decompress(ByteBuffer data) throws IOException {
+    if (data.hasRemaining()) {
+      if (data.hasArray()) {
+        return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+      } else if (data.isDirect()) {
+        int expectedSize = validateExpectedDecompressedSize(Zstd.decompressedSize(data));
+        ByteBuffer output = ByteBuffer.allocateDirect(expectedSize);
+        // The source is duplicated since the decompression moves its position to its limit
+        int actualSize = decompressor.get().decompress(output, data.duplicate());
+        output.position(0);
+        validateActualDecompressedSize(actualSize, expectedSize);
+        return output;
+      } else {
+        throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+      }
+    } else {
+      return data;
+    }
+  }
+
+  @Override
+  public ByteBuffer decompress(byte[] data, int offset, int length) throws IOException {
+    int expectedSize = validateExpectedDecompressedSize(Zstd.decompressedSize(data, offset, length));
+    ByteBuffer returnedData = ByteBuffer.allocate(expectedSize);
+    int actualSize = decompressor.get()
+        .decompressByteArray(returnedData.array(), 0, expectedSize, data, offset, length);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    return returnedData;
+  }
+
+  @Override
+  public ByteBuffer decompressAndPrependSchemaHeader(byte[] data, int offset, int length, int schemaHeader)
+      throws IOException {
+    int expectedSize = validateExpectedDecompressedSize(Zstd.decompressedSize(data, offset, length));
+    ByteBuffer result = ByteBuffer.allocate(expectedSize + SCHEMA_HEADER_LENGTH);
+    result.putInt(schemaHeader);
+    int actualSize = decompressor.get()
+        .decompressByteArray(result.array(), SCHEMA_HEADER_LENGTH, expectedSize, data, offset, length);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    result.position(SCHEMA_HEADER_LENGTH);
+    return result;
+  }
+
+  @Override
+  public InputStream decompress(InputStream inputStream) throws IOException {
+    return new ZstdInputStream(inputStream);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.compressor.close();
+    this.decompressor.close();
+  }
+
+  private int validateExpectedDecompressedSize(long expectedSize) {
+    if (expectedSize == 0) {
+      throw new IllegalStateException("The size of the compressed payload cannot be known.");
+    } else if (expectedSize > Integer.MAX_VALUE) {
+      throw new IllegalStateException("The size of the compressed payload is > " + Integer.MAX_VALUE);
+    }
+    return (int) expectedSize;
+  }
+
+  private void validateActualDecompressedSize(int actual, int expected) {
+    if (actual != expected) {
+      throw new IllegalStateException(
+          "The decompressed payload size (" + actual + ") is not as expected (" + expected + ").");
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (o == null || !(o instanceof ZstdNoDictCompressor)) {
+      return false;
+    }
+    return level == ((ZstdNoDictCompressor) o).level;
+  }
+}
@@ -28,6 +28,8 @@ public class ComputeRequestWrapper {
   private final Schema valueSchema;
   private final List<Schema.Field> operationResultFields;
   private final boolean originallyStreaming;
+  private int topK = 0;
+  private String topKResultFieldName = null;
 
   public ComputeRequestWrapper(
       int valueSchemaId,
@@ -72,4 +74,25 @@ public class ComputeRequestWrapper {
   public boolean isRequestOriginallyStreaming() {
     return this.originallyStreaming;
   }
+
+  /**
+   * Restricts the response to the records with the K highest values of the given float result field. This is carried
+   * out of band of the serialized request, so that servers which do not support it simply return all the records.
+   */
+  public void setTopK(int topK, String topKResultFieldName) {
+    this.topK = topK;
+    this.topKResultFieldName = topKResultFieldName;
+  }
+
+  public boolean isTopKRequest() {
+    return this.topK > 0;
+  }
+
+  public int getTopK() {
+    return this.topK;
+  }
+
+  public String getTopKResultFieldName() {
+    return this.topKResultFieldName;
+  }
 }
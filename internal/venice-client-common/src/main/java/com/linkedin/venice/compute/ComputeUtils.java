@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,12 +43,19 @@ import org.apache.logging.log4j.Logger;
 public class ComputeUtils {
   private static final Logger LOGGER = LogManager.getLogger(ComputeUtils.class);
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_FLOAT_ARRAY_PARAM_KEY = "CACHED_FLOAT_ARRAY_PARAM_KEY";
   public static final Pattern VALID_AVRO_NAME_PATTERN = Pattern.compile("\\A[A-Za-z_][A-Za-z0-9_]*\\z");
   public static final String ILLEGAL_AVRO_CHARACTER = "[^A-Za-z0-9_]";
   public static final String ILLEGAL_AVRO_CHARACTER_REPLACEMENT = "_";
   private static final RedundantExceptionFilter REDUNDANT_EXCEPTION_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
 
+  /**
+   * Scratch space used to copy the value vector of the record being computed on. It is only used within the scope of a
+   * single operator invocation, so it is safe to share it across records and requests of the same thread.
+   */
+  private static final ThreadLocal<float[]> REUSABLE_VALUE_VECTOR = ThreadLocal.withInitial(() -> new float[0]);
+
   /**
    * N.B.: This deserializer performs an evolution from the schema of {@link ComputeRequestV3} to that of
    * {@link ComputeRequest}, with the only difference between the two being that the items of the operations list
@@ -191,6 +199,114 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * Copies the given list into a primitive array, without boxing if the list is a {@link PrimitiveFloatList}.
+   *
+   * @param reuse the array to copy into if it is large enough, otherwise a new one is allocated
+   * @return an array whose first {@code list.size()} elements are those of the list
+   */
+  public static float[] toFloatArray(List<Float> list, float[] reuse) {
+    int size = list.size();
+    float[] array = (reuse != null && reuse.length >= size) ? reuse : new float[size];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < size; i++) {
+        array[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        array[i] = list.get(i);
+      }
+    }
+    return array;
+  }
+
+  /**
+   * Copies the value vector of a record into a thread-local scratch array, which is only valid until the next call
+   * from the same thread.
+   */
+  static float[] getValueVectorAsFloatArray(List<Float> valueVector) {
+    float[] reuse = REUSABLE_VALUE_VECTOR.get();
+    float[] array = toFloatArray(valueVector, reuse);
+    if (array != reuse) {
+      REUSABLE_VALUE_VECTOR.set(array);
+    }
+    return array;
+  }
+
+  /**
+   * Converts a compute operation parameter into a primitive array only once per request. The conversion is cached in
+   * the shared context by identity, assuming that the parameter is immutable, which is the case for compute.
+   */
+  static float[] getParamAsFloatArray(List<Float> param, Map<String, Object> context) {
+    IdentityHashMap<List<Float>, float[]> cachedParams =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_FLOAT_ARRAY_PARAM_KEY);
+    if (cachedParams == null) {
+      cachedParams = new IdentityHashMap<>();
+      context.put(CACHED_FLOAT_ARRAY_PARAM_KEY, cachedParams);
+    }
+    float[] array = cachedParams.get(param);
+    if (array == null) {
+      array = toFloatArray(param, null);
+      cachedParams.put(param, array);
+    }
+    return array;
+  }
+
+  /**
+   * Same as {@link #dotProduct(List, List)}, but over the first {@code size} elements of two primitive arrays, which
+   * lets the JIT compile the loop without any virtual call or boxing.
+   */
+  public static float dotProduct(float[] array1, float[] array2, int size) {
+    if (array1.length < size || array2.length < size) {
+      throw new VeniceException(
+          "Arrays are smaller than the given dimension: " + size + ", lengths: " + array1.length + ", and "
+              + array2.length);
+    }
+    float dotProductResult = 0.0f;
+
+    // round up size to the largest multiple of 4
+    int i = 0;
+    int limit = (size >> 2) << 2;
+
+    // Same unrolling and summation order as the list-based implementation, so that both return identical results
+    for (; i < limit; i += 4) {
+      float s0 = array1[i] * array2[i];
+      float s1 = array1[i + 1] * array2[i + 1];
+      float s2 = array1[i + 2] * array2[i + 2];
+      float s3 = array1[i + 3] * array2[i + 3];
+
+      dotProductResult += (s0 + s1 + s2 + s3);
+    }
+
+    // Multiply the remaining elements
+    for (; i < size; i++) {
+      dotProductResult += array1[i] * array2[i];
+    }
+    return dotProductResult;
+  }
+
+  public static float squaredL2Norm(float[] array, int size) {
+    return dotProduct(array, array, size);
+  }
+
+  /**
+   * Same as {@link #hadamardProduct(List, List)}, but over the first {@code size} elements of two primitive arrays.
+   * The element-wise loop has no cross-iteration dependency, so that it can be vectorized by the JIT.
+   */
+  public static float[] hadamardProduct(float[] array1, float[] array2, int size) {
+    if (array1.length < size || array2.length < size) {
+      throw new VeniceException(
+          "Arrays are smaller than the given dimension: " + size + ", lengths: " + array1.length + ", and "
+              + array2.length);
+    }
+    float[] floats = new float[size];
+    for (int i = 0; i < size; i++) {
+      floats[i] = array1[i] * array2[i];
+    }
+    return floats;
+  }
+
   public static List<Schema.Field> getOperationResultFields(List<ComputeOperation> operations, Schema resultSchema) {
     List<Schema.Field> operationResultFields = new ArrayList<>(operations.size());
     ComputeOperation computeOperation;
@@ -39,8 +39,11 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParam, valueVector);
-      float valueVectorSquaredL2Norm = ComputeUtils.squaredL2Norm(valueVector);
+      int size = valueVector.size();
+      float[] cosSimilarityParamArray = ComputeUtils.getParamAsFloatArray(cosSimilarityParam, context);
+      float[] valueVectorArray = ComputeUtils.getValueVectorAsFloatArray(valueVector);
+      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParamArray, valueVectorArray, size);
+      float valueVectorSquaredL2Norm = ComputeUtils.squaredL2Norm(valueVectorArray, size);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
       // The following caching is assuming the float vector is immutable, which is the case for compute.
@@ -56,7 +59,7 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         cosSimilarityParamSquaredL2Norm = cachedResult;
       } else {
         // Cache the computed result
-        cosSimilarityParamSquaredL2Norm = ComputeUtils.squaredL2Norm(cosSimilarityParam);
+        cosSimilarityParamSquaredL2Norm = ComputeUtils.squaredL2Norm(cosSimilarityParamArray, size);
         cachedSquareL2Norm.put(cosSimilarityParam, cosSimilarityParamSquaredL2Norm);
       }
 
@@ -35,7 +35,10 @@ public class DotProductOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeUtils.dotProduct(dotProductParam, valueVector);
+      float dotProductResult = ComputeUtils.dotProduct(
+          ComputeUtils.getParamAsFloatArray(dotProductParam, context),
+          ComputeUtils.getValueVectorAsFloatArray(valueVector),
+          valueVector.size());
       /**
        * Up-casting float to double for V1 users because of backward-compatibility support;
        * V1 users don't require the extra precision in double and it's on purpose that
@@ -2,6 +2,7 @@ package com.linkedin.venice.compute;
 
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.utils.CollectionUtils;
 import java.util.List;
 import java.util.Map;
 import org.apache.avro.Schema;
@@ -36,7 +37,11 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(dotProductParam, valueVector);
+      List<Float> hadamardProductResult = CollectionUtils.asUnmodifiableList(
+          ComputeUtils.hadamardProduct(
+              ComputeUtils.getParamAsFloatArray(dotProductParam, context),
+              ComputeUtils.getValueVectorAsFloatArray(valueVector),
+              valueVector.size()));
       putResult(resultRecord, resultField, hadamardProductResult);
     } catch (Exception e) {
       putResult(resultRecord, resultField, null);
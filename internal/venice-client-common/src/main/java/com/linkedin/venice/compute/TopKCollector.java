@@ -0,0 +1,93 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Keeps the K items with the highest scores out of a stream of scored items, which is used by top-K read compute
+ * requests: servers select a partial top-K out of the keys they serve, and clients merge those partial results into
+ * the final top-K with the same collector.
+ *
+ * This class is not thread-safe.
+ */
+public class TopKCollector<T> {
+  private static class ScoredItem<T> {
+    final float score;
+    final T item;
+
+    ScoredItem(float score, T item) {
+      this.score = score;
+      this.item = item;
+    }
+  }
+
+  private final int k;
+  /** Min-heap, so that the lowest score admitted so far is the one to evict. */
+  private final PriorityQueue<ScoredItem<T>> heap;
+
+  public TopKCollector(int k) {
+    if (k <= 0) {
+      throw new VeniceException("K should be positive, but got: " + k);
+    }
+    this.k = k;
+    this.heap = new PriorityQueue<>(Math.min(k, 1024), (item1, item2) -> Float.compare(item1.score, item2.score));
+  }
+
+  /**
+   * @return whether an item with the given score would currently be admitted, which allows callers to skip preparing
+   *         items that would be rejected anyway.
+   */
+  public boolean wouldAdmit(float score) {
+    return !Float.isNaN(score) && (heap.size() < k || score > heap.peek().score);
+  }
+
+  /**
+   * @return whether the item was admitted. Items with a NaN score are never admitted.
+   */
+  public boolean offer(float score, T item) {
+    if (!wouldAdmit(score)) {
+      return false;
+    }
+    if (heap.size() == k) {
+      heap.poll();
+    }
+    heap.add(new ScoredItem<>(score, item));
+    return true;
+  }
+
+  public int size() {
+    return heap.size();
+  }
+
+  /**
+   * @return the admitted items, by descending score. The collector is empty afterward.
+   */
+  public List<T> drainDescending() {
+    return drainDescending(null);
+  }
+
+  /**
+   * @param scores if not null, the score of each returned item is added to it, in the same order.
+   * @return the admitted items, by descending score. The collector is empty afterward.
+   */
+  public List<T> drainDescending(List<Float> scores) {
+    List<T> items = new ArrayList<>(heap.size());
+    int firstScore = scores == null ? 0 : scores.size();
+    while (!heap.isEmpty()) {
+      ScoredItem<T> scoredItem = heap.poll();
+      items.add(scoredItem.item);
+      if (scores != null) {
+        scores.add(scoredItem.score);
+      }
+    }
+    Collections.reverse(items);
+    if (scores != null) {
+      Collections.reverse(scores.subList(firstScore, scores.size()));
+    }
+    return items;
+  }
+}
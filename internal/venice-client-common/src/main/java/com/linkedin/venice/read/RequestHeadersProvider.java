@@ -1,6 +1,8 @@
 package com.linkedin.venice.read;
 
 import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_COMPUTE;
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K;
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K_FIELD;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_KEY_COUNT;
 
@@ -8,6 +10,7 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelperCommon;
 import com.linkedin.avroutil1.compatibility.AvroVersion;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import java.util.HashMap;
 import java.util.Map;
@@ -86,4 +89,17 @@ public class RequestHeadersProvider {
     }
     return headers;
   }
+
+  public static Map<String, String> getStreamingComputeHeaderMap(
+      int keyCount,
+      ComputeRequestWrapper computeRequest,
+      boolean isRemoteComputationOnly) {
+    Map<String, String> headers =
+        getStreamingComputeHeaderMap(keyCount, computeRequest.getValueSchemaID(), isRemoteComputationOnly);
+    if (computeRequest.isTopKRequest()) {
+      headers.put(VENICE_COMPUTE_TOP_K, Integer.toString(computeRequest.getTopK()));
+      headers.put(VENICE_COMPUTE_TOP_K_FIELD, computeRequest.getTopKResultFieldName());
+    }
+    return headers;
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.compression;
 
 import com.github.luben.zstd.Zstd;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
@@ -41,12 +42,25 @@ public class TestVeniceCompressor {
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, 0 },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
-        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
+        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.NON_DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.BYTE_ARRAY, 0 },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.ZSTD_NO_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
   }
 
   @DataProvider(name = "CompressionStrategy")
   public static Object[] compressionStrategyProvider() {
-    return new Object[] { CompressionStrategy.NO_OP, CompressionStrategy.GZIP, CompressionStrategy.ZSTD_WITH_DICT };
+    return new Object[] { CompressionStrategy.NO_OP, CompressionStrategy.GZIP, CompressionStrategy.ZSTD_WITH_DICT,
+        CompressionStrategy.LZ4, CompressionStrategy.ZSTD_NO_DICT };
   }
 
   private VeniceCompressor getCompressor(CompressionStrategy strategy) {
@@ -178,14 +192,39 @@ public class TestVeniceCompressor {
             .createVersionSpecificCompressorIfNotExist(CompressionStrategy.ZSTD_WITH_DICT, "foo_v1", null));
   }
 
+  @Test
+  public void testLz4RejectsCorruptedHeader() throws IOException {
+    Lz4Compressor compressor = new Lz4Compressor();
+    byte[] compressed = compressor.compress("abc".getBytes());
+
+    // Too short to hold the decompressed size
+    Assert.assertThrows(VeniceException.class, () -> compressor.decompress(new byte[2], 0, 2));
+    Assert.assertThrows(VeniceException.class, () -> compressor.decompress(ByteBuffer.allocateDirect(2)));
+
+    // Negative decompressed size
+    byte[] negativeSize = compressed.clone();
+    ByteUtils.writeInt(negativeSize, -1, 0);
+    Assert.assertThrows(VeniceException.class, () -> compressor.decompress(negativeSize, 0, negativeSize.length));
+
+    // Decompressed size beyond what the compressed payload could hold
+    byte[] hugeSize = compressed.clone();
+    ByteUtils.writeInt(hugeSize, Integer.MAX_VALUE, 0);
+    Assert.assertThrows(VeniceException.class, () -> compressor.decompress(hugeSize, 0, hugeSize.length));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> compressor.decompressAndPrependSchemaHeader(hugeSize, 0, hugeSize.length, 1));
+  }
+
   @Test
   public void testCompressorEqual() {
     VeniceCompressor[] compressors1 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor(),
+        new ZstdNoDictCompressor(), new ZstdNoDictCompressor(Zstd.maxCompressionLevel()) };
     VeniceCompressor[] compressors2 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor(),
+        new ZstdNoDictCompressor(), new ZstdNoDictCompressor(Zstd.maxCompressionLevel()) };
     for (int i = 0; i < compressors1.length; ++i) {
       for (int j = 0; j < compressors1.length; ++j) {
         if (i == j) {
@@ -10,6 +10,8 @@ import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.Count;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.CollectionUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
@@ -159,6 +162,43 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testToFloatArray() {
+    PrimitiveFloatList primitiveList = createPrimitiveFloatList(1.0f, 2.0f, 3.0f);
+    float[] reuse = new float[4];
+    Assert.assertSame(ComputeUtils.toFloatArray(primitiveList, reuse), reuse);
+    Assert.assertTrue(Arrays.equals(reuse, new float[] { 1.0f, 2.0f, 3.0f, 0.0f }));
+
+    float[] result = ComputeUtils.toFloatArray(Arrays.asList(4.0f, 5.0f, 6.0f, 7.0f, 8.0f), reuse);
+    Assert.assertNotSame(result, reuse);
+    Assert.assertTrue(Arrays.equals(result, new float[] { 4.0f, 5.0f, 6.0f, 7.0f, 8.0f }));
+  }
+
+  @Test
+  public void testFloatArrayOperationsMatchListOperations() {
+    Random random = new Random(0);
+    for (int size: new int[] { 1, 3, 4, 7, 256, 1023 }) {
+      List<Float> list1 = new ArrayList<>(size);
+      PrimitiveFloatList list2 = new PrimitiveFloatArrayList(size);
+      for (int i = 0; i < size; i++) {
+        list1.add(random.nextFloat() - 0.5f);
+        list2.add(random.nextFloat() - 0.5f);
+      }
+      // Leave some garbage at the tail of a reused array, which must be ignored
+      float[] array1 = ComputeUtils.toFloatArray(list1, null);
+      float[] array2 = ComputeUtils.toFloatArray(list2, new float[size + 5]);
+      Arrays.fill(array2, size, array2.length, Float.NaN);
+
+      Assert.assertEquals(ComputeUtils.dotProduct(array1, array2, size), ComputeUtils.dotProduct(list1, list2));
+      Assert.assertEquals(ComputeUtils.squaredL2Norm(array2, size), ComputeUtils.squaredL2Norm(list2));
+      Assert.assertEquals(
+          CollectionUtils.asUnmodifiableList(ComputeUtils.hadamardProduct(array1, array2, size)),
+          ComputeUtils.hadamardProduct(list1, list2));
+    }
+    assertThrows(VeniceException.class, () -> ComputeUtils.dotProduct(new float[2], new float[3], 3));
+    assertThrows(VeniceException.class, () -> ComputeUtils.hadamardProduct(new float[3], new float[2], 3));
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
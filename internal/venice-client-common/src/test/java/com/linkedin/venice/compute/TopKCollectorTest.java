@@ -0,0 +1,53 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TopKCollectorTest {
+  @Test
+  public void testCollectTopK() {
+    TopKCollector<String> collector = new TopKCollector<>(3);
+    float[] scores = { 0.5f, -1.0f, 3.0f, 2.0f, Float.NaN, 1.0f, 2.5f };
+    for (int i = 0; i < scores.length; i++) {
+      collector.offer(scores[i], "item_" + i);
+    }
+    Assert.assertEquals(collector.size(), 3);
+    Assert.assertFalse(collector.wouldAdmit(1.5f));
+    Assert.assertFalse(collector.wouldAdmit(Float.NaN));
+    Assert.assertTrue(collector.wouldAdmit(2.2f));
+    Assert.assertEquals(collector.drainDescending(), Arrays.asList("item_2", "item_6", "item_3"));
+    Assert.assertEquals(collector.size(), 0);
+  }
+
+  @Test
+  public void testFewerItemsThanK() {
+    TopKCollector<String> collector = new TopKCollector<>(10);
+    Assert.assertEquals(collector.drainDescending(), Collections.emptyList());
+    Assert.assertTrue(collector.offer(1.0f, "a"));
+    Assert.assertTrue(collector.offer(2.0f, "b"));
+    Assert.assertFalse(collector.offer(Float.NaN, "c"));
+    Assert.assertEquals(collector.drainDescending(), Arrays.asList("b", "a"));
+  }
+
+  @Test
+  public void testDrainWithScores() {
+    TopKCollector<String> collector = new TopKCollector<>(2);
+    collector.offer(1.0f, "a");
+    collector.offer(3.0f, "b");
+    collector.offer(2.0f, "c");
+    List<Float> scores = new ArrayList<>();
+    Assert.assertEquals(collector.drainDescending(scores), Arrays.asList("b", "c"));
+    Assert.assertEquals(scores, Arrays.asList(3.0f, 2.0f));
+  }
+
+  @Test(expectedExceptions = VeniceException.class)
+  public void testInvalidK() {
+    new TopKCollector<String>(0);
+  }
+}
@@ -97,6 +97,21 @@ public class ConfigKeys {
   public static final String DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_BYTES_PER_SECOND =
       "da.vinci.current.version.bootstrapping.quota.bytes.per.second";
 
+  /**
+   * The number of threads of each Da Vinci ingestion task to run the record transformer on, instead of running it on
+   * the drainer thread. The transformed records are still written in the order in which they are consumed.
+   * 0 means the records are transformed on the drainer thread.
+   */
+  public static final String DA_VINCI_RECORD_TRANSFORMER_THREAD_POOL_SIZE =
+      "da.vinci.record.transformer.thread.pool.size";
+
+  /**
+   * When {@link #DA_VINCI_RECORD_TRANSFORMER_THREAD_POOL_SIZE} is positive, the max number of records of a partition
+   * which are transformed ahead of the oldest record of the partition which is not written yet.
+   */
+  public static final String DA_VINCI_RECORD_TRANSFORMER_MAX_PENDING_RECORDS_PER_PARTITION =
+      "da.vinci.record.transformer.max.pending.records.per.partition";
+
   // Unordered throttlers aren't compatible with Shared Kafka Consumer and have no effect when Shared Consumer is used.
   public static final String KAFKA_FETCH_QUOTA_UNORDERED_BYTES_PER_SECOND =
       "kafka.fetch.quota.unordered.bytes.per.second";
@@ -502,6 +517,12 @@ public class ConfigKeys {
    * This will be a best-effort since epoll support is only available in Linux, not Mac.
    */
   public static final String SERVER_REST_SERVICE_EPOLL_ENABLED = "server.rest.service.epoll.enabled";
+  /**
+   * The Netty transport of the rest service, out of NIO, EPOLL and IO_URING. The native transports fall back to NIO
+   * on platforms where they are not available. If unset, EPOLL is used when {@link #SERVER_REST_SERVICE_EPOLL_ENABLED}
+   * is true, and NIO otherwise.
+   */
+  public static final String SERVER_REST_SERVICE_TRANSPORT_MODE = "server.rest.service.transport.mode";
   /**
    * Database sync per bytes for transactional mode.
    * This parameter will impact the sync frequency of database after batch push.
@@ -647,6 +668,19 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to look up the keys of a batch-get or compute request (or of each chunk of it, when parallel lookup is
+   * enabled) with one batched storage engine call per partition, instead of one call per key.
+   */
+  public static final String SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED = "server.batch.get.multi.get.lookup.enabled";
+
+  /**
+   * Whether single-get values should be read from the storage engine straight into pooled direct buffers, which are
+   * written to the response channel without being copied into heap arrays first. This mostly helps stores with large
+   * values, whose reads are bound by the bandwidth and the GC pressure of these copies.
+   */
+  public static final String SERVER_ZERO_COPY_SINGLE_GET_ENABLED = "server.zero.copy.single.get.enabled";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -716,6 +750,59 @@ public class ConfigKeys {
   public static final String SERVER_DEDICATED_DRAINER_FOR_SORTED_INPUT_ENABLED =
       "server.dedicated.drainer.queue.for.sorted.input.enabled";
 
+  /**
+   * Whether to move topic-partitions away from a drainer whose queue is filling up to the least loaded drainer, instead
+   * of always assigning topic-partitions to drainers by hash.
+   */
+  public static final String SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED = "server.adaptive.drainer.assignment.enabled";
+
+  /**
+   * The memory usage ratio of a drainer queue above which its topic-partitions get moved to a less loaded drainer, when
+   * {@link #SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED} is true.
+   */
+  public static final String SERVER_ADAPTIVE_DRAINER_REASSIGNMENT_MEMORY_USAGE_RATIO =
+      "server.adaptive.drainer.reassignment.memory.usage.ratio";
+
+  /**
+   * The number of message envelopes of each type, put and update, which are kept around to be reused once the drainers
+   * are done with the records consumed from version topics. 0 disables the pooling, so that each consumed record gets
+   * a new envelope.
+   */
+  public static final String SERVER_INGESTION_ENVELOPE_POOL_CAPACITY = "server.ingestion.envelope.pool.capacity";
+
+  /**
+   * Whether the server stores the versions of batch-only stores with the memory-mapped storage engine, which seals each
+   * partition into an immutable file with a perfect hash index at the end of the push. Only applies to the versions
+   * created after it is enabled, and never to hybrid versions, to Da Vinci, or to versions with blob transfer enabled.
+   */
+  public static final String SERVER_MEMORY_MAPPED_BATCH_ONLY_VERSIONS_ENABLED =
+      "server.memory.mapped.batch.only.versions.enabled";
+
+  /**
+   * Whether the leaders of hybrid versions using ZSTD_WITH_DICT sample the real-time values they compress, and
+   * periodically train a dictionary out of them in the background, to measure how much the version dictionary has
+   * drifted from the real-time data. The trained dictionaries are only used for this measurement.
+   */
+  public static final String SERVER_ZSTD_DICT_DRIFT_MONITORING_ENABLED = "server.zstd.dict.drift.monitoring.enabled";
+
+  /**
+   * The probability for a real-time value to be sampled for dictionary drift monitoring.
+   */
+  public static final String SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLING_RATE =
+      "server.zstd.dict.drift.monitoring.sampling.rate";
+
+  /**
+   * The maximum size in bytes of the samples collected per version for dictionary drift monitoring.
+   */
+  public static final String SERVER_ZSTD_DICT_DRIFT_MONITORING_SAMPLE_SIZE =
+      "server.zstd.dict.drift.monitoring.sample.size";
+
+  /**
+   * The minimum interval between two dictionary drift measurements of the same version.
+   */
+  public static final String SERVER_ZSTD_DICT_DRIFT_MONITORING_INTERVAL_MS =
+      "server.zstd.dict.drift.monitoring.interval.ms";
+
   /**
    * A boolean config to specify if we are using Da Vinci client for ingestion. This config will be parsed by
    * isDaVinciConfig variable in VeniceServerConfig. By default, it is false (use Venice Server)
@@ -738,6 +825,21 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_APPLICATION_PORT =
       "server.ingestion.isolation.application.port";
 
+  /**
+   * Whether the main process and the forked ingestion process should talk over Unix domain sockets, with a framed
+   * binary protocol, instead of HTTP. This is only possible where the Netty epoll transport is available, and HTTP is
+   * still used otherwise.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED =
+      "server.ingestion.isolation.domain.socket.enabled";
+
+  /**
+   * Directory of the Unix domain socket files of ingestion isolation, which defaults to the data base path. Since the
+   * path of a socket file is limited to about 100 characters, this may need to point to a shorter path.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_DIRECTORY =
+      "server.ingestion.isolation.domain.socket.directory";
+
   public static final String SERVER_DB_READ_ONLY_FOR_BATCH_ONLY_STORE_ENABLED =
       "server.db.read.only.for.batch.only.store.enabled";
   /**
@@ -903,6 +1005,27 @@ public class ConfigKeys {
   public static final String ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS =
       "router.long.tail.retry.for.batch.get.threshold.ms";
 
+  /**
+   * When positive, the long tail retry thresholds follow this percentile of the storage node latency, which Router
+   * tracks per store and per request type (and per key count range for batch-get), instead of staying at
+   * {@link #ROUTER_LONG_TAIL_RETRY_FOR_SINGLE_GET_THRESHOLD_MS} and
+   * {@link #ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS}, which are still used until enough latencies have been
+   * recorded.
+   * The percentile is raised if needed to keep the retries within the long tail retry budget.
+   */
+  public static final String ROUTER_LONG_TAIL_RETRY_THRESHOLD_PERCENTILE =
+      "router.long.tail.retry.threshold.percentile";
+
+  /**
+   * Whether to coalesce the identical single-get requests to the same store version, which are received while such a
+   * request is still pending on the storage node, so that only one of them is sent to the storage nodes and the others
+   * receive a copy of its response. This reduces the load of the storage nodes when a key becomes hot, without adding
+   * any staleness since only the in-flight requests are shared.
+   * Retry requests are never coalesced.
+   */
+  public static final String ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED =
+      "router.single.get.request.coalescing.enabled";
+
   /**
    * Whether to enable smart long tail retry logic, and this logic is only useful for batch-get retry currently.
    * This feature is used to avoid the unnecessary retries in the following scenarios:
@@ -959,6 +1082,13 @@ public class ConfigKeys {
    * Config to control the Netty IO thread count for the Router Server
    */
   public static final String ROUTER_IO_WORKER_COUNT = "router.io.worker.count";
+
+  /**
+   * The Netty transport of the Router Server, out of NIO, EPOLL and IO_URING. The native transports fall back to NIO
+   * on platforms where they are not available.
+   */
+  public static final String ROUTER_NETTY_TRANSPORT_MODE = "router.netty.transport.mode";
+
   /**
    * The max connection number per route (to one storage node);
    */
@@ -1765,6 +1895,10 @@ public class ConfigKeys {
   public static final String DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT = "davinci.p2p.blob.transfer.server.port";
   // Ideally this config should NOT be used but for testing purpose on a single host, we need to separate the ports.
   public static final String DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT = "davinci.p2p.blob.transfer.client.port";
+  // Max number of peers to fetch the files of a partition from concurrently. 1 means one peer at a time.
+  public static final String BLOB_TRANSFER_CLIENT_MAX_CONCURRENT_PEERS = "blob.transfer.client.max.concurrent.peers";
+  // Bandwidth budget shared by all the blob transfers served by a host, in bytes per second. 0 means unlimited.
+  public static final String BLOB_TRANSFER_SERVICE_MAX_BYTES_PER_SECOND = "blob.transfer.service.max.bytes.per.second";
   public static final String CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.davinci.push.status.system.schema.store.auto.creation.enabled";
 
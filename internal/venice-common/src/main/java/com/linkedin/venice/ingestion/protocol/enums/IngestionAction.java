@@ -1,5 +1,43 @@
 package com.linkedin.venice.ingestion.protocol.enums;
 
+import com.linkedin.venice.exceptions.VeniceMessageException;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * IngestionAction is an Enum class for specifying different actions for ingestion isolation. The value of each action
+ * is sent over the wire, so it must never be changed or reused.
+ */
 public enum IngestionAction {
-  COMMAND, REPORT, METRIC, HEARTBEAT, UPDATE_METADATA, SHUTDOWN_COMPONENT, GET_LOADED_STORE_USER_PARTITION_MAPPING
+  COMMAND(0), REPORT(1), METRIC(2), HEARTBEAT(3), UPDATE_METADATA(4), SHUTDOWN_COMPONENT(5),
+  GET_LOADED_STORE_USER_PARTITION_MAPPING(6);
+
+  private final int value;
+  private static final Map<Integer, IngestionAction> INGESTION_ACTION_MAP = getIngestionActionMap();
+
+  IngestionAction(int value) {
+    this.value = value;
+  }
+
+  public static IngestionAction valueOf(int value) {
+    IngestionAction action = INGESTION_ACTION_MAP.get(value);
+    if (action == null) {
+      throw new VeniceMessageException("Invalid ingestion action: " + value);
+    }
+    return action;
+  }
+
+  public int getValue() {
+    return value;
+  }
+
+  private static Map<Integer, IngestionAction> getIngestionActionMap() {
+    Map<Integer, IngestionAction> intToActionMap = new HashMap<>();
+    for (IngestionAction action: IngestionAction.values()) {
+      intToActionMap.put(action.value, action);
+    }
+    return intToActionMap;
+  }
+
 }
@@ -0,0 +1,91 @@
+package com.linkedin.venice.meta;
+
+import com.linkedin.venice.utils.ConcurrentLatencyHistogram;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A long tail retry threshold which follows the latency of the requests it applies to, instead of being static.
+ *
+ * The latencies of the requests are recorded into a histogram, and at the end of each update interval, the threshold
+ * is set to the configured percentile of the latencies recorded during the interval. An interval is extended until it
+ * has enough latencies for the percentile to be meaningful, and the default threshold is used until the first interval
+ * ends.
+ *
+ * Retrying the requests slower than the p-th percentile retries about (100 - p)% of them, so the percentile is raised
+ * to keep that share within the budget of the {@link RetryManager}, if any. Otherwise, the retries which do not fit in
+ * the budget would be rejected anyway, and those which fit would be spent on the requests which were about to complete.
+ * The budget is read at each update, since the {@link RetryManager} may stop enforcing it at runtime.
+ *
+ * The threshold has the unit of the recorded latencies.
+ */
+public class AdaptiveRetryThreshold {
+  public static final long DEFAULT_UPDATE_INTERVAL_IN_MS = TimeUnit.SECONDS.toMillis(30);
+  public static final int DEFAULT_MIN_SAMPLE_COUNT = 1000;
+
+  private final double percentile;
+  private final RetryManager retryManager;
+  private final long updateIntervalInMs;
+  private final int minSampleCount;
+  private final Clock clock;
+  private final AtomicLong nextUpdateTimeInMs;
+  private volatile ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram();
+  private volatile long threshold;
+
+  public AdaptiveRetryThreshold(
+      double percentile,
+      long defaultThreshold,
+      RetryManager retryManager,
+      long updateIntervalInMs,
+      int minSampleCount,
+      Clock clock) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile should be in (0, 100], but got: " + percentile);
+    }
+    this.percentile = percentile;
+    this.retryManager = retryManager;
+    this.threshold = defaultThreshold;
+    this.updateIntervalInMs = updateIntervalInMs;
+    this.minSampleCount = minSampleCount;
+    this.clock = clock;
+    this.nextUpdateTimeInMs = new AtomicLong(clock.millis() + updateIntervalInMs);
+  }
+
+  public AdaptiveRetryThreshold(double percentile, long defaultThreshold, RetryManager retryManager) {
+    this(
+        percentile,
+        defaultThreshold,
+        retryManager,
+        DEFAULT_UPDATE_INTERVAL_IN_MS,
+        DEFAULT_MIN_SAMPLE_COUNT,
+        Clock.systemUTC());
+  }
+
+  public void recordLatency(long latency) {
+    histogram.record(latency);
+    long nextUpdateTime = nextUpdateTimeInMs.get();
+    long now = clock.millis();
+    // Only one of the threads which see the end of the interval updates the threshold
+    if (now >= nextUpdateTime && nextUpdateTimeInMs.compareAndSet(nextUpdateTime, now + updateIntervalInMs)) {
+      ConcurrentLatencyHistogram currentHistogram = histogram;
+      if (currentHistogram.getTotalCount() >= minSampleCount) {
+        histogram = new ConcurrentLatencyHistogram();
+        threshold = Math.max(1, currentHistogram.getValueAtPercentile(getPercentile()));
+      }
+    }
+  }
+
+  public long getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * @return the configured percentile, raised to fit in the current retry budget.
+   */
+  public double getPercentile() {
+    double retryBudget = retryManager == null ? 0 : retryManager.getRetryBudgetInPercentDecimal();
+    return retryBudget > 0 ? Math.max(percentile, 100 * (1 - retryBudget)) : percentile;
+  }
+}
@@ -33,7 +33,13 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Read-only storage engine for batch-only versions, which seals each partition into an immutable, memory-mapped
+   * file with a perfect hash index at the end of the push.
+   */
+  MEMORY_MAPPED(5);
 
   public final int value;
 
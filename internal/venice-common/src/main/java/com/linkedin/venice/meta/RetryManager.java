@@ -140,6 +140,13 @@ public class RetryManager {
     }
   }
 
+  /**
+   * @return the share of the requests which may be retried, or 0 if the retry budget is not enforced.
+   */
+  public double getRetryBudgetInPercentDecimal() {
+    return retryBudgetEnabled.get() ? retryBudgetInPercentDecimal : 0;
+  }
+
   public TokenBucket getRetryTokenBucket() {
     return retryTokenBucket.get();
   }
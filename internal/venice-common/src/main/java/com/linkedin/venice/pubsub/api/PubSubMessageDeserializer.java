@@ -3,7 +3,10 @@ package com.linkedin.venice.pubsub.api;
 import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPORT_PROTOCOL_HEADER;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.kafka.protocol.Delete;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
@@ -104,6 +107,53 @@ public class PubSubMessageDeserializer {
     }
   }
 
+  /**
+   * Gives the envelope of a message which is no longer referenced anywhere back to its pool, so that it can be reused
+   * by a later call to {@link #deserialize}.
+   *
+   * Avro reuses the nested records of a recycled envelope, and overwrites them in place, so the nested objects which
+   * downstream code might keep a reference to, e.g. the producer GUID which keys the DIV state, or the buffers which
+   * the payload is wrapped into, are dropped here rather than reused.
+   */
+  public void recycle(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message) {
+    KafkaMessageEnvelope envelope = message.getValue();
+    if (envelope == null) {
+      return;
+    }
+    switch (message.getKey().getKeyHeaderByte()) {
+      case MessageType.Constants.PUT_KEY_HEADER_BYTE:
+        // Deletes share the key header byte of puts, and their envelopes come from the same pool
+        if (envelope.payloadUnion instanceof Put) {
+          Put put = (Put) envelope.payloadUnion;
+          put.putValue = null;
+          put.replicationMetadataPayload = null;
+        } else if (envelope.payloadUnion instanceof Delete) {
+          ((Delete) envelope.payloadUnion).replicationMetadataPayload = null;
+        }
+        clearSharedFields(envelope);
+        putEnvelopePool.dispose(envelope);
+        break;
+      case MessageType.Constants.UPDATE_KEY_HEADER_BYTE:
+        if (envelope.payloadUnion instanceof Update) {
+          ((Update) envelope.payloadUnion).updateValue = null;
+        }
+        clearSharedFields(envelope);
+        updateEnvelopePool.dispose(envelope);
+        break;
+      default:
+        // Control messages are not pooled
+    }
+  }
+
+  private static void clearSharedFields(KafkaMessageEnvelope envelope) {
+    if (envelope.producerMetadata != null) {
+      envelope.producerMetadata.producerGUID = null;
+    }
+    if (envelope.leaderMetadataFooter != null) {
+      envelope.leaderMetadataFooter.hostName = null;
+    }
+  }
+
   public void close() {
     if (valueSerializer != null) {
       valueSerializer.close();
@@ -0,0 +1,87 @@
+package com.linkedin.venice.serialization;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.SparseConcurrentList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Container for the deserializers of a single store which only decode some of the fields of the values.
+ *
+ * The projection schema is the reader schema of all these deserializers, so the fast-avro deserializer generated for
+ * each writer schema skips the other fields in the binary decoder, instead of materializing them. Since the reader
+ * schema is fixed, the deserializers are only keyed by the writer schema.
+ */
+public class AvroProjectionStoreDeserializerCache implements StoreDeserializerCache<GenericRecord> {
+  private final Schema projectionSchema;
+  private final SparseConcurrentList<RecordDeserializer<GenericRecord>> cache = new SparseConcurrentList<>();
+  /** Pre-allocated to minimize GC when calling {@link SparseConcurrentList#computeIfAbsent(int, IntFunction)} */
+  private final IntFunction<RecordDeserializer<GenericRecord>> deserializerGenerator;
+
+  public AvroProjectionStoreDeserializerCache(
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      Schema projectionSchema) {
+    this.projectionSchema = projectionSchema;
+    this.deserializerGenerator = writerSchemaId -> FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
+        schemaRepository.getValueSchema(storeName, writerSchemaId).getSchema(),
+        projectionSchema);
+  }
+
+  /**
+   * The reader schema id is ignored, since the projection schema is the reader schema.
+   */
+  @Override
+  public RecordDeserializer<GenericRecord> getDeserializer(int writerSchemaId, int readerSchemaId) {
+    return getDeserializer(writerSchemaId);
+  }
+
+  @Override
+  public RecordDeserializer<GenericRecord> getDeserializer(int writerSchemaId) {
+    return this.cache.computeIfAbsent(writerSchemaId, this.deserializerGenerator);
+  }
+
+  public Schema getProjectionSchema() {
+    return this.projectionSchema;
+  }
+
+  /**
+   * Build the schema of the given fields of a record value schema. The fields keep the order, the defaults and the
+   * full name of the value schema, so that the schemas written with any older value schema can still be resolved
+   * against the projection.
+   */
+  public static Schema createProjectionSchema(Schema valueSchema, Collection<String> fieldNames) {
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new VeniceException("Only record value schemas support projection, got: " + valueSchema.getType());
+    }
+    Set<String> missingFieldNames = new HashSet<>(fieldNames);
+    List<Schema.Field> projectedFields = new ArrayList<>(fieldNames.size());
+    for (Schema.Field field: valueSchema.getFields()) {
+      if (missingFieldNames.remove(field.name())) {
+        projectedFields.add(AvroCompatibilityHelper.newField(field).build());
+      }
+    }
+    if (!missingFieldNames.isEmpty()) {
+      throw new VeniceException(
+          "Fields " + missingFieldNames + " are not in the value schema of record: " + valueSchema.getFullName());
+    }
+    Schema projectionSchema = Schema.createRecord(
+        valueSchema.getName(),
+        valueSchema.getDoc(),
+        valueSchema.getNamespace(),
+        valueSchema.isError());
+    projectionSchema.setFields(projectedFields);
+    return projectionSchema;
+  }
+}
@@ -0,0 +1,73 @@
+package com.linkedin.venice.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A histogram of non-negative values, e.g. latencies, which many threads can record into without locking.
+ *
+ * As in HdrHistogram, the values are counted in buckets whose width grows with the values: each power of two is split
+ * into {@link #SUB_BUCKET_COUNT} buckets of the same width, so any percentile is reported with a relative error of at
+ * most 1 / {@link #SUB_BUCKET_COUNT}, while the histogram only takes a few KB no matter how large the values are.
+ * Values larger than {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.
+ */
+public class ConcurrentLatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_VALUE_BITS = 32;
+  public static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+  private final AtomicLongArray counts =
+      new AtomicLongArray((MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT);
+  private final LongAdder totalCount = new LongAdder();
+
+  public void record(long value) {
+    counts.incrementAndGet(getBucketIndex(Math.max(0, Math.min(value, MAX_VALUE))));
+    totalCount.increment();
+  }
+
+  public long getTotalCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * @param percentile between 0 and 100, e.g. 99 for the p99.
+   * @return the smallest value which is at least as large as the given percentage of the recorded values, rounded up
+   *         to the upper bound of its bucket, or 0 if nothing was recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = getTotalCount();
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+    long cumulativeCount = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      cumulativeCount += counts.get(i);
+      if (cumulativeCount >= rank) {
+        return getBucketUpperBound(i);
+      }
+    }
+    // The counts and the total are not updated atomically together, so the last bucket may be reached first
+    return getBucketUpperBound(counts.length() - 1);
+  }
+
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    int subBucket = index % SUB_BUCKET_COUNT;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,98 @@
+package com.linkedin.venice.utils;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Tracks the response time and the error rate of a replica, or of a group of replicas, to rank it against the others,
+ * in the spirit of C3 (Suresh et al., NSDI'15) and of the peak EWMA load balancer of Finagle.
+ *
+ * 1. The response time is an exponentially weighted moving average which decays with time rather than with the
+ *    number of responses, so that the replicas which receive less traffic are not judged on stale latencies. A response
+ *    slower than the average replaces it right away, so that a replica slowed down by a GC pause or a compaction is
+ *    avoided from its first slow response, and only recovers its traffic progressively.
+ * 2. The error rate is a moving average over the last responses, each of them weighing {@link #ERROR_RATE_WEIGHT},
+ *    so that a replica which fails fast is not preferred for its fast failures. It does not decay with time, since a
+ *    burst of failures should be noticed within a few responses, however many responses are received per second.
+ * 3. The score multiplies the response time by the cube of the outstanding requests, as C3 does with the queue size,
+ *    so that a replica which has started to queue up requests is avoided before its latency has caught up.
+ *
+ * A replica without any response yet has the best score for its outstanding requests, so that it is tried as soon as
+ * it becomes available, and the response time of a replica which stops receiving responses, e.g. because it is
+ * avoided, decays as well, so that it is tried again eventually instead of being starved.
+ */
+public class EwmaLoadScore {
+  public static final long DEFAULT_DECAY_TIME_IN_MS = TimeUnit.SECONDS.toMillis(10);
+  /**
+   * The score of a replica which only returns errors is at most this many times worse than its response time.
+   */
+  private static final double MAX_ERROR_PENALTY = 100;
+  private static final double ERROR_RATE_WEIGHT = 0.1;
+
+  private final double decayTimeInNS;
+  private final Time time;
+
+  private double responseTimeAvg = 0;
+  private double errorRateAvg = 0;
+  private long lastUpdateTimeInNS = -1;
+
+  public EwmaLoadScore(long decayTimeInMs, Time time) {
+    if (decayTimeInMs <= 0) {
+      throw new IllegalArgumentException("Decay time should be positive, but got: " + decayTimeInMs);
+    }
+    this.decayTimeInNS = TimeUnit.MILLISECONDS.toNanos(decayTimeInMs);
+    this.time = time;
+  }
+
+  public EwmaLoadScore() {
+    this(DEFAULT_DECAY_TIME_IN_MS, new SystemTime());
+  }
+
+  /**
+   * @param responseTime the response time of a request, in any unit as long as it is always the same one.
+   * @param isError whether the request has failed.
+   */
+  public synchronized void recordResponse(double responseTime, boolean isError) {
+    long now = time.getNanoseconds();
+    if (lastUpdateTimeInNS < 0) {
+      responseTimeAvg = responseTime;
+      errorRateAvg = isError ? 1 : 0;
+    } else {
+      double weight = Math.exp(-Math.max(0, now - lastUpdateTimeInNS) / decayTimeInNS);
+      responseTimeAvg =
+          responseTime > responseTimeAvg ? responseTime : responseTimeAvg * weight + responseTime * (1 - weight);
+      errorRateAvg = errorRateAvg * (1 - ERROR_RATE_WEIGHT) + (isError ? ERROR_RATE_WEIGHT : 0);
+    }
+    lastUpdateTimeInNS = now;
+  }
+
+  /**
+   * @return the average response time, decayed for the time elapsed since the last response.
+   */
+  public synchronized double getResponseTime() {
+    if (lastUpdateTimeInNS < 0) {
+      return 0;
+    }
+    return responseTimeAvg * Math.exp(-Math.max(0, time.getNanoseconds() - lastUpdateTimeInNS) / decayTimeInNS);
+  }
+
+  public synchronized double getErrorRate() {
+    return errorRateAvg;
+  }
+
+  /**
+   * @return the score of the replica, which is better when lower. The response time counts for at least one unit of
+   *         time, so that the outstanding requests are still compared for the replicas without any response yet.
+   */
+  public double getScore(int outstandingRequestCount) {
+    double responseTime;
+    double errorRate;
+    synchronized (this) {
+      responseTime = getResponseTime();
+      errorRate = errorRateAvg;
+    }
+    double queueSize = 1 + Math.max(0, outstandingRequestCount);
+    return Math.max(responseTime, 1) * queueSize * queueSize * queueSize
+        / Math.max(1 - errorRate, 1 / MAX_ERROR_PENALTY);
+  }
+}
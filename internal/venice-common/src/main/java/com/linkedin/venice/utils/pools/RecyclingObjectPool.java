@@ -0,0 +1,46 @@
+package com.linkedin.venice.utils.pools;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+
+/**
+ * A bounded pool which actually recycles the objects given back to it. Objects are handed out in FIFO order, so that
+ * an object gets reused as late as possible after being disposed of.
+ *
+ * When the pool is empty, {@link #get()} instantiates a new object, and when it is full, {@link #dispose(Object)} lets
+ * the garbage collector dispose of the object, so this pool never blocks, and never holds more than its capacity.
+ *
+ * It is the responsibility of the callers to only dispose of objects which are no longer referenced anywhere else.
+ */
+public class RecyclingObjectPool<O> extends AbstractObjectPool<O> {
+  private final ArrayBlockingQueue<O> pool;
+
+  public RecyclingObjectPool(Supplier<O> objectSupplier, int capacity) {
+    super(objectSupplier);
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity should be positive, but got: " + capacity);
+    }
+    this.pool = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public O get() {
+    O object = pool.poll();
+    return object == null ? super.get() : object;
+  }
+
+  @Override
+  public void dispose(O object) {
+    if (object != null) {
+      pool.offer(object);
+    }
+  }
+
+  /**
+   * @return the number of objects which are currently available for reuse.
+   */
+  public int size() {
+    return pool.size();
+  }
+}
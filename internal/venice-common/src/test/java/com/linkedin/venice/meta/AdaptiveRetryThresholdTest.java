@@ -0,0 +1,96 @@
+package com.linkedin.venice.meta;
+
+import static org.mockito.Mockito.*;
+
+import io.tehuti.metrics.MetricsRepository;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveRetryThresholdTest {
+  private static final long TEST_TIMEOUT_IN_MS = 10000;
+  private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+  @AfterClass
+  public void cleanUp() {
+    scheduler.shutdownNow();
+  }
+
+  @Test(timeOut = TEST_TIMEOUT_IN_MS)
+  public void testThresholdFollowsPercentile() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+    AdaptiveRetryThreshold threshold = new AdaptiveRetryThreshold(90, 500, null, 1000, 100, mockClock);
+    for (int i = 1; i <= 1000; i++) {
+      threshold.recordLatency(i);
+    }
+    // The default threshold is used until the end of the first interval
+    Assert.assertEquals(threshold.getThreshold(), 500);
+
+    doReturn(start + 1000).when(mockClock).millis();
+    threshold.recordLatency(1000);
+    // The p90 of 1..1000 is 900, rounded up to the upper bound of its bucket
+    Assert.assertTrue(threshold.getThreshold() >= 900, "Unexpected threshold: " + threshold.getThreshold());
+    Assert.assertTrue(threshold.getThreshold() < 900 * 17 / 16, "Unexpected threshold: " + threshold.getThreshold());
+
+    // The next interval only considers the latencies recorded since the last update
+    for (int i = 0; i < 1000; i++) {
+      threshold.recordLatency(10);
+    }
+    doReturn(start + 2000).when(mockClock).millis();
+    threshold.recordLatency(10);
+    Assert.assertEquals(threshold.getThreshold(), 10);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT_IN_MS)
+  public void testThresholdIsKeptWithoutEnoughLatencies() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+    AdaptiveRetryThreshold threshold = new AdaptiveRetryThreshold(99, 500, null, 1000, 100, mockClock);
+    for (int i = 0; i < 50; i++) {
+      threshold.recordLatency(1);
+    }
+    doReturn(start + 1000).when(mockClock).millis();
+    threshold.recordLatency(1);
+    Assert.assertEquals(threshold.getThreshold(), 500);
+
+    // The latencies of the extended interval are kept
+    for (int i = 0; i < 50; i++) {
+      threshold.recordLatency(1);
+    }
+    doReturn(start + 2000).when(mockClock).millis();
+    threshold.recordLatency(1);
+    Assert.assertEquals(threshold.getThreshold(), 1);
+  }
+
+  @Test
+  public void testPercentileIsClampedByRetryBudget() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    RetryManager retryManager =
+        new RetryManager(metricsRepository, "test-retry-manager", 1000, 0.1d, Clock.systemUTC(), scheduler);
+    Assert.assertEquals(new AdaptiveRetryThreshold(50, 500, retryManager).getPercentile(), 90d, 0.0001);
+    Assert.assertEquals(new AdaptiveRetryThreshold(95, 500, retryManager).getPercentile(), 95d);
+
+    RetryManager disabledRetryManager =
+        new RetryManager(metricsRepository, "disabled-retry-manager", 0, 0.1d, Clock.systemUTC(), scheduler);
+    Assert.assertEquals(new AdaptiveRetryThreshold(50, 500, disabledRetryManager).getPercentile(), 50d);
+    Assert.assertEquals(new AdaptiveRetryThreshold(50, 500, null).getPercentile(), 50d);
+
+    // The current budget is used at each update
+    RetryManager mockRetryManager = mock(RetryManager.class);
+    doReturn(0.1d).when(mockRetryManager).getRetryBudgetInPercentDecimal();
+    AdaptiveRetryThreshold threshold = new AdaptiveRetryThreshold(50, 500, mockRetryManager);
+    Assert.assertEquals(threshold.getPercentile(), 90d, 0.0001);
+    doReturn(0d).when(mockRetryManager).getRetryBudgetInPercentDecimal();
+    Assert.assertEquals(threshold.getPercentile(), 50d);
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> new AdaptiveRetryThreshold(0, 500, null));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new AdaptiveRetryThreshold(101, 500, null));
+  }
+}
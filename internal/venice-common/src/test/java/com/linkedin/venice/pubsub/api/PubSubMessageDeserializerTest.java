@@ -2,6 +2,8 @@ package com.linkedin.venice.pubsub.api;
 
 import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPORT_PROTOCOL_HEADER;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.kafka.protocol.GUID;
@@ -16,6 +18,7 @@ import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
 import java.nio.ByteBuffer;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -129,6 +132,56 @@ public class PubSubMessageDeserializerTest {
     assertEquals((long) message.getOffset(), 11);
   }
 
+  @Test
+  public void testRecycledEnvelopesAreReused() {
+    RecyclingObjectPool<KafkaMessageEnvelope> putEnvelopePool = new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 4);
+    PubSubMessageDeserializer recyclingDeserializer = new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        putEnvelopePool,
+        new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 4));
+    byte[] keyBytes = keySerializer.serialize("test", new KafkaKey(MessageType.PUT, "key".getBytes()));
+    KafkaMessageEnvelope value = getDummyValue();
+    byte[] valueBytes = valueSerializer.serialize("test", value);
+
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message = recyclingDeserializer
+        .deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), 11L, 12L);
+    KafkaMessageEnvelope firstEnvelope = message.getValue();
+    GUID firstGuid = firstEnvelope.producerMetadata.producerGUID;
+    ByteBuffer firstPutValue = ((Put) firstEnvelope.payloadUnion).putValue;
+    recyclingDeserializer.recycle(message);
+    assertEquals(putEnvelopePool.size(), 1);
+
+    value.producerMetadata.producerGUID =
+        new GUID(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> secondMessage = recyclingDeserializer.deserialize(
+        topicPartition,
+        keyBytes,
+        valueSerializer.serialize("test", value),
+        new PubSubMessageHeaders(),
+        12L,
+        13L);
+    assertSame(secondMessage.getValue(), firstEnvelope);
+    assertEquals(secondMessage.getValue(), value);
+    assertEquals(putEnvelopePool.size(), 0);
+    // The nested objects which might still be referenced elsewhere are not overwritten
+    assertNotSame(secondMessage.getValue().producerMetadata.producerGUID, firstGuid);
+    assertEquals(firstGuid, new GUID());
+    assertNotSame(((Put) secondMessage.getValue().payloadUnion).putValue, firstPutValue);
+
+    // Control messages are never pooled
+    KafkaMessageEnvelope controlMessageEnvelope = getDummyValue();
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> controlMessage = recyclingDeserializer.deserialize(
+        topicPartition,
+        keySerializer.serialize("test", new KafkaKey(MessageType.CONTROL_MESSAGE, "key".getBytes())),
+        valueSerializer.serialize("test", controlMessageEnvelope),
+        new PubSubMessageHeaders(),
+        14L,
+        15L);
+    recyclingDeserializer.recycle(controlMessage);
+    assertEquals(putEnvelopePool.size(), 0);
+    recyclingDeserializer.close();
+  }
+
   private KafkaMessageEnvelope getDummyValue() {
     KafkaMessageEnvelope value = new KafkaMessageEnvelope();
     value.producerMetadata = new ProducerMetadata();
@@ -0,0 +1,85 @@
+package com.linkedin.venice.serialization;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.annotations.Test;
+
+
+public class AvroProjectionStoreDeserializerCacheTest {
+  private static final Schema WRITER_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"namespace\":\"com.linkedin.test\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}]}");
+  private static final Schema READER_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"namespace\":\"com.linkedin.test\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}},"
+          + "{\"name\":\"score\",\"type\":[\"null\",\"double\"],\"default\":null}]}");
+
+  @Test
+  public void testProjection() {
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry schemaEntry = mock(SchemaEntry.class);
+    when(schemaEntry.getSchema()).thenReturn(WRITER_SCHEMA);
+    when(schemaRepository.getValueSchema(anyString(), eq(1))).thenReturn(schemaEntry);
+
+    // The fields of the projection follow the order of the value schema, and the ones missing in the writer schema
+    // take their default value.
+    Schema projectionSchema =
+        AvroProjectionStoreDeserializerCache.createProjectionSchema(READER_SCHEMA, Arrays.asList("score", "name"));
+    assertEquals(projectionSchema.getFullName(), READER_SCHEMA.getFullName());
+    assertEquals(projectionSchema.getFields().size(), 2);
+    assertEquals(projectionSchema.getFields().get(0).name(), "name");
+    assertEquals(projectionSchema.getFields().get(1).name(), "score");
+
+    GenericRecord record = new GenericData.Record(WRITER_SCHEMA);
+    record.put("id", 1);
+    record.put("name", "test");
+    record.put("tags", Arrays.asList("a", "b"));
+    byte[] valueBytes = SerializerDeserializerFactory.getAvroGenericSerializer(WRITER_SCHEMA).serialize(record);
+
+    AvroProjectionStoreDeserializerCache cache =
+        new AvroProjectionStoreDeserializerCache(schemaRepository, "storeName", projectionSchema);
+    RecordDeserializer<GenericRecord> deserializer = cache.getDeserializer(1, 2);
+    GenericRecord projectedRecord = deserializer.deserialize(valueBytes);
+    assertEquals(projectedRecord.getSchema(), projectionSchema);
+    assertEquals(projectedRecord.get("name").toString(), "test");
+    assertNull(projectedRecord.get("score"));
+
+    // The deserializer is generated once per writer schema, whatever the reader schema id
+    assertSame(cache.getDeserializer(1), deserializer);
+    verify(schemaRepository, times(1)).getValueSchema(anyString(), eq(1));
+  }
+
+  @Test
+  public void testProjectionOfUnknownField() {
+    assertThrows(
+        VeniceException.class,
+        () -> AvroProjectionStoreDeserializerCache
+            .createProjectionSchema(READER_SCHEMA, Arrays.asList("name", "unknown")));
+    assertThrows(
+        VeniceException.class,
+        () -> AvroProjectionStoreDeserializerCache
+            .createProjectionSchema(Schema.create(Schema.Type.INT), Collections.singleton("name")));
+  }
+}
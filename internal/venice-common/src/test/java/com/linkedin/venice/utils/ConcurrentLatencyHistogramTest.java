@@ -0,0 +1,68 @@
+package com.linkedin.venice.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ConcurrentLatencyHistogramTest {
+  @Test
+  public void testBuckets() {
+    for (long value = 0; value < 100_000; value++) {
+      int index = ConcurrentLatencyHistogram.getBucketIndex(value);
+      long upperBound = ConcurrentLatencyHistogram.getBucketUpperBound(index);
+      Assert.assertTrue(value <= upperBound, value + " is above the upper bound of its bucket: " + upperBound);
+      Assert.assertTrue(upperBound - value <= value / 16, value + " has too wide a bucket: " + upperBound);
+      if (index > 0) {
+        Assert.assertTrue(value > ConcurrentLatencyHistogram.getBucketUpperBound(index - 1));
+      }
+    }
+    long maxValue = ConcurrentLatencyHistogram.MAX_VALUE;
+    Assert.assertEquals(
+        ConcurrentLatencyHistogram.getBucketUpperBound(ConcurrentLatencyHistogram.getBucketIndex(maxValue)),
+        maxValue);
+  }
+
+  @Test
+  public void testPercentiles() {
+    ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram();
+    Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+    Assert.assertEquals(histogram.getTotalCount(), 10);
+    Assert.assertEquals(histogram.getValueAtPercentile(50), 5);
+    Assert.assertEquals(histogram.getValueAtPercentile(90), 9);
+    Assert.assertEquals(histogram.getValueAtPercentile(100), 10);
+    Assert.assertEquals(histogram.getValueAtPercentile(0), 1);
+
+    // Out of range values are counted at the bounds
+    histogram.record(-1);
+    histogram.record(Long.MAX_VALUE);
+    Assert.assertEquals(histogram.getValueAtPercentile(0), 0);
+    Assert.assertEquals(histogram.getValueAtPercentile(100), ConcurrentLatencyHistogram.MAX_VALUE);
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentRecording() throws InterruptedException {
+    ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int t = 0; t < 4; t++) {
+        executor.submit(() -> {
+          for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i);
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    Assert.assertEquals(histogram.getTotalCount(), 40_000);
+    long p99 = histogram.getValueAtPercentile(99);
+    Assert.assertTrue(p99 >= 9900 && p99 <= 9900 * 17 / 16, "Unexpected p99: " + p99);
+  }
+}
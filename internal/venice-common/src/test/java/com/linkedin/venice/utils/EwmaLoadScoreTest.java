@@ -0,0 +1,63 @@
+package com.linkedin.venice.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class EwmaLoadScoreTest {
+  @Test
+  public void testResponseTime() {
+    TestMockTime time = new TestMockTime(0);
+    EwmaLoadScore loadScore = new EwmaLoadScore(1000, time);
+    Assert.assertEquals(loadScore.getResponseTime(), 0d);
+    loadScore.recordResponse(10, false);
+    Assert.assertEquals(loadScore.getResponseTime(), 10d);
+
+    // A slower response is taken right away
+    time.addMilliseconds(1);
+    loadScore.recordResponse(100, false);
+    Assert.assertEquals(loadScore.getResponseTime(), 100d);
+
+    // A faster response only lowers the average according to the time elapsed since the last one
+    time.addMilliseconds(1000);
+    loadScore.recordResponse(10, false);
+    double expectedResponseTime = 100 * Math.exp(-1) + 10 * (1 - Math.exp(-1));
+    Assert.assertEquals(loadScore.getResponseTime(), expectedResponseTime, 0.0001);
+
+    // Without any response, the average decays so that the replica is tried again
+    time.addMilliseconds(1000);
+    Assert.assertEquals(loadScore.getResponseTime(), expectedResponseTime * Math.exp(-1), 0.0001);
+  }
+
+  @Test
+  public void testScore() {
+    TestMockTime time = new TestMockTime(0);
+    EwmaLoadScore fastScore = new EwmaLoadScore(1000, time);
+    EwmaLoadScore slowScore = new EwmaLoadScore(1000, time);
+    EwmaLoadScore failingScore = new EwmaLoadScore(1000, time);
+    EwmaLoadScore newScore = new EwmaLoadScore(1000, time);
+    fastScore.recordResponse(10, false);
+    slowScore.recordResponse(100, false);
+    failingScore.recordResponse(1, true);
+    for (int i = 0; i < 20; i++) {
+      failingScore.recordResponse(1, true);
+    }
+    Assert.assertTrue(failingScore.getErrorRate() > 0.9);
+
+    Assert.assertTrue(fastScore.getScore(0) < slowScore.getScore(0));
+    Assert.assertTrue(failingScore.getScore(0) > fastScore.getScore(0));
+    Assert.assertTrue(newScore.getScore(0) < fastScore.getScore(0));
+    // The outstanding requests weigh more than the response time
+    Assert.assertTrue(fastScore.getScore(4) > slowScore.getScore(0));
+    Assert.assertTrue(newScore.getScore(1) > newScore.getScore(0));
+
+    // The error rate recovers within a few good responses
+    for (int i = 0; i < 30; i++) {
+      failingScore.recordResponse(1, false);
+    }
+    Assert.assertTrue(failingScore.getErrorRate() < 0.1);
+    Assert.assertTrue(failingScore.getScore(0) < fastScore.getScore(0));
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> new EwmaLoadScore(0, time));
+  }
+}
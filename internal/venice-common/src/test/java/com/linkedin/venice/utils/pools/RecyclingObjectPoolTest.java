@@ -0,0 +1,46 @@
+package com.linkedin.venice.utils.pools;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+
+public class RecyclingObjectPoolTest {
+  @Test
+  public void testObjectsAreRecycled() {
+    AtomicInteger allocationCount = new AtomicInteger();
+    RecyclingObjectPool<Object> pool = new RecyclingObjectPool<>(() -> {
+      allocationCount.incrementAndGet();
+      return new Object();
+    }, 2);
+
+    Object first = pool.get();
+    Object second = pool.get();
+    assertNotSame(first, second);
+    assertEquals(allocationCount.get(), 2);
+
+    pool.dispose(first);
+    pool.dispose(second);
+    // The pool is full, so this one is left to the garbage collector
+    pool.dispose(new Object());
+    pool.dispose(null);
+    assertEquals(pool.size(), 2);
+
+    assertSame(pool.get(), first);
+    assertSame(pool.get(), second);
+    assertEquals(pool.size(), 0);
+    assertEquals(allocationCount.get(), 2);
+
+    pool.get();
+    assertEquals(allocationCount.get(), 3);
+  }
+
+  @Test
+  public void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RecyclingObjectPool<>(Object::new, 0));
+  }
+}
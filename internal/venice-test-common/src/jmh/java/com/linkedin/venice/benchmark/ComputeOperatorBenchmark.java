@@ -0,0 +1,146 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.utils.CollectionUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the {@link List}-based float vector operations of {@link ComputeUtils} with the primitive array ones used
+ * by the read compute operators, over a batch of embedding-like value vectors and a single request parameter.
+ *
+ * The array-based variants include the cost of copying each value vector into a reused array, as the operators do.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComputeOperatorBenchmark {
+  private static final int NUMBER_OF_VALUES = 1_000;
+
+  @Param({ "256", "1024" })
+  protected int dimension;
+
+  /**
+   * Whether the vectors are {@link PrimitiveFloatList}s, as produced by fast-avro, or boxed lists, as produced by
+   * vanilla Avro.
+   */
+  @Param({ "true", "false" })
+  protected boolean primitiveList;
+
+  private List<Float> param;
+  private List<Float>[] values;
+  private float[] paramArray;
+  private float[] reusableValueArray;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    this.param = createVector(random);
+    this.values = new List[NUMBER_OF_VALUES];
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      this.values[i] = createVector(random);
+    }
+    this.paramArray = ComputeUtils.toFloatArray(param, null);
+    this.reusableValueArray = new float[dimension];
+  }
+
+  private List<Float> createVector(Random random) {
+    List<Float> vector = primitiveList ? new PrimitiveFloatArrayList(dimension) : new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      vector.add(random.nextFloat());
+    }
+    return vector;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureListDotProduct(Blackhole bh) {
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      bh.consume(ComputeUtils.dotProduct(param, values[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureArrayDotProduct(Blackhole bh) {
+    float[] valueArray;
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      valueArray = ComputeUtils.toFloatArray(values[i], reusableValueArray);
+      bh.consume(ComputeUtils.dotProduct(paramArray, valueArray, dimension));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureListCosineSimilarity(Blackhole bh) {
+    float paramSquaredL2Norm = ComputeUtils.squaredL2Norm(param);
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      float dotProduct = ComputeUtils.dotProduct(param, values[i]);
+      float valueSquaredL2Norm = ComputeUtils.squaredL2Norm(values[i]);
+      bh.consume(dotProduct / Math.sqrt(valueSquaredL2Norm * paramSquaredL2Norm));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureArrayCosineSimilarity(Blackhole bh) {
+    float paramSquaredL2Norm = ComputeUtils.squaredL2Norm(paramArray, dimension);
+    float[] valueArray;
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      valueArray = ComputeUtils.toFloatArray(values[i], reusableValueArray);
+      float dotProduct = ComputeUtils.dotProduct(paramArray, valueArray, dimension);
+      float valueSquaredL2Norm = ComputeUtils.squaredL2Norm(valueArray, dimension);
+      bh.consume(dotProduct / Math.sqrt(valueSquaredL2Norm * paramSquaredL2Norm));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureListHadamardProduct(Blackhole bh) {
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      bh.consume(ComputeUtils.hadamardProduct(param, values[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_VALUES)
+  public void measureArrayHadamardProduct(Blackhole bh) {
+    float[] valueArray;
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      valueArray = ComputeUtils.toFloatArray(values[i], reusableValueArray);
+      bh.consume(CollectionUtils.asUnmodifiableList(ComputeUtils.hadamardProduct(paramArray, valueArray, dimension)));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ComputeOperatorBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,170 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.alpini.netty4.misc.NettyUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.FixedLengthFrameDecoder;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the round trip throughput of the Netty transports which the Router and Server listeners can be configured
+ * with, over loopback, with one connection per benchmark thread. Each round trip sends a request of the size of a
+ * single-get request, and gets back a response of the configured size, similar to a small value.
+ *
+ * The native transports fall back to NIO where they are not available, so the results of these modes are only
+ * meaningful on Linux, and on Linux 5.9+ for io_uring.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * N.B.: The jmh task of this module overrides the benchmark mode, time unit, forks and iterations above, so run
+ * {@link #main(String[])} instead to get the throughput of each transport, before and after a transport change.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class NettyTransportBenchmark {
+  private static final int REQUEST_SIZE = 128;
+
+  @Param({ "NIO", "EPOLL", "IO_URING" })
+  protected String transportMode;
+
+  @Param({ "1024" })
+  protected int responseSize;
+
+  private NettyUtils.Mode mode;
+  private EventLoopGroup bossGroup;
+  private EventLoopGroup serverWorkerGroup;
+  private EventLoopGroup clientGroup;
+  private Channel serverChannel;
+
+  @Setup(Level.Trial)
+  public void setUp() throws InterruptedException {
+    mode = NettyUtils.Mode.valueOf(transportMode).orNioIfUnavailable();
+    if (!mode.name().equals(transportMode)) {
+      System.out.println(transportMode + " is not available, so NIO is used instead");
+    }
+    bossGroup = mode.newEventLoopGroup(1);
+    serverWorkerGroup = mode.newEventLoopGroup(4);
+    clientGroup = mode.newEventLoopGroup(4);
+    ByteBuf response = Unpooled.unreleasableBuffer(Unpooled.directBuffer(responseSize).writeZero(responseSize));
+    serverChannel = new ServerBootstrap().group(bossGroup, serverWorkerGroup)
+        .channel(mode.serverSocketChannel())
+        .childOption(ChannelOption.TCP_NODELAY, true)
+        .childHandler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(new FixedLengthFrameDecoder(REQUEST_SIZE), new SimpleChannelInboundHandler<ByteBuf>() {
+                  @Override
+                  protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                    ctx.writeAndFlush(response.duplicate());
+                  }
+                });
+          }
+        })
+        .bind(new InetSocketAddress("127.0.0.1", 0))
+        .sync()
+        .channel();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    serverChannel.close().sync();
+    clientGroup.shutdownGracefully().sync();
+    serverWorkerGroup.shutdownGracefully().sync();
+    bossGroup.shutdownGracefully().sync();
+  }
+
+  @State(Scope.Thread)
+  public static class Connection {
+    private Channel channel;
+    private ByteBuf request;
+    private volatile CompletableFuture<Void> pendingResponse;
+
+    @Setup(Level.Trial)
+    public void connect(NettyTransportBenchmark benchmark) throws InterruptedException {
+      request = Unpooled.unreleasableBuffer(Unpooled.directBuffer(REQUEST_SIZE).writeZero(REQUEST_SIZE));
+      channel = new Bootstrap().group(benchmark.clientGroup)
+          .channel(benchmark.mode.socketChannel())
+          .option(ChannelOption.TCP_NODELAY, true)
+          .handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+              ch.pipeline()
+                  .addLast(
+                      new FixedLengthFrameDecoder(benchmark.responseSize),
+                      new SimpleChannelInboundHandler<ByteBuf>() {
+                        @Override
+                        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                          pendingResponse.complete(null);
+                        }
+                      });
+            }
+          })
+          .connect(benchmark.serverChannel.localAddress())
+          .sync()
+          .channel();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws InterruptedException {
+      channel.close().sync();
+    }
+
+    void roundTrip() {
+      CompletableFuture<Void> response = new CompletableFuture<>();
+      pendingResponse = response;
+      channel.writeAndFlush(request.duplicate());
+      response.join();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(NettyTransportBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void roundTripWithThreadCount_01(Connection connection) {
+    connection.roundTrip();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void roundTripWithThreadCount_16(Connection connection) {
+    connection.roundTrip();
+  }
+}
@@ -0,0 +1,118 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.KafkaKeySerializer;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
+import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the deserialization of consumed records into new envelopes, which is the default, with the recycling of the
+ * envelopes which the drainers are done with. The allocation rate, reported by the GC profiler, is the main metric.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PubSubMessageDeserializerBenchmark {
+  @Param({ "LAND_FILL", "RECYCLING" })
+  protected String envelopePool;
+
+  @Param({ "100", "10000" })
+  protected int valueSize;
+
+  private PubSubMessageDeserializer deserializer;
+  private PubSubTopicPartition topicPartition;
+  private PubSubMessageHeaders headers;
+  private byte[] keyBytes;
+  private byte[] valueBytes;
+
+  @Setup
+  public void setUp() {
+    if (envelopePool.equals("RECYCLING")) {
+      deserializer = new PubSubMessageDeserializer(
+          new OptimizedKafkaValueSerializer(),
+          new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 1024),
+          new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 1024));
+    } else {
+      deserializer = new PubSubMessageDeserializer(
+          new OptimizedKafkaValueSerializer(),
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    }
+    topicPartition = new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic("test_store_v1"), 0);
+    headers = new PubSubMessageHeaders();
+    keyBytes = new KafkaKeySerializer().serialize(null, new KafkaKey(MessageType.PUT, new byte[16]));
+
+    KafkaMessageEnvelope value = new KafkaMessageEnvelope();
+    value.messageType = MessageType.PUT.getValue();
+    value.producerMetadata = new ProducerMetadata();
+    value.producerMetadata.producerGUID = new GUID();
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(new byte[valueSize]);
+    put.schemaId = 1;
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+    value.payloadUnion = put;
+    valueBytes = new OptimizedKafkaValueSerializer().serialize(null, value);
+  }
+
+  @TearDown
+  public void tearDown() {
+    deserializer.close();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(PubSubMessageDeserializerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(opt).run();
+  }
+
+  /**
+   * Each record is recycled right after being deserialized, as the drainer would once done with it.
+   */
+  @Benchmark
+  public void deserializeAndRecycle(Blackhole bh) {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message =
+        deserializer.deserialize(topicPartition, keyBytes, valueBytes, headers, 0L, 0L);
+    bh.consume(message);
+    deserializer.recycle(message);
+  }
+}
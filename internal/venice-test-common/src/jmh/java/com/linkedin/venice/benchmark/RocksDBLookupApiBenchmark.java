@@ -15,7 +15,9 @@ import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.mmap.MemoryMappedStoragePartition;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
@@ -25,10 +27,14 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +56,10 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.rocksdb.RocksDB;
 
 
+/**
+ * Compares the lookup APIs of RocksDB in plain table format with the ones of the memory-mapped storage engine, which
+ * serves the batch-only versions out of an immutable file with a perfect hash index.
+ */
 @Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
 @Warmup(iterations = 2)
 @Measurement(iterations = 5)
@@ -69,12 +79,15 @@ public class RocksDBLookupApiBenchmark {
   private static final String VALUE_PREFIX = getRandomStr(100);
   private static final int ROW_CNT = 5_000_000;
 
-  private RocksDBStoragePartition storagePartition;
+  private AbstractStoragePartition storagePartition;
   private String storeDir;
 
   @Param({ "1", "2", "5", "10", "50" })
   private static int BATCH_SIZE;
 
+  @Param({ "ROCKS_DB", "MEMORY_MAPPED" })
+  private String storageType;
+
   private String getTempDatabaseDir(String storeName) {
     File storeDir = new File(DATA_BASE_DIR, storeName).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
@@ -110,14 +123,19 @@ public class RocksDBLookupApiBenchmark {
     VeniceProperties veniceServerProperties = getServerProperties(PersistenceType.ROCKS_DB, properties);
     VeniceConfigLoader configLoader = new VeniceConfigLoader(veniceServerProperties);
     VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig(storeName);
-    storagePartition = new RocksDBStoragePartition(
-        new StoragePartitionConfig(storeName, 0),
-        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties)),
-        DATA_BASE_DIR,
-        null,
-        new RocksDBThrottler(3),
-        new RocksDBServerConfig(veniceServerProperties),
-        storeConfig);
+    if (PersistenceType.valueOf(storageType) == PersistenceType.MEMORY_MAPPED) {
+      storagePartition = new MemoryMappedStoragePartition(new StoragePartitionConfig(storeName, 0), new File(storeDir));
+      storagePartition.beginBatchWrite(Collections.emptyMap(), Optional.empty());
+    } else {
+      storagePartition = new RocksDBStoragePartition(
+          new StoragePartitionConfig(storeName, 0),
+          new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties)),
+          DATA_BASE_DIR,
+          null,
+          new RocksDBThrottler(3),
+          new RocksDBServerConfig(veniceServerProperties),
+          storeConfig);
+    }
 
     // Populate the database
     for (int i = 0; i < ROW_CNT; ++i) {
@@ -125,7 +143,9 @@ public class RocksDBLookupApiBenchmark {
       byte[] value = (VALUE_PREFIX + i).getBytes();
       storagePartition.put(key, value);
     }
-    System.out.println("Finished populating the database, path: " + storagePartition.getFullPathForTempSSTFileDir());
+    // Seals the memory-mapped partition, and is a no-op for RocksDB, which is not in deferred-write mode
+    storagePartition.endBatchWrite();
+    System.out.println("Finished populating the " + storageType + " database, path: " + storeDir);
   }
 
   @TearDown
@@ -148,6 +168,22 @@ public class RocksDBLookupApiBenchmark {
     }
   }
 
+  /**
+   * Measures the lookups returning a {@link ByteBuf}, which the memory-mapped storage engine serves without any copy.
+   */
+  @Benchmark
+  public void measureSingleGetAPIWithByteBuf(org.openjdk.jmh.infra.Blackhole bh) {
+    if (BATCH_SIZE != 1) {
+      // Only execute this function once.
+      return;
+    }
+    for (int cur = 0; cur < ROW_CNT; ++cur) {
+      ByteBuf value = storagePartition.get(ByteBuffer.wrap((KEY_PREFIX + cur).getBytes()), ByteBufAllocator.DEFAULT);
+      bh.consume(value);
+      value.release();
+    }
+  }
+
   @Benchmark
   public void measureMultiGetAPI(org.openjdk.jmh.infra.Blackhole bh) {
     List<byte[]> keys = new ArrayList<>(BATCH_SIZE);
@@ -165,6 +201,10 @@ public class RocksDBLookupApiBenchmark {
 
   @Benchmark
   public void measureMultiGetAPIWithByteBuffer(org.openjdk.jmh.infra.Blackhole bh) {
+    if (!(storagePartition instanceof RocksDBStoragePartition)) {
+      // This API is specific to RocksDB.
+      return;
+    }
     List<ByteBuffer> keys = new ArrayList<>(BATCH_SIZE);
     List<ByteBuffer> values = new ArrayList<>(BATCH_SIZE);
     // populate with dummy elements
@@ -181,7 +221,7 @@ public class RocksDBLookupApiBenchmark {
         keyBuffer.flip();
         values.get(b).clear();
       }
-      bh.consume(storagePartition.multiGet(keys, values));
+      bh.consume(((RocksDBStoragePartition) storagePartition).multiGet(keys, values));
     }
   }
 
@@ -2,6 +2,7 @@ package com.linkedin.venice.benchmark;
 
 import com.github.luben.zstd.Zstd;
 import com.github.luben.zstd.ZstdInputStream;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compression.ZstdWithDictCompressor;
@@ -40,6 +41,13 @@ public class ZstdDecompressionBenchmark {
   private static final int NUMBER_OF_PAYLOADS = 10_000;
   @Param({ "500", "65536" })
   private static int PAYLOAD_SIZE;
+  @Param({ "ZSTD_WITH_DICT", "ZSTD_NO_DICT", "LZ4", "GZIP" })
+  private CompressionStrategy compressionStrategy;
+  /**
+   * Whether the compressed payloads are in direct buffers, as they are when decompressed out of Netty buffers.
+   */
+  @Param({ "false", "true" })
+  private boolean direct;
   private VeniceCompressor compressor;
   private ByteBuffer[] compressedPayloads;
   private byte[] dictionary;
@@ -48,12 +56,22 @@ public class ZstdDecompressionBenchmark {
   @Setup
   public void setUp() throws Exception {
     this.dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
-    this.compressor = new CompressorFactory().createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel());
+    CompressorFactory compressorFactory = new CompressorFactory();
+    this.compressor = compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT
+        ? compressorFactory.createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel())
+        : compressorFactory.getCompressor(compressionStrategy);
     this.compressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
     for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
       byte[] data = new byte[PAYLOAD_SIZE];
       this.rd.nextBytes(data);
-      this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(data), 0);
+      ByteBuffer compressed = compressor.compress(ByteBuffer.wrap(data), 0);
+      if (direct) {
+        ByteBuffer directCompressed = ByteBuffer.allocateDirect(compressed.remaining());
+        directCompressed.put(compressed);
+        directCompressed.flip();
+        compressed = directCompressed;
+      }
+      this.compressedPayloads[i] = compressed;
     }
   }
 
@@ -72,6 +90,10 @@ public class ZstdDecompressionBenchmark {
   @Benchmark
   @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
   public void measureDecompressionWithDictionaryReload(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    if (compressionStrategy != CompressionStrategy.ZSTD_WITH_DICT || direct) {
+      // Only meaningful for heap payloads compressed with the dictionary
+      return;
+    }
     ByteBuffer decompressed;
     ByteBuffer compressed;
     for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
@@ -10,6 +10,7 @@ import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.alpini.base.concurrency.impl.SuccessAsyncFuture;
 import com.linkedin.alpini.base.registry.ResourceRegistry;
 import com.linkedin.alpini.base.registry.ShutdownableExecutors;
+import com.linkedin.alpini.netty4.misc.NettyUtils;
 import com.linkedin.alpini.netty4.ssl.SslInitializer;
 import com.linkedin.alpini.router.api.LongTailRetrySupplier;
 import com.linkedin.alpini.router.api.ScatterGatherHelper;
@@ -35,6 +36,7 @@ import com.linkedin.venice.helix.HelixReadOnlyZKSharedSchemaRepository;
 import com.linkedin.venice.helix.HelixReadOnlyZKSharedSystemStoreRepository;
 import com.linkedin.venice.helix.SafeHelixManager;
 import com.linkedin.venice.helix.ZkRoutersClusterManager;
+import com.linkedin.venice.meta.AdaptiveRetryThreshold;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
@@ -92,15 +94,10 @@ import com.linkedin.venice.utils.SslUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
-import io.netty.channel.AbstractChannel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.MultithreadEventLoopGroup;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.ServerChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -181,9 +178,9 @@ public class RouterServer extends AbstractVeniceService {
   private DictionaryRetrievalService dictionaryRetrievalService;
   private RouterThrottler readRequestThrottler;
 
-  private MultithreadEventLoopGroup workerEventLoopGroup;
-  private MultithreadEventLoopGroup serverEventLoopGroup;
-  private MultithreadEventLoopGroup sslResolverEventLoopGroup;
+  private EventLoopGroup workerEventLoopGroup;
+  private EventLoopGroup serverEventLoopGroup;
+  private EventLoopGroup sslResolverEventLoopGroup;
 
   private ExecutorService workerExecutor;
   private EventThrottler routerEarlyThrottler;
@@ -464,19 +461,11 @@ public class RouterServer extends AbstractVeniceService {
       }
     }
     VenicePartitionFinder partitionFinder = new VenicePartitionFinder(routingDataRepository, metadataRepository);
-    Class<? extends AbstractChannel> serverSocketChannelClass;
-    boolean useEpoll = true;
-    try {
-      serverEventLoopGroup = new EpollEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
-      workerEventLoopGroup = new EpollEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
-      serverSocketChannelClass = EpollServerSocketChannel.class;
-    } catch (LinkageError error) {
-      useEpoll = false;
-      LOGGER.info("Epoll is only supported on Linux; switching to NIO");
-      serverEventLoopGroup = new NioEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
-      workerEventLoopGroup = new NioEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
-      serverSocketChannelClass = NioServerSocketChannel.class;
-    }
+    NettyUtils.Mode transportMode = config.getNettyTransportMode().orNioIfUnavailable();
+    LOGGER.info("Router will use the {} transport, configured: {}", transportMode, config.getNettyTransportMode());
+    serverEventLoopGroup = transportMode.newEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
+    workerEventLoopGroup = transportMode.newEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
+    Class<? extends ServerChannel> serverSocketChannelClass = transportMode.serverSocketChannel();
 
     switch (config.getStorageNodeClientType()) {
       case APACHE_HTTP_ASYNC_CLIENT:
@@ -588,6 +577,15 @@ public class RouterServer extends AbstractVeniceService {
       public AsyncFuture<LongSupplier> getLongTailRetryMilliseconds(
           @Nonnull VenicePath path,
           @Nonnull String methodName) {
+        AdaptiveRetryThreshold adaptiveRetryThreshold = path.getAdaptiveLongTailRetryThreshold();
+        if (adaptiveRetryThreshold != null) {
+          // The adaptive thresholds are in microseconds, and the retry is scheduled at millisecond granularity
+          int longTailRetryThresholdMs = (int) Math.min(
+              Integer.MAX_VALUE,
+              Math.max(1, (adaptiveRetryThreshold.getThreshold() + 999) / 1000));
+          path.setLongTailRetryThresholdMs(longTailRetryThresholdMs);
+          return new SuccessAsyncFuture<>(() -> longTailRetryThresholdMs);
+        }
         if (VeniceRouterUtils.isHttpGet(methodName)) {
           // single-get
           path.setLongTailRetryThresholdMs(config.getLongTailRetryForSingleGetThresholdMs());
@@ -698,11 +696,7 @@ public class RouterServer extends AbstractVeniceService {
           int maxConcurrentResolution = config.getMaxConcurrentResolutions();
           int clientResolutionRetryAttempts = config.getClientResolutionRetryAttempts();
           long clientResolutionRetryBackoffMs = config.getClientResolutionRetryBackoffMs();
-          if (useEpoll) {
-            sslResolverEventLoopGroup = new EpollEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
-          } else {
-            sslResolverEventLoopGroup = new NioEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
-          }
+          sslResolverEventLoopGroup = transportMode.newEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
           sslInitializer.enableResolveBeforeSSL(
               sslResolverEventLoopGroup,
               clientResolutionRetryAttempts,
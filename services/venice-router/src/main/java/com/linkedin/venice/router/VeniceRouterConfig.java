@@ -64,6 +64,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_BUDGET_ENFOR
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_FOR_SINGLE_GET_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ;
+import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_THRESHOLD_PERCENTILE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_CONCURRENT_RESOLUTIONS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_KEY_COUNT_IN_MULTIGET_REQ;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_OUTGOING_CONNECTION;
@@ -75,6 +76,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_TRANSPORT_MODE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
@@ -84,6 +86,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
@@ -102,6 +105,7 @@ import static com.linkedin.venice.helix.HelixInstanceConfigRepository.ZONE_FIELD
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
 import static com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategyEnum.LEAST_LOADED;
 
+import com.linkedin.alpini.netty4.misc.NettyUtils;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy;
@@ -137,6 +141,8 @@ public class VeniceRouterConfig {
   private long maxReadCapacityCu;
   private int longTailRetryForSingleGetThresholdMs;
   private TreeMap<Integer, Integer> longTailRetryForBatchGetThresholdMs;
+  private double longTailRetryThresholdPercentile;
+  private boolean singleGetRequestCoalescingEnabled;
   private boolean smartLongTailRetryEnabled;
   private int smartLongTailRetryAbortThresholdMs;
   private int longTailRetryMaxRouteForMultiKeyReq;
@@ -215,6 +221,7 @@ public class VeniceRouterConfig {
   private boolean metaStoreShadowReadEnabled;
   private boolean unregisterMetricForDeletedStoreEnabled;
   private int routerIOWorkerCount;
+  private NettyUtils.Mode nettyTransportMode;
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
   private String identityParserClassName;
@@ -252,6 +259,14 @@ public class VeniceRouterConfig {
         props.getString(
             ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS,
             "1-5:15,6-20:30,21-150:50,151-500:100,501-:500"));
+    // Default: 0 means the static thresholds above are used.
+    longTailRetryThresholdPercentile = props.getDouble(ROUTER_LONG_TAIL_RETRY_THRESHOLD_PERCENTILE, 0);
+    if (longTailRetryThresholdPercentile < 0 || longTailRetryThresholdPercentile > 100) {
+      throw new VeniceException(
+          ROUTER_LONG_TAIL_RETRY_THRESHOLD_PERCENTILE + " should be between 0 and 100, but got: "
+              + longTailRetryThresholdPercentile);
+    }
+    singleGetRequestCoalescingEnabled = props.getBoolean(ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED, false);
     // Enable smart long tail retry by default
     smartLongTailRetryEnabled = props.getBoolean(ROUTER_SMART_LONG_TAIL_RETRY_ENABLED, true);
     smartLongTailRetryAbortThresholdMs = props.getInt(ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS, 100);
@@ -399,6 +414,14 @@ public class VeniceRouterConfig {
      * should consider to use some number, which is proportional to the available cores.
      */
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
+    String nettyTransportModeStr = props.getString(ROUTER_NETTY_TRANSPORT_MODE, NettyUtils.Mode.EPOLL.name());
+    try {
+      nettyTransportMode = NettyUtils.Mode.valueOf(nettyTransportModeStr);
+    } catch (Exception e) {
+      throw new VeniceException(
+          "Invalid " + ROUTER_NETTY_TRANSPORT_MODE + " config: " + nettyTransportModeStr + ", and allowed values: "
+              + Arrays.toString(NettyUtils.Mode.values()));
+    }
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
     identityParserClassName = props.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
@@ -455,6 +478,14 @@ public class VeniceRouterConfig {
     return longTailRetryForSingleGetThresholdMs;
   }
 
+  public double getLongTailRetryThresholdPercentile() {
+    return longTailRetryThresholdPercentile;
+  }
+
+  public boolean isSingleGetRequestCoalescingEnabled() {
+    return singleGetRequestCoalescingEnabled;
+  }
+
   public int getMaxKeyCountInMultiGetReq() {
     return maxKeyCountInMultiGetReq;
   }
@@ -852,6 +883,10 @@ public class VeniceRouterConfig {
     return routerIOWorkerCount;
   }
 
+  public NettyUtils.Mode getNettyTransportMode() {
+    return nettyTransportMode;
+  }
+
   public boolean isHttpClientOpensslEnabled() {
     return httpClientOpensslEnabled;
   }
@@ -0,0 +1,129 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * This class tracks a single-get request which has been sent to a storage node, so that the identical single-get
+ * requests received before its response could wait for it instead of being sent as well. Check
+ * {@link VeniceDispatcher#dispatch} for more details.
+ *
+ * The waiting requests receive the first response to the request, or to one of its retries if it is healthy, and the
+ * storage node which served it. The content of the response is read only once, and each request receives a retained
+ * duplicate of it, since each of them will release its own copy once the response is sent to the client.
+ */
+class InFlightSingleGetRequest {
+  private final List<CompletableFuture<PortableHttpResponse>> waitingRequests = new ArrayList<>();
+  private boolean completed = false;
+  private Instance storageNode = null;
+
+  /**
+   * @return false if the response has been received already, and the request needs to be sent by itself.
+   */
+  synchronized boolean join(CompletableFuture<PortableHttpResponse> waitingRequest) {
+    if (completed) {
+      return false;
+    }
+    waitingRequests.add(waitingRequest);
+    return true;
+  }
+
+  /**
+   * @return the storage node which served the response received by the waiting requests.
+   */
+  synchronized Instance getStorageNode() {
+    return storageNode;
+  }
+
+  /**
+   * Completes the given request with the response from the given storage node, along with all the requests waiting for
+   * this one if completeWaitingRequests is true, and they are not completed yet by an earlier response.
+   */
+  void complete(
+      CompletableFuture<PortableHttpResponse> originalRequest,
+      Instance storageNode,
+      PortableHttpResponse response,
+      Throwable throwable,
+      boolean completeWaitingRequests) {
+    List<CompletableFuture<PortableHttpResponse>> requestsToComplete = Collections.emptyList();
+    synchronized (this) {
+      if (completeWaitingRequests && !completed) {
+        completed = true;
+        this.storageNode = storageNode;
+        requestsToComplete = new ArrayList<>(waitingRequests);
+      }
+    }
+    if (requestsToComplete.isEmpty()) {
+      if (throwable != null) {
+        originalRequest.completeExceptionally(throwable);
+      } else {
+        originalRequest.complete(response);
+      }
+      return;
+    }
+    BufferedHttpResponse bufferedResponse = null;
+    if (throwable == null) {
+      try {
+        bufferedResponse = new BufferedHttpResponse(response);
+      } catch (Throwable e) {
+        throwable = e;
+      }
+    }
+    if (throwable != null) {
+      for (CompletableFuture<PortableHttpResponse> request: requestsToComplete) {
+        request.completeExceptionally(throwable);
+      }
+      originalRequest.completeExceptionally(throwable);
+      return;
+    }
+    for (CompletableFuture<PortableHttpResponse> request: requestsToComplete) {
+      request.complete(bufferedResponse.retainedDuplicate());
+    }
+    originalRequest.complete(bufferedResponse);
+  }
+
+  private static class BufferedHttpResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final ByteBuf content;
+
+    BufferedHttpResponse(PortableHttpResponse response) throws IOException {
+      this(response, response.getContentInByteBuf());
+    }
+
+    private BufferedHttpResponse(PortableHttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    BufferedHttpResponse retainedDuplicate() {
+      return new BufferedHttpResponse(response, content.retainedDuplicate());
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.getFirstHeader(headerName);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.linkedin.venice.router.api;
+
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K_SCORES;
+
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Merges the partial top-K returned by the storage nodes for a top-K compute request into the top-K of the whole
+ * request. Each storage node returns its partial top-K by descending score, along with the scores in the
+ * {@link com.linkedin.venice.HttpConstants#VENICE_COMPUTE_TOP_K_SCORES} header, so the partial results are merged
+ * with a K-way merge, without deserializing the computed values.
+ */
+final class TopKComputeResponseMerger {
+  private static final RecordSerializer<ComputeResponseRecordV1> RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<ComputeResponseRecordV1> RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(ComputeResponseRecordV1.getClassSchema(), ComputeResponseRecordV1.class);
+
+  private static class Cursor {
+    final List<ComputeResponseRecordV1> records;
+    final float[] scores;
+    int position = 0;
+
+    Cursor(List<ComputeResponseRecordV1> records, float[] scores) {
+      this.records = records;
+      this.scores = scores;
+    }
+
+    float score() {
+      return scores[position];
+    }
+  }
+
+  private TopKComputeResponseMerger() {
+  }
+
+  /**
+   * @param responses the successful sub-responses of a top-K compute request.
+   * @return the serialized top-K records of all the sub-responses, by descending score, or null if a sub-response
+   *         doesn't carry valid scores (e.g. it was returned by a storage node without router-side merge support),
+   *         in which case the sub-responses are left untouched. The content of the sub-responses is released
+   *         otherwise.
+   */
+  static ByteBuf merge(List<FullHttpResponse> responses, int topK) {
+    List<Cursor> cursors = new ArrayList<>(responses.size());
+    for (FullHttpResponse response: responses) {
+      String scoresHeader = response.headers().get(VENICE_COMPUTE_TOP_K_SCORES);
+      if (scoresHeader == null) {
+        return null;
+      }
+      ByteBuf content = response.content();
+      byte[] bytes = new byte[content.readableBytes()];
+      content.getBytes(content.readerIndex(), bytes);
+      List<ComputeResponseRecordV1> records = RECORD_DESERIALIZER.deserializeObjects(bytes);
+      float[] scores = parseScores(scoresHeader, records.size());
+      if (scores == null) {
+        return null;
+      }
+      if (!records.isEmpty()) {
+        cursors.add(new Cursor(records, scores));
+      }
+    }
+
+    PriorityQueue<Cursor> heap =
+        new PriorityQueue<>(Math.max(1, cursors.size()), (c1, c2) -> Float.compare(c2.score(), c1.score()));
+    heap.addAll(cursors);
+    List<ComputeResponseRecordV1> mergedRecords = new ArrayList<>(topK);
+    while (mergedRecords.size() < topK && !heap.isEmpty()) {
+      Cursor cursor = heap.poll();
+      mergedRecords.add(cursor.records.get(cursor.position++));
+      if (cursor.position < cursor.records.size()) {
+        heap.add(cursor);
+      }
+    }
+
+    responses.forEach(response -> response.content().release());
+    return Unpooled.wrappedBuffer(RECORD_SERIALIZER.serializeObjects(mergedRecords));
+  }
+
+  /**
+   * @return the scores of the given header, or null if it is malformed or doesn't have one score per record.
+   */
+  private static float[] parseScores(String scoresHeader, int recordCount) {
+    if (scoresHeader.isEmpty()) {
+      return recordCount == 0 ? new float[0] : null;
+    }
+    String[] parts = scoresHeader.split(",");
+    if (parts.length != recordCount) {
+      return null;
+    }
+    float[] scores = new float[recordCount];
+    try {
+      for (int i = 0; i < recordCount; i++) {
+        scores[i] = Float.parseFloat(parts[i]);
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return scores;
+  }
+}
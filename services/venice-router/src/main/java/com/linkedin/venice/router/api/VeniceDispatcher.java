@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K_SCORES;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
@@ -8,6 +9,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
 
 import com.linkedin.alpini.base.concurrency.AsyncFuture;
 import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.base.concurrency.impl.CancelledAsyncFuture;
 import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
 import com.linkedin.alpini.router.api.PartitionDispatchHandler4;
 import com.linkedin.alpini.router.api.RouterException;
@@ -16,10 +18,12 @@ import com.linkedin.alpini.router.api.ScatterGatherRequest;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.AdaptiveRetryThreshold;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
@@ -48,8 +52,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
@@ -67,6 +73,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       new VeniceConcurrentHashMap<>();
   private final VeniceConcurrentHashMap<String, ReentrantLock> storageNodeLockMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong uniqueRequestId = new AtomicLong(0);
+  /**
+   * The single-get requests pending on the storage nodes, keyed by resource name and key, which the identical
+   * single-get requests could wait for when request coalescing is enabled.
+   */
+  private final VeniceConcurrentHashMap<Pair<String, RouterKey>, InFlightSingleGetRequest> inFlightSingleGetRequestMap =
+      new VeniceConcurrentHashMap<>();
 
   private static final Set<Integer> PASS_THROUGH_ERROR_CODES = Utils.setOf(TOO_MANY_REQUESTS.code());
   private static final Set<Integer> RETRIABLE_ERROR_CODES =
@@ -86,6 +98,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
   private final long routerUnhealthyPendingConnThresholdPerRoute;
 
   private final boolean isStatefulHealthCheckEnabled;
+  private final boolean singleGetRequestCoalescingEnabled;
 
   private final LeakedCompletableFutureCleanupService leakedCompletableFutureCleanupService;
 
@@ -103,6 +116,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.routerConfig = config;
     this.routerUnhealthyPendingConnThresholdPerRoute = routerConfig.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.isStatefulHealthCheckEnabled = routerConfig.isStatefulRouterHealthCheckEnabled();
+    this.singleGetRequestCoalescingEnabled = routerConfig.isSingleGetRequestCoalescingEnabled();
     this.storeRepository = storeRepository;
     this.routeHttpRequestStats = routeHttpRequestStats;
     this.perRouteStatsByType = new RouterStats<>(requestType -> new RouteHttpStats(metricsRepository, requestType));
@@ -140,13 +154,21 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
 
     Instance storageNode = part.getHosts().get(0);
-    hostSelected.setSuccess(storageNode);
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture =
+        joinPendingRequest(storageNode, path, hostSelected);
+    boolean coalesced = storageNodeResponseFuture != null;
+    if (coalesced) {
+      // The pending request retries on behalf of all the requests waiting for it, which don't retry by themselves
+      retryFuture.setSuccess(HttpResponseStatus.OK);
+    } else {
+      storageNodeResponseFuture = sendAndTrackRequest(storageNode, path, hostSelected, retryFuture);
+    }
 
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
-        if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+        if (!coalesced && !retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
           AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
           stats.recordErrorRetryCount(storeName);
@@ -159,7 +181,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
         // Do not mark storage node fast for 429 status code
         if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
-          path.markStorageNodeAsFast(storageNode.getNodeId());
+          // The selected host is the storage node which served the response, which differs for a coalesced request
+          path.markStorageNodeAsFast(hostSelected.getNow().getNodeId());
         }
 
         responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
@@ -169,6 +192,115 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     });
   }
 
+  /**
+   * When single-get request coalescing is enabled, a single-get request waits for the identical request pending on a
+   * storage node, if any, instead of being sent as well. The waiting request receives the first response to either the
+   * pending request or one of its retries, and its selected host is the storage node which served that response. If
+   * that response is retriable, the waiting request is sent by itself to its own replica, without retry.
+   *
+   * @return the future of the response to the waiting request, or null if the request needs to be sent by itself.
+   */
+  private CompletableFuture<PortableHttpResponse> joinPendingRequest(
+      Instance storageNode,
+      VenicePath path,
+      AsyncPromise<Instance> hostSelected) {
+    if (!isCoalescingEnabled(path) || path.isRetryRequest()) {
+      return null;
+    }
+    InFlightSingleGetRequest pendingRequest = inFlightSingleGetRequestMap.get(getInFlightRequestKey(path));
+    CompletableFuture<PortableHttpResponse> waitingRequest = new CompletableFuture<>();
+    if (pendingRequest == null || !pendingRequest.join(waitingRequest)) {
+      return null;
+    }
+    routerStats.getStatsByType(RequestType.SINGLE_GET).recordCoalescedRequest(path.getStoreName());
+    return waitingRequest.handle((response, throwable) -> {
+      if (!isRetriable(response, throwable)) {
+        hostSelected.setSuccess(pendingRequest.getStorageNode());
+        return CompletableFuture.completedFuture(response);
+      }
+      if (response != null) {
+        try {
+          response.getContentInByteBuf().release();
+        } catch (IOException e) {
+          LOGGER.warn("Failed to release the response of the pending request: {}", path.getResourceName(), e);
+        }
+      }
+      hostSelected.setSuccess(storageNode);
+      try {
+        return sendRequest(storageNode, path, CancelledAsyncFuture.getInstance());
+      } catch (RouterException e) {
+        CompletableFuture<PortableHttpResponse> failedRequest = new CompletableFuture<>();
+        failedRequest.completeExceptionally(e);
+        return failedRequest;
+      }
+    }).thenCompose(Function.identity());
+  }
+
+  /**
+   * When single-get request coalescing is enabled, a single-get request is tracked while it is pending on a storage
+   * node, so that the identical requests could wait for it. Retry requests are always sent, since they are meant to
+   * reach a different replica than the pending request, and a healthy response to a retry completes the requests
+   * waiting for the identical pending request, if they are not completed yet.
+   */
+  private CompletableFuture<PortableHttpResponse> sendAndTrackRequest(
+      Instance storageNode,
+      VenicePath path,
+      AsyncPromise<Instance> hostSelected,
+      AsyncPromise<HttpResponseStatus> retryFuture) throws RouterException {
+    hostSelected.setSuccess(storageNode);
+    if (!isCoalescingEnabled(path)) {
+      return sendRequest(storageNode, path, retryFuture);
+    }
+    Pair<String, RouterKey> requestKey = getInFlightRequestKey(path);
+    boolean retryRequest = path.isRetryRequest();
+    InFlightSingleGetRequest trackedRequest;
+    if (retryRequest) {
+      trackedRequest = inFlightSingleGetRequestMap.get(requestKey);
+    } else {
+      trackedRequest = new InFlightSingleGetRequest();
+      if (inFlightSingleGetRequestMap.putIfAbsent(requestKey, trackedRequest) != null) {
+        // An identical request has just been sent
+        trackedRequest = null;
+      }
+    }
+    if (trackedRequest == null) {
+      return sendRequest(storageNode, path, retryFuture);
+    }
+
+    InFlightSingleGetRequest inFlightRequest = trackedRequest;
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    try {
+      storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+    } catch (RouterException | RuntimeException e) {
+      if (!retryRequest) {
+        inFlightSingleGetRequestMap.remove(requestKey, inFlightRequest);
+        inFlightRequest.complete(responseFuture, storageNode, null, e, true);
+      }
+      throw e;
+    }
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
+      boolean completeWaitingRequests = !retryRequest || !isRetriable(response, throwable);
+      if (completeWaitingRequests) {
+        inFlightSingleGetRequestMap.remove(requestKey, inFlightRequest);
+      }
+      inFlightRequest.complete(responseFuture, storageNode, response, throwable, completeWaitingRequests);
+    });
+    return responseFuture;
+  }
+
+  private boolean isCoalescingEnabled(VenicePath path) {
+    return singleGetRequestCoalescingEnabled && path.getRequestType() == RequestType.SINGLE_GET;
+  }
+
+  private static Pair<String, RouterKey> getInFlightRequestKey(VenicePath path) {
+    return new Pair<>(path.getResourceName(), path.getPartitionKey());
+  }
+
+  private static boolean isRetriable(PortableHttpResponse response, Throwable throwable) {
+    return throwable != null || response == null || RETRIABLE_ERROR_CODES.contains(response.getStatusCode());
+  }
+
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
@@ -245,6 +377,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats
             .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        AdaptiveRetryThreshold adaptiveRetryThreshold = path.getAdaptiveLongTailRetryThreshold();
+        if (adaptiveRetryThreshold != null && !path.isRetryRequest() && response != null
+            && (response.getStatusCode() == HttpStatus.SC_OK || response.getStatusCode() == HttpStatus.SC_NOT_FOUND)) {
+          // Only the latency of the healthy original requests should decide when to retry
+          adaptiveRetryThreshold.recordLatency(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -277,7 +415,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
     if (statusCode == HttpStatus.SC_OK) {
       VeniceResponseDecompressor responseDecompressor = path.getResponseDecompressor();
-      if (path.isStreamingRequest()) {
+      /**
+       * The partial top-K of all the servers are merged once they are all gathered, and the merged top-K is streamed by
+       * {@link VeniceResponseAggregator}, so the content of a top-K compute request is kept like a non-streaming one.
+       */
+      if (path.isStreamingRequest() && !isTopKComputeRequest(path)) {
         VeniceChunkedResponse chunkedResponse = path.getChunkedResponse();
         if (path.getRequestType().equals(RequestType.MULTI_GET_STREAMING)) {
           Pair<ByteBuf, CompressionStrategy> chunk =
@@ -297,6 +439,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
             contentDecompressResult = responseDecompressor.decompressMultiGetContent(contentCompression, content);
             break;
           case COMPUTE:
+          case COMPUTE_STREAMING:
             // Compute requests are decompressed on the SN
             contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
             break;
@@ -329,9 +472,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         .set(
             VENICE_REQUEST_RCU,
             serverResponse.containsHeader(VENICE_REQUEST_RCU) ? serverResponse.getFirstHeader(VENICE_REQUEST_RCU) : 1);
+    if (serverResponse.containsHeader(VENICE_COMPUTE_TOP_K_SCORES)) {
+      response.headers().set(VENICE_COMPUTE_TOP_K_SCORES, serverResponse.getFirstHeader(VENICE_COMPUTE_TOP_K_SCORES));
+    }
     return response;
   }
 
+  private static boolean isTopKComputeRequest(VenicePath path) {
+    return path instanceof VeniceComputePath && ((VeniceComputePath) path).isTopKRequest();
+  }
+
   /**
    * For TEST ONLY
    */
@@ -17,6 +17,7 @@ import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
+import com.linkedin.venice.meta.AdaptiveRetryThreshold;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.meta.Store;
@@ -43,6 +44,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.lang.StringUtils;
@@ -111,12 +113,18 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
   private final ScheduledExecutorService retryManagerScheduler;
   private final Map<String, RetryManager> routerSingleKeyRetryManagers;
   private final Map<String, RetryManager> routerMultiKeyRetryManagers;
+  /**
+   * The adaptive long tail retry thresholds of each store, by request type and, for multi-key requests, by the lower
+   * bound of the key count range in {@link VeniceRouterConfig#getLongTailRetryForBatchGetThresholdMs()}.
+   */
+  private final Map<String, Map<String, AdaptiveRetryThreshold>> adaptiveLongTailRetryThresholds;
 
   private final StoreDataChangedListener storeChangedListener = new StoreDataChangedListener() {
     @Override
     public void handleStoreDeleted(String storeName) {
       routerSingleKeyRetryManagers.remove(storeName);
       routerMultiKeyRetryManagers.remove(storeName);
+      adaptiveLongTailRetryThresholds.remove(storeName);
     }
   };
 
@@ -140,6 +148,7 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
     this.retryManagerScheduler = retryManagerScheduler;
     this.routerSingleKeyRetryManagers = new VeniceConcurrentHashMap<>();
     this.routerMultiKeyRetryManagers = new VeniceConcurrentHashMap<>();
+    this.adaptiveLongTailRetryThresholds = new VeniceConcurrentHashMap<>();
   };
 
   @Override
@@ -270,6 +279,9 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
             "Method: " + method + " is not allowed");
       }
       RequestType requestType = path.getRequestType();
+      if (routerConfig.getLongTailRetryThresholdPercentile() > 0) {
+        path.setAdaptiveLongTailRetryThreshold(getAdaptiveLongTailRetryThreshold(storeName, requestType, path));
+      }
       if (StreamingUtils.isStreamingEnabled(request)) {
         if (requestType.equals(RequestType.MULTI_GET) || requestType.equals(RequestType.COMPUTE)) {
           // Right now, streaming support is only available for multi-get and compute
@@ -381,6 +393,36 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
     return m.matches();
   }
 
+  /**
+   * The thresholds are in microseconds, and start from the static thresholds until enough latencies are recorded.
+   */
+  private AdaptiveRetryThreshold getAdaptiveLongTailRetryThreshold(
+      String storeName,
+      RequestType requestType,
+      VenicePath path) {
+    int defaultThresholdMs;
+    String thresholdName;
+    if (requestType == SINGLE_GET) {
+      defaultThresholdMs = routerConfig.getLongTailRetryForSingleGetThresholdMs();
+      thresholdName = requestType.name();
+    } else {
+      Map.Entry<Integer, Integer> keyCountRange =
+          routerConfig.getLongTailRetryForBatchGetThresholdMs().floorEntry(path.getPartitionKeys().size());
+      if (keyCountRange == null) {
+        return null;
+      }
+      defaultThresholdMs = keyCountRange.getValue();
+      thresholdName = requestType.name() + "-" + keyCountRange.getKey();
+    }
+    return adaptiveLongTailRetryThresholds.computeIfAbsent(storeName, ignored -> new VeniceConcurrentHashMap<>())
+        .computeIfAbsent(
+            thresholdName,
+            ignored -> new AdaptiveRetryThreshold(
+                routerConfig.getLongTailRetryThresholdPercentile(),
+                TimeUnit.MILLISECONDS.toMicros(defaultThresholdMs),
+                path.getRetryManager()));
+  }
+
   private int getBatchGetLimit(String storeName) {
     int batchGetLimit = storeRepository.getBatchGetLimit(storeName);
     if (batchGetLimit <= 0) {
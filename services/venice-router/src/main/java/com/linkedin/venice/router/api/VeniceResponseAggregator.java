@@ -26,6 +26,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -33,6 +34,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -184,7 +186,14 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * 3. HelixGroupId is valid since Helix-assisted routing is only enabled for multi-key request.
       */
     if (!venicePath.isRetryRequest() && helixGroupSelector != null && venicePath.getHelixGroupId() >= 0) {
-      helixGroupSelector.finishRequest(venicePath.getRequestId(), venicePath.getHelixGroupId());
+      boolean isError = false;
+      for (FullHttpResponse response: gatheredResponses) {
+        if (response.status().code() >= INTERNAL_SERVER_ERROR.code()) {
+          isError = true;
+          break;
+        }
+      }
+      helixGroupSelector.finishRequest(venicePath.getRequestId(), venicePath.getHelixGroupId(), isError);
     }
     RequestType requestType = venicePath.getRequestType();
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
@@ -197,7 +206,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
        * All the request with type: {@link RequestType.MULTI_GET_STREAMING} and {@link RequestType.COMPUTE_STREAMING}
        * will be handled here.
        */
-      finalResponse = buildStreamingResponse(gatheredResponses, storeName, versionNumber);
+      finalResponse = buildStreamingResponse(gatheredResponses, venicePath);
     } else {
       Optional<Map<CharSequence, String>> optionalHeaders = venicePath.getResponseHeaders();
       switch (requestType) {
@@ -208,7 +217,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
           finalResponse = processMultiGetResponses(gatheredResponses, storeName, versionNumber, optionalHeaders);
           break;
         case COMPUTE:
-          finalResponse = processComputeResponses(gatheredResponses, storeName, optionalHeaders);
+          finalResponse = processComputeResponses(gatheredResponses, storeName, optionalHeaders, getTopK(venicePath));
           break;
         default:
           throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -284,10 +293,9 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return finalResponse;
   }
 
-  private FullHttpResponse buildStreamingResponse(
-      List<FullHttpResponse> gatheredResponses,
-      String storeName,
-      int version) {
+  private FullHttpResponse buildStreamingResponse(List<FullHttpResponse> gatheredResponses, VenicePath venicePath) {
+    String storeName = venicePath.getStoreName();
+    int version = venicePath.getVersionNumber();
     CompressionStrategy compressionStrategy = null;
 
     /**
@@ -301,9 +309,32 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       compressionStrategy = validateAndExtractCompressionStrategy(storeName, version, compressionStrategy, subResponse);
     }
 
+    int topK = getTopK(venicePath);
+    if (topK > 0) {
+      /**
+       * The partial top-K were kept by {@link VeniceDispatcher}, and are streamed once merged. If some storage nodes
+       * don't return the scores, the partial top-K are streamed as they are, and the client merges them.
+       */
+      ByteBuf mergedTopK = TopKComputeResponseMerger.merge(gatheredResponses, topK);
+      if (mergedTopK != null) {
+        venicePath.getChunkedResponse().write(mergedTopK);
+      } else {
+        for (FullHttpResponse subResponse: gatheredResponses) {
+          venicePath.getChunkedResponse().write(subResponse.content());
+        }
+      }
+    }
+
     return new SuccessfulStreamingResponse();
   }
 
+  /**
+   * @return K for a top-K compute request, or 0 otherwise.
+   */
+  private static int getTopK(VenicePath venicePath) {
+    return venicePath instanceof VeniceComputePath ? ((VeniceComputePath) venicePath).getTopK() : 0;
+  }
+
   private boolean isFastRequest(double requestLatencyMs, RequestType requestType) {
     switch (requestType) {
       case SINGLE_GET:
@@ -356,10 +387,15 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     }
   }
 
+  /**
+   * @param topK K for a top-K compute request, whose partial top-K are merged, or 0 for the other compute requests,
+   *             whose sub-responses are concatenated.
+   */
   protected FullHttpResponse processComputeResponses(
       List<FullHttpResponse> responses,
       String storeName,
-      Optional<Map<CharSequence, String>> optionalHeaders) {
+      Optional<Map<CharSequence, String>> optionalHeaders,
+      int topK) {
     /**
      * Here we will check the consistency of the following headers among all the responses:
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
@@ -391,7 +427,16 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       });
 
       totalRequestRcu += getRCU(response);
-      content.addComponent(true, response.content());
+    }
+
+    // If some storage nodes don't return the scores, the partial top-K are concatenated, and the client merges them
+    ByteBuf mergedTopK = topK > 0 ? TopKComputeResponseMerger.merge(responses, topK) : null;
+    if (mergedTopK != null) {
+      content.addComponent(true, mergedTopK);
+    } else {
+      for (FullHttpResponse response: responses) {
+        content.addComponent(true, response.content());
+      }
     }
 
     FullHttpResponse computeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
@@ -1,5 +1,7 @@
 package com.linkedin.venice.router.api.path;
 
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K;
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K_FIELD;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
@@ -81,6 +83,11 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   private final int computeRequestLengthInBytes;
   private final String valueSchemaIdHeader;
   private final String computeRequestVersionHeader;
+  /**
+   * The K of a top-K compute request, or 0 if this is a regular compute request.
+   */
+  private final int topK;
+  private final String topKResultFieldName;
 
   public VeniceComputePath(
       String storeName,
@@ -103,6 +110,8 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         retryManager);
 
     this.valueSchemaIdHeader = request.headers().get(VENICE_COMPUTE_VALUE_SCHEMA_ID, "-1");
+    this.topKResultFieldName = request.headers().get(VENICE_COMPUTE_TOP_K_FIELD);
+    this.topK = parseTopK(request.headers().get(VENICE_COMPUTE_TOP_K), this.topKResultFieldName);
 
     // Get API version
     this.computeRequestVersionHeader = request.headers().get(HttpConstants.VENICE_API_VERSION);
@@ -153,6 +162,8 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
       int computeRequestLengthInBytes,
       String valueSchemaIdHeader,
       String computeRequestVersionHeader,
+      int topK,
+      String topKResultFieldName,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq,
@@ -170,9 +181,44 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     this.valueSchemaIdHeader = valueSchemaIdHeader;
     this.computeRequestLengthInBytes = computeRequestLengthInBytes;
     this.computeRequestVersionHeader = computeRequestVersionHeader;
+    this.topK = topK;
+    this.topKResultFieldName = topKResultFieldName;
     setPartitionKeys(routerKeyMap.keySet());
   }
 
+  /**
+   * @return the K of a top-K compute request, or 0 if the top-K headers are absent.
+   * @throws RouterException if the top-K headers are malformed, which is a bad request.
+   */
+  private int parseTopK(String topKHeader, String topKResultFieldName) throws RouterException {
+    if (topKHeader == null) {
+      return 0;
+    }
+    int parsedTopK;
+    try {
+      parsedTopK = Integer.parseInt(topKHeader.trim());
+    } catch (NumberFormatException e) {
+      parsedTopK = 0;
+    }
+    if (parsedTopK <= 0 || topKResultFieldName == null) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          BAD_REQUEST,
+          "Invalid top-K compute request, " + VENICE_COMPUTE_TOP_K + ": " + topKHeader + ", "
+              + VENICE_COMPUTE_TOP_K_FIELD + ": " + topKResultFieldName);
+    }
+    return parsedTopK;
+  }
+
+  public boolean isTopKRequest() {
+    return topK > 0;
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
   @Nonnull
   @Override
   public String getLocation() {
@@ -231,6 +277,8 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         this.computeRequestLengthInBytes,
         this.valueSchemaIdHeader,
         this.computeRequestVersionHeader,
+        this.topK,
+        this.topKResultFieldName,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq(),
@@ -258,6 +306,14 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   public void setupVeniceHeaders(BiConsumer<String, String> setupHeaderFunc) {
     super.setupVeniceHeaders(setupHeaderFunc);
     setupHeaderFunc.accept(VENICE_COMPUTE_VALUE_SCHEMA_ID, this.valueSchemaIdHeader);
+    /**
+     * Each server returns the partial top-K of the keys it serves along with their scores, and the router merges them
+     * into the top-K of the whole request, see {@link com.linkedin.venice.router.api.VeniceResponseAggregator}.
+     */
+    if (isTopKRequest()) {
+      setupHeaderFunc.accept(VENICE_COMPUTE_TOP_K, Integer.toString(this.topK));
+      setupHeaderFunc.accept(VENICE_COMPUTE_TOP_K_FIELD, this.topKResultFieldName);
+    }
   }
 
   @Override
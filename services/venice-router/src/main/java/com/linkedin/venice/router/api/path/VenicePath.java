@@ -3,6 +3,7 @@ package com.linkedin.venice.router.api.path;
 import com.linkedin.alpini.router.api.ResourcePath;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.AdaptiveRetryThreshold;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.api.RouterKey;
@@ -41,6 +42,11 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   private final int smartLongTailRetryAbortThresholdMs;
   private long originalRequestStartTs = -1;
   private int longTailRetryThresholdMs = Integer.MAX_VALUE;
+  /**
+   * The threshold, in microseconds, which the storage node latency of this request is recorded into when Router follows
+   * the latency percentiles instead of the static long tail retry thresholds, and null otherwise.
+   */
+  private AdaptiveRetryThreshold adaptiveLongTailRetryThreshold = null;
   /**
    * This slow storage node set, which will be decided by the scattered requests of the original request.
    * And this set is mostly used to decide whether we should send retry request to any specific storage node or not.
@@ -171,6 +177,7 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     }
 
     setLongTailRetryThresholdMs(originalPath.getLongTailRetryThresholdMs());
+    setAdaptiveLongTailRetryThreshold(originalPath.getAdaptiveLongTailRetryThreshold());
     /**
      * All the sub-requests and retry requests for a multi-get request will share the same slow
      * storage node set.
@@ -206,6 +213,18 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     this.longTailRetryThresholdMs = longTailRetryThresholdMs;
   }
 
+  public RetryManager getRetryManager() {
+    return retryManager;
+  }
+
+  public AdaptiveRetryThreshold getAdaptiveLongTailRetryThreshold() {
+    return adaptiveLongTailRetryThreshold;
+  }
+
+  public void setAdaptiveLongTailRetryThreshold(AdaptiveRetryThreshold adaptiveLongTailRetryThreshold) {
+    this.adaptiveLongTailRetryThreshold = adaptiveLongTailRetryThreshold;
+  }
+
   public void requestStorageNode(String storageNode) {
     if (!isRetryRequest()) {
       /**
@@ -0,0 +1,50 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.utils.EwmaLoadScore;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This strategy is trying to distribute more load to the Helix Groups which respond faster, instead of only the ones
+ * with fewer pending requests as {@link HelixGroupLeastLoadedStrategy} does, so that a group slowed down by GC pauses
+ * or compactions is avoided before it is backed up with pending requests.
+ *
+ * Each group is ranked by a score combining its response time, its error rate and its pending requests, check
+ * {@link EwmaLoadScore} for more details, and each request goes to the better of two random groups (power of two
+ * choices), which does not send all the requests to the best group in the meantime.
+ */
+public class HelixGroupLatencyAwareStrategy extends HelixGroupLeastLoadedStrategy {
+  private final EwmaLoadScore[] loadScores = new EwmaLoadScore[MAX_ALLOWED_GROUP];
+
+  public HelixGroupLatencyAwareStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS) {
+    super(timeoutProcessor, timeoutInMS);
+    for (int i = 0; i < MAX_ALLOWED_GROUP; ++i) {
+      loadScores[i] = new EwmaLoadScore();
+    }
+  }
+
+  @Override
+  protected int chooseGroup(long requestId, int groupCount) {
+    if (groupCount == 1) {
+      return 0;
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(groupCount);
+    int second = random.nextInt(groupCount - 1);
+    if (second >= first) {
+      ++second;
+    }
+    return getGroupScore(first) <= getGroupScore(second) ? first : second;
+  }
+
+  @Override
+  protected void onRequestFinished(int groupId, long latencyInNS, boolean isError) {
+    loadScores[groupId].recordResponse(latencyInNS, isError);
+  }
+
+  @Override
+  public double getGroupScore(int groupId) {
+    return loadScores[groupId].getScore(getGroupPendingRequest(groupId));
+  }
+}
@@ -2,7 +2,6 @@ package com.linkedin.venice.router.api.routing.helix;
 
 import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.exceptions.VeniceException;
-import com.linkedin.venice.utils.Pair;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -31,7 +30,7 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
   private int currentGroupCount = 0;
   private final TimeoutProcessor timeoutProcessor;
   private final long timeoutInMS;
-  private final Map<Long, Pair<Integer, TimeoutProcessor.TimeoutFuture>> requestTimeoutFutureMap = new HashMap<>();
+  private final Map<Long, PendingRequest> requestTimeoutFutureMap = new HashMap<>();
 
   public HelixGroupLeastLoadedStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS) {
     this.timeoutProcessor = timeoutProcessor;
@@ -45,9 +44,7 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
           "The valid group num must fail into this range: [1, " + MAX_ALLOWED_GROUP + "], but received: " + groupCount);
     }
     this.currentGroupCount = groupCount;
-    long smallestCounter = Integer.MAX_VALUE;
-    int leastLoadedGroup = 0;
-    int startGroupId = (int) (requestId % groupCount);
+    int selectedGroup;
     /**
      * The modification to the group counters should be synchronized to be accurate.
      * If there is a perf issue with this approach, sacrificing accuracy for perf is acceptable.
@@ -58,34 +55,60 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
             "One request should at most select one group, but request with request id: " + requestId
                 + " has invoked this function more than once");
       }
-      for (int i = 0; i < groupCount; ++i) {
-        int currentGroup = (i + startGroupId) % groupCount;
-        long currentGroupCounter = counters[currentGroup];
-        if (currentGroupCounter < smallestCounter) {
-          smallestCounter = currentGroupCounter;
-          leastLoadedGroup = currentGroup;
-        }
-      }
-      final int finalLeastLoadedGroup = leastLoadedGroup;
+      selectedGroup = chooseGroup(requestId, groupCount);
+      final int finalSelectedGroup = selectedGroup;
       /**
        * Setting up timeout future for this request since it is possible in some situation, {@link #finishRequest} may
        * not be invoked, and without timeout, the group counter will be leaking.
        */
       requestTimeoutFutureMap.put(
           requestId,
-          new Pair<>(
-              leastLoadedGroup,
+          new PendingRequest(
+              selectedGroup,
+              System.nanoTime(),
               timeoutProcessor.schedule(
-                  () -> timeoutRequest(requestId, finalLeastLoadedGroup, false),
+                  () -> timeoutRequest(requestId, finalSelectedGroup, false, false),
                   timeoutInMS,
                   TimeUnit.MILLISECONDS)));
 
-      ++counters[leastLoadedGroup];
+      ++counters[selectedGroup];
     }
 
+    return selectedGroup;
+  }
+
+  /**
+   * Select the group for a new request, while holding the lock of this strategy.
+   * This strategy selects the group with the fewest pending requests, and starts from a different group for each
+   * request to break the ties evenly.
+   */
+  protected int chooseGroup(long requestId, int groupCount) {
+    long smallestCounter = Integer.MAX_VALUE;
+    int leastLoadedGroup = 0;
+    int startGroupId = (int) (requestId % groupCount);
+    for (int i = 0; i < groupCount; ++i) {
+      int currentGroup = (i + startGroupId) % groupCount;
+      long currentGroupCounter = counters[currentGroup];
+      if (currentGroupCounter < smallestCounter) {
+        smallestCounter = currentGroupCounter;
+        leastLoadedGroup = currentGroup;
+      }
+    }
     return leastLoadedGroup;
   }
 
+  /**
+   * Invoked once for each request which completes before timing out, while holding the lock of this strategy.
+   * The timed out requests are left out, since the counters may leak for other reasons than a slow group.
+   */
+  protected void onRequestFinished(int groupId, long latencyInNS, boolean isError) {
+    // do nothing
+  }
+
+  protected int getGroupPendingRequest(int groupId) {
+    return counters[groupId];
+  }
+
   /**
    * Reset the group counter for the specified request.
    * @param requestId
@@ -93,24 +116,25 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
    * @param cancelTimeoutFuture
    *          true : for the regular request completion.
    *          false : for timeout scheduler.
+   * @param isError whether the request has failed.
    */
-  private void timeoutRequest(long requestId, int groupId, boolean cancelTimeoutFuture) {
+  private void timeoutRequest(long requestId, int groupId, boolean cancelTimeoutFuture, boolean isError) {
     if (groupId >= MAX_ALLOWED_GROUP || groupId < 0) {
       throw new VeniceException(
           "The allowed group id must fail into this range: [0, " + (MAX_ALLOWED_GROUP - 1) + "], but received: "
               + groupId);
     }
     synchronized (this) {
-      Pair<Integer, TimeoutProcessor.TimeoutFuture> timeoutFuturePair = requestTimeoutFutureMap.get(requestId);
-      if (timeoutFuturePair == null) {
+      PendingRequest pendingRequest = requestTimeoutFutureMap.get(requestId);
+      if (pendingRequest == null) {
         /**
          * Request has already timed out or already finished.
          */
         return;
       }
-      if (groupId != timeoutFuturePair.getFirst()) {
+      if (groupId != pendingRequest.groupId) {
         throw new VeniceException(
-            "Group id for request with id: " + requestId + " should be: " + timeoutFuturePair.getFirst()
+            "Group id for request with id: " + requestId + " should be: " + pendingRequest.groupId
                 + ", but received: " + groupId);
       }
       if (--counters[groupId] < 0) {
@@ -120,7 +144,7 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
       }
       if (cancelTimeoutFuture) {
         // Cancel the timeout future
-        timeoutFuturePair.getSecond().cancel();
+        pendingRequest.timeoutFuture.cancel();
       } else {
         LOGGER.info(
             "Request with id: {} has timed out with threshold: {}ms, and the counter of group: {} will be reset for this request",
@@ -129,12 +153,20 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
             groupId);
       }
       requestTimeoutFutureMap.remove(requestId);
+      if (cancelTimeoutFuture) {
+        onRequestFinished(groupId, System.nanoTime() - pendingRequest.startTimeInNS, isError);
+      }
     }
   }
 
   @Override
   public void finishRequest(long requestId, int groupId) {
-    timeoutRequest(requestId, groupId, true);
+    timeoutRequest(requestId, groupId, true, false);
+  }
+
+  @Override
+  public void finishRequest(long requestId, int groupId, boolean isError) {
+    timeoutRequest(requestId, groupId, true, isError);
   }
 
   @Override
@@ -176,4 +208,21 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
     }
     return totalPendingRequest / currentGroupCount;
   }
+
+  @Override
+  public double getGroupScore(int groupId) {
+    return getGroupPendingRequest(groupId);
+  }
+
+  private static class PendingRequest {
+    private final int groupId;
+    private final long startTimeInNS;
+    private final TimeoutProcessor.TimeoutFuture timeoutFuture;
+
+    private PendingRequest(int groupId, long startTimeInNS, TimeoutProcessor.TimeoutFuture timeoutFuture) {
+      this.groupId = groupId;
+      this.startTimeInNS = startTimeInNS;
+      this.timeoutFuture = timeoutFuture;
+    }
+  }
 }
@@ -12,6 +12,14 @@ public interface HelixGroupSelectionStrategy {
    */
   void finishRequest(long requestId, int groupId);
 
+  /**
+   * Same as {@link #finishRequest(long, int)}, for the implementations which also take into account whether the
+   * request has failed.
+   */
+  default void finishRequest(long requestId, int groupId, boolean isError) {
+    finishRequest(requestId, groupId);
+  }
+
   /**
    * Get the maximum of the pending requests among all the groups
    */
@@ -26,4 +34,12 @@ public interface HelixGroupSelectionStrategy {
    * Get the average of the pending requests among all the groups
    */
   int getAvgGroupPendingRequest();
+
+  /**
+   * Get the score by which the strategy ranks the given group, which is better when lower.
+   */
+  default double getGroupScore(int groupId) {
+    // Not supported
+    return -1;
+  }
 }
@@ -8,7 +8,12 @@ public enum HelixGroupSelectionStrategyEnum {
   /**
    * This strategy will try to distribute the load to each group according to the capacity of each group.
    */
-  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class);
+  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class),
+  /**
+   * This strategy will try to distribute the load to each group according to the response time, the error rate and the
+   * pending requests of each group, with the power of two choices.
+   */
+  LATENCY_AWARE(HelixGroupLatencyAwareStrategy.class);
 
   private final Class<? extends HelixGroupSelectionStrategy> strategyClass;
 
@@ -35,6 +35,8 @@ public class HelixGroupSelector implements HelixGroupSelectionStrategy {
     Class<? extends HelixGroupSelectionStrategy> strategyClass = strategyEnum.getStrategyClass();
     if (strategyClass.equals(HelixGroupLeastLoadedStrategy.class)) {
       this.selectionStrategy = new HelixGroupLeastLoadedStrategy(timeoutProcessor, HELIX_GROUP_COUNTER_TIMEOUT_MS);
+    } else if (strategyClass.equals(HelixGroupLatencyAwareStrategy.class)) {
+      this.selectionStrategy = new HelixGroupLatencyAwareStrategy(timeoutProcessor, HELIX_GROUP_COUNTER_TIMEOUT_MS);
     } else {
       try {
         this.selectionStrategy = strategyClass.getDeclaredConstructor().newInstance();
@@ -66,6 +68,11 @@ public class HelixGroupSelector implements HelixGroupSelectionStrategy {
     selectionStrategy.finishRequest(requestId, groupId);
   }
 
+  @Override
+  public void finishRequest(long requestId, int groupId, boolean isError) {
+    selectionStrategy.finishRequest(requestId, groupId, isError);
+  }
+
   @Override
   public int getMaxGroupPendingRequest() {
     return selectionStrategy.getMaxGroupPendingRequest();
@@ -80,4 +87,9 @@ public class HelixGroupSelector implements HelixGroupSelectionStrategy {
   public int getAvgGroupPendingRequest() {
     return selectionStrategy.getAvgGroupPendingRequest();
   }
+
+  @Override
+  public double getGroupScore(int groupId) {
+    return selectionStrategy.getGroupScore(groupId);
+  }
 }
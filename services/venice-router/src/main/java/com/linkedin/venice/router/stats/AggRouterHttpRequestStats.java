@@ -132,6 +132,13 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     }
   }
 
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    if (storeName != null) {
+      getStoreStats(storeName).recordCoalescedRequest();
+    }
+  }
+
   public void recordErrorRetryCount(String storeName) {
     totalStats.recordErrorRetryCount();
     if (storeName != null) {
@@ -37,8 +37,11 @@ public class HelixGroupStats extends AbstractVeniceStats {
   }
 
   public void recordGroupRequest(int groupId) {
-    Sensor groupSensor = groupCounterSensorMap
-        .computeIfAbsent(groupId, id -> registerSensor("group_" + groupId + "_request", new OccurrenceRate()));
+    Sensor groupSensor = groupCounterSensorMap.computeIfAbsent(groupId, id -> {
+      registerSensor(
+          new AsyncGauge((ignored, ignored2) -> strategy.getGroupScore(groupId), "group_" + groupId + "_score"));
+      return registerSensor("group_" + groupId + "_request", new OccurrenceRate());
+    });
     groupSensor.record();
   }
 }
@@ -52,6 +52,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor badRequestSensor;
   private final Sensor badRequestKeyCountSensor;
   private final Sensor requestThrottledByRouterCapacitySensor;
+  private final Sensor coalescedRequestSensor;
   private final Sensor decompressionTimeSensor;
   private final Sensor routerResponseWaitingTimeSensor;
   private final Sensor fanoutRequestCountSensor;
@@ -106,6 +107,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     badRequestSensor = registerSensor("bad_request", new Count());
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
+    coalescedRequestSensor = registerSensor("coalesced_request", new Count());
     fanoutRequestCountSensor = registerSensor("fanout_request_count", new Avg(), new Max(0));
     latencySensor = registerSensorWithDetailedPercentiles("latency", new Avg(), new Max(0));
     healthyRequestLatencySensor =
@@ -274,6 +276,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     requestThrottledByRouterCapacitySensor.record();
   }
 
+  public void recordCoalescedRequest() {
+    coalescedRequestSensor.record();
+  }
+
   public void recordFanoutRequestCount(int count) {
     if (!getRequestType().equals(RequestType.SINGLE_GET)) {
       fanoutRequestCountSensor.record(count);
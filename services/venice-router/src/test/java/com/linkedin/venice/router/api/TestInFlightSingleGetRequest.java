@@ -0,0 +1,113 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestInFlightSingleGetRequest {
+  private static final Instance STORAGE_NODE = new Instance("host1_123", "host1", 123);
+  private static final Instance RETRY_STORAGE_NODE = new Instance("host2_123", "host2", 123);
+
+  @Test
+  public void testWaitingRequestsReceiveTheResponse() throws IOException, ExecutionException, InterruptedException {
+    ByteBuf content = Unpooled.copiedBuffer("value", StandardCharsets.UTF_8);
+    PortableHttpResponse response = mockResponse(content);
+
+    InFlightSingleGetRequest inFlightRequest = new InFlightSingleGetRequest();
+    CompletableFuture<PortableHttpResponse> waitingRequest1 = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> waitingRequest2 = new CompletableFuture<>();
+    Assert.assertTrue(inFlightRequest.join(waitingRequest1));
+    Assert.assertTrue(inFlightRequest.join(waitingRequest2));
+
+    CompletableFuture<PortableHttpResponse> originalRequest = new CompletableFuture<>();
+    inFlightRequest.complete(originalRequest, STORAGE_NODE, response, null, true);
+    // The requests received after the response need to be sent by themselves
+    Assert.assertFalse(inFlightRequest.join(new CompletableFuture<>()));
+    Assert.assertEquals(inFlightRequest.getStorageNode(), STORAGE_NODE);
+
+    // The content is read only once, and shared by all the requests
+    verify(response, times(1)).getContentInByteBuf();
+    Assert.assertEquals(content.refCnt(), 3);
+    for (CompletableFuture<PortableHttpResponse> request: new CompletableFuture[] { originalRequest, waitingRequest1,
+        waitingRequest2 }) {
+      PortableHttpResponse receivedResponse = request.get();
+      Assert.assertEquals(receivedResponse.getStatusCode(), HttpStatus.SC_OK);
+      Assert.assertEquals(receivedResponse.getFirstHeader("schema-id"), "1");
+      ByteBuf receivedContent = receivedResponse.getContentInByteBuf();
+      Assert.assertEquals(receivedContent.toString(StandardCharsets.UTF_8), "value");
+      receivedContent.release();
+    }
+    Assert.assertEquals(content.refCnt(), 0);
+  }
+
+  @Test
+  public void testWaitingRequestsReceiveTheFailure() {
+    InFlightSingleGetRequest inFlightRequest = new InFlightSingleGetRequest();
+    CompletableFuture<PortableHttpResponse> waitingRequest = new CompletableFuture<>();
+    Assert.assertTrue(inFlightRequest.join(waitingRequest));
+
+    CompletableFuture<PortableHttpResponse> originalRequest = new CompletableFuture<>();
+    VeniceException exception = new VeniceException("Leaking response future");
+    inFlightRequest.complete(originalRequest, STORAGE_NODE, null, exception, true);
+    for (CompletableFuture<PortableHttpResponse> request: new CompletableFuture[] { originalRequest,
+        waitingRequest }) {
+      ExecutionException e = Assert.expectThrows(ExecutionException.class, request::get);
+      Assert.assertSame(e.getCause(), exception);
+    }
+  }
+
+  @Test
+  public void testWaitingRequestsReceiveTheFirstResponse()
+      throws IOException, ExecutionException, InterruptedException {
+    InFlightSingleGetRequest inFlightRequest = new InFlightSingleGetRequest();
+    CompletableFuture<PortableHttpResponse> waitingRequest = new CompletableFuture<>();
+    Assert.assertTrue(inFlightRequest.join(waitingRequest));
+
+    // A response which doesn't complete the waiting requests, e.g. an error response to a retry, is only received by
+    // the request which it is for
+    CompletableFuture<PortableHttpResponse> failedRetryRequest = new CompletableFuture<>();
+    VeniceException exception = new VeniceException("Leaking response future");
+    inFlightRequest.complete(failedRetryRequest, RETRY_STORAGE_NODE, null, exception, false);
+    Assert.assertTrue(failedRetryRequest.isCompletedExceptionally());
+    Assert.assertFalse(waitingRequest.isDone());
+
+    ByteBuf retryContent = Unpooled.copiedBuffer("value", StandardCharsets.UTF_8);
+    CompletableFuture<PortableHttpResponse> retryRequest = new CompletableFuture<>();
+    inFlightRequest.complete(retryRequest, RETRY_STORAGE_NODE, mockResponse(retryContent), null, true);
+    Assert.assertEquals(inFlightRequest.getStorageNode(), RETRY_STORAGE_NODE);
+    Assert.assertEquals(waitingRequest.get().getContentInByteBuf().toString(StandardCharsets.UTF_8), "value");
+    Assert.assertEquals(retryContent.refCnt(), 2);
+
+    // The later response to the original request is not shared
+    ByteBuf originalContent = Unpooled.copiedBuffer("value", StandardCharsets.UTF_8);
+    PortableHttpResponse originalResponse = mockResponse(originalContent);
+    CompletableFuture<PortableHttpResponse> originalRequest = new CompletableFuture<>();
+    inFlightRequest.complete(originalRequest, STORAGE_NODE, originalResponse, null, true);
+    Assert.assertSame(originalRequest.get(), originalResponse);
+    Assert.assertEquals(inFlightRequest.getStorageNode(), RETRY_STORAGE_NODE);
+    Assert.assertEquals(originalContent.refCnt(), 1);
+  }
+
+  private static PortableHttpResponse mockResponse(ByteBuf content) throws IOException {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    doReturn(content).when(response).getContentInByteBuf();
+    doReturn("1").when(response).getFirstHeader("schema-id");
+    return response;
+  }
+}
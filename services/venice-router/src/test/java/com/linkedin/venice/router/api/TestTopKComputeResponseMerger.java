@@ -0,0 +1,89 @@
+package com.linkedin.venice.router.api;
+
+import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_TOP_K_SCORES;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestTopKComputeResponseMerger {
+  private static final RecordSerializer<ComputeResponseRecordV1> SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<ComputeResponseRecordV1> DESERIALIZER =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+
+  private static FullHttpResponse buildResponse(String scoresHeader, int... keyIndexes) {
+    List<ComputeResponseRecordV1> records = new ArrayList<>();
+    for (int keyIndex: keyIndexes) {
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = keyIndex;
+      record.value = ByteBuffer.wrap(("value_" + keyIndex).getBytes());
+      records.add(record);
+    }
+    ByteBuf content = Unpooled.wrappedBuffer(SERIALIZER.serializeObjects(records));
+    FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
+    if (scoresHeader != null) {
+      response.headers().set(VENICE_COMPUTE_TOP_K_SCORES, scoresHeader);
+    }
+    return response;
+  }
+
+  private static List<Integer> getKeyIndexes(ByteBuf content) {
+    byte[] bytes = new byte[content.readableBytes()];
+    content.getBytes(content.readerIndex(), bytes);
+    List<Integer> keyIndexes = new ArrayList<>();
+    for (ComputeResponseRecordV1 record: DESERIALIZER.deserializeObjects(bytes)) {
+      Assert.assertEquals(record.value, ByteBuffer.wrap(("value_" + record.keyIndex).getBytes()));
+      keyIndexes.add(record.keyIndex);
+    }
+    return keyIndexes;
+  }
+
+  @Test
+  public void testMerge() {
+    List<FullHttpResponse> responses = Arrays.asList(
+        buildResponse("9.0,5.5,1.0", 1, 2, 3),
+        buildResponse(""),
+        buildResponse("8.0,7.0", 4, 5),
+        buildResponse("6.0", 6));
+
+    ByteBuf merged = TopKComputeResponseMerger.merge(responses, 4);
+    Assert.assertNotNull(merged);
+    Assert.assertEquals(getKeyIndexes(merged), Arrays.asList(1, 4, 5, 6));
+    for (FullHttpResponse response: responses) {
+      Assert.assertEquals(response.content().refCnt(), 0);
+    }
+
+    // Fewer records than K
+    merged = TopKComputeResponseMerger
+        .merge(Arrays.asList(buildResponse("2.0", 1), buildResponse("3.0,-1.0", 2, 3)), 10);
+    Assert.assertEquals(getKeyIndexes(merged), Arrays.asList(2, 1, 3));
+  }
+
+  @Test
+  public void testMergeWithoutValidScores() {
+    // The sub-responses of storage nodes without the scores are left untouched, to be concatenated
+    String[] invalidHeaders = { null, "1.0", "1.0,abc", "" };
+    for (String invalidHeader: invalidHeaders) {
+      List<FullHttpResponse> responses = Arrays.asList(buildResponse("2.0", 1), buildResponse(invalidHeader, 2, 3));
+      Assert.assertNull(TopKComputeResponseMerger.merge(responses, 2));
+      for (FullHttpResponse response: responses) {
+        Assert.assertEquals(response.content().refCnt(), 1);
+      }
+    }
+  }
+}
@@ -26,9 +26,12 @@ import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -192,6 +195,56 @@ public class TestVeniceComputePath {
     Assert.assertEquals(computeOperation2.operation, cosineSimilarity);
   }
 
+  @Test
+  public void testTopKHeaders() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    String resourceName = storeName + "_v1";
+    List<ByteBuffer> keys = Collections.singletonList(ByteBuffer.wrap("key_0".getBytes()));
+
+    VeniceComputePath computePath = getTopKComputePath(storeName, resourceName, keys, "5", "score");
+    Assert.assertTrue(computePath.isTopKRequest());
+    Assert.assertEquals(computePath.getTopK(), 5);
+    Assert.assertFalse(getTopKComputePath(storeName, resourceName, keys, null, null).isTopKRequest());
+
+    // A malformed top-K request is a bad request
+    String[][] invalidHeaders = { { "abc", "score" }, { "0", "score" }, { "-1", "score" }, { "5", null } };
+    for (String[] headers: invalidHeaders) {
+      try {
+        getTopKComputePath(storeName, resourceName, keys, headers[0], headers[1]);
+        Assert.fail("Expected a RouterException for the top-K headers: " + Arrays.toString(headers));
+      } catch (RouterException e) {
+        Assert.assertEquals(e.code(), HttpResponseStatus.BAD_REQUEST.code());
+      }
+    }
+  }
+
+  private VeniceComputePath getTopKComputePath(
+      String storeName,
+      String resourceName,
+      List<ByteBuffer> keys,
+      String topKHeader,
+      String topKFieldHeader) throws RouterException {
+    BasicFullHttpRequest request =
+        getComputeHttpRequest(resourceName, getComputeRequest(), keys, LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    if (topKHeader != null) {
+      request.headers().add(HttpConstants.VENICE_COMPUTE_TOP_K, topKHeader);
+    }
+    if (topKFieldHeader != null) {
+      request.headers().add(HttpConstants.VENICE_COMPUTE_TOP_K_FIELD, topKFieldHeader);
+    }
+    return new VeniceComputePath(
+        storeName,
+        1,
+        resourceName,
+        request,
+        getVenicePartitionFinder(-1),
+        10,
+        false,
+        -1,
+        1,
+        mock(RetryManager.class));
+  }
+
   @Test
   void testToMultiGetPath() throws RouterException {
     String storeName = Utils.getUniqueString("test_store");
@@ -0,0 +1,35 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHelixGroupLatencyAwareStrategy {
+  @Test
+  public void testSelectGroup() {
+    TimeoutProcessor timeoutProcessor = mock(TimeoutProcessor.class);
+    doReturn(mock(TimeoutProcessor.TimeoutFuture.class)).when(timeoutProcessor).schedule(any(), anyLong(), any());
+    HelixGroupLatencyAwareStrategy strategy = new HelixGroupLatencyAwareStrategy(timeoutProcessor, 10000);
+    int groupNum = 2;
+    // A group which has failed is avoided
+    int failingGroup = strategy.selectGroup(1, groupNum);
+    strategy.finishRequest(1, failingGroup, true);
+    Assert.assertEquals(strategy.selectGroup(2, groupNum), 1 - failingGroup);
+    Assert.assertTrue(strategy.getGroupScore(failingGroup) > strategy.getGroupScore(1 - failingGroup));
+
+    // The pending requests are taken into account as well
+    double scoreWithPendingRequest = strategy.getGroupScore(1 - failingGroup);
+    strategy.finishRequest(2, 1 - failingGroup);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 0);
+    Assert.assertTrue(scoreWithPendingRequest > 1);
+
+    Assert.assertEquals(strategy.selectGroup(3, 1), 0);
+    strategy.finishRequest(3, 0);
+  }
+}
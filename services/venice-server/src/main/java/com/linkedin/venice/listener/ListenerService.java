@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.alpini.netty4.misc.NettyUtils;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
@@ -27,10 +28,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.List;
 import java.util.Optional;
@@ -128,25 +125,15 @@ public class ListenerService extends AbstractVeniceService {
         storeAccessController,
         requestHandler);
 
-    Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
-    boolean epollEnabled = serverConfig.isRestServiceEpollEnabled();
-    if (epollEnabled) {
-      try {
-        bossGroup = new EpollEventLoopGroup(1);
-        workerGroup = new EpollEventLoopGroup(serverConfig.getNettyWorkerThreadCount()); // if 0, defaults to 2*cpu
-                                                                                         // count
-        serverSocketChannelClass = EpollServerSocketChannel.class;
-        LOGGER.info("Epoll is enabled in Server Rest Service");
-      } catch (LinkageError error) {
-        LOGGER.info("Epoll is only supported on Linux; switching to NIO for Server Rest Service", error);
-        epollEnabled = false;
-      }
-    }
-    if (!epollEnabled) {
-      bossGroup = new NioEventLoopGroup(1);
-      workerGroup = new NioEventLoopGroup(serverConfig.getNettyWorkerThreadCount()); // if 0, defaults to 2*cpu count
-      serverSocketChannelClass = NioServerSocketChannel.class;
-    }
+    NettyUtils.Mode transportMode = serverConfig.getRestServiceTransportMode().orNioIfUnavailable();
+    bossGroup = transportMode.newEventLoopGroup(1);
+    workerGroup = transportMode.newEventLoopGroup(serverConfig.getNettyWorkerThreadCount()); // if 0, defaults to 2*cpu
+                                                                                            // count
+    Class<? extends ServerChannel> serverSocketChannelClass = transportMode.serverSocketChannel();
+    LOGGER.info(
+        "{} transport is enabled in Server Rest Service, configured: {}",
+        transportMode,
+        serverConfig.getRestServiceTransportMode());
     bootstrap = new ServerBootstrap();
     bootstrap.group(bossGroup, workerGroup)
         .channel(serverSocketChannelClass)
@@ -52,6 +52,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    String topKScoresHeader = null;
     try {
       if (msg instanceof AbstractReadResponse) {
         AbstractReadResponse obj = (AbstractReadResponse) msg;
@@ -70,6 +71,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         }
         isStreamingResponse = obj.isStreamingResponse();
         responseRcu = obj.getRCU();
+        topKScoresHeader = obj.getTopKScoresHeader();
       } else if (msg instanceof HttpShortcutResponse) {
         // For Early terminated requests
         HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) msg;
@@ -177,6 +179,9 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (topKScoresHeader != null) {
+      response.headers().set(HttpConstants.VENICE_COMPUTE_TOP_K_SCORES, topKScoresHeader);
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
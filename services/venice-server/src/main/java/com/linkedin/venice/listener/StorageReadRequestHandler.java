@@ -14,6 +14,7 @@ import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
@@ -22,6 +23,7 @@ import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.TopKCollector;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
@@ -71,11 +73,14 @@ import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -84,9 +89,11 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -118,6 +125,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final int parallelBatchGetChunkSize;
+  private final boolean batchGetMultiGetLookupEnabled;
+  /**
+   * Allocator of the buffers which single-get values are read into, or null if they are read into heap arrays.
+   */
+  private final ByteBufAllocator singleGetValueAllocator;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
@@ -247,6 +259,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         : SerializerDeserializerFactory::getAvroGenericSerializer;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetChunkSize = serverConfig.getParallelBatchGetChunkSize();
+    this.batchGetMultiGetLookupEnabled = serverConfig.isBatchGetMultiGetLookupEnabled();
+    this.singleGetValueAllocator = serverConfig.isZeroCopySingleGetEnabled() ? PooledByteBufAllocator.DEFAULT : null;
     if (serverConfig.isEnableParallelBatchGet()) {
       this.multiGetHandler = this::handleMultiGetRequestInParallel;
       this.computeHandler = this::handleComputeRequestInParallel;
@@ -461,8 +475,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       SingleGetResponseWrapper response = new SingleGetResponseWrapper();
       response.setCompressionStrategy(storageEngine.getCompressionStrategy());
 
-      ValueRecord valueRecord =
-          SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      ValueRecord valueRecord = singleGetValueAllocator == null
+          ? SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats())
+          : SingleGetChunkingAdapter.getIntoByteBuf(
+              storageEngine,
+              request.getPartition(),
+              key,
+              isChunked,
+              response.getStats(),
+              singleGetValueAllocator);
       response.setValueRecord(valueRecord);
 
       response.getStats().addKeySize(key.length);
@@ -549,17 +570,35 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       List<MultiGetRouterRequestKeyV1> keys,
       RequestContext requestContext,
       MultiGetResponseWrapper response) {
+    byte[][] prefetchedValues = this.batchGetMultiGetLookupEnabled
+        ? prefetchValues(
+            startPos,
+            endPos,
+            keys,
+            MultiGetRouterRequestKeyV1::getPartitionId,
+            MultiGetRouterRequestKeyV1::getKeyBytes,
+            requestContext,
+            response.getStats())
+        : null;
     MultiGetRouterRequestKeyV1 key;
     MultiGetResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
-      record = BatchGetChunkingAdapter.get(
-          requestContext.storeVersion.storageEngine,
-          key.partitionId,
-          key.keyBytes,
-          requestContext.isChunked,
-          response.getStats());
+      if (prefetchedValues == null) {
+        record = BatchGetChunkingAdapter.get(
+            requestContext.storeVersion.storageEngine,
+            key.partitionId,
+            key.keyBytes,
+            requestContext.isChunked,
+            response.getStats());
+      } else {
+        record = BatchGetChunkingAdapter.getFromPrefetchedValue(
+            requestContext.storeVersion.storageEngine,
+            key.partitionId,
+            prefetchedValues[subChunkCur - startPos],
+            response.getStats());
+      }
       if (record == null) {
         if (requestContext.isStreaming) {
           // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
@@ -622,7 +661,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
       double submissionWaitTime = LatencyUtils.getElapsedTimeFromNSToMS(preSubmissionTimeNs);
 
-      ComputeRequestContext computeRequestContext = new ComputeRequestContext(request, this);
+      ComputeRequestContext computeRequestContext = new ComputeRequestContext(request, this, 1);
       int keyCount = request.getKeyCount();
       ComputeResponseWrapper response = this.computeResponseProvider.apply(keyCount);
 
@@ -644,7 +683,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     }
 
     List<ComputeRouterRequestKeyV1> keys = request.getKeys();
-    ComputeRequestContext requestContext = new ComputeRequestContext(request, this);
+    int chunkCount = (int) Math.ceil((double) keys.size() / this.parallelBatchGetChunkSize);
+    ComputeRequestContext requestContext = new ComputeRequestContext(request, this, chunkCount);
 
     return processBatchInParallel(
         keys,
@@ -680,8 +720,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     final RecordSerializer<GenericRecord> resultSerializer;
     final List<ComputeOperation> operations;
     final List<Schema.Field> operationResultFields;
+    final Schema.Field topKResultField;
+    /**
+     * For top-K requests, the top-K is selected once per request, across all the chunks processed in parallel, and the
+     * chunk which completes last hands it to the response. Access to the collector is guarded by itself.
+     */
+    final TopKCollector<ComputeResponseRecordV1> topKCollector;
+    final AtomicInteger pendingTopKChunkCount;
 
-    ComputeRequestContext(ComputeRouterRequestWrapper request, StorageReadRequestHandler handler) {
+    ComputeRequestContext(ComputeRouterRequestWrapper request, StorageReadRequestHandler handler, int chunkCount) {
       super(request, handler);
       this.valueSchemaEntry = handler.getComputeValueSchema(request);
       this.resultSchema = handler.getComputeResultSchema(request.getComputeRequest(), valueSchemaEntry.getSchema());
@@ -690,6 +737,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           .getCompressor(storeVersion.storageEngine.getCompressionStrategy(), request.getResourceName());
       this.operations = request.getComputeRequest().getOperations();
       this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+      if (request.isTopKRequest()) {
+        this.topKResultField = resultSchema.getField(request.getTopKResultFieldName());
+        if (this.topKResultField == null) {
+          throw new VeniceException(
+              "Top-K result field: " + request.getTopKResultFieldName() + " is not in the compute result schema");
+        }
+        this.topKCollector = new TopKCollector<>(request.getTopK());
+        this.pendingTopKChunkCount = new AtomicInteger(chunkCount);
+      } else {
+        this.topKResultField = null;
+        this.topKCollector = null;
+        this.pendingTopKChunkCount = null;
+      }
     }
   }
 
@@ -710,6 +770,22 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         reusableObjects.resultRecordMap.computeIfAbsent(requestContext.resultSchema, GenericData.Record::new);
     reusableObjects.computeContext.clear();
 
+    byte[][] prefetchedValues = this.batchGetMultiGetLookupEnabled
+        ? prefetchValues(
+            startPos,
+            endPos,
+            keys,
+            ComputeRouterRequestKeyV1::getPartitionId,
+            ComputeRouterRequestKeyV1::getKeyBytes,
+            requestContext,
+            response.getStats())
+        : null;
+    /**
+     * For top-K requests, this server only returns its own top-K out of all the keys of the request, and the router
+     * and the client merge the partial results of all the servers.
+     */
+    TopKCollector<ComputeResponseRecordV1> topKCollector = requestContext.topKCollector;
+    float score = Float.NaN;
     int hits = 0;
     long serializeStartTimeInNS, computeStartTimeInNS;
     ComputeRouterRequestKeyV1 key;
@@ -718,18 +794,31 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
       AvroRecordUtils.clearRecord(reusableResultRecord);
-      reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-          requestContext.storeVersion.storageEngine,
-          key.getPartitionId(),
-          ByteUtils.extractByteArray(key.getKeyBytes()),
-          reusableObjects.byteBuffer,
-          reusableValueRecord,
-          reusableObjects.binaryDecoder,
-          requestContext.isChunked,
-          response.getStats(),
-          requestContext.valueSchemaEntry.getId(),
-          requestContext.storeVersion.storeDeserializerCache,
-          requestContext.compressor);
+      if (prefetchedValues == null) {
+        reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+            requestContext.storeVersion.storageEngine,
+            key.getPartitionId(),
+            ByteUtils.extractByteArray(key.getKeyBytes()),
+            reusableObjects.byteBuffer,
+            reusableValueRecord,
+            reusableObjects.binaryDecoder,
+            requestContext.isChunked,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.storeVersion.storeDeserializerCache,
+            requestContext.compressor);
+      } else {
+        reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.getFromPrefetchedValue(
+            requestContext.storeVersion.storageEngine,
+            key.getPartitionId(),
+            prefetchedValues[subChunkCur - startPos],
+            reusableValueRecord,
+            reusableObjects.binaryDecoder,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.storeVersion.storeDeserializerCache,
+            requestContext.compressor);
+      }
       if (reusableValueRecord != null) {
         computeStartTimeInNS = System.nanoTime();
         reusableResultRecord = ComputeUtils.computeResult(
@@ -740,6 +829,20 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             reusableResultRecord);
 
         serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
+        hits++;
+        if (topKCollector != null) {
+          score = getTopKScore(reusableResultRecord, requestContext.topKResultField);
+          boolean wouldAdmit;
+          synchronized (topKCollector) {
+            wouldAdmit = topKCollector.wouldAdmit(score);
+          }
+          if (!wouldAdmit) {
+            // Not part of the partial top-K so far, so there is no need to serialize it
+            response.getStats()
+                .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
+            continue;
+          }
+        }
         record = new ComputeResponseRecordV1();
         record.keyIndex = key.getKeyIndex();
         record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(reusableResultRecord));
@@ -750,9 +853,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
         response.getStats().addReadComputeOutputSize(record.value.remaining());
 
-        response.addRecord(record);
-        hits++;
-      } else if (requestContext.isStreaming) {
+        if (topKCollector != null) {
+          synchronized (topKCollector) {
+            topKCollector.offer(score, record);
+          }
+        } else {
+          response.addRecord(record);
+        }
+      } else if (requestContext.isStreaming && topKCollector == null) {
         // For streaming, we need to send back non-existing keys
         record = new ComputeResponseRecordV1();
         // Negative key index to indicate non-existing key
@@ -762,12 +870,82 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
     }
 
+    if (topKCollector != null && requestContext.pendingTopKChunkCount.decrementAndGet() == 0) {
+      addTopKRecords(requestContext, response);
+    }
+
     // Trigger serialization
     response.getResponseBody();
 
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Adds the top-K records of the whole request to the response of the chunk which completes last, by descending score,
+   * along with their scores, so that the router can merge the partial top-K of all the servers. The other keys are not
+   * reported at all, even for streaming, so that the response size only depends on K.
+   */
+  private static void addTopKRecords(ComputeRequestContext requestContext, ComputeResponseWrapper response) {
+    List<Float> topKScores = new ArrayList<>();
+    List<ComputeResponseRecordV1> topKRecords;
+    synchronized (requestContext.topKCollector) {
+      topKRecords = requestContext.topKCollector.drainDescending(topKScores);
+    }
+    for (ComputeResponseRecordV1 topKRecord: topKRecords) {
+      response.addRecord(topKRecord);
+    }
+    response.setTopKScores(topKScores);
+  }
+
+  /**
+   * @return the score of a computed record for a top-K request, or NaN if the result field is null (e.g. because the
+   *         operation failed), so that the record is never part of the top-K.
+   */
+  private static float getTopKScore(GenericRecord resultRecord, Schema.Field topKResultField) {
+    Object score = resultRecord.get(topKResultField.pos());
+    return score instanceof Number ? ((Number) score).floatValue() : Float.NaN;
+  }
+
+  /**
+   * Looks up the values of the keys in [startPos, endPos) with one batched storage engine call per partition, rather
+   * than one call per key. The chunks of large values, if any, are still fetched one by one while decoding.
+   *
+   * @return the raw values indexed by the position of their key relative to startPos, with null for missing keys.
+   */
+  private <K> byte[][] prefetchValues(
+      int startPos,
+      int endPos,
+      List<K> keys,
+      ToIntFunction<K> partitionIdGetter,
+      Function<K, ByteBuffer> keyBytesGetter,
+      RequestContext requestContext,
+      ReadResponseStats stats) {
+    Map<Integer, List<Integer>> positionsByPartition = new HashMap<>();
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      positionsByPartition
+          .computeIfAbsent(partitionIdGetter.applyAsInt(keys.get(subChunkCur)), p -> new ArrayList<>())
+          .add(subChunkCur);
+    }
+    byte[][] values = new byte[endPos - startPos][];
+    for (Map.Entry<Integer, List<Integer>> entry: positionsByPartition.entrySet()) {
+      List<Integer> positions = entry.getValue();
+      List<ByteBuffer> partitionKeys = new ArrayList<>(positions.size());
+      for (int position: positions) {
+        partitionKeys.add(keyBytesGetter.apply(keys.get(position)));
+      }
+      List<byte[]> partitionValues = ChunkingUtils.multiGetFromStorage(
+          requestContext.storeVersion.storageEngine,
+          entry.getKey(),
+          partitionKeys,
+          requestContext.isChunked,
+          stats);
+      for (int i = 0; i < positions.size(); i++) {
+        values[positions.get(i) - startPos] = partitionValues.get(i);
+      }
+    }
+    return values;
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
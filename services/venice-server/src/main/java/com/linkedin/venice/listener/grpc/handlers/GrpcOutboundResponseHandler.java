@@ -41,6 +41,8 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
 
       byte[] array = new byte[body.readableBytes()];
       body.getBytes(body.readerIndex(), array);
+      // The body might be a pooled buffer, which the HTTP path releases once written, so it is released once copied
+      body.release();
       veniceServerResponseBuilder.setData(ByteString.copyFrom(array))
           .setCompressionStrategy(compressionStrategy.getValue());
 
@@ -26,6 +26,8 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
 
   private final ComputeRequest computeRequest;
   private int valueSchemaId = -1;
+  private int topK = 0;
+  private String topKResultFieldName = null;
 
   private ComputeRouterRequestWrapper(
       String resourceName,
@@ -38,6 +40,21 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     if (schemaId != null) {
       this.valueSchemaId = Integer.parseInt(schemaId);
     }
+    String topKStr = request.headers().get(HttpConstants.VENICE_COMPUTE_TOP_K);
+    if (topKStr != null) {
+      // A VeniceException is returned as a bad request, unlike a NumberFormatException
+      try {
+        this.topK = Integer.parseInt(topKStr.trim());
+      } catch (NumberFormatException e) {
+        this.topK = 0;
+      }
+      this.topKResultFieldName = request.headers().get(HttpConstants.VENICE_COMPUTE_TOP_K_FIELD);
+      if (this.topK <= 0 || this.topKResultFieldName == null) {
+        throw new VeniceException(
+            "Invalid top-K compute request, " + HttpConstants.VENICE_COMPUTE_TOP_K + ": " + topKStr + ", "
+                + HttpConstants.VENICE_COMPUTE_TOP_K_FIELD + ": " + this.topKResultFieldName);
+      }
+    }
   }
 
   public static ComputeRouterRequestWrapper parseComputeRequest(FullHttpRequest httpRequest, String[] requestParts) {
@@ -80,6 +97,18 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     return valueSchemaId;
   }
 
+  public boolean isTopKRequest() {
+    return topK > 0;
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
+  public String getTopKResultFieldName() {
+    return topKResultFieldName;
+  }
+
   public String toString() {
     return "ComputeRouterRequestWrapper(storeName: " + getStoreName() + ", key count: " + getKeyCount() + ")";
   }
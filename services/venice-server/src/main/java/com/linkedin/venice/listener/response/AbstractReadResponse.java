@@ -50,6 +50,14 @@ public abstract class AbstractReadResponse implements ReadResponse {
     return true;
   }
 
+  /**
+   * @return the value of the {@link com.linkedin.venice.HttpConstants#VENICE_COMPUTE_TOP_K_SCORES} header, or null if
+   *         this is not the response of a top-K compute request.
+   */
+  public String getTopKScoresHeader() {
+    return null;
+  }
+
   public abstract ByteBuf getResponseBody();
 
   public abstract int getResponseSchemaIdHeader();
@@ -5,12 +5,15 @@ import com.linkedin.venice.listener.response.stats.ComputeResponseStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import java.util.List;
 
 
 public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeResponseRecordV1> {
   static final RecordSerializer<ComputeResponseRecordV1> SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
 
+  private List<Float> topKScores = null;
+
   public ComputeResponseWrapper(int maxKeyCount) {
     this(maxKeyCount, new ComputeResponseStats());
   }
@@ -23,4 +26,26 @@ public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeRespo
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion();
   }
+
+  /**
+   * @param topKScores the scores of the top-K records of the request, in the order they were added to this response.
+   */
+  public void setTopKScores(List<Float> topKScores) {
+    this.topKScores = topKScores;
+  }
+
+  @Override
+  public String getTopKScoresHeader() {
+    if (topKScores == null) {
+      return null;
+    }
+    StringBuilder header = new StringBuilder();
+    for (Float score: topKScores) {
+      if (header.length() > 0) {
+        header.append(',');
+      }
+      header.append(score.floatValue());
+    }
+    return header.toString();
+  }
 }
@@ -76,6 +76,20 @@ public class ParallelMultiKeyResponseWrapper<T extends MultiKeyResponseWrapper>
     return this.chunks[0].getResponseSchemaIdHeader();
   }
 
+  /**
+   * The top-K records of a request are all added to a single chunk.
+   */
+  @Override
+  public String getTopKScoresHeader() {
+    for (T chunk: this.chunks) {
+      String topKScoresHeader = chunk.getTopKScoresHeader();
+      if (topKScoresHeader != null) {
+        return topKScoresHeader;
+      }
+    }
+    return null;
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName() + "(" + this.chunks.length + " " + this.chunks[0].getClass().getSimpleName()
@@ -3,6 +3,7 @@ package com.linkedin.venice.listener;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import com.linkedin.alpini.netty4.misc.NettyUtils;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
@@ -65,7 +66,7 @@ public class ListenerServiceTest {
     doReturn(10).when(serverConfig).getComputeQueueCapacity();
     doReturn(10).when(serverConfig).getSslHandshakeThreadPoolSize();
     doReturn(10).when(serverConfig).getSslHandshakeQueueCapacity();
-    doReturn(false).when(serverConfig).isRestServiceEpollEnabled();
+    doReturn(NettyUtils.Mode.NIO).when(serverConfig).getRestServiceTransportMode();
     doReturn(10).when(serverConfig).getNettyWorkerThreadCount();
     doReturn(DefaultIdentityParser.class.getName()).when(serverConfig).getIdentityParserClassName();
     doReturn(1024 * 1024).when(serverConfig).getChannelOptionWriteBufferHighBytes();
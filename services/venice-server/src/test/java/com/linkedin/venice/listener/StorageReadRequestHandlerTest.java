@@ -4,10 +4,12 @@ import static com.linkedin.venice.read.RequestType.SINGLE_GET;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -486,6 +488,77 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetWithBatchedLookup(boolean parallelBatchGetEnabled) throws Exception {
+    int schemaId = 1;
+    int recordCount = 20;
+    int missingKeyIndex = 3;
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    for (int i = 0; i < recordCount; ++i) {
+      byte[] keyBytes = ("key_" + i).getBytes();
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = i % 2;
+      keys.add(requestKey);
+      if (i != missingKeyIndex) {
+        byte[] valueBytes = ValueRecord.create(schemaId, ("value_" + i).getBytes()).serialize();
+        storedValues.put(ByteBuffer.wrap(keyBytes), valueBytes);
+      }
+    }
+    doAnswer(invocation -> {
+      List<byte[]> lookupKeys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(lookupKeys.size());
+      for (byte[] lookupKey: lookupKeys) {
+        values.add(storedValues.get(ByteBuffer.wrap(lookupKey)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), anyList());
+    doReturn(parallelBatchGetEnabled).when(serverConfig).isEnableParallelBatchGet();
+    doReturn(5).when(serverConfig).getParallelBatchGetChunkSize();
+    doReturn(true).when(serverConfig).isBatchGetMultiGetLookupEnabled();
+
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        uri,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(parallelBatchGetEnabled, MultiGetResponseWrapper::new);
+    requestHandler.channelRead(context, request);
+    verify(context, timeout(5000)).writeAndFlush(argumentCaptor.capture());
+
+    AbstractReadResponse response = (AbstractReadResponse) argumentCaptor.getValue();
+    byte[] responseBytes = new byte[response.getResponseBody().readableBytes()];
+    response.getResponseBody().getBytes(0, responseBytes);
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    Map<Integer, String> results = new HashMap<>();
+    for (MultiGetResponseRecordV1 record: deserializer.deserializeObjects(responseBytes)) {
+      results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8));
+    }
+    assertEquals(results.size(), recordCount - 1);
+    for (int i = 0; i < recordCount; ++i) {
+      assertEquals(results.get(i), i == missingKeyIndex ? null : "value_" + i);
+    }
+
+    // One lookup per partition per chunk of keys, and no single-key lookups.
+    int expectedLookupCount = parallelBatchGetEnabled ? 2 * (recordCount / 5) : 2;
+    verify(storageEngine, times(expectedLookupCount)).multiGet(anyInt(), anyList());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -745,6 +818,86 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testTopKComputeRequest(boolean parallelBatchGetEnabled) throws Exception {
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+    doReturn(parallelBatchGetEnabled).when(serverConfig).isEnableParallelBatchGet();
+    doReturn(3).when(serverConfig).getParallelBatchGetChunkSize();
+
+    Schema valueSchema = SchemaBuilder.record("SampleSchema")
+        .fields()
+        .name("listField")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueSchema);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    // The score of each key is its key index, except for the missing one
+    int recordCount = 10;
+    int missingKeyIndex = 9;
+    int partition = 1;
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueSchema);
+    List<ComputeRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 1; i <= recordCount; ++i) {
+      byte[] keyBytes = ("key_" + i).getBytes();
+      keys.add(new ComputeRouterRequestKeyV1(i, ByteBuffer.wrap(keyBytes), partition));
+      if (i != missingKeyIndex) {
+        GenericRecord valueRecord = new GenericData.Record(valueSchema);
+        valueRecord.put("listField", Collections.singletonList((float) i));
+        byte[] valueBytes = ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize();
+        doReturn(ByteBuffer.wrap(valueBytes)).when(storageEngine).get(eq(partition), eq(keyBytes), any());
+      }
+    }
+
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    Schema keySchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation("\"string\"");
+    new AvroComputeRequestBuilderV3<>(storeClient, getMockSchemaReader(keySchema, valueSchema))
+        .dotProduct("listField", Collections.singletonList(1.0f), "dotProduct")
+        .execute(Collections.singleton("key_1"));
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient, times(1)).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBuffer.wrap(requestCaptor.getValue().serialize())),
+        null);
+
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(true).when(request).isStreamingRequest();
+    doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+    doReturn(computeRequest).when(request).getComputeRequest();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    doReturn(keys).when(request).getKeys();
+    doReturn(recordCount).when(request).getKeyCount();
+    doReturn(true).when(request).isTopKRequest();
+    doReturn(2).when(request).getTopK();
+    doReturn("dotProduct").when(request).getTopKResultFieldName();
+
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(parallelBatchGetEnabled, MultiGetResponseWrapper::new);
+    requestHandler.channelRead(context, request);
+    verify(context, timeout(5000)).writeAndFlush(argumentCaptor.capture());
+
+    AbstractReadResponse response = (AbstractReadResponse) argumentCaptor.getValue();
+    byte[] responseBytes = new byte[response.getResponseBody().readableBytes()];
+    response.getResponseBody().getBytes(0, responseBytes);
+    RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+    List<Integer> returnedKeyIndexes = new ArrayList<>();
+    for (ComputeResponseRecordV1 record: responseDeserializer.deserializeObjects(responseBytes)) {
+      returnedKeyIndexes.add(record.getKeyIndex());
+    }
+    // The top-K is selected across all the chunks, by descending score, and the other keys are not reported
+    assertEquals(returnedKeyIndexes, Arrays.asList(10, 8));
+    assertEquals(response.getTopKScoresHeader(), "10.0,8.0");
+  }
+
   /**
    * There was a regression where the "perStoreVersionStateMap" inside {@link StorageReadRequestHandler} could be stale
    * during rebalance. In the following rebalance scenario, the storage engine reference in the map would be stale:
@@ -0,0 +1,91 @@
+package com.linkedin.venice.store.cache.offheap;
+
+import com.linkedin.davinci.store.cache.offheap.FrequencySketch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class FrequencySketchTest {
+  private static final int EXPECTED_ENTRY_COUNT = 1024;
+  // The number of recorded accesses after which the counters are halved
+  private static final int SAMPLE_SIZE = 10 * EXPECTED_ENTRY_COUNT;
+  private static final int HOT_HASH = -1;
+
+  @Test
+  public void testFrequency() {
+    FrequencySketch sketch = new FrequencySketch(EXPECTED_ENTRY_COUNT);
+    Assert.assertEquals(sketch.frequency(HOT_HASH), 0);
+    for (int i = 0; i < 5; i++) {
+      sketch.increment(HOT_HASH);
+    }
+    Assert.assertEquals(sketch.frequency(HOT_HASH), 5);
+
+    // The counters saturate at 15
+    for (int i = 0; i < 20; i++) {
+      sketch.increment(HOT_HASH);
+    }
+    Assert.assertEquals(sketch.frequency(HOT_HASH), 15);
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentIncrementsDoNotOverflowCounters() throws Exception {
+    int threadCount = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int round = 0; round < 100; round++) {
+        FrequencySketch sketch = new FrequencySketch(EXPECTED_ENTRY_COUNT);
+        Future[] futures = new Future[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+          futures[t] = executor.submit(() -> {
+            for (int i = 0; i < 100; i++) {
+              sketch.increment(HOT_HASH);
+            }
+          });
+        }
+        for (Future future: futures) {
+          future.get(60, TimeUnit.SECONDS);
+        }
+        // A saturated counter incremented concurrently would otherwise wrap around to 0, and carry into its neighbour
+        Assert.assertEquals(sketch.frequency(HOT_HASH), 15);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testCountersKeepDecayingUnderConcurrentIncrements() throws Exception {
+    FrequencySketch sketch = new FrequencySketch(EXPECTED_ENTRY_COUNT);
+    int threadCount = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    AtomicInteger nextHash = new AtomicInteger();
+    try {
+      // Many times the sample size, so that several threads keep crossing it concurrently
+      Future[] futures = new Future[threadCount];
+      for (int t = 0; t < threadCount; t++) {
+        futures[t] = executor.submit(() -> {
+          for (int i = 0; i < 10 * SAMPLE_SIZE; i++) {
+            sketch.increment(HOT_HASH);
+            sketch.increment(nextHash.incrementAndGet());
+          }
+        });
+      }
+      for (Future future: futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Once the hot element is no longer accessed, its popularity decays as the counters keep being halved
+    for (int i = 0; i < 3 * SAMPLE_SIZE; i++) {
+      sketch.increment(nextHash.incrementAndGet());
+    }
+    Assert.assertTrue(sketch.frequency(HOT_HASH) < 15, "Frequency: " + sketch.frequency(HOT_HASH));
+  }
+}
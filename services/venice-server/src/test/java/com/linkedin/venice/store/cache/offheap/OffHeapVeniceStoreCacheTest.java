@@ -0,0 +1,150 @@
+package com.linkedin.venice.store.cache.offheap;
+
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.davinci.store.cache.offheap.OffHeapVeniceStoreCache;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class OffHeapVeniceStoreCacheTest {
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.INT);
+  private static final Schema VALUE_SCHEMA = Schema.create(Schema.Type.LONG);
+  private static final int SLAB_SIZE = 1024;
+
+  private OffHeapVeniceStoreCache cache;
+
+  @BeforeMethod
+  public void buildCache() {
+    ObjectCacheConfig config = new ObjectCacheConfig();
+    config.setMaxPerVersionOffHeapCacheSizeInBytes(4L * SLAB_SIZE);
+    config.setOffHeapSlabSizeInBytes(SLAB_SIZE);
+    cache = new OffHeapVeniceStoreCache(config, (key, executor) -> null, KEY_SCHEMA, VALUE_SCHEMA);
+  }
+
+  @AfterMethod
+  public void closeCache() {
+    cache.close();
+  }
+
+  @Test
+  public void testCRUDOperations() throws ExecutionException, InterruptedException {
+    Assert.assertNull(cache.getIfPresent(1));
+
+    cache.insert(1, 100L);
+    Assert.assertEquals(cache.getIfPresent(1), (Long) 100L);
+
+    cache.insert(1, 200L);
+    Assert.assertEquals(cache.getIfPresent(1), (Long) 200L);
+    Assert.assertEquals(cache.get(1).get(), (Long) 200L);
+
+    cache.invalidate(1);
+    Assert.assertNull(cache.getIfPresent(1));
+
+    cache.insert(1, 100L);
+    cache.insert(2, 200L);
+    Assert.assertEquals(cache.size(), 2);
+    Assert.assertEquals(cache.getAllPresent(Arrays.asList(1, 2, 3)).size(), 2);
+
+    cache.clear();
+    Assert.assertNull(cache.getIfPresent(1));
+    Assert.assertNull(cache.getIfPresent(2));
+    Assert.assertEquals(cache.size(), 0);
+
+    Assert.assertTrue(cache.hitCount() > 0);
+    Assert.assertTrue(cache.missCount() > 0);
+  }
+
+  @Test
+  public void testLoading() throws ExecutionException, InterruptedException {
+    Assert.assertEquals(cache.get(1, key -> 10L).get(), (Long) 10L);
+    Assert.assertEquals(cache.getIfPresent(1), (Long) 10L);
+
+    Map<Integer, Long> result = cache.<Integer, Long>getAll(Arrays.asList(1, 2, 3), keys -> {
+      Map<Integer, Long> loaded = new HashMap<>();
+      keys.forEach(key -> loaded.put(key, key * 10L));
+      return loaded;
+    }).get();
+    Assert.assertEquals(result.size(), 3);
+    Assert.assertEquals(result.get(3), (Long) 30L);
+    Assert.assertEquals(cache.getIfPresent(2), (Long) 20L);
+  }
+
+  @Test
+  public void testInvalidationDuringLoading() throws ExecutionException, InterruptedException {
+    // The key is invalidated by a write while the stale value is being loaded
+    Assert.assertEquals(cache.get(1, key -> {
+      cache.invalidate(key);
+      return 10L;
+    }).get(), (Long) 10L);
+    Assert.assertNull(cache.getIfPresent(1));
+
+    Map<Integer, Long> result = cache.<Integer, Long>getAll(Arrays.asList(1, 2), keys -> {
+      cache.invalidate(2);
+      Map<Integer, Long> loaded = new HashMap<>();
+      keys.forEach(key -> loaded.put(key, key * 10L));
+      return loaded;
+    }).get();
+    Assert.assertEquals(result.size(), 2);
+    Assert.assertEquals(cache.getIfPresent(1), (Long) 10L);
+    Assert.assertNull(cache.getIfPresent(2));
+
+    // A load which doesn't overlap with any invalidation is cached
+    Assert.assertEquals(cache.get(2, key -> 20L).get(), (Long) 20L);
+    Assert.assertEquals(cache.getIfPresent(2), (Long) 20L);
+  }
+
+  @Test
+  public void testEvictionAndAdmission() {
+    // Fill up all the slabs
+    int key = 0;
+    while (cache.evictionCount() == 0 && cache.rejectionCount() == 0) {
+      cache.insert(key++, (long) key);
+    }
+    Assert.assertEquals(cache.getAllocatedOffHeapMemoryInBytes(), 4L * SLAB_SIZE);
+    long sizeWhenFull = cache.size();
+
+    // Cold keys shouldn't be able to flush out the existing entries once the hot entries are accessed
+    for (int i = 0; i < 10; i++) {
+      Assert.assertNotNull(cache.getIfPresent(0));
+    }
+    long rejectionCount = cache.rejectionCount();
+    cache.insert(-1, 1L);
+    Assert.assertEquals(cache.rejectionCount(), rejectionCount + 1);
+    Assert.assertNull(cache.getIfPresent(-1));
+    Assert.assertNotNull(cache.getIfPresent(0));
+
+    // A frequently requested key should be admitted, and the oldest slab will be evicted
+    for (int i = 0; i < 15; i++) {
+      cache.getIfPresent(-2);
+    }
+    cache.insert(-2, 2L);
+    Assert.assertEquals(cache.getIfPresent(-2), (Long) 2L);
+    Assert.assertTrue(cache.evictionCount() > 0);
+    Assert.assertTrue(cache.size() <= sizeWhenFull);
+    Assert.assertEquals(cache.getAllocatedOffHeapMemoryInBytes(), 4L * SLAB_SIZE);
+  }
+
+  @Test
+  public void testTtl() throws InterruptedException {
+    ObjectCacheConfig config = new ObjectCacheConfig();
+    config.setMaxPerVersionOffHeapCacheSizeInBytes(4L * SLAB_SIZE);
+    config.setOffHeapSlabSizeInBytes(SLAB_SIZE);
+    config.setTtlInMilliseconds(1L);
+    OffHeapVeniceStoreCache cacheWithTtl =
+        new OffHeapVeniceStoreCache(config, (key, executor) -> null, KEY_SCHEMA, VALUE_SCHEMA);
+    try {
+      cacheWithTtl.insert(1, 100L);
+      Thread.sleep(10);
+      Assert.assertNull(cacheWithTtl.getIfPresent(1));
+    } finally {
+      cacheWithTtl.close();
+    }
+  }
+}